@@ -0,0 +1,97 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.controller.RegiaoController;
+import br.com.fiap.safelink.service.AcessoQuenteService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * 🔥 Interceptor que alimenta o {@link AcessoQuenteService}.
+ *
+ * - Região acessada: `{id}` das rotas de {@link RegiaoController} ou os parâmetros `regiaoId`/`idRegiao`
+ * - Assinatura de filtro: rota `/filtro` + nomes dos parâmetros informados (ordenados) + campos de ordenação.
+ *   Os valores são descartados, para que consultas de mesmo formato se agrupem.
+ */
+@Component
+@RequiredArgsConstructor
+public class AcessoQuenteInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> PARAMETROS_PAGINACAO = Set.of("page", "size", "sort");
+
+    private final AcessoQuenteService service;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod metodo)) {
+            return true;
+        }
+        Long regiaoId = extrairRegiao(request, metodo);
+        if (regiaoId != null) {
+            service.registrarRegiao(regiaoId);
+        }
+        String padrao = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (padrao != null && padrao.endsWith("/filtro")) {
+            service.registrarFiltro(assinatura(request.getMethod() + " " + padrao, request));
+        }
+        return true;
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    @SuppressWarnings("unchecked")
+    private static Long extrairRegiao(HttpServletRequest request, HandlerMethod metodo) {
+        String valor = null;
+        if (metodo.getBeanType() == RegiaoController.class) {
+            Map<String, String> variaveis =
+                    (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            valor = variaveis != null ? variaveis.get("id") : null;
+        }
+        if (valor == null) {
+            valor = request.getParameter("regiaoId");
+        }
+        if (valor == null) {
+            valor = request.getParameter("idRegiao");
+        }
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(valor.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String assinatura(String rota, HttpServletRequest request) {
+        Set<String> parametros = new TreeSet<>();
+        request.getParameterMap().forEach((nome, valores) -> {
+            if (!PARAMETROS_PAGINACAO.contains(nome) && valores.length > 0 && !valores[0].isBlank()) {
+                parametros.add(nome);
+            }
+        });
+        StringJoiner joiner = new StringJoiner(",", rota + "?", "");
+        parametros.forEach(joiner::add);
+        String[] ordenacao = request.getParameterValues("sort");
+        if (ordenacao != null) {
+            Set<String> campos = new TreeSet<>();
+            for (String criterio : ordenacao) {
+                int virgula = criterio.indexOf(',');
+                campos.add(virgula >= 0 ? criterio.substring(0, virgula) : criterio);
+            }
+            return joiner + " sort=" + String.join(",", campos);
+        }
+        return joiner.toString();
+    }
+}
@@ -29,6 +29,9 @@ public class AuthFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(AuthFilter.class);
     private static final String AUTH_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+
+    /** Atributo da requisição com o papel autenticado; sobrevive à limpeza do SecurityContext. */
+    public static final String ATRIBUTO_PAPEL = AuthFilter.class.getName() + ".papel";
     private final AntPathMatcher matcher = new AntPathMatcher();
 
     private final TokenService tokenService;
@@ -66,15 +69,24 @@ public class AuthFilter extends OncePerRequestFilter {
 
         final String jwt = header.substring(BEARER_PREFIX.length());
 
+        JwtEvento evento = new JwtEvento();
+        long inicio = System.nanoTime();
+        evento.begin();
         try {
             var user = tokenService.getUserFromToken(jwt);
             var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            evento.valido = true;
+            evento.papel = user.getRole().name();
+            request.setAttribute(ATRIBUTO_PAPEL, evento.papel);
             log.debug("✅ Autenticação JWT bem-sucedida para: {}", user.getEmail());
         } catch (Exception ex) {
             log.warn("⚠️ JWT inválido: {}", ex.getMessage());
             AuthExceptionUtils.sendJsonError(response, HttpServletResponse.SC_UNAUTHORIZED, "Token inválido ou expirado");
             return;
+        } finally {
+            FasesRequisicao.registrar(FasesRequisicao.Fase.AUTH, inicio);
+            evento.commit();
         }
 
         filterChain.doFilter(request, response);
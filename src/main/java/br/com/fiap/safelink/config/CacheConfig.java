@@ -0,0 +1,203 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.config.FasesRequisicao.Fase;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🗃️ Configuração das anotações de cache.
+ *
+ * As operações de `@Cacheable`/`@CacheEvict` passam por caches que somam seu tempo à fase `cache`
+ * da requisição e geram eventos JFR ({@link CacheEvento}). O `CacheManager` continua o do Spring Boot (Caffeine), com as métricas de cache intactas.
+ */
+@Configuration
+public class CacheConfig implements CachingConfigurer {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public CacheConfig(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public CacheResolver cacheResolver() {
+        return new CacheResolverMedido(cacheManager);
+    }
+
+    /** Resolve os caches pelo nome, como o resolvedor padrão, envolvendo cada um uma única vez. */
+    private static final class CacheResolverMedido implements CacheResolver {
+
+        private final ObjectProvider<CacheManager> cacheManager;
+        private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+        private CacheResolverMedido(ObjectProvider<CacheManager> cacheManager) {
+            this.cacheManager = cacheManager;
+        }
+
+        @Override
+        public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+            List<Cache> resolvidos = new ArrayList<>();
+            for (String nome : context.getOperation().getCacheNames()) {
+                resolvidos.add(caches.computeIfAbsent(nome, this::envolver));
+            }
+            return resolvidos;
+        }
+
+        private Cache envolver(String nome) {
+            Cache cache = cacheManager.getObject().getCache(nome);
+            if (cache == null) {
+                throw new IllegalArgumentException("Cache não encontrado: '" + nome + "'");
+            }
+            return new CacheMedido(cache);
+        }
+    }
+
+    /**
+     * Cache que mede leituras, escritas e remoções (não o carregamento de `get(chave, loader)`),
+     * somando o tempo à fase `cache` e emitindo um {@link CacheEvento} para o JFR.
+     */
+    private static final class CacheMedido implements Cache {
+
+        private final Cache alvo;
+
+        private CacheMedido(Cache alvo) {
+            this.alvo = alvo;
+        }
+
+        @Override
+        public String getName() {
+            return alvo.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return alvo.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            CacheEvento evento = iniciar();
+            ValueWrapper valor = null;
+            try {
+                valor = alvo.get(key);
+                return valor;
+            } finally {
+                concluir(evento, "leitura", valor != null);
+            }
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            CacheEvento evento = iniciar();
+            T valor = null;
+            try {
+                valor = alvo.get(key, type);
+                return valor;
+            } finally {
+                concluir(evento, "leitura", valor != null);
+            }
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return alvo.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            CacheEvento evento = iniciar();
+            try {
+                alvo.put(key, value);
+            } finally {
+                concluir(evento, "escrita", false);
+            }
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            CacheEvento evento = iniciar();
+            ValueWrapper existente = null;
+            try {
+                existente = alvo.putIfAbsent(key, value);
+                return existente;
+            } finally {
+                concluir(evento, "escrita", existente != null);
+            }
+        }
+
+        @Override
+        public void evict(Object key) {
+            CacheEvento evento = iniciar();
+            try {
+                alvo.evict(key);
+            } finally {
+                concluir(evento, "remocao", false);
+            }
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            CacheEvento evento = iniciar();
+            boolean removido = false;
+            try {
+                removido = alvo.evictIfPresent(key);
+                return removido;
+            } finally {
+                concluir(evento, "remocao", removido);
+            }
+        }
+
+        @Override
+        public void clear() {
+            CacheEvento evento = iniciar();
+            try {
+                alvo.clear();
+            } finally {
+                concluir(evento, "limpeza", false);
+            }
+        }
+
+        @Override
+        public boolean invalidate() {
+            CacheEvento evento = iniciar();
+            boolean invalidado = false;
+            try {
+                invalidado = alvo.invalidate();
+                return invalidado;
+            } finally {
+                concluir(evento, "limpeza", invalidado);
+            }
+        }
+
+        private CacheEvento iniciar() {
+            CacheEvento evento = new CacheEvento();
+            evento.inicioNanos = System.nanoTime();
+            evento.begin();
+            return evento;
+        }
+
+        /** Soma a duração do evento à fase `cache` e o grava, se o JFR estiver coletando. */
+        private void concluir(CacheEvento evento, String operacao, boolean acerto) {
+            evento.end();
+            FasesRequisicao.registrar(Fase.CACHE, evento.inicioNanos);
+            if (evento.shouldCommit()) {
+                evento.cache = alvo.getName();
+                evento.operacao = operacao;
+                evento.acerto = acerto;
+                evento.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.fiap.safelink.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 🗃️ Evento JFR de uma operação nos caches das anotações (leitura com acerto ou falta, escrita, remoção).
+ */
+@Name("safelink.Cache")
+@Label("Operação de cache")
+@Category({"SafeLink", "Cache"})
+@Description("Leitura, escrita ou remoção em um cache de @Cacheable/@CacheEvict")
+@StackTrace(false)
+final class CacheEvento extends jdk.jfr.Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Operação")
+    String operacao;
+
+    @Label("Acerto")
+    @Description("Leituras: valor encontrado no cache")
+    boolean acerto;
+
+    /** Início pelo `System.nanoTime()`, para a fase `cache` da requisição (não gravado). */
+    transient long inicioNanos;
+}
@@ -0,0 +1,133 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.service.CapturaTrafegoService;
+import br.com.fiap.safelink.util.LogTrafego;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * # 📼 Filtro: CapturaTrafegoFilter
+ *
+ * Captura os metadados de cada requisição mapeada para o {@link CapturaTrafegoService}: rota, caminho,
+ * parâmetros de consulta (paginação, ordenação e filtros como os de `AlertaFilter`), papel, status e duração.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Primeiro filtro da cadeia: a duração inclui segurança, prazo e serialização
+ * - Amostragem por requisição (`safelink.captura.amostra`, 0 a 1)
+ * - Parâmetros lidos da query string, nunca do corpo; valores de `parametros-sensiveis` viram `*`
+ *   e valores longos são truncados em `tamanho-maximo-valor`
+ * - Requisições sem padrão de rota (rejeitadas antes do roteamento, como JWT inválido) não são gravadas
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class CapturaTrafegoFilter extends OncePerRequestFilter {
+
+    private static final String OCULTO = "*";
+
+    private final CapturaTrafegoService capturaTrafegoService;
+    private final double amostra;
+    private final Set<String> parametrosSensiveis;
+    private final int tamanhoMaximoValor;
+
+    public CapturaTrafegoFilter(CapturaTrafegoService capturaTrafegoService,
+                                @Value("${safelink.captura.amostra:1.0}") double amostra,
+                                @Value("${safelink.captura.parametros-sensiveis:email,senha,password,token}") List<String> parametrosSensiveis,
+                                @Value("${safelink.captura.tamanho-maximo-valor:200}") int tamanhoMaximoValor) {
+        this.capturaTrafegoService = capturaTrafegoService;
+        this.amostra = amostra;
+        this.parametrosSensiveis = parametrosSensiveis.stream()
+                .map(nome -> nome.trim().toLowerCase(Locale.ROOT))
+                .filter(nome -> !nome.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.tamanhoMaximoValor = tamanhoMaximoValor;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !capturaTrafegoService.isHabilitado()
+                || (amostra < 1.0 && ThreadLocalRandom.current().nextDouble() >= amostra);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long inicioMicros = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        long inicio = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (padrao != null) {
+                Object papel = request.getAttribute(AuthFilter.ATRIBUTO_PAPEL);
+                capturaTrafegoService.registrar(new LogTrafego.Registro(
+                        inicioMicros,
+                        request.getMethod(),
+                        padrao.toString(),
+                        request.getRequestURI(),
+                        parametros(request.getQueryString()),
+                        papel != null ? papel.toString() : "",
+                        response.getStatus(),
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - inicio)));
+            }
+        }
+    }
+
+    // ============================================
+    // 🧹 Higienização
+    // ============================================
+
+    /** Parâmetros da query string, na ordem original, com valores sensíveis ocultados. */
+    private List<LogTrafego.Parametro> parametros(String queryString) {
+        if (queryString == null || queryString.isEmpty()) {
+            return List.of();
+        }
+        List<LogTrafego.Parametro> parametros = new ArrayList<>();
+        for (String par : queryString.split("&")) {
+            if (par.isEmpty()) {
+                continue;
+            }
+            int separador = par.indexOf('=');
+            String nome = decodificar(separador < 0 ? par : par.substring(0, separador));
+            String valor = separador < 0 ? "" : decodificar(par.substring(separador + 1));
+            parametros.add(new LogTrafego.Parametro(nome, higienizar(nome, valor)));
+        }
+        return parametros;
+    }
+
+    private String higienizar(String nome, String valor) {
+        if (parametrosSensiveis.contains(nome.toLowerCase(Locale.ROOT))) {
+            return OCULTO;
+        }
+        return valor.length() > tamanhoMaximoValor ? valor.substring(0, tamanhoMaximoValor) : valor;
+    }
+
+    private static String decodificar(String texto) {
+        try {
+            return URLDecoder.decode(texto, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return texto;
+        }
+    }
+}
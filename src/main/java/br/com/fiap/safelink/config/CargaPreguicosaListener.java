@@ -0,0 +1,122 @@
+package br.com.fiap.safelink.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * # 🦥 Listener: CargaPreguicosaListener
+ *
+ * Detecta associações preguiçosas inicializadas fora do plano de busca da consulta.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Sem open-session-in-view, cada serviço monta seus DTOs dentro da própria transação e as
+ *   associações de que precisa vêm na consulta (`@EntityGraph` ou `join fetch`)
+ * - Inicializar um proxy (`@ManyToOne`) ou uma coleção depois disso é um comando SQL a mais por
+ *   registro; o listener intercepta a carga antes que ela chegue ao banco
+ * - Cascatas do próprio Hibernate (ex.: exclusão de região) não contam
+ *
+ * ## 🎚️ Modos (`safelink.jpa.carga-preguicosa`)
+ * - `falhar` (perfil `dev` e testes): lança `LazyInitializationException` no ponto da carga
+ * - `registrar` (padrão): aviso com a associação e o método de origem
+ * - `permitir`: verificação desligada
+ */
+@Slf4j
+@Component
+public class CargaPreguicosaListener implements LoadEventListener, InitializeCollectionEventListener {
+
+    private static final String PACOTE_APLICACAO = "br.com.fiap.safelink.";
+    private static final String PACOTE_MODELO = PACOTE_APLICACAO + "model.";
+    private static final String PACOTE_CASCATA = "org.hibernate.engine.internal.Cascade";
+
+    private enum Modo { FALHAR, REGISTRAR, PERMITIR }
+
+    private final Modo modo;
+
+    public CargaPreguicosaListener(EntityManagerFactory entityManagerFactory,
+                                   @Value("${safelink.jpa.carga-preguicosa:registrar}") String modo) {
+        this.modo = Modo.valueOf(modo.trim().toUpperCase(Locale.ROOT));
+        if (this.modo != Modo.PERMITIR) {
+            EventListenerRegistry registro = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry().getService(EventListenerRegistry.class);
+            registro.prependListeners(EventType.LOAD, this);
+            registro.prependListeners(EventType.INIT_COLLECTION, this);
+        }
+    }
+
+    // ============================================
+    // 🔔 Eventos do Hibernate
+    // ============================================
+
+    /** `IMMEDIATE_LOAD` é a carga disparada pela inicialização de um proxy. */
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+            violacao(simples(event.getEntityClassName()) + "#" + event.getEntityId());
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        violacao(simples(event.getCollection().getRole()));
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    private void violacao(String associacao) {
+        String origem = origem();
+        if (origem == null) {
+            return;
+        }
+        String mensagem = "Carga preguiçosa de " + associacao + " em " + origem
+                + " fora do plano de busca: inclua a associação na consulta (@EntityGraph ou join fetch)";
+        if (modo == Modo.FALHAR) {
+            // Registrado antes de lançar: quem chama (ex.: ModelMapper) pode embrulhar a exceção
+            log.error("🦥 {}", mensagem);
+            throw new LazyInitializationException(mensagem);
+        }
+        log.warn("🦥 {}", mensagem);
+    }
+
+    /**
+     * Primeiro método da aplicação na pilha fora das entidades (e de seus proxies),
+     * ou nulo quando a carga vem de uma cascata do Hibernate.
+     */
+    private static String origem() {
+        return StackWalker.getInstance().walk(frames -> {
+            String origem = "desconhecida";
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String classe = frame.getClassName();
+                if (classe.startsWith(PACOTE_CASCATA)) {
+                    return null;
+                }
+                if (origem.equals("desconhecida") && classe.startsWith(PACOTE_APLICACAO)
+                        && !classe.startsWith(PACOTE_MODELO) && !classe.contains("$$")
+                        && !classe.equals(CargaPreguicosaListener.class.getName())) {
+                    origem = classe.substring(classe.lastIndexOf('.') + 1) + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+                }
+            }
+            return origem;
+        });
+    }
+
+    /** `br.com.fiap.safelink.model.Regiao.relatos` -> `Regiao.relatos`. */
+    private static String simples(String nome) {
+        int modelo = nome.indexOf(".model.");
+        return modelo >= 0 ? nome.substring(modelo + 7) : nome;
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.service.ConsumoRequisicaoService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * # 🧪 Filtro: ConsumoRequisicaoFilter
+ *
+ * Mede a memória alocada e o tempo de CPU de cada requisição, para atribuir a pressão no GC às rotas.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Lê os contadores da própria thread (`ThreadMXBean`) antes e depois da cadeia, incluindo
+ *   segurança e serialização; trabalho em outras threads (ex.: `@Async`) não entra na conta
+ * - A rota é o padrão do mapeamento (`GET /alertas/{id}`); requisições sem rota ficam agrupadas
+ *   para não multiplicar séries
+ * - `safelink.consumo.amostra` define a fração medida; cada medição custa duas leituras por contador
+ * - JVM sem suporte à contagem de alocação: o filtro fica desligado
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ConsumoRequisicaoFilter extends OncePerRequestFilter {
+
+    private static final String SEM_ROTA = "(sem rota)";
+
+    private final ConsumoRequisicaoService consumoRequisicaoService;
+    private final com.sun.management.ThreadMXBean threads;
+    private final boolean habilitado;
+    private final boolean medirCpu;
+    private final double amostra;
+
+    public ConsumoRequisicaoFilter(ConsumoRequisicaoService consumoRequisicaoService,
+                                   @Value("${safelink.consumo.habilitado:true}") boolean habilitado,
+                                   @Value("${safelink.consumo.amostra:1.0}") double amostra) {
+        this.consumoRequisicaoService = consumoRequisicaoService;
+        this.amostra = amostra;
+        this.threads = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean ? bean : null;
+        boolean suportado = threads != null && threads.isThreadAllocatedMemorySupported();
+        if (habilitado && !suportado) {
+            log.info("ℹ️ JVM sem contagem de alocação por thread: consumo por requisição não será medido");
+        }
+        this.habilitado = habilitado && suportado && amostra > 0;
+        if (this.habilitado && !threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        this.medirCpu = this.habilitado && threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !habilitado || (amostra < 1.0 && ThreadLocalRandom.current().nextDouble() >= amostra);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long cpuInicio = medirCpu ? threads.getCurrentThreadCpuTime() : -1;
+        long bytesInicio = threads.getCurrentThreadAllocatedBytes();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long bytes = threads.getCurrentThreadAllocatedBytes() - bytesInicio;
+            long cpu = medirCpu ? threads.getCurrentThreadCpuTime() - cpuInicio : -1;
+            consumoRequisicaoService.registrar(rota(request), bytes, cpu);
+        }
+    }
+
+    private static String rota(HttpServletRequest request) {
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (padrao != null ? padrao : SEM_ROTA);
+    }
+}
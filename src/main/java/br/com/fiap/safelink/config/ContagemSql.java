@@ -0,0 +1,61 @@
+package br.com.fiap.safelink.config;
+
+/**
+ * 🧮 Contagem de comandos SQL e linhas da requisição em andamento na thread atual.
+ *
+ * Aberta pelo {@link OrcamentoSqlInterceptor} e alimentada pelo {@link MonitorSqlDataSource}:
+ * cada `execute*` conta um comando (um lote de `executeBatch` é um comando) e as linhas somam
+ * as lidas dos `ResultSet`s e as afetadas pelas escritas. Threads sem contagem não pagam nada.
+ */
+public final class ContagemSql {
+
+    /** Atributo da requisição com a contagem encerrada (lido pelos testes de orçamento). */
+    public static final String ATRIBUTO = ContagemSql.class.getName();
+
+    private static final ThreadLocal<ContagemSql> ATUAL = new ThreadLocal<>();
+
+    private int comandos;
+    private long linhas;
+
+    private ContagemSql() {
+    }
+
+    /** Abre uma contagem na thread atual, substituindo a anterior. */
+    static ContagemSql iniciar() {
+        ContagemSql contagem = new ContagemSql();
+        ATUAL.set(contagem);
+        return contagem;
+    }
+
+    /** Contagem da thread atual (nula fora de uma requisição contada). */
+    static ContagemSql atual() {
+        return ATUAL.get();
+    }
+
+    static void encerrar() {
+        ATUAL.remove();
+    }
+
+    void comando() {
+        comandos++;
+    }
+
+    void linhas(long quantidade) {
+        if (quantidade > 0) {
+            linhas += quantidade;
+        }
+    }
+
+    public int getComandos() {
+        return comandos;
+    }
+
+    public long getLinhas() {
+        return linhas;
+    }
+
+    @Override
+    public String toString() {
+        return comandos + " comando(s), " + linhas + " linha(s)";
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.fiap.safelink.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 🏊 Pool de conexões da thread atual.
+ *
+ * Definido por {@link UsarPool} (via {@link UsarPoolAspect}) ou programaticamente,
+ * em trechos que não passam por proxy (ex.: `@PostConstruct`).
+ */
+public final class ContextoPool {
+
+    private static final ThreadLocal<PoolConexao> ATUAL = new ThreadLocal<>();
+
+    private ContextoPool() {
+        // Utilitário estático - previne instanciamento
+    }
+
+    /** Pool da thread atual ({@link PoolConexao#INTERATIVO} se nenhum foi definido). */
+    public static PoolConexao atual() {
+        PoolConexao pool = ATUAL.get();
+        return pool != null ? pool : PoolConexao.INTERATIVO;
+    }
+
+    /**
+     * Executa a tarefa com o pool informado, restaurando o anterior ao final.
+     */
+    public static <T> T executar(PoolConexao pool, Supplier<T> tarefa) {
+        PoolConexao anterior = ATUAL.get();
+        ATUAL.set(pool);
+        try {
+            return tarefa.get();
+        } finally {
+            restaurar(anterior);
+        }
+    }
+
+    /**
+     * Executa a tarefa com o pool informado, restaurando o anterior ao final.
+     */
+    public static void executar(PoolConexao pool, Runnable tarefa) {
+        executar(pool, () -> {
+            tarefa.run();
+            return null;
+        });
+    }
+
+    static PoolConexao definir(PoolConexao pool) {
+        PoolConexao anterior = ATUAL.get();
+        ATUAL.set(pool);
+        return anterior;
+    }
+
+    static void restaurar(PoolConexao anterior) {
+        if (anterior == null) {
+            ATUAL.remove();
+        } else {
+            ATUAL.set(anterior);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.service.ConsultaLentaService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🗄️ Configuração do acesso ao banco.
+ *
+ * - Um pool Hikari por {@link PoolConexao} (interativo, relatório, lote) em cada servidor,
+ *   com tamanho, `statement_timeout` e espera máxima por conexão próprios
+ * - O `statement_timeout` é só a rede de proteção de trabalhos sem prazo: nas requisições vale o
+ *   prazo aplicado a cada comando pelo {@link PrazoDataSource}, que não pode passar dele
+ * - Com `safelink.replicas.urls`, transações somente leitura são roteadas para as réplicas
+ *   ({@link RoteadorDataSource}), que também têm um pool por classe de carga
+ */
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Pools do primário e das réplicas configuradas.
+     * Réplicas fora do ar na subida não impedem a aplicação de iniciar.
+     * Com Micrometer presente, cada pool publica as métricas `hikaricp_*` (tag `pool` = `servidor-classe`).
+     */
+    @Bean
+    public RegistroPools registroPools(DataSourceProperties properties, Environment environment,
+                                       @Value("${safelink.replicas.urls:}") List<String> urlsReplicas,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        MetricsTrackerFactory metricas = registry != null ? new MicrometerMetricsTrackerFactory(registry) : null;
+        RegistroPools registro = new RegistroPools();
+        registro.adicionar(criarPools("primario", properties, properties.determineUrl(), false, environment, metricas));
+        List<String> urls = urlsReplicas.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        for (int i = 0; i < urls.size(); i++) {
+            registro.adicionar(criarPools("replica-" + (i + 1), properties, urls.get(i), true, environment, metricas));
+        }
+        return registro;
+    }
+
+    /**
+     * Roteamento de leituras para as réplicas, quando houver.
+     */
+    @Bean
+    @ConditionalOnExpression("!'${safelink.replicas.urls:}'.isBlank()")
+    public RoteadorDataSource roteadorDataSource(RegistroPools registroPools,
+                                                 @Value("${safelink.replicas.atraso-maximo-bytes:16777216}") long atrasoMaximoBytes,
+                                                 @Value("${safelink.replicas.intervalo-monitor-ms:1000}") long intervaloMonitorMs,
+                                                 @Value("${safelink.replicas.janela-leitura-propria-ms:10000}") long janelaLeituraPropriaMs) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        registroPools.getReplicas().forEach(replica -> replicas.put(replica.getServidor(), replica));
+        return new RoteadorDataSource(registroPools.getPrimario(), replicas, atrasoMaximoBytes,
+                intervaloMonitorMs, janelaLeituraPropriaMs);
+    }
+
+    /**
+     * DataSource da aplicação: a conexão física só é obtida no primeiro comando,
+     * quando a transação já definiu se é somente leitura e o pool já foi escolhido;
+     * cada comando respeita o prazo da requisição ({@link PrazoDataSource}) e é medido
+     * para o registro de SQL lenta ({@link MonitorSqlDataSource}).
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(RegistroPools registroPools, ObjectProvider<RoteadorDataSource> roteadorDataSource,
+                                 ConsultaLentaService consultaLentaService) {
+        RoteadorDataSource roteador = roteadorDataSource.getIfAvailable();
+        DataSource alvo = roteador != null ? roteador : registroPools.getPrimario();
+        return new LazyConnectionDataSourceProxy(new PrazoDataSource(new MonitorSqlDataSource(alvo, consultaLentaService)));
+    }
+
+    /**
+     * Libera a conexão ao fim de cada transação (em vez de mantê-la até o fim da requisição),
+     * para que cada transação escolha de novo o servidor e o pool.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer liberarConexaoAposTransacao() {
+        return propriedades -> propriedades.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    private static PoolsDataSource criarPools(String servidor, DataSourceProperties properties, String url,
+                                              boolean replica, Environment environment,
+                                              MetricsTrackerFactory metricas) {
+        Map<PoolConexao, HikariDataSource> pools = new EnumMap<>(PoolConexao.class);
+        long prazoMaximo = environment.getProperty("safelink.prazo.maximo-ms", Long.class, 120_000L);
+        for (PoolConexao classe : PoolConexao.values()) {
+            String prefixo = "safelink.pools." + classe.getNome() + ".";
+            int tamanho = environment.getProperty(prefixo + "tamanho", Integer.class, classe.getTamanhoPadrao());
+            long timeoutComando = environment.getProperty(prefixo + "timeout-comando-ms", Long.class,
+                    classe.getTimeoutComandoPadraoMs());
+            long timeoutFila = environment.getProperty(prefixo + "timeout-fila-ms", Long.class,
+                    classe.getTimeoutFilaPadraoMs());
+            if (timeoutComando > 0 && timeoutComando < prazoMaximo && !replica) {
+                log.warn("⚠️ statement_timeout do pool {} ({} ms) menor que safelink.prazo.maximo-ms ({} ms):"
+                        + " prazos de requisição acima dele não terão efeito", classe.getNome(), timeoutComando, prazoMaximo);
+            }
+
+            HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                    .url(url).build();
+            dataSource.setPoolName(servidor + "-" + classe.getNome());
+            dataSource.setMaximumPoolSize(tamanho);
+            dataSource.setMinimumIdle(Math.min(2, tamanho));
+            dataSource.setConnectionTimeout(timeoutFila);
+            dataSource.setConnectionInitSql("set statement_timeout = " + timeoutComando);
+            if (replica) {
+                dataSource.setInitializationFailTimeout(-1);
+                // Réplica fora do ar: falha rápido para a leitura seguir ao primário
+                dataSource.setConnectionTimeout(Math.min(timeoutFila, 2_000));
+            }
+            pools.put(classe, dataSource);
+        }
+        return new PoolsDataSource(servidor, pools, metricas);
+    }
+}
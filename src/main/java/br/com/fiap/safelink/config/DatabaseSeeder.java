@@ -14,6 +14,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * Inicializa o banco com dois usuários padrões:
  * - Um ADMIN e um USER com e-mail e senha criptografada.
  * Executado automaticamente ao iniciar a aplicação.
+ * No perfil `sintetico`, o {@link GeradorDadosSinteticos} completa a carga com volume de produção.
  *
  * ⚠️ Este seeder deve ser usado apenas em ambientes de desenvolvimento.
  */
@@ -0,0 +1,105 @@
+package br.com.fiap.safelink.config;
+
+import java.util.Locale;
+
+/**
+ * ⏱️ Tempo gasto em cada fase da requisição em andamento na thread atual.
+ *
+ * Aberta pelo {@link ServerTimingFilter} e alimentada pelos pontos que envolvem cada fase
+ * (filtro JWT, cache, {@link MonitorSqlDataSource}, ModelMapper e conversor JSON).
+ * Threads sem requisição aberta não pagam nada além de uma leitura de `ThreadLocal`.
+ */
+public final class FasesRequisicao {
+
+    /** Fases medidas, na ordem do cabeçalho `Server-Timing` (descrições em ASCII, como exige o HTTP). */
+    public enum Fase {
+        AUTH("auth", "JWT e senha"),
+        CACHE("cache", "Cache"),
+        SQL("sql", "SQL"),
+        MAPEAMENTO("mapeamento", "Entidade para DTO"),
+        SERIALIZACAO("serializacao", "JSON");
+
+        private final String nome;
+        private final String descricao;
+
+        Fase(String nome, String descricao) {
+            this.nome = nome;
+            this.descricao = descricao;
+        }
+
+        public String getNome() {
+            return nome;
+        }
+    }
+
+    private static final ThreadLocal<FasesRequisicao> ATUAL = new ThreadLocal<>();
+    private static final Fase[] FASES = Fase.values();
+    private static final double NANOS_POR_MS = 1_000_000.0;
+
+    private final long inicio = System.nanoTime();
+    private final long[] nanos = new long[FASES.length];
+    private final int[] ocorrencias = new int[FASES.length];
+
+    private FasesRequisicao() {
+    }
+
+    /** Abre a medição na thread atual, substituindo a anterior. */
+    static FasesRequisicao iniciar() {
+        FasesRequisicao fases = new FasesRequisicao();
+        ATUAL.set(fases);
+        return fases;
+    }
+
+    /** Medição da thread atual (nula fora de uma requisição). */
+    static FasesRequisicao atual() {
+        return ATUAL.get();
+    }
+
+    static void encerrar() {
+        ATUAL.remove();
+    }
+
+    /**
+     * Soma à fase o tempo decorrido desde `inicio` (de `System.nanoTime()`).
+     */
+    public static void registrar(Fase fase, long inicio) {
+        FasesRequisicao fases = ATUAL.get();
+        if (fases != null) {
+            fases.nanos[fase.ordinal()] += System.nanoTime() - inicio;
+            fases.ocorrencias[fase.ordinal()]++;
+        }
+    }
+
+    long getNanos(Fase fase) {
+        return nanos[fase.ordinal()];
+    }
+
+    int getOcorrencias(Fase fase) {
+        return ocorrencias[fase.ordinal()];
+    }
+
+    /**
+     * Valor do cabeçalho `Server-Timing`: fases ocorridas até agora (SQL com o número de comandos)
+     * e o total desde a abertura.
+     */
+    String cabecalho() {
+        StringBuilder valor = new StringBuilder();
+        for (Fase fase : FASES) {
+            int vezes = ocorrencias[fase.ordinal()];
+            if (vezes == 0) {
+                continue;
+            }
+            valor.append(fase.nome).append(";dur=").append(ms(nanos[fase.ordinal()]))
+                    .append(";desc=\"").append(fase.descricao);
+            if (fase == Fase.SQL) {
+                valor.append(" (").append(vezes).append(vezes == 1 ? " comando)" : " comandos)");
+            }
+            valor.append("\", ");
+        }
+        return valor.append("total;dur=").append(ms(System.nanoTime() - inicio)).toString();
+    }
+
+    private static String ms(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / NANOS_POR_MS);
+    }
+}
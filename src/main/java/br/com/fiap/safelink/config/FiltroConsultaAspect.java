@@ -0,0 +1,37 @@
+package br.com.fiap.safelink.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🔎 Guarda o registro de filtro (`br.com.fiap.safelink.filter`) da consulta em andamento,
+ * para que o log de SQL lenta mostre quais critérios produziram o comando.
+ */
+@Aspect
+@Component
+public class FiltroConsultaAspect {
+
+    private static final ThreadLocal<Object> ATUAL = new ThreadLocal<>();
+
+    /** Filtro da consulta em andamento na thread atual (nulo se não houver). */
+    public static Object filtroAtual() {
+        return ATUAL.get();
+    }
+
+    @Around("execution(* br.com.fiap.safelink.service.*.*(br.com.fiap.safelink.filter.*, ..))")
+    public Object registrar(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object anterior = ATUAL.get();
+        ATUAL.set(joinPoint.getArgs()[0]);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (anterior == null) {
+                ATUAL.remove();
+            } else {
+                ATUAL.set(anterior);
+            }
+        }
+    }
+}
@@ -0,0 +1,525 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.model.enums.NivelRisco;
+import br.com.fiap.safelink.model.enums.UserRole;
+import br.com.fiap.safelink.service.ParticionamentoService;
+import br.com.fiap.safelink.util.DistribuicaoDiscreta;
+import br.com.fiap.safelink.util.Hashes;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * # 🏗️ GeradorDadosSinteticos
+ *
+ * Complementa o {@link DatabaseSeeder} no perfil `sintetico` (`SPRING_PROFILES_ACTIVE=sintetico`):
+ * gera um volume de produção para benchmarks locais — regiões em cidades brasileiras reais,
+ * milhares de usuários e milhões de eventos, alertas, previsões e relatos.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Roda na subida, depois do particionamento e antes de os serviços reconstruírem seus estados em memória
+ * - Escrita por `COPY ... FROM STDIN` em blocos paralelos, com `trabalhadores` conexões do pool de lote
+ * - Reprodutível: os IDs são atribuídos pelo gerador e cada bloco tem a sua semente, derivada de `semente`,
+ *   então a mesma configuração (e a mesma `referencia`) gera os mesmos dados em qualquer ordem de execução
+ * - Distribuições enviesadas: regiões com peso pela população da cidade (cauda lognormal), volume crescente
+ *   ao longo do período, ciclo diário, sazonalidade dos tipos de evento, usuários em Zipf e surtos de relatos
+ *   concentrados em uma região por algumas horas
+ * - Idempotente: não faz nada se os usuários sintéticos já existirem
+ *
+ * ⚠️ Apenas para ambientes de desenvolvimento e benchmark.
+ */
+@Slf4j
+@Configuration
+@Profile("sintetico")
+@DependsOn("databaseSeeder")
+public class GeradorDadosSinteticos {
+
+    /** Domínio dos e-mails gerados (`usuario<N>@sintetico.safelink.com`), também usado como marcador. */
+    public static final String DOMINIO = "@sintetico.safelink.com";
+    /** Senha de todos os usuários gerados. */
+    public static final String SENHA = "sintetico123";
+
+    private static final int BUFFER_COPY = 1 << 16;
+    private static final long SEGUNDOS_DIA = 86_400;
+
+    private static final List<Cidade> CIDADES = List.of(
+            new Cidade("São Paulo", "SP", -23.55, -46.63, 11.45), new Cidade("Rio de Janeiro", "RJ", -22.91, -43.17, 6.21),
+            new Cidade("Brasília", "DF", -15.79, -47.88, 2.82), new Cidade("Fortaleza", "CE", -3.73, -38.52, 2.43),
+            new Cidade("Salvador", "BA", -12.97, -38.50, 2.42), new Cidade("Belo Horizonte", "MG", -19.92, -43.94, 2.32),
+            new Cidade("Manaus", "AM", -3.12, -60.02, 2.06), new Cidade("Curitiba", "PR", -25.43, -49.27, 1.77),
+            new Cidade("Recife", "PE", -8.05, -34.88, 1.49), new Cidade("Goiânia", "GO", -16.69, -49.25, 1.44),
+            new Cidade("Porto Alegre", "RS", -30.03, -51.23, 1.33), new Cidade("Belém", "PA", -1.46, -48.49, 1.30),
+            new Cidade("Guarulhos", "SP", -23.46, -46.53, 1.29), new Cidade("Campinas", "SP", -22.91, -47.06, 1.14),
+            new Cidade("São Luís", "MA", -2.53, -44.30, 1.04), new Cidade("Maceió", "AL", -9.67, -35.74, 0.96),
+            new Cidade("Campo Grande", "MS", -20.47, -54.62, 0.90), new Cidade("Teresina", "PI", -5.09, -42.80, 0.87),
+            new Cidade("João Pessoa", "PB", -7.12, -34.86, 0.83), new Cidade("Natal", "RN", -5.79, -35.21, 0.75),
+            new Cidade("Ribeirão Preto", "SP", -21.18, -47.81, 0.70), new Cidade("Uberlândia", "MG", -18.92, -48.28, 0.71),
+            new Cidade("Cuiabá", "MT", -15.60, -56.10, 0.65), new Cidade("Aracaju", "SE", -10.91, -37.07, 0.60),
+            new Cidade("Feira de Santana", "BA", -12.27, -38.97, 0.62), new Cidade("Joinville", "SC", -26.30, -48.85, 0.62),
+            new Cidade("Londrina", "PR", -23.31, -51.16, 0.56), new Cidade("Juiz de Fora", "MG", -21.76, -43.35, 0.54),
+            new Cidade("Florianópolis", "SC", -27.60, -48.55, 0.54), new Cidade("Porto Velho", "RO", -8.76, -63.90, 0.46),
+            new Cidade("Caxias do Sul", "RS", -29.17, -51.18, 0.46), new Cidade("Macapá", "AP", 0.03, -51.07, 0.44),
+            new Cidade("Santos", "SP", -23.96, -46.33, 0.42), new Cidade("Campina Grande", "PB", -7.23, -35.88, 0.42),
+            new Cidade("Boa Vista", "RR", 2.82, -60.67, 0.41), new Cidade("Rio Branco", "AC", -9.97, -67.81, 0.36),
+            new Cidade("Blumenau", "SC", -26.92, -49.07, 0.36), new Cidade("Vitória", "ES", -20.32, -40.34, 0.32),
+            new Cidade("Palmas", "TO", -10.18, -48.33, 0.30), new Cidade("Petrópolis", "RJ", -22.51, -43.18, 0.28));
+
+    private static final List<String> TIPOS = List.of("Enchente", "Deslizamento", "Queimada", "Seca", "Vendaval", "Granizo");
+    /** Pesos de {@link #TIPOS} por estação: chuvas no verão, queimadas e seca no inverno. */
+    private static final double[] TIPOS_CHUVOSO = {40, 25, 3, 2, 15, 15};
+    private static final double[] TIPOS_SECO = {5, 3, 40, 35, 10, 7};
+    private static final double[] TIPOS_TRANSICAO = {20, 10, 20, 20, 20, 10};
+
+    private static final List<String> FONTES = List.of("INMET", "CEMADEN", "modelo-interno");
+    private static final List<String> RELATOS = List.of("Rua alagada", "Água subindo rápido", "Queda de árvore",
+            "Barranco cedendo", "Fumaça forte na região", "Falta de energia", "Vento muito forte", "Granizo no bairro");
+
+    /** Ciclo diário (0h a 23h): madrugada calma, pico no fim da tarde. */
+    private static final DistribuicaoDiscreta HORAS = new DistribuicaoDiscreta(new double[]{
+            2, 1.5, 1, 1, 1, 1.5, 3, 5, 6, 6, 6, 6, 6, 6, 7, 8, 8, 8, 7, 6, 5, 4, 3, 2.5});
+    private static final DistribuicaoDiscreta NIVEIS_ALERTA = new DistribuicaoDiscreta(new double[]{50, 30, 15, 5});
+    private static final DistribuicaoDiscreta NIVEIS_PREVISAO = new DistribuicaoDiscreta(new double[]{55, 28, 13, 4});
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ParticionamentoService particionamentoService;
+
+    private final long semente;
+    private final String referencia;
+    private final int meses;
+    private final int regioes;
+    private final int usuarios;
+    private final long eventos;
+    private final long alertas;
+    private final long previsoes;
+    private final long relatos;
+    private final int surtos;
+    private final double fracaoSurtos;
+    private final int trabalhadores;
+    private final long linhasPorBloco;
+
+    /**
+     * O {@link ParticionamentoService} é injetado para que as tabelas já estejam particionadas
+     * antes da carga.
+     */
+    public GeradorDadosSinteticos(JdbcTemplate jdbcTemplate,
+                                  PasswordEncoder passwordEncoder,
+                                  ParticionamentoService particionamentoService,
+                                  @Value("${safelink.sintetico.semente:42}") long semente,
+                                  @Value("${safelink.sintetico.referencia:}") String referencia,
+                                  @Value("${safelink.sintetico.meses:12}") int meses,
+                                  @Value("${safelink.sintetico.regioes:5000}") int regioes,
+                                  @Value("${safelink.sintetico.usuarios:20000}") int usuarios,
+                                  @Value("${safelink.sintetico.eventos:8000000}") long eventos,
+                                  @Value("${safelink.sintetico.alertas:8000000}") long alertas,
+                                  @Value("${safelink.sintetico.previsoes:12000000}") long previsoes,
+                                  @Value("${safelink.sintetico.relatos:22000000}") long relatos,
+                                  @Value("${safelink.sintetico.surtos.quantidade:300}") int surtos,
+                                  @Value("${safelink.sintetico.surtos.fracao:0.05}") double fracaoSurtos,
+                                  @Value("${safelink.sintetico.trabalhadores:4}") int trabalhadores,
+                                  @Value("${safelink.sintetico.linhas-por-bloco:500000}") long linhasPorBloco) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.particionamentoService = particionamentoService;
+        this.semente = semente;
+        this.referencia = referencia.trim();
+        this.meses = Math.max(1, meses);
+        this.regioes = Math.max(1, regioes);
+        this.usuarios = Math.max(1, usuarios);
+        this.eventos = eventos;
+        this.alertas = alertas;
+        this.previsoes = previsoes;
+        this.relatos = relatos;
+        this.surtos = Math.max(1, surtos);
+        this.fracaoSurtos = fracaoSurtos;
+        this.trabalhadores = Math.max(1, trabalhadores);
+        this.linhasPorBloco = Math.max(1, linhasPorBloco);
+    }
+
+    // ============================================
+    // 🚀 Geração
+    // ============================================
+
+    @PostConstruct
+    public void gerar() {
+        // Fora de proxy: o pool de lote é definido aqui (a carga leva minutos)
+        ContextoPool.executar(PoolConexao.LOTE, () -> {
+            Integer existentes = jdbcTemplate.queryForObject(
+                    "select count(*) from tb_user where ds_email like ?", Integer.class, "%" + DOMINIO);
+            if (existentes != null && existentes > 0) {
+                log.info("🏗️ Dados sintéticos já gerados ({} usuários): geração ignorada", existentes);
+                return;
+            }
+            gerarTudo();
+        });
+    }
+
+    private void gerarTudo() {
+        long inicio = System.nanoTime();
+        LocalDateTime fim = referencia.isEmpty()
+                ? LocalDateTime.now().truncatedTo(ChronoUnit.HOURS)
+                : LocalDate.parse(referencia).atStartOfDay();
+        LocalDateTime comeco = fim.minusMonths(meses).truncatedTo(ChronoUnit.DAYS);
+        log.info("🏗️ Gerando dados sintéticos de {} a {}: {} regiões, {} usuários, {} eventos, {} alertas, "
+                        + "{} previsões, {} relatos ({} trabalhadores, semente {})", comeco, fim, regioes, usuarios,
+                eventos, alertas, previsoes, relatos, trabalhadores, semente);
+
+        particionamentoService.criarParticoes(YearMonth.from(comeco), YearMonth.from(fim));
+        Modelo modelo = new Modelo(comeco, fim);
+
+        long linhas = copiar(modelo, Tabela.REGIAO, 0, regioes, aleatorio(Tabela.REGIAO, 0));
+        linhas += copiar(modelo, Tabela.USUARIO, 0, usuarios, aleatorio(Tabela.USUARIO, 0));
+
+        Map<Tabela, Long> volumes = new EnumMap<>(Tabela.class);
+        volumes.put(Tabela.EVENTO, eventos);
+        volumes.put(Tabela.ALERTA, alertas);
+        volumes.put(Tabela.PREVISAO, previsoes);
+        volumes.put(Tabela.RELATO, relatos);
+        List<String[]> chaves = removerChavesEstrangeiras(volumes.keySet());
+        try {
+            linhas += copiarEmParalelo(modelo, volumes);
+        } finally {
+            recriarChavesEstrangeiras(chaves);
+        }
+
+        for (Tabela tabela : Tabela.values()) {
+            jdbcTemplate.execute("select setval(pg_get_serial_sequence('" + tabela.nome + "', '" + tabela.colunaId
+                    + "'), (select max(" + tabela.colunaId + ") from " + tabela.nome + "))");
+            jdbcTemplate.execute("analyze " + tabela.nome);
+        }
+        long segundos = Math.max(1, (System.nanoTime() - inicio) / 1_000_000_000L);
+        log.info("🏗️ Dados sintéticos gerados: {} linhas em {} s ({} linhas/s)", linhas, segundos, linhas / segundos);
+    }
+
+    /**
+     * Remove as chaves estrangeiras das tabelas de volume: verificadas linha a linha, elas dominam o custo
+     * do `COPY`. São recriadas no fim, com uma única validação em massa por chave.
+     *
+     * @return tabela, nome e definição de cada chave removida
+     */
+    private List<String[]> removerChavesEstrangeiras(Collection<Tabela> tabelas) {
+        List<String[]> chaves = new ArrayList<>();
+        for (Tabela tabela : tabelas) {
+            jdbcTemplate.queryForList("""
+                    select conname, pg_get_constraintdef(oid) as definicao from pg_constraint
+                     where conrelid = cast(? as regclass) and contype = 'f'
+                    """, tabela.nome).forEach(chave -> {
+                String nome = (String) chave.get("conname");
+                chaves.add(new String[]{tabela.nome, nome, (String) chave.get("definicao")});
+                jdbcTemplate.execute("alter table " + tabela.nome + " drop constraint " + nome);
+            });
+        }
+        return chaves;
+    }
+
+    private void recriarChavesEstrangeiras(List<String[]> chaves) {
+        for (String[] chave : chaves) {
+            jdbcTemplate.execute("alter table " + chave[0] + " add constraint " + chave[1] + " " + chave[2]);
+        }
+    }
+
+    /**
+     * Divide cada tabela em blocos de `linhas-por-bloco` e os copia com `trabalhadores` threads.
+     */
+    private long copiarEmParalelo(Modelo modelo, Map<Tabela, Long> volumes) {
+        ExecutorService executor = Executors.newFixedThreadPool(trabalhadores,
+                new CustomizableThreadFactory("gerador-sintetico-"));
+        try {
+            List<Future<Long>> blocos = new ArrayList<>();
+            volumes.forEach((tabela, volume) -> {
+                for (long primeira = 0; primeira < volume; primeira += linhasPorBloco) {
+                    long inicioBloco = primeira;
+                    long tamanho = Math.min(linhasPorBloco, volume - primeira);
+                    SplittableRandom aleatorio = aleatorio(tabela, primeira / linhasPorBloco);
+                    blocos.add(executor.submit(() -> ContextoPool.executar(PoolConexao.LOTE,
+                            () -> copiar(modelo, tabela, inicioBloco, tamanho, aleatorio))));
+                }
+            });
+
+            long linhas = 0;
+            int marco = Math.max(1, blocos.size() / 10);
+            for (int i = 0; i < blocos.size(); i++) {
+                linhas += aguardar(blocos.get(i));
+                if ((i + 1) % marco == 0) {
+                    log.info("🏗️ {}/{} blocos copiados ({} linhas)", i + 1, blocos.size(), linhas);
+                }
+            }
+            return linhas;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Copia as linhas `[primeira, primeira + quantidade)` da tabela em um único `COPY`.
+     */
+    private long copiar(Modelo modelo, Tabela tabela, long primeira, long quantidade, SplittableRandom aleatorio) {
+        Long copiadas = jdbcTemplate.execute((ConnectionCallback<Long>) conexao -> {
+            CopyIn copia = conexao.unwrap(PGConnection.class).getCopyAPI().copyIn(tabela.comandoCopy());
+            try {
+                StringBuilder linhas = new StringBuilder(BUFFER_COPY + 1024);
+                for (long i = primeira; i < primeira + quantidade; i++) {
+                    modelo.escrever(tabela, i, aleatorio, linhas);
+                    if (linhas.length() >= BUFFER_COPY) {
+                        enviar(copia, linhas);
+                    }
+                }
+                enviar(copia, linhas);
+                return copia.endCopy();
+            } finally {
+                if (copia.isActive()) {
+                    copia.cancelCopy();
+                }
+            }
+        });
+        return copiadas != null ? copiadas : 0;
+    }
+
+    private static void enviar(CopyIn copia, StringBuilder linhas) throws SQLException {
+        byte[] bytes = linhas.toString().getBytes(StandardCharsets.UTF_8);
+        copia.writeToCopy(bytes, 0, bytes.length);
+        linhas.setLength(0);
+    }
+
+    private static long aguardar(Future<Long> bloco) {
+        try {
+            return bloco.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha na geração de dados sintéticos", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Geração de dados sintéticos interrompida", e);
+        }
+    }
+
+    /** Gerador de um bloco: depende só da semente, da tabela e do número do bloco. */
+    private SplittableRandom aleatorio(Tabela tabela, long bloco) {
+        return new SplittableRandom(Hashes.mix64(semente ^ Hashes.mix64(((long) tabela.ordinal() << 40) + bloco)));
+    }
+
+    // ============================================
+    // 🧩 Tabelas e modelo dos dados
+    // ============================================
+
+    private record Cidade(String nome, String uf, double latitude, double longitude, double populacaoMi) {
+    }
+
+    private enum Tabela {
+        REGIAO("tb_regiao", "id_regiao", "nm_regiao, nm_cidade, sg_estado, vl_latitude, vl_longitude"),
+        USUARIO("tb_user", "id_user", "ds_email, ds_senha, tp_role"),
+        EVENTO("tb_evento_natural", "id_evento_natural", "ds_tipo, ds_descricao, dt_ocorrencia, id_regiao, dt_criacao"),
+        ALERTA("tb_alerta", "id_alerta", "ds_nivel_risco, ds_mensagem, dt_emitido_em, id_regiao, dt_criacao"),
+        PREVISAO("tb_previsao_risco", "id_previsao_risco", "ds_nivel_previsto, ds_fonte, dt_gerado_em, id_regiao, dt_criacao"),
+        RELATO("tb_relato_usuario", "id_relato_usuario", "ds_mensagem, dt_relato, id_usuario, id_regiao, dt_criacao");
+
+        private final String nome;
+        private final String colunaId;
+        private final String colunas;
+
+        Tabela(String nome, String colunaId, String colunas) {
+            this.nome = nome;
+            this.colunaId = colunaId;
+            this.colunas = colunas;
+        }
+
+        String comandoCopy() {
+            return "copy " + nome + " (" + colunaId + ", " + colunas + ") from stdin";
+        }
+    }
+
+    /**
+     * Estado somente leitura compartilhado pelos blocos: regiões, distribuições, surtos e bases de ID.
+     * Os textos gerados não têm tabulação, quebra de linha nem barra invertida, então vão ao `COPY` sem escape.
+     */
+    private final class Modelo {
+
+        private final long inicioEpoch;
+        private final long fimEpoch;
+        private final long dias;
+        private final Map<Tabela, Long> basesId = new EnumMap<>(Tabela.class);
+
+        private final int[] cidadeDaRegiao;
+        private final String[] nomeDaRegiao;
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final DistribuicaoDiscreta atividadeRegioes;
+        private final DistribuicaoDiscreta atividadeUsuarios;
+        private final DistribuicaoDiscreta[] tiposPorMes = new DistribuicaoDiscreta[12];
+        private final String senhaCodificada;
+
+        private final int[] regiaoDoSurto;
+        private final long[] inicioDoSurto;
+        private final long[] duracaoDoSurto;
+
+        private Modelo(LocalDateTime comeco, LocalDateTime fim) {
+            inicioEpoch = comeco.toEpochSecond(ZoneOffset.UTC);
+            fimEpoch = fim.toEpochSecond(ZoneOffset.UTC);
+            dias = Math.max(1, (fimEpoch - inicioEpoch) / SEGUNDOS_DIA);
+            for (Tabela tabela : Tabela.values()) {
+                basesId.put(tabela, jdbcTemplate.queryForObject(
+                        "select coalesce(max(" + tabela.colunaId + "), 0) from " + tabela.nome, Long.class));
+            }
+
+            // Regiões: cidade sorteada pela população, espalhadas em torno do centro; atividade lognormal
+            SplittableRandom aleatorio = new SplittableRandom(semente);
+            DistribuicaoDiscreta cidades = new DistribuicaoDiscreta(
+                    CIDADES.stream().mapToDouble(Cidade::populacaoMi).toArray());
+            int[] setores = new int[CIDADES.size()];
+            cidadeDaRegiao = new int[regioes];
+            nomeDaRegiao = new String[regioes];
+            latitudes = new double[regioes];
+            longitudes = new double[regioes];
+            double[] atividade = new double[regioes];
+            for (int i = 0; i < regioes; i++) {
+                int indice = cidades.sortear(aleatorio);
+                Cidade cidade = CIDADES.get(indice);
+                double dispersao = 0.03 + 0.03 * Math.sqrt(cidade.populacaoMi());
+                cidadeDaRegiao[i] = indice;
+                nomeDaRegiao[i] = cidade.nome() + " - setor " + (++setores[indice]);
+                latitudes[i] = arredondar(cidade.latitude() + aleatorio.nextGaussian() * dispersao);
+                longitudes[i] = arredondar(cidade.longitude() + aleatorio.nextGaussian() * dispersao);
+                atividade[i] = cidade.populacaoMi() * Math.exp(aleatorio.nextGaussian());
+            }
+            atividadeRegioes = new DistribuicaoDiscreta(atividade);
+            atividadeUsuarios = DistribuicaoDiscreta.zipf(usuarios, 0.8);
+
+            for (int mes = 1; mes <= 12; mes++) {
+                double[] pesos = switch (mes) {
+                    case 11, 12, 1, 2, 3 -> TIPOS_CHUVOSO;
+                    case 6, 7, 8, 9 -> TIPOS_SECO;
+                    default -> TIPOS_TRANSICAO;
+                };
+                tiposPorMes[mes - 1] = new DistribuicaoDiscreta(pesos);
+            }
+
+            // Surtos: uma região, algumas horas, uma fração dos relatos
+            regiaoDoSurto = new int[surtos];
+            inicioDoSurto = new long[surtos];
+            duracaoDoSurto = new long[surtos];
+            for (int i = 0; i < surtos; i++) {
+                regiaoDoSurto[i] = atividadeRegioes.sortear(aleatorio);
+                inicioDoSurto[i] = instante(aleatorio);
+                duracaoDoSurto[i] = 3600L * (1 + aleatorio.nextInt(6));
+            }
+            senhaCodificada = passwordEncoder.encode(SENHA);
+        }
+
+        /** Escreve a linha `indice` da tabela no formato texto do `COPY`. */
+        private void escrever(Tabela tabela, long indice, SplittableRandom aleatorio, StringBuilder saida) {
+            saida.append(basesId.get(tabela) + indice + 1).append('\t');
+            switch (tabela) {
+                case REGIAO -> {
+                    int regiao = (int) indice;
+                    Cidade cidade = CIDADES.get(cidadeDaRegiao[regiao]);
+                    saida.append(nomeDaRegiao[regiao]).append('\t').append(cidade.nome()).append('\t')
+                            .append(cidade.uf()).append('\t').append(latitudes[regiao]).append('\t')
+                            .append(longitudes[regiao]);
+                }
+                case USUARIO -> saida.append("usuario").append(indice).append(DOMINIO).append('\t')
+                        .append(senhaCodificada).append('\t').append(UserRole.USER.name());
+                case EVENTO -> {
+                    long instante = instante(aleatorio);
+                    int regiao = atividadeRegioes.sortear(aleatorio);
+                    String tipo = tipo(instante, aleatorio);
+                    saida.append(tipo).append('\t').append(tipo).append(" em ")
+                            .append(CIDADES.get(cidadeDaRegiao[regiao]).nome()).append('\t');
+                    fechar(saida, instante, regiao, aleatorio);
+                }
+                case ALERTA -> {
+                    long instante = instante(aleatorio);
+                    int regiao = atividadeRegioes.sortear(aleatorio);
+                    String nivel = NivelRisco.values()[NIVEIS_ALERTA.sortear(aleatorio)].name();
+                    saida.append(nivel).append('\t').append("Risco ").append(nivel.toLowerCase()).append(" de ")
+                            .append(tipo(instante, aleatorio).toLowerCase()).append(" em ")
+                            .append(CIDADES.get(cidadeDaRegiao[regiao]).nome()).append('\t');
+                    fechar(saida, instante, regiao, aleatorio);
+                }
+                case PREVISAO -> {
+                    // Previsões saem em rodadas de 6 em 6 horas
+                    long instante = instante(aleatorio);
+                    instante -= (instante - inicioEpoch) % (6 * 3600);
+                    saida.append(NivelRisco.values()[NIVEIS_PREVISAO.sortear(aleatorio)].name()).append('\t')
+                            .append(FONTES.get(aleatorio.nextInt(FONTES.size()))).append('\t');
+                    fechar(saida, instante, atividadeRegioes.sortear(aleatorio), aleatorio);
+                }
+                case RELATO -> {
+                    long instante;
+                    int regiao;
+                    if (aleatorio.nextDouble() < fracaoSurtos) {
+                        int surto = aleatorio.nextInt(surtos);
+                        regiao = regiaoDoSurto[surto];
+                        instante = Math.min(inicioDoSurto[surto] + aleatorio.nextLong(duracaoDoSurto[surto]), fimEpoch - 1);
+                    } else {
+                        regiao = atividadeRegioes.sortear(aleatorio);
+                        instante = instante(aleatorio);
+                    }
+                    saida.append(RELATOS.get(aleatorio.nextInt(RELATOS.size()))).append('\t')
+                            .append(data(instante)).append('\t')
+                            .append(basesId.get(Tabela.USUARIO) + atividadeUsuarios.sortear(aleatorio) + 1).append('\t')
+                            .append(basesId.get(Tabela.REGIAO) + regiao + 1).append('\t')
+                            .append(data(criacao(instante, aleatorio)));
+                }
+            }
+            saida.append('\n');
+        }
+
+        /** Colunas finais comuns: data, região e data de criação. */
+        private void fechar(StringBuilder saida, long instante, int regiao, SplittableRandom aleatorio) {
+            saida.append(data(instante)).append('\t').append(basesId.get(Tabela.REGIAO) + regiao + 1).append('\t')
+                    .append(data(criacao(instante, aleatorio)));
+        }
+
+        /** Instante do período com volume crescente (densidade proporcional à posição) e ciclo diário. */
+        private long instante(SplittableRandom aleatorio) {
+            long dia = (long) (Math.sqrt(aleatorio.nextDouble()) * dias);
+            long segundo = inicioEpoch + dia * SEGUNDOS_DIA + HORAS.sortear(aleatorio) * 3600L + aleatorio.nextInt(3600);
+            return Math.min(segundo, fimEpoch - 1);
+        }
+
+        /** Registro gravado alguns minutos depois do fato. */
+        private long criacao(long instante, SplittableRandom aleatorio) {
+            return Math.min(instante + aleatorio.nextInt(600), fimEpoch);
+        }
+
+        private String tipo(long instante, SplittableRandom aleatorio) {
+            int mes = data(instante).getMonthValue();
+            return TIPOS.get(tiposPorMes[mes - 1].sortear(aleatorio));
+        }
+
+        private LocalDateTime data(long epoch) {
+            return LocalDateTime.ofEpochSecond(epoch, 0, ZoneOffset.UTC);
+        }
+
+        private double arredondar(double coordenada) {
+            return Math.round(coordenada * 10_000) / 10_000.0;
+        }
+    }
+}
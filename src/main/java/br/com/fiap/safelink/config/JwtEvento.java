@@ -0,0 +1,22 @@
+package br.com.fiap.safelink.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 🔐 Evento JFR da verificação do JWT de uma requisição pelo {@link AuthFilter}.
+ */
+@Name("safelink.Jwt")
+@Label("Verificação de JWT")
+@Category({"SafeLink", "Segurança"})
+@StackTrace(false)
+final class JwtEvento extends jdk.jfr.Event {
+
+    @Label("Válido")
+    boolean valido;
+
+    @Label("Papel")
+    String papel;
+}
@@ -0,0 +1,125 @@
+package br.com.fiap.safelink.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🚦 TurboFilter do Logback que limita quantas mensagens por segundo cada logger pode emitir.
+ *
+ * - Aplica-se aos loggers cujo nome começa com um dos `prefixo`s configurados, até o nível WARN
+ *   (ERROR nunca é descartado)
+ * - Cada logger tem sua própria janela de 1 segundo com até `maximoPorSegundo` mensagens;
+ *   as excedentes são descartadas antes de qualquer formatação
+ * - A cada segundo, uma linha de resumo por logger informa quantas mensagens foram descartadas
+ * - Níveis desabilitados são decididos pelo logger, sem passar pelo contador
+ *
+ * Configurado no `logback-spring.xml`.
+ */
+public class LimiteTaxaLogFilter extends TurboFilter {
+
+    /** Marca as linhas de resumo, que não passam pelo limite. */
+    private static final Marker RESUMO = MarkerFactory.getMarker("RESUMO_LIMITE_TAXA");
+    private static final long JANELA_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final List<String> prefixos = new ArrayList<>();
+    private int maximoPorSegundo = 10;
+    private final Map<String, Janela> janelas = new ConcurrentHashMap<>();
+    private ScheduledExecutorService resumidor;
+
+    /**
+     * Janela de 1 segundo de um logger.
+     */
+    private static final class Janela {
+
+        private final Logger logger;
+        private final AtomicLong inicioNanos = new AtomicLong(System.nanoTime());
+        private final AtomicLong emitidas = new AtomicLong();
+        private final AtomicLong descartadas = new AtomicLong();
+
+        private Janela(Logger logger) {
+            this.logger = logger;
+        }
+    }
+
+    public void addPrefixo(String prefixo) {
+        prefixos.add(prefixo.trim());
+    }
+
+    public void setMaximoPorSegundo(int maximoPorSegundo) {
+        this.maximoPorSegundo = maximoPorSegundo;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level.levelInt >= Level.ERROR_INT || marker == RESUMO
+                || !logger.isEnabledFor(level) || !aplicavel(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        Janela janela = janelas.computeIfAbsent(logger.getName(), nome -> new Janela(logger));
+        long agora = System.nanoTime();
+        long inicio = janela.inicioNanos.get();
+        if (agora - inicio >= JANELA_NANOS && janela.inicioNanos.compareAndSet(inicio, agora)) {
+            janela.emitidas.set(0);
+        }
+        if (janela.emitidas.incrementAndGet() <= maximoPorSegundo) {
+            return FilterReply.NEUTRAL;
+        }
+        janela.descartadas.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    private boolean aplicavel(String nome) {
+        for (int i = 0; i < prefixos.size(); i++) {
+            if (nome.startsWith(prefixos.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ============================================
+    // 🧾 Resumo
+    // ============================================
+
+    private void resumir() {
+        janelas.values().forEach(janela -> {
+            long descartadas = janela.descartadas.getAndSet(0);
+            if (descartadas > 0) {
+                janela.logger.warn(RESUMO, "🚦 {} mensagem(ns) descartada(s) no último segundo (limite de {}/s)",
+                        descartadas, maximoPorSegundo);
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        resumidor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "log-limite-taxa");
+            thread.setDaemon(true);
+            return thread;
+        });
+        resumidor.scheduleAtFixedRate(this::resumir, 1, 1, TimeUnit.SECONDS);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (resumidor != null) {
+            resumidor.shutdownNow();
+        }
+        super.stop();
+    }
+}
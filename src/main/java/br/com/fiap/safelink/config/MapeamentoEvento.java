@@ -0,0 +1,22 @@
+package br.com.fiap.safelink.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 🔄 Evento JFR de uma conversão do ModelMapper ({@link ModelMapperMedido}).
+ */
+@Name("safelink.Mapeamento")
+@Label("Conversão do ModelMapper")
+@Category({"SafeLink", "Mapeamento"})
+@StackTrace(false)
+final class MapeamentoEvento extends jdk.jfr.Event {
+
+    @Label("Origem")
+    String origem;
+
+    @Label("Destino")
+    String destino;
+}
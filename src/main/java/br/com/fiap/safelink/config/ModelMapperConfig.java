@@ -1,17 +1,58 @@
 package br.com.fiap.safelink.config;
 
+import br.com.fiap.safelink.dto.request.AlertaRequestDTO;
+import br.com.fiap.safelink.dto.request.EventoNaturalRequestDTO;
+import br.com.fiap.safelink.dto.request.PrevisaoRiscoRequestDTO;
+import br.com.fiap.safelink.dto.request.RelatoUsuarioRequestDTO;
+import br.com.fiap.safelink.model.Alerta;
+import br.com.fiap.safelink.model.EventoNatural;
+import br.com.fiap.safelink.model.PrevisaoRisco;
+import br.com.fiap.safelink.model.RelatoUsuario;
 import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * Configuração do ModelMapper para mapeamento automático de DTOs e entidades.
+ * As conversões são medidas pelo {@link ModelMapperMedido}.
  */
 @Configuration
 public class ModelMapperConfig {
 
     @Bean
     public ModelMapper modelMapper() {
-        return new ModelMapper();
+        ModelMapper modelMapper = new ModelMapperMedido();
+
+        // regiaoId e usuarioId são ambos candidatos a RelatoUsuario.id: o ID nunca vem do DTO
+        modelMapper.emptyTypeMap(RelatoUsuarioRequestDTO.class, RelatoUsuario.class)
+                .addMappings(mapper -> {
+                    mapper.skip(RelatoUsuario::setId);
+                    mapper.skip(RelatoUsuario::setUsuario);
+                    mapper.skip(RelatoUsuario::setRegiao);
+                })
+                .implicitMappings();
+
+        // idRegiao/regiaoId casariam com o ID da entidade e sobrescreveriam outro registro no save;
+        // as associações são preenchidas pelo serviço (mapeá-las alteraria o ID da região já associada)
+        modelMapper.emptyTypeMap(AlertaRequestDTO.class, Alerta.class)
+                .addMappings(mapper -> {
+                    mapper.skip(Alerta::setId);
+                    mapper.skip(Alerta::setRegiao);
+                })
+                .implicitMappings();
+        modelMapper.emptyTypeMap(EventoNaturalRequestDTO.class, EventoNatural.class)
+                .addMappings(mapper -> {
+                    mapper.skip(EventoNatural::setId);
+                    mapper.skip(EventoNatural::setRegiao);
+                })
+                .implicitMappings();
+        modelMapper.emptyTypeMap(PrevisaoRiscoRequestDTO.class, PrevisaoRisco.class)
+                .addMappings(mapper -> {
+                    mapper.skip(PrevisaoRisco::setId);
+                    mapper.skip(PrevisaoRisco::setRegiao);
+                })
+                .implicitMappings();
+
+        return modelMapper;
     }
 }
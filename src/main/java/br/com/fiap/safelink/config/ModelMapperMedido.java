@@ -0,0 +1,48 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.config.FasesRequisicao.Fase;
+import org.modelmapper.ModelMapper;
+
+/**
+ * 🔄 ModelMapper que soma o tempo de cada conversão à fase `mapeamento` da requisição.
+ *
+ * Cobre as duas formas usadas pelos serviços: criar o destino (`map(origem, Classe)`) e copiar
+ * sobre uma instância existente (`map(origem, destino)`). Cada conversão também gera um
+ * {@link MapeamentoEvento} para o JFR.
+ */
+public class ModelMapperMedido extends ModelMapper {
+
+    @Override
+    public <D> D map(Object source, Class<D> destinationType) {
+        MapeamentoEvento evento = new MapeamentoEvento();
+        long inicio = System.nanoTime();
+        evento.begin();
+        try {
+            return super.map(source, destinationType);
+        } finally {
+            concluir(evento, inicio, source, destinationType);
+        }
+    }
+
+    @Override
+    public void map(Object source, Object destination) {
+        MapeamentoEvento evento = new MapeamentoEvento();
+        long inicio = System.nanoTime();
+        evento.begin();
+        try {
+            super.map(source, destination);
+        } finally {
+            concluir(evento, inicio, source, destination != null ? destination.getClass() : null);
+        }
+    }
+
+    private static void concluir(MapeamentoEvento evento, long inicio, Object origem, Class<?> destino) {
+        evento.end();
+        FasesRequisicao.registrar(Fase.MAPEAMENTO, inicio);
+        if (evento.shouldCommit()) {
+            evento.origem = origem != null ? origem.getClass().getSimpleName() : null;
+            evento.destino = destino != null ? destino.getSimpleName() : null;
+            evento.commit();
+        }
+    }
+}
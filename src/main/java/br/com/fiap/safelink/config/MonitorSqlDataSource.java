@@ -0,0 +1,194 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.service.ConsultaLentaService;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.Arrays;
+
+/**
+ * 🐢 DataSource que mede cada comando SQL e entrega os lentos ao {@link ConsultaLentaService}.
+ *
+ * - Mede de `execute*` até o retorno do driver (para consultas, até a chegada do primeiro lote de linhas)
+ * - Guarda os parâmetros vinculados (`set*`) de cada `PreparedStatement`, para registro e `EXPLAIN`
+ * - Comandos abaixo do limite custam apenas a medição: nada é formatado nem registrado
+ * - Com uma {@link ContagemSql} aberta na thread, conta os comandos e as linhas lidas ou afetadas
+ * - Soma a duração de cada comando à fase `sql` da requisição ({@link FasesRequisicao})
+ */
+public class MonitorSqlDataSource extends DelegatingDataSource {
+
+    private final ConsultaLentaService consultaLentaService;
+
+    public MonitorSqlDataSource(DataSource alvo, ConsultaLentaService consultaLentaService) {
+        super(alvo);
+        this.consultaLentaService = consultaLentaService;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return envolver(Connection.class, super.getConnection(), new ConexaoMonitorada());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    // ============================================
+    // 🧩 Proxies
+    // ============================================
+
+    private static <T> T envolver(Class<T> tipo, Object alvo, Handler handler) {
+        handler.alvo = alvo;
+        return tipo.cast(Proxy.newProxyInstance(MonitorSqlDataSource.class.getClassLoader(), new Class<?>[]{tipo}, handler));
+    }
+
+    /** Repassa as chamadas ao objeto real, desembrulhando exceções; igualdade é a do proxy. */
+    private abstract static class Handler implements InvocationHandler {
+
+        Object alvo;
+
+        Object repassar(Object proxy, Method metodo, Object[] args) throws Throwable {
+            switch (metodo.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            try {
+                return metodo.invoke(alvo, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /** Conexão cujos comandos criados são medidos. */
+    private final class ConexaoMonitorada extends Handler {
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            Object resultado = repassar(proxy, metodo, args);
+            String sql = metodo.getName().startsWith("prepare") ? (String) args[0] : null;
+            if (resultado instanceof CallableStatement comando) {
+                return envolver(CallableStatement.class, comando, new ComandoMonitorado(sql));
+            }
+            if (resultado instanceof PreparedStatement comando) {
+                return envolver(PreparedStatement.class, comando, new ComandoMonitorado(sql));
+            }
+            if (resultado instanceof Statement comando) {
+                return envolver(Statement.class, comando, new ComandoMonitorado(null));
+            }
+            return resultado;
+        }
+    }
+
+    /** Comando medido a cada execução, com os parâmetros vinculados até então. */
+    private final class ComandoMonitorado extends Handler {
+
+        private final String sqlPreparado;
+        private Object[] parametros = new Object[0];
+        private int quantidade;
+
+        private ComandoMonitorado(String sqlPreparado) {
+            this.sqlPreparado = sqlPreparado;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            String nome = metodo.getName();
+            if (nome.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer indice) {
+                vincular(indice, nome.equals("setNull") ? null : args[1]);
+                return repassar(proxy, metodo, args);
+            }
+            if (nome.equals("clearParameters")) {
+                parametros = new Object[0];
+                quantidade = 0;
+                return repassar(proxy, metodo, args);
+            }
+            if (nome.equals("getResultSet")) {
+                return contarLinhas(ContagemSql.atual(), repassar(proxy, metodo, args));
+            }
+            if (!nome.startsWith("execute")) {
+                return repassar(proxy, metodo, args);
+            }
+            ContagemSql contagem = ContagemSql.atual();
+            if (contagem != null) {
+                contagem.comando();
+            }
+            long inicio = System.nanoTime();
+            try {
+                return contarLinhas(contagem, repassar(proxy, metodo, args));
+            } finally {
+                long duracao = System.nanoTime() - inicio;
+                FasesRequisicao.registrar(FasesRequisicao.Fase.SQL, inicio);
+                if (duracao >= consultaLentaService.getLimiteNanos()) {
+                    String sql = sqlPreparado != null ? sqlPreparado
+                            : args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+                    if (sql != null) {
+                        Object[] vinculados = sqlPreparado != null ? Arrays.copyOf(parametros, quantidade) : new Object[0];
+                        consultaLentaService.registrar(sql, vinculados, duracao);
+                    }
+                }
+            }
+        }
+
+        /** Soma as linhas afetadas e passa a contar as lidas do `ResultSet`. */
+        private Object contarLinhas(ContagemSql contagem, Object resultado) {
+            if (contagem == null) {
+                return resultado;
+            }
+            if (resultado instanceof ResultSet linhas) {
+                return envolver(ResultSet.class, linhas, new ResultadoContado(contagem));
+            }
+            if (resultado instanceof Integer afetadas) {
+                contagem.linhas(afetadas);
+            } else if (resultado instanceof Long afetadas) {
+                contagem.linhas(afetadas);
+            } else if (resultado instanceof int[] lote) {
+                for (int afetadas : lote) {
+                    contagem.linhas(afetadas);
+                }
+            } else if (resultado instanceof long[] lote) {
+                for (long afetadas : lote) {
+                    contagem.linhas(afetadas);
+                }
+            }
+            return resultado;
+        }
+
+        private void vincular(int indice, Object valor) {
+            if (indice > parametros.length) {
+                parametros = Arrays.copyOf(parametros, Math.max(indice, parametros.length * 2));
+            }
+            parametros[indice - 1] = valor;
+            quantidade = Math.max(quantidade, indice);
+        }
+    }
+
+    /** `ResultSet` que conta cada linha lida. */
+    private static final class ResultadoContado extends Handler {
+
+        private final ContagemSql contagem;
+
+        private ResultadoContado(ContagemSql contagem) {
+            this.contagem = contagem;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            Object resultado = repassar(proxy, metodo, args);
+            if (Boolean.TRUE.equals(resultado) && metodo.getName().equals("next")) {
+                contagem.linhas(1);
+            }
+            return resultado;
+        }
+    }
+}
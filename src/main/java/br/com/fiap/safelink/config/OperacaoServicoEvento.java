@@ -0,0 +1,36 @@
+package br.com.fiap.safelink.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 🛰️ Evento JFR de uma operação de serviço (`AlertaService.consultarComFiltro`, `RegiaoService.gravarRegiao`...).
+ *
+ * Emitido pelo {@link OperacaoServicoJfrAspect}, com o filtro da consulta e o número de registros devolvidos.
+ */
+@Name("safelink.OperacaoServico")
+@Label("Operação de serviço")
+@Category({"SafeLink", "Serviços"})
+@Description("Chamada a um método de serviço, com filtro e registros devolvidos")
+@StackTrace(false)
+final class OperacaoServicoEvento extends jdk.jfr.Event {
+
+    @Label("Serviço")
+    String servico;
+
+    @Label("Método")
+    String metodo;
+
+    @Label("Filtro")
+    String filtro;
+
+    @Label("Registros")
+    @Description("Elementos da página ou da lista devolvida (1 para um único registro)")
+    long registros;
+
+    @Label("Erro")
+    String erro;
+}
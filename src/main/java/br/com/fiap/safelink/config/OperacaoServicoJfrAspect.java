@@ -0,0 +1,79 @@
+package br.com.fiap.safelink.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 🛰️ Emite um {@link OperacaoServicoEvento} para cada operação dos serviços chamada pelos controllers
+ * (`consultar*`, `gravar*`, `atualizar*`, `excluir*`, `simular*`, `reprocessar*`).
+ *
+ * Sem gravação JFR ativa, o evento não é preenchido: o custo é o do proxy.
+ */
+@Aspect
+@Component
+public class OperacaoServicoJfrAspect {
+
+    private static final String PACOTE_FILTRO = "br.com.fiap.safelink.filter";
+
+    @Around("execution(public * br.com.fiap.safelink.service.*.consultar*(..))"
+            + " || execution(public * br.com.fiap.safelink.service.*.gravar*(..))"
+            + " || execution(public * br.com.fiap.safelink.service.*.atualizar*(..))"
+            + " || execution(public * br.com.fiap.safelink.service.*.excluir*(..))"
+            + " || execution(public * br.com.fiap.safelink.service.*.simular*(..))"
+            + " || execution(public * br.com.fiap.safelink.service.*.reprocessar*(..))")
+    public Object registrar(ProceedingJoinPoint joinPoint) throws Throwable {
+        OperacaoServicoEvento evento = new OperacaoServicoEvento();
+        evento.begin();
+        Object resultado = null;
+        Throwable erro = null;
+        try {
+            resultado = joinPoint.proceed();
+            return resultado;
+        } catch (Throwable e) {
+            erro = e;
+            throw e;
+        } finally {
+            evento.end();
+            if (evento.shouldCommit()) {
+                evento.servico = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                evento.metodo = joinPoint.getSignature().getName();
+                evento.filtro = filtro(joinPoint.getArgs());
+                evento.registros = registros(resultado);
+                evento.erro = erro != null ? erro.getClass().getSimpleName() : null;
+                evento.commit();
+            }
+        }
+    }
+
+    /** Registro de filtro entre os argumentos (os filtros sobrescrevem `toString()`). */
+    private static String filtro(Object[] argumentos) {
+        for (Object argumento : argumentos) {
+            if (argumento != null && argumento.getClass().getPackageName().equals(PACOTE_FILTRO)) {
+                return argumento.toString();
+            }
+        }
+        return null;
+    }
+
+    private static long registros(Object resultado) {
+        if (resultado == null) {
+            return 0;
+        }
+        if (resultado instanceof Page<?> pagina) {
+            return pagina.getNumberOfElements();
+        }
+        if (resultado instanceof Collection<?> colecao) {
+            return colecao.size();
+        }
+        if (resultado instanceof Map<?, ?> mapa) {
+            return mapa.size();
+        }
+        return 1;
+    }
+}
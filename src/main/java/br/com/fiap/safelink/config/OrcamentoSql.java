@@ -0,0 +1,18 @@
+package br.com.fiap.safelink.config;
+
+import java.lang.annotation.*;
+
+/**
+ * 🧮 Número máximo de comandos SQL que uma requisição ao endpoint pode executar.
+ *
+ * Todo endpoint precisa declarar o seu (verificado em teste). O orçamento vale para o caminho
+ * sem cache, com a maior página aceita, e não depende do tamanho da página: um N+1 o estoura.
+ * Em produção, o {@link OrcamentoSqlInterceptor} registra as requisições que passam do limite.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OrcamentoSql {
+
+    int value();
+}
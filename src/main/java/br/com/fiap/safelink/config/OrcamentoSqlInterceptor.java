@@ -0,0 +1,70 @@
+package br.com.fiap.safelink.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 🧮 Interceptor que conta os comandos SQL de cada requisição e confere o {@link OrcamentoSql} do endpoint.
+ *
+ * - Publica `safelink.sql.comandos` e `safelink.sql.linhas` por rota, com poucos baldes fixos
+ * - Requisições acima do orçamento geram um aviso (limitado pelo logback) e incrementam
+ *   `safelink.sql.orcamento.excedido`
+ * - A contagem encerrada fica no atributo {@link ContagemSql#ATRIBUTO} da requisição
+ */
+@Slf4j
+@Component
+public class OrcamentoSqlInterceptor implements HandlerInterceptor {
+
+    private static final double[] BALDES_COMANDOS = {1, 2, 5, 10, 20, 50, 100};
+    private static final double[] BALDES_LINHAS = {1, 10, 100, 1_000, 10_000, 100_000};
+
+    private final MeterRegistry meterRegistry;
+    private final boolean habilitado;
+
+    public OrcamentoSqlInterceptor(MeterRegistry meterRegistry,
+                                   @Value("${safelink.orcamento-sql.habilitado:true}") boolean habilitado) {
+        this.meterRegistry = meterRegistry;
+        this.habilitado = habilitado;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (habilitado && handler instanceof HandlerMethod) {
+            ContagemSql.iniciar();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ContagemSql contagem = ContagemSql.atual();
+        if (contagem == null) {
+            return;
+        }
+        ContagemSql.encerrar();
+        request.setAttribute(ContagemSql.ATRIBUTO, contagem);
+
+        String rota = request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("safelink.sql.comandos").tag("rota", rota)
+                .serviceLevelObjectives(BALDES_COMANDOS).register(meterRegistry)
+                .record(contagem.getComandos());
+        DistributionSummary.builder("safelink.sql.linhas").tag("rota", rota)
+                .serviceLevelObjectives(BALDES_LINHAS).register(meterRegistry)
+                .record(contagem.getLinhas());
+
+        OrcamentoSql orcamento = ((HandlerMethod) handler).getMethodAnnotation(OrcamentoSql.class);
+        if (orcamento != null && contagem.getComandos() > orcamento.value()) {
+            Counter.builder("safelink.sql.orcamento.excedido").tag("rota", rota).register(meterRegistry).increment();
+            log.warn("🧮 {} excedeu o orçamento de SQL: {} (máximo {} comandos)", rota, contagem, orcamento.value());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.config.FasesRequisicao.Fase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 🔑 PasswordEncoder que mede o tempo de cada operação do encoder envolvido.
+ *
+ * Publica `safelink.senha.hash` com a tag `operacao` (`encode` ou `matches`): o custo do BCrypt
+ * domina login e cadastro e precisa ser acompanhado ao ajustar o fator de trabalho.
+ * O tempo também entra na fase `auth` da requisição ({@link FasesRequisicao}).
+ */
+public class PasswordEncoderMedido implements PasswordEncoder {
+
+    private final PasswordEncoder alvo;
+    private final Timer codificacoes;
+    private final Timer verificacoes;
+
+    public PasswordEncoderMedido(PasswordEncoder alvo, MeterRegistry meterRegistry) {
+        this.alvo = alvo;
+        this.codificacoes = timer(meterRegistry, "encode");
+        this.verificacoes = timer(meterRegistry, "matches");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long inicio = System.nanoTime();
+        try {
+            return codificacoes.record(() -> alvo.encode(rawPassword));
+        } finally {
+            FasesRequisicao.registrar(Fase.AUTH, inicio);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long inicio = System.nanoTime();
+        try {
+            return Boolean.TRUE.equals(verificacoes.record(() -> alvo.matches(rawPassword, encodedPassword)));
+        } finally {
+            FasesRequisicao.registrar(Fase.AUTH, inicio);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return alvo.upgradeEncoding(encodedPassword);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operacao) {
+        return Timer.builder("safelink.senha.hash")
+                .description("Tempo de hash e verificação de senhas (BCrypt)")
+                .tag("operacao", operacao)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.fiap.safelink.config;
+
+/**
+ * 🏊 Classes de carga do banco, cada uma com seu próprio pool de conexões.
+ *
+ * Os valores são os padrões; cada um pode ser sobrescrito em
+ * `safelink.pools.<nome>.tamanho`, `.timeout-comando-ms` e `.timeout-fila-ms`.
+ */
+public enum PoolConexao {
+
+    /**
+     * Requisições da API sensíveis à latência (consultas paginadas, escritas, login).
+     * O limite de cada comando é o prazo da requisição; o `statement_timeout` só cobre o prazo máximo.
+     */
+    INTERATIVO("interativo", 10, 120_000, 2_000),
+
+    /** Consultas pesadas sob demanda: listagens sem paginação, agregações e simulações. */
+    RELATORIO("relatorio", 4, 120_000, 30_000),
+
+    /** Jobs em segundo plano: backfills, reprocessamentos, manutenção e reconstruções. */
+    LOTE("lote", 4, 0, 60_000);
+
+    private final String nome;
+    private final int tamanhoPadrao;
+    private final long timeoutComandoPadraoMs;
+    private final long timeoutFilaPadraoMs;
+
+    PoolConexao(String nome, int tamanhoPadrao, long timeoutComandoPadraoMs, long timeoutFilaPadraoMs) {
+        this.nome = nome;
+        this.tamanhoPadrao = tamanhoPadrao;
+        this.timeoutComandoPadraoMs = timeoutComandoPadraoMs;
+        this.timeoutFilaPadraoMs = timeoutFilaPadraoMs;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getTamanhoPadrao() {
+        return tamanhoPadrao;
+    }
+
+    /**
+     * `statement_timeout` das conexões do pool (0 = sem limite). Nas requisições, o prazo aplicado pelo
+     * {@link PrazoDataSource} é menor e prevalece; por isso não deve ficar abaixo de `safelink.prazo.maximo-ms`.
+     */
+    public long getTimeoutComandoPadraoMs() {
+        return timeoutComandoPadraoMs;
+    }
+
+    /** Espera máxima por uma conexão livre antes de falhar. */
+    public long getTimeoutFilaPadraoMs() {
+        return timeoutFilaPadraoMs;
+    }
+}
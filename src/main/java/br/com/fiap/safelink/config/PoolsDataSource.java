@@ -0,0 +1,149 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.util.HistogramaLatencia;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🏊 Conjunto de pools Hikari de um mesmo servidor, um por {@link PoolConexao}.
+ *
+ * A conexão vem do pool da thread atual ({@link ContextoPool}): uma listagem pesada
+ * esgota no máximo o pool de relatórios, sem tirar conexões das requisições interativas.
+ * Cada pool registra o tempo de espera por conexão, o tempo de uso e os timeouts de fila,
+ * repassando os mesmos eventos ao rastreador externo (Micrometer), quando houver.
+ */
+public class PoolsDataSource extends AbstractRoutingDataSource {
+
+    private final String servidor;
+    private final Map<PoolConexao, Pool> pools;
+
+    /**
+     * Pool individual com suas métricas.
+     */
+    public static final class Pool implements IMetricsTracker {
+
+        private final String nome;
+        private final PoolConexao classe;
+        private final HikariDataSource dataSource;
+        private final HistogramaLatencia espera = new HistogramaLatencia();
+        private final HistogramaLatencia uso = new HistogramaLatencia();
+        private final AtomicLong timeoutsFila = new AtomicLong();
+        private volatile IMetricsTracker externo;
+
+        private Pool(String nome, PoolConexao classe, HikariDataSource dataSource, MetricsTrackerFactory fabricaExterna) {
+            this.nome = nome;
+            this.classe = classe;
+            this.dataSource = dataSource;
+            dataSource.setMetricsTrackerFactory((poolName, poolStats) -> {
+                if (fabricaExterna != null) {
+                    externo = fabricaExterna.create(poolName, poolStats);
+                }
+                return this;
+            });
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            if (externo != null) {
+                externo.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            espera.registrar(elapsedAcquiredNanos);
+            if (externo != null) {
+                externo.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            uso.registrar(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            if (externo != null) {
+                externo.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeoutsFila.incrementAndGet();
+            if (externo != null) {
+                externo.recordConnectionTimeout();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (externo != null) {
+                externo.close();
+            }
+        }
+
+        public String getNome() {
+            return nome;
+        }
+
+        public PoolConexao getClasse() {
+            return classe;
+        }
+
+        public HikariDataSource getDataSource() {
+            return dataSource;
+        }
+
+        public HistogramaLatencia getEspera() {
+            return espera;
+        }
+
+        public HistogramaLatencia getUso() {
+            return uso;
+        }
+
+        public long getTimeoutsFila() {
+            return timeoutsFila.get();
+        }
+    }
+
+    /**
+     * @param servidor nome lógico do servidor (ex.: `primario`, `replica-1`)
+     * @param pools    pool Hikari já configurado de cada classe
+     * @param metricas rastreador externo dos pools (nulo = só as métricas internas)
+     */
+    public PoolsDataSource(String servidor, Map<PoolConexao, HikariDataSource> pools, MetricsTrackerFactory metricas) {
+        this.servidor = servidor;
+        this.pools = new EnumMap<>(PoolConexao.class);
+        Map<Object, Object> destinos = new HashMap<>();
+        pools.forEach((classe, dataSource) -> {
+            this.pools.put(classe, new Pool(dataSource.getPoolName(), classe, dataSource, metricas));
+            destinos.put(classe, dataSource);
+        });
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(pools.get(PoolConexao.INTERATIVO));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ContextoPool.atual();
+    }
+
+    public String getServidor() {
+        return servidor;
+    }
+
+    public Collection<Pool> getPools() {
+        return Collections.unmodifiableCollection(pools.values());
+    }
+
+    /** Fecha todos os pools. */
+    public void fechar() {
+        pools.values().forEach(pool -> pool.dataSource.close());
+    }
+}
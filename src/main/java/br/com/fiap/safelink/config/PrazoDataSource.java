@@ -0,0 +1,128 @@
+package br.com.fiap.safelink.config;
+
+import org.postgresql.jdbc.PgStatement;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+
+/**
+ * ⏳ DataSource que aplica o {@link PrazoRequisicao} da thread a cada comando SQL.
+ *
+ * - Antes de cada `execute*`, o timeout do comando passa a ser o tempo restante da requisição
+ *   (o driver envia o cancelamento ao PostgreSQL quando ele vence)
+ * - Comandos em execução ficam registrados no prazo, para que o monitor do
+ *   {@link PrazoRequisicaoFilter} os cancele quando o cliente desconecta
+ * - Requisição já vencida ou cancelada falha sem obter conexão nem ir ao banco
+ *
+ * Sem prazo na thread (agendamentos, `@Async`), conexões e comandos passam sem alteração.
+ */
+public class PrazoDataSource extends DelegatingDataSource {
+
+    public PrazoDataSource(DataSource alvo) {
+        super(alvo);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        PrazoRequisicao prazo = PrazoRequisicao.atual();
+        if (prazo != null) {
+            prazo.exigirRestanteMs();
+        }
+        return envolver(Connection.class, super.getConnection(), new ConexaoComPrazo());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    // ============================================
+    // 🧩 Proxies
+    // ============================================
+
+    private static <T> T envolver(Class<T> tipo, Object alvo, Handler handler) {
+        handler.alvo = alvo;
+        return tipo.cast(Proxy.newProxyInstance(PrazoDataSource.class.getClassLoader(), new Class<?>[]{tipo}, handler));
+    }
+
+    /** Repassa as chamadas ao objeto real, desembrulhando exceções; igualdade é a do proxy. */
+    private abstract static class Handler implements InvocationHandler {
+
+        Object alvo;
+
+        Object repassar(Object proxy, Method metodo, Object[] args) throws Throwable {
+            switch (metodo.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            try {
+                return metodo.invoke(alvo, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /** Conexão cujos comandos criados respeitam o prazo. */
+    private static final class ConexaoComPrazo extends Handler {
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            Object resultado = repassar(proxy, metodo, args);
+            if (resultado instanceof CallableStatement comando) {
+                return envolver(CallableStatement.class, comando, new ComandoComPrazo());
+            }
+            if (resultado instanceof PreparedStatement comando) {
+                return envolver(PreparedStatement.class, comando, new ComandoComPrazo());
+            }
+            if (resultado instanceof Statement comando) {
+                return envolver(Statement.class, comando, new ComandoComPrazo());
+            }
+            return resultado;
+        }
+    }
+
+    /** Comando que ajusta o timeout ao restante da requisição a cada execução. */
+    private static final class ComandoComPrazo extends Handler {
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            PrazoRequisicao prazo = PrazoRequisicao.atual();
+            if (prazo == null || !metodo.getName().startsWith("execute")) {
+                return repassar(proxy, metodo, args);
+            }
+            Statement comando = (Statement) alvo;
+            aplicarTimeout(comando, prazo.exigirRestanteMs());
+            prazo.registrar(comando);
+            try {
+                return repassar(proxy, metodo, args);
+            } catch (SQLException e) {
+                if (prazo.isCancelado() || prazo.isVencido()) {
+                    throw new SQLTimeoutException(prazo.isCancelado()
+                            ? "Requisição cancelada: " + prazo.getMotivoCancelamento()
+                            : "Prazo da requisição de " + prazo.getPrazoMs() + " ms esgotado", "57014", e);
+                }
+                throw e;
+            } finally {
+                prazo.remover(comando);
+            }
+        }
+
+        private static void aplicarTimeout(Statement comando, long restanteMs) throws SQLException {
+            if (comando.isWrapperFor(PgStatement.class)) {
+                comando.unwrap(PgStatement.class).setQueryTimeoutMs(restanteMs);
+            } else {
+                comando.setQueryTimeout((int) Math.max(1, (restanteMs + 999) / 1000));
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package br.com.fiap.safelink.config;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⏳ Prazo da requisição HTTP em andamento na thread atual.
+ *
+ * Definido pelo {@link PrazoRequisicaoFilter}; lido pelo {@link PrazoDataSource} para limitar
+ * cada comando SQL ao tempo que ainda resta e cancelado pelo monitor do filtro quando o prazo
+ * vence ou o cliente desconecta. Threads sem requisição (agendamentos, `@Async`) não têm prazo.
+ */
+public final class PrazoRequisicao {
+
+    private static final ThreadLocal<PrazoRequisicao> ATUAL = new ThreadLocal<>();
+
+    private final String descricao;
+    private final long prazoMs;
+    private final long venceEmNanos;
+    private final String clienteTcp;
+    private final Set<Statement> comandosEmExecucao = ConcurrentHashMap.newKeySet();
+    private volatile String motivoCancelamento;
+
+    /**
+     * @param descricao  método e URI, para log
+     * @param prazoMs    orçamento total da requisição
+     * @param clienteTcp endereço e porta do cliente (`ip:porta`), para detectar desconexão
+     */
+    PrazoRequisicao(String descricao, long prazoMs, String clienteTcp) {
+        this.descricao = descricao;
+        this.prazoMs = prazoMs;
+        this.venceEmNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(prazoMs);
+        this.clienteTcp = clienteTcp;
+    }
+
+    /** Prazo da thread atual (nulo fora de uma requisição). */
+    public static PrazoRequisicao atual() {
+        return ATUAL.get();
+    }
+
+    static void definir(PrazoRequisicao prazo) {
+        ATUAL.set(prazo);
+    }
+
+    static void limpar() {
+        ATUAL.remove();
+    }
+
+    // ============================================
+    // ⏱️ Orçamento
+    // ============================================
+
+    /** Milissegundos restantes (zero ou negativo = vencido). */
+    public long restanteMs() {
+        return TimeUnit.NANOSECONDS.toMillis(venceEmNanos - System.nanoTime());
+    }
+
+    public boolean isVencido() {
+        return System.nanoTime() - venceEmNanos >= 0;
+    }
+
+    public boolean isCancelado() {
+        return motivoCancelamento != null;
+    }
+
+    /**
+     * Falha se a requisição já foi cancelada ou o prazo venceu; caso contrário, devolve o restante.
+     *
+     * @return milissegundos restantes (sempre positivo)
+     */
+    long exigirRestanteMs() throws SQLTimeoutException {
+        if (motivoCancelamento != null) {
+            throw new SQLTimeoutException("Requisição cancelada: " + motivoCancelamento, "57014");
+        }
+        long restante = restanteMs();
+        if (restante <= 0) {
+            throw new SQLTimeoutException("Prazo da requisição de " + prazoMs + " ms esgotado", "57014");
+        }
+        return restante;
+    }
+
+    // ============================================
+    // 🛑 Cancelamento
+    // ============================================
+
+    void registrar(Statement comando) {
+        comandosEmExecucao.add(comando);
+    }
+
+    void remover(Statement comando) {
+        comandosEmExecucao.remove(comando);
+    }
+
+    boolean temComandoEmExecucao() {
+        return !comandosEmExecucao.isEmpty();
+    }
+
+    /**
+     * Marca a requisição como cancelada e pede ao banco que interrompa os comandos em execução.
+     * Comandos seguintes falham antes de chegar ao banco.
+     *
+     * @return quantos comandos estavam em execução
+     */
+    int cancelar(String motivo) {
+        if (motivoCancelamento == null) {
+            motivoCancelamento = motivo;
+        }
+        int cancelados = 0;
+        for (Statement comando : comandosEmExecucao) {
+            try {
+                comando.cancel();
+                cancelados++;
+            } catch (SQLException e) {
+                // Comando já concluído ou conexão fechada: nada a interromper
+            }
+        }
+        return cancelados;
+    }
+
+    /** Método e URI da requisição. */
+    public String getDescricao() {
+        return descricao;
+    }
+
+    long getPrazoMs() {
+        return prazoMs;
+    }
+
+    String getClienteTcp() {
+        return clienteTcp;
+    }
+
+    String getMotivoCancelamento() {
+        return motivoCancelamento;
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.util.ConexoesTcp;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * # ⏳ Filtro: PrazoRequisicaoFilter
+ *
+ * Define o prazo de cada requisição e interrompe no banco o trabalho de requisições abandonadas.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Prazo: cabeçalho `X-Request-Timeout` (ms, ou segundos com sufixo `s`), limitado a `maximo-ms`;
+ *   sem cabeçalho, o padrão da primeira rota de `safelink.prazo.rotas` que casar, ou `padrao-ms`
+ * - O {@link PrazoDataSource} limita cada comando SQL ao tempo restante
+ * - Um monitor verifica as requisições com comandos em execução: prazo vencido ou cliente
+ *   desconectado (socket em `CLOSE_WAIT`, via {@link ConexoesTcp}) cancela os comandos no PostgreSQL
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class PrazoRequisicaoFilter extends OncePerRequestFilter {
+
+    public static final String CABECALHO = "X-Request-Timeout";
+
+    private final long padraoMs;
+    private final long maximoMs;
+    private final Map<String, Long> prazosPorRota = new LinkedHashMap<>();
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    /** Requisições em andamento, por porta local do servidor. */
+    private final Map<PrazoRequisicao, Integer> emAndamento = new ConcurrentHashMap<>();
+    private final boolean detectarDesconexao;
+    private final ScheduledExecutorService monitor;
+
+    /**
+     * @param rotas padrões de rota com prazo próprio, no formato `padrão=ms`
+     */
+    public PrazoRequisicaoFilter(@Value("${safelink.prazo.padrao-ms:30000}") long padraoMs,
+                                 @Value("${safelink.prazo.maximo-ms:120000}") long maximoMs,
+                                 @Value("${safelink.prazo.rotas:}") List<String> rotas,
+                                 @Value("${safelink.prazo.intervalo-monitor-ms:250}") long intervaloMonitorMs) {
+        this.padraoMs = padraoMs;
+        this.maximoMs = maximoMs;
+        for (String rota : rotas) {
+            int igual = rota.lastIndexOf('=');
+            if (igual > 0) {
+                prazosPorRota.put(rota.substring(0, igual).trim(), Long.parseLong(rota.substring(igual + 1).trim()));
+            }
+        }
+        this.detectarDesconexao = ConexoesTcp.isDisponivel();
+        if (!detectarDesconexao) {
+            log.info("ℹ️ Tabela TCP do kernel indisponível: desconexões de clientes não serão detectadas");
+        }
+        monitor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "monitor-prazos");
+            thread.setDaemon(true);
+            return thread;
+        });
+        monitor.scheduleWithFixedDelay(this::monitorar, intervaloMonitorMs, intervaloMonitorMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        PrazoRequisicao prazo = new PrazoRequisicao(request.getMethod() + " " + request.getRequestURI(),
+                prazoMs(request), ConexoesTcp.chave(request.getRemoteAddr(), request.getRemotePort()));
+        emAndamento.put(prazo, request.getLocalPort());
+        PrazoRequisicao.definir(prazo);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PrazoRequisicao.limpar();
+            emAndamento.remove(prazo);
+        }
+    }
+
+    /**
+     * Prazo da requisição: cabeçalho válido (limitado ao máximo), rota configurada ou padrão.
+     */
+    private long prazoMs(HttpServletRequest request) {
+        String cabecalho = request.getHeader(CABECALHO);
+        if (cabecalho != null && !cabecalho.isBlank()) {
+            try {
+                String valor = cabecalho.trim().toLowerCase();
+                long ms = valor.endsWith("ms") ? Long.parseLong(valor.substring(0, valor.length() - 2).trim())
+                        : valor.endsWith("s") ? Long.parseLong(valor.substring(0, valor.length() - 1).trim()) * 1000
+                        : Long.parseLong(valor);
+                if (ms > 0) {
+                    return Math.min(ms, maximoMs);
+                }
+            } catch (NumberFormatException e) {
+                log.debug("⚠️ {} inválido ignorado: {}", CABECALHO, cabecalho);
+            }
+        }
+        String uri = request.getRequestURI();
+        return prazosPorRota.entrySet().stream()
+                .filter(rota -> matcher.match(rota.getKey(), uri))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(padraoMs);
+    }
+
+    // ============================================
+    // 🩺 Monitor
+    // ============================================
+
+    /**
+     * Cancela os comandos de requisições vencidas ou cujo cliente desconectou.
+     * A tabela TCP só é lida quando há comandos em execução.
+     */
+    private void monitorar() {
+        try {
+            Map<Integer, Set<String>> encerradasPorPorta = new HashMap<>();
+            emAndamento.forEach((prazo, portaLocal) -> {
+                if (prazo.isCancelado() || !prazo.temComandoEmExecucao()) {
+                    return;
+                }
+                if (prazo.isVencido()) {
+                    cancelar(prazo, "prazo de " + prazo.getPrazoMs() + " ms esgotado");
+                } else if (detectarDesconexao && encerradasPorPorta
+                        .computeIfAbsent(portaLocal, ConexoesTcp::encerradasPeloCliente)
+                        .contains(prazo.getClienteTcp())) {
+                    cancelar(prazo, "cliente desconectou");
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Falha no monitor de prazos: {}", e.getMessage());
+        }
+    }
+
+    private static void cancelar(PrazoRequisicao prazo, String motivo) {
+        int cancelados = prazo.cancelar(motivo);
+        log.info("🛑 {} cancelada ({}): {} comando(s) interrompido(s) no banco", prazo.getDescricao(), motivo, cancelados);
+    }
+
+    @Override
+    public void destroy() {
+        monitor.shutdownNow();
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.fiap.safelink.config;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 🏊 Pools de conexão da aplicação: primário primeiro, depois as réplicas.
+ *
+ * Dono do ciclo de vida dos pools (fechados no encerramento do contexto).
+ */
+public class RegistroPools implements DisposableBean {
+
+    private final List<PoolsDataSource> servidores = new ArrayList<>();
+
+    void adicionar(PoolsDataSource servidor) {
+        servidores.add(servidor);
+    }
+
+    public PoolsDataSource getPrimario() {
+        return servidores.get(0);
+    }
+
+    public List<PoolsDataSource> getReplicas() {
+        return servidores.subList(1, servidores.size());
+    }
+
+    public List<PoolsDataSource> getServidores() {
+        return Collections.unmodifiableList(servidores);
+    }
+
+    @Override
+    public void destroy() {
+        servidores.forEach(PoolsDataSource::fechar);
+    }
+}
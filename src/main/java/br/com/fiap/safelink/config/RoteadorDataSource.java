@@ -0,0 +1,355 @@
+package br.com.fiap.safelink.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🔀 DataSource que roteia transações somente leitura para réplicas do PostgreSQL.
+ *
+ * - Transações `readOnly` vão para uma réplica apta (rodízio); as demais, para o primário
+ * - Um monitor consulta periodicamente o LSN do WAL no primário (`pg_current_wal_lsn`) e o LSN
+ *   já reaplicado em cada réplica (`pg_last_wal_replay_lsn`): réplica fora do ar, promovida,
+ *   sem verificação recente ou com atraso acima do limite deixa de receber leituras
+ * - Leitura das próprias escritas: logo após o commit de uma escrita, o LSN de inserção do WAL é lido na
+ *   própria conexão da transação (sem buscar outra no pool) e associado ao cliente (usuário autenticado
+ *   ou IP) por uma janela curta; nesse período as leituras desse cliente só vão para réplicas que já
+ *   reaplicaram esse LSN — ou para o primário
+ * - Falha ao obter conexão da réplica: a réplica é marcada indisponível e a leitura vai ao primário
+ *
+ * 📌 Deve ser envolvido por um {@code LazyConnectionDataSourceProxy}, para que a conexão física
+ * só seja escolhida depois que a transação já marcou se é somente leitura.
+ */
+@Slf4j
+public class RoteadorDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARIO = "primario";
+
+    private final DataSource primario;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Map<String, Replica> replicasPorNome = new HashMap<>();
+    private final long atrasoMaximoBytes;
+    private final long intervaloMonitorMs;
+    private final long janelaLeituraPropriaMs;
+
+    /** LSN da última escrita de cada cliente, enquanto a janela de leitura própria estiver aberta. */
+    private final Map<String, EscritaRecente> escritasRecentes = new ConcurrentHashMap<>();
+    private final AtomicInteger rodizio = new AtomicInteger();
+    private final ScheduledExecutorService monitor;
+
+    private record EscritaRecente(long lsn, long expiraEm) {
+    }
+
+    /** Cliente da transação de escrita em andamento, associado a ela como recurso. */
+    private record EscritaPendente(String cliente) {
+    }
+
+    /**
+     * @param primario               pool do primário
+     * @param replicas               pools das réplicas, por nome
+     * @param atrasoMaximoBytes      atraso máximo de WAL aceito para leituras comuns
+     * @param intervaloMonitorMs     intervalo entre verificações de LSN
+     * @param janelaLeituraPropriaMs duração da garantia de leitura das próprias escritas
+     */
+    public RoteadorDataSource(DataSource primario, Map<String, DataSource> replicas, long atrasoMaximoBytes,
+                              long intervaloMonitorMs, long janelaLeituraPropriaMs) {
+        this.primario = primario;
+        this.atrasoMaximoBytes = atrasoMaximoBytes;
+        this.intervaloMonitorMs = intervaloMonitorMs;
+        this.janelaLeituraPropriaMs = janelaLeituraPropriaMs;
+
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(PRIMARIO, primario);
+        replicas.forEach((nome, dataSource) -> {
+            Replica replica = new Replica(nome, dataSource);
+            this.replicas.add(replica);
+            replicasPorNome.put(nome, replica);
+            destinos.put(nome, dataSource);
+        });
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+
+        monitor = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "monitor-replicas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        monitor.scheduleWithFixedDelay(this::monitorar, 0, intervaloMonitorMs, TimeUnit.MILLISECONDS);
+    }
+
+    // ============================================
+    // 🔀 Roteamento
+    // ============================================
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registrarEscrita();
+            return PRIMARIO;
+        }
+        Replica replica = escolherReplica(lsnMinimoDoCliente());
+        return replica != null ? replica.nome : PRIMARIO;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = replicasPorNome.get((String) determineCurrentLookupKey());
+        if (replica == null) {
+            Connection conexao = primario.getConnection();
+            return TransactionSynchronizationManager.getResource(this) instanceof EscritaPendente escrita
+                    ? registrandoLsnNoCommit(conexao, escrita.cliente())
+                    : conexao;
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replica.marcarIndisponivel(e.getMessage());
+            return primario.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    /**
+     * Réplica apta em rodízio: disponível, verificada recentemente, dentro do atraso máximo
+     * e já tendo reaplicado o LSN mínimo exigido.
+     */
+    private Replica escolherReplica(long lsnMinimo) {
+        if (replicas.isEmpty()) {
+            return null;
+        }
+        long agora = System.currentTimeMillis();
+        int inicio = Math.floorMod(rodizio.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((inicio + i) % replicas.size());
+            if (replica.disponivel
+                    && agora - replica.verificadaEm <= 3 * intervaloMonitorMs
+                    && replica.atrasoBytes <= atrasoMaximoBytes
+                    && replica.lsnReaplicado >= lsnMinimo) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // ============================================
+    // ✍️ Leitura das próprias escritas
+    // ============================================
+
+    /**
+     * Ao abrir uma transação de escrita, associa o cliente a ela; a conexão do primário entregue à transação
+     * registra o LSN no commit ({@link #registrandoLsnNoCommit}).
+     */
+    private void registrarEscrita() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        String cliente = clienteAtual();
+        if (cliente == null) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, new EscritaPendente(cliente));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RoteadorDataSource.this);
+            }
+        });
+    }
+
+    /**
+     * Conexão cujo `commit()` lê, em seguida e na mesma conexão, o LSN de inserção do WAL — já depois do
+     * registro de commit — e abre a janela de leitura própria do cliente. Falha nessa leitura não afeta o
+     * commit já feito; só perde a garantia para essa escrita.
+     */
+    private Connection registrandoLsnNoCommit(Connection conexao, String cliente) {
+        return (Connection) Proxy.newProxyInstance(RoteadorDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, metodo, args) -> {
+                    switch (metodo.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    Object resultado;
+                    try {
+                        resultado = metodo.invoke(conexao, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (metodo.getName().equals("commit")) {
+                        registrarLsnDoCommit(conexao, cliente);
+                    }
+                    return resultado;
+                });
+    }
+
+    private void registrarLsnDoCommit(Connection conexao, String cliente) {
+        try (Statement statement = conexao.createStatement();
+             ResultSet rs = statement.executeQuery("select pg_current_wal_insert_lsn()::text")) {
+            rs.next();
+            long lsn = lerLsn(rs.getString(1));
+            escritasRecentes.put(cliente, new EscritaRecente(lsn, System.currentTimeMillis() + janelaLeituraPropriaMs));
+        } catch (SQLException e) {
+            log.warn("⚠️ Não foi possível ler o LSN do commit: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * LSN que as réplicas precisam ter reaplicado para atender o cliente atual (0 = qualquer).
+     */
+    private long lsnMinimoDoCliente() {
+        String cliente = clienteAtual();
+        if (cliente == null) {
+            return 0;
+        }
+        EscritaRecente escrita = escritasRecentes.get(cliente);
+        if (escrita == null) {
+            return 0;
+        }
+        if (escrita.expiraEm() < System.currentTimeMillis()) {
+            escritasRecentes.remove(cliente, escrita);
+            return 0;
+        }
+        return escrita.lsn();
+    }
+
+    /** Usuário autenticado ou, sem autenticação, o IP da requisição. */
+    private static String clienteAtual() {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao != null && autenticacao.isAuthenticated() && !(autenticacao instanceof AnonymousAuthenticationToken)) {
+            return "usuario:" + autenticacao.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos) {
+            return "ip:" + atributos.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+
+    // ============================================
+    // 🩺 Monitor de réplicas
+    // ============================================
+
+    /**
+     * Atualiza o LSN do primário e o LSN reaplicado e o atraso de cada réplica, e descarta as janelas de
+     * leitura própria já vencidas (clientes que não voltaram a ler, como IPs anônimos).
+     */
+    private void monitorar() {
+        long agora = System.currentTimeMillis();
+        escritasRecentes.values().removeIf(escrita -> escrita.expiraEm() < agora);
+
+        Long lsnPrimario = lsnAtualPrimario();
+        for (Replica replica : replicas) {
+            try (Connection conexao = replica.dataSource.getConnection();
+                 Statement statement = conexao.createStatement();
+                 ResultSet rs = statement.executeQuery(
+                         "select pg_is_in_recovery(), pg_last_wal_replay_lsn()::text")) {
+                rs.next();
+                if (!rs.getBoolean(1) || rs.getString(2) == null) {
+                    replica.marcarIndisponivel("não está em recuperação (promovida ou não é réplica)");
+                    continue;
+                }
+                long reaplicado = lerLsn(rs.getString(2));
+                long atraso = lsnPrimario != null ? Math.max(0, lsnPrimario - reaplicado) : Long.MAX_VALUE;
+                replica.atualizar(reaplicado, atraso);
+            } catch (SQLException | RuntimeException e) {
+                replica.marcarIndisponivel(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Atraso atual de cada réplica em bytes de WAL (-1 = indisponível).
+     */
+    public Map<String, Long> atrasoPorReplica() {
+        Map<String, Long> atrasos = new LinkedHashMap<>();
+        replicas.forEach(replica -> atrasos.put(replica.nome, replica.disponivel ? replica.atrasoBytes : -1));
+        return atrasos;
+    }
+
+    private Long lsnAtualPrimario() {
+        try (Connection conexao = primario.getConnection();
+             Statement statement = conexao.createStatement();
+             ResultSet rs = statement.executeQuery("select pg_current_wal_lsn()::text")) {
+            rs.next();
+            return lerLsn(rs.getString(1));
+        } catch (SQLException e) {
+            log.warn("⚠️ Não foi possível ler o LSN do primário: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** Converte o LSN textual do PostgreSQL (`XXXXXXXX/YYYYYYYY`) em posição absoluta no WAL. */
+    static long lerLsn(String lsn) {
+        int barra = lsn.indexOf('/');
+        return (Long.parseLong(lsn.substring(0, barra), 16) << 32) | Long.parseLong(lsn.substring(barra + 1), 16);
+    }
+
+    @Override
+    public void destroy() {
+        monitor.shutdownNow();
+    }
+
+    /**
+     * Estado de uma réplica, atualizado pelo monitor e por falhas de conexão.
+     */
+    private static final class Replica {
+
+        private final String nome;
+        private final DataSource dataSource;
+        private volatile boolean disponivel;
+        private volatile long lsnReaplicado;
+        private volatile long atrasoBytes = Long.MAX_VALUE;
+        private volatile long verificadaEm;
+
+        private Replica(String nome, DataSource dataSource) {
+            this.nome = nome;
+            this.dataSource = dataSource;
+        }
+
+        private void atualizar(long reaplicado, long atraso) {
+            lsnReaplicado = reaplicado;
+            atrasoBytes = atraso;
+            verificadaEm = System.currentTimeMillis();
+            if (!disponivel) {
+                disponivel = true;
+                log.info("✅ Réplica {} disponível para leituras (atraso {} bytes)", nome, atraso);
+            }
+        }
+
+        private void marcarIndisponivel(String motivo) {
+            if (disponivel) {
+                log.warn("⚠️ Réplica {} indisponível, leituras seguem para o primário: {}", nome, motivo);
+            }
+            disponivel = false;
+        }
+    }
+}
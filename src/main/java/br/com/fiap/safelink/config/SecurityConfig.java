@@ -1,5 +1,7 @@
 package br.com.fiap.safelink.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -46,10 +48,16 @@ public class SecurityConfig {
                         // ✅ Endpoints públicos
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
 
+                        // 📊 Actuator: servido só na porta de gerenciamento, que não é exposta publicamente
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
+
                         // 🔓 Cadastro e login permitidos para todos
                         .requestMatchers(HttpMethod.POST, "/users").permitAll()
                         .requestMatchers(HttpMethod.POST, "/login").permitAll()
 
+                        // 🛠️ Endpoints administrativos restritos a ADMIN
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
+
                         // 🔍 Endpoints de leitura permitidos para USER e ADMIN
                         .requestMatchers(HttpMethod.GET,
                                 "/alertas/**",
@@ -57,6 +65,8 @@ public class SecurityConfig {
                                 "/regioes/**",
                                 "/previsoes-risco/**",
                                 "/relatos-usuario/**",
+                                "/painel/**",
+                                "/regras-alerta/**",
                                 "/users/**"
                         ).hasAnyRole("USER", "ADMIN") // exige "ROLE_USER" ou "ROLE_ADMIN" no token
 
@@ -76,9 +86,9 @@ public class SecurityConfig {
                 .build();
     }
 
-    /** 🔑 Bean de codificação de senhas (BCrypt) */
+    /** 🔑 Bean de codificação de senhas (BCrypt, com tempo medido) */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new PasswordEncoderMedido(new BCryptPasswordEncoder(), meterRegistry);
     }
 }
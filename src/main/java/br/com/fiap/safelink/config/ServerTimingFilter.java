@@ -0,0 +1,88 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.config.FasesRequisicao.Fase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * # ⏱️ Filtro: ServerTimingFilter
+ *
+ * Decompõe o tempo de cada requisição em fases: JWT/senha, cache, SQL, conversão para DTO e JSON.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Abre uma {@link FasesRequisicao} na thread antes da segurança e a encerra ao final
+ * - Publica `safelink.requisicao.fase` com as tags `rota` e `fase`, para as rotas mapeadas e apenas
+ *   para as fases ocorridas
+ * - O cabeçalho `Server-Timing` é escrito pelo {@link ServerTimingJsonConverter}, depois de serializar
+ *   o corpo e antes de enviá-lo, para os papéis de `safelink.server-timing.papeis`
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 30)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Fase[] FASES = Fase.values();
+    /** Baldes fixos: rota × fase já multiplica as séries, então nada de histograma completo. */
+    private static final Duration[] BALDES = Stream.of(1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500)
+            .map(Duration::ofMillis).toArray(Duration[]::new);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer[]> timersPorRota = new ConcurrentHashMap<>();
+
+    public ServerTimingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        FasesRequisicao fases = FasesRequisicao.iniciar();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            FasesRequisicao.encerrar();
+            Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (padrao != null) {
+                registrar(request.getMethod() + " " + padrao, fases);
+            }
+        }
+    }
+
+    private void registrar(String rota, FasesRequisicao fases) {
+        Timer[] timers = timersPorRota.computeIfAbsent(rota, this::criar);
+        for (Fase fase : FASES) {
+            if (fases.getOcorrencias(fase) > 0) {
+                timers[fase.ordinal()].record(fases.getNanos(fase), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private Timer[] criar(String rota) {
+        Timer[] timers = new Timer[FASES.length];
+        for (Fase fase : FASES) {
+            timers[fase.ordinal()] = Timer.builder("safelink.requisicao.fase")
+                    .description("Tempo da requisição em cada fase")
+                    .tag("rota", rota)
+                    .tag("fase", fase.getNome())
+                    .serviceLevelObjectives(BALDES)
+                    .register(meterRegistry);
+        }
+        return timers;
+    }
+}
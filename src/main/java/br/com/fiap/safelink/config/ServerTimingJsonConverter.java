@@ -0,0 +1,105 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.config.FasesRequisicao.Fase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 🧾 Conversor JSON que mede a serialização e escreve o cabeçalho `Server-Timing`.
+ *
+ * - Para os papéis habilitados (`*` para todos), o corpo é serializado em memória; o cabeçalho sai
+ *   com todas as fases, serialização inclusive, e só então o corpo é enviado
+ * - Para os demais, serializa direto na resposta: a fase inclui a escrita no socket
+ * - Respostas sem corpo JSON não levam o cabeçalho (as fases continuam nas métricas)
+ */
+public class ServerTimingJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    public static final String CABECALHO = "Server-Timing";
+    private static final String TODOS = "*";
+
+    private final Set<String> papeis;
+
+    /**
+     * @param papeis papéis que recebem o cabeçalho (ex.: `ADMIN`)
+     */
+    public ServerTimingJsonConverter(ObjectMapper objectMapper, Collection<String> papeis) {
+        super(objectMapper);
+        this.papeis = papeis.stream()
+                .map(String::trim)
+                .filter(papel -> !papel.isEmpty())
+                .map(papel -> papel.equals(TODOS) ? TODOS : "ROLE_" + papel.toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        FasesRequisicao fases = FasesRequisicao.atual();
+        long inicio = System.nanoTime();
+        if (fases == null || !exibirCabecalho()) {
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                FasesRequisicao.registrar(Fase.SERIALIZACAO, inicio);
+            }
+            return;
+        }
+
+        ByteArrayOutputStream corpo = new ByteArrayOutputStream(8192);
+        try {
+            super.writeInternal(object, type, new SaidaEmMemoria(outputMessage.getHeaders(), corpo));
+        } finally {
+            FasesRequisicao.registrar(Fase.SERIALIZACAO, inicio);
+        }
+        outputMessage.getHeaders().add(CABECALHO, fases.cabecalho());
+        corpo.writeTo(outputMessage.getBody());
+    }
+
+    private boolean exibirCabecalho() {
+        if (papeis.contains(TODOS)) {
+            return true;
+        }
+        if (papeis.isEmpty()) {
+            return false;
+        }
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        return autenticacao != null && autenticacao.getAuthorities().stream()
+                .anyMatch(autoridade -> papeis.contains(autoridade.getAuthority()));
+    }
+
+    /** Mensagem que compartilha os cabeçalhos da resposta e acumula o corpo em memória. */
+    private static final class SaidaEmMemoria implements HttpOutputMessage {
+
+        private final HttpHeaders cabecalhos;
+        private final OutputStream corpo;
+
+        private SaidaEmMemoria(HttpHeaders cabecalhos, OutputStream corpo) {
+            this.cabecalhos = cabecalhos;
+            this.corpo = corpo;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return corpo;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return cabecalhos;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.fiap.safelink.config;
+
+import java.lang.annotation.*;
+
+/**
+ * 🏊 Define o pool de conexões usado pelo método (e por tudo o que ele chamar).
+ *
+ * Métodos sem a anotação usam o pool {@link PoolConexao#INTERATIVO}.
+ * A escolha vale para a transação aberta dentro do método: quem já está em uma
+ * transação continua com a conexão que já tem.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface UsarPool {
+
+    PoolConexao value();
+}
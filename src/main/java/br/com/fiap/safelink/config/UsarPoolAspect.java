@@ -0,0 +1,31 @@
+package br.com.fiap.safelink.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🏊 Aplica o pool de {@link UsarPool} durante a execução do método.
+ *
+ * Ordem 0 (antes do `@Transactional`, que usa a menor precedência): envolve a transação,
+ * então a conexão já vem do pool escolhido. Não usa precedência máxima para que o
+ * `ExposeInvocationInterceptor` do Spring rode antes e a anotação possa ser vinculada.
+ * Em métodos `@Async`, roda na thread do executor.
+ */
+@Aspect
+@Component
+@Order(0)
+public class UsarPoolAspect {
+
+    @Around("@annotation(usarPool)")
+    public Object aplicar(ProceedingJoinPoint joinPoint, UsarPool usarPool) throws Throwable {
+        PoolConexao anterior = ContextoPool.definir(usarPool.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ContextoPool.restaurar(anterior);
+        }
+    }
+}
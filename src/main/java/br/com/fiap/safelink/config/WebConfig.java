@@ -0,0 +1,42 @@
+package br.com.fiap.safelink.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 🌐 Configuração do Spring MVC.
+ *
+ * Registra os interceptores da aplicação e o conversor JSON com `Server-Timing`.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AcessoQuenteInterceptor acessoQuenteInterceptor;
+    private final OrcamentoSqlInterceptor orcamentoSqlInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 🔥 Rastreamento de regiões e filtros mais acessados
+        registry.addInterceptor(acessoQuenteInterceptor).excludePathPatterns("/admin/**");
+        // 🧮 Contagem de comandos SQL e orçamento por endpoint
+        registry.addInterceptor(orcamentoSqlInterceptor);
+    }
+
+    /**
+     * ⏱️ Substitui o conversor JSON do Spring Boot: mesmo `ObjectMapper`, com a serialização medida.
+     */
+    @Bean
+    public ServerTimingJsonConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper,
+            @Value("${safelink.server-timing.papeis:ADMIN}") List<String> papeis) {
+        return new ServerTimingJsonConverter(objectMapper, papeis);
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.fiap.safelink.controller;
+
+import br.com.fiap.safelink.config.OrcamentoSql;
+import br.com.fiap.safelink.dto.response.AcessosQuentesResponseDTO;
+import br.com.fiap.safelink.dto.response.ConsultaLentaResponseDTO;
+import br.com.fiap.safelink.dto.response.ConsumoRotaResponseDTO;
+import br.com.fiap.safelink.dto.response.GravacaoJfrResponseDTO;
+import br.com.fiap.safelink.dto.response.PoolConexaoResponseDTO;
+import br.com.fiap.safelink.service.AcessoQuenteService;
+import br.com.fiap.safelink.service.ConsultaLentaService;
+import br.com.fiap.safelink.service.ConsumoRequisicaoService;
+import br.com.fiap.safelink.service.GravacaoJfrService;
+import br.com.fiap.safelink.service.PoolConexaoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * # 🛠️ Controller: AdminController
+ *
+ * Endpoints operacionais para acompanhamento do uso da API.
+ *
+ * ---
+ * ## 🔐 Segurança
+ * - Restrito a ADMIN
+ */
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "10 - Administração", description = "Diagnóstico operacional da API")
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final AcessoQuenteService acessoQuenteService;
+    private final PoolConexaoService poolConexaoService;
+    private final ConsultaLentaService consultaLentaService;
+    private final ConsumoRequisicaoService consumoRequisicaoService;
+    private final GravacaoJfrService gravacaoJfrService;
+
+    // ============================================
+    // 🔥 GET /admin/hot
+    // ============================================
+
+    /**
+     * ## 🔥 Regiões e filtros mais acessados
+     *
+     * Rankings aproximados do tráfego recente (contagens com decaimento),
+     * úteis para pré-aquecer caches e priorizar índices.
+     */
+    @GetMapping("/hot")
+    @OrcamentoSql(0)
+    @Operation(
+            summary = "Regiões e filtros mais acessados",
+            description = "Retorna os rankings aproximados de regiões e formatos de consulta mais frequentes.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Rankings retornados com sucesso")
+            }
+    )
+    public ResponseEntity<AcessosQuentesResponseDTO> consultarAcessosQuentes(
+            @RequestParam(defaultValue = "10") int limite
+    ) {
+        return ResponseEntity.ok(acessoQuenteService.consultar(limite));
+    }
+
+    // ============================================
+    // 🏊 GET /admin/pools
+    // ============================================
+
+    /**
+     * ## 🏊 Pools de conexão
+     *
+     * Saturação, fila e latências de cada pool (interativo, relatório, lote) por servidor.
+     */
+    @GetMapping("/pools")
+    @OrcamentoSql(0)
+    @Operation(
+            summary = "Pools de conexão",
+            description = "Retorna conexões ativas/ociosas, threads aguardando, tempos de espera e de uso e timeouts de fila de cada pool.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Pools retornados com sucesso")
+            }
+    )
+    public ResponseEntity<List<PoolConexaoResponseDTO>> consultarPools() {
+        return ResponseEntity.ok(poolConexaoService.consultar());
+    }
+
+    // ============================================
+    // 🐢 GET /admin/sql-lentas
+    // ============================================
+
+    /**
+     * ## 🐢 Comandos SQL lentos
+     *
+     * Últimos comandos acima do limite, com parâmetros, origem, filtro e,
+     * para uma amostra, o plano de `EXPLAIN (ANALYZE, BUFFERS)`.
+     */
+    @GetMapping("/sql-lentas")
+    @OrcamentoSql(0)
+    @Operation(
+            summary = "Comandos SQL lentos",
+            description = "Retorna os comandos SQL mais recentes que passaram do limite de duração, do mais novo ao mais antigo.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Comandos retornados com sucesso")
+            }
+    )
+    public ResponseEntity<List<ConsultaLentaResponseDTO>> consultarSqlLentas(
+            @RequestParam(defaultValue = "50") int limite
+    ) {
+        return ResponseEntity.ok(consultaLentaService.consultar(limite));
+    }
+
+    // ============================================
+    // 🧪 GET /admin/alocacao
+    // ============================================
+
+    /**
+     * ## 🧪 Rotas que mais alocam memória
+     *
+     * Memória alocada e CPU por requisição de cada rota, das que mais pressionam
+     * o GC para as que menos.
+     */
+    @GetMapping("/alocacao")
+    @OrcamentoSql(0)
+    @Operation(
+            summary = "Rotas que mais alocam memória",
+            description = "Retorna, por rota, a memória alocada (total, média, p99, máximo) e o tempo de CPU das requisições medidas desde a subida.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Rotas retornadas com sucesso")
+            }
+    )
+    public ResponseEntity<List<ConsumoRotaResponseDTO>> consultarAlocacao(
+            @RequestParam(defaultValue = "10") int limite
+    ) {
+        return ResponseEntity.ok(consumoRequisicaoService.consultar(limite));
+    }
+
+    // ============================================
+    // 🛩️ POST /admin/jfr
+    // ============================================
+
+    /**
+     * ## 🛩️ Gravação do Flight Recorder
+     *
+     * Salva no servidor os últimos minutos da gravação JFR contínua
+     * (eventos do JDK e da aplicação), para análise no JDK Mission Control.
+     */
+    @PostMapping("/jfr")
+    @OrcamentoSql(0)
+    @Operation(
+            summary = "Gravação do Flight Recorder",
+            description = "Gera um arquivo .jfr com os últimos minutos da gravação contínua e retorna o caminho no servidor.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Arquivo gerado com sucesso"),
+                    @ApiResponse(responseCode = "400", description = "Minutos fora do período mantido"),
+                    @ApiResponse(responseCode = "503", description = "Gravação contínua desligada")
+            }
+    )
+    public ResponseEntity<GravacaoJfrResponseDTO> gerarGravacaoJfr(
+            @RequestParam(defaultValue = "5") int minutos
+    ) {
+        return ResponseEntity.ok(gravacaoJfrService.gerarArquivo(minutos));
+    }
+}
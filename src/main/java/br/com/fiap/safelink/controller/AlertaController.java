@@ -1,5 +1,6 @@
 package br.com.fiap.safelink.controller;
 
+import br.com.fiap.safelink.config.OrcamentoSql;
 import br.com.fiap.safelink.dto.request.AlertaRequestDTO;
 import br.com.fiap.safelink.dto.response.AlertaResponseDTO;
 import br.com.fiap.safelink.filter.AlertaFilter;
@@ -62,6 +63,7 @@ public class AlertaController {
      * - HTTP: `201 Created` em caso de sucesso
      */
     @PostMapping
+    @OrcamentoSql(2)
     @CacheEvict(value = "alertas", allEntries = true)
     @Operation(
             summary = "Cadastrar alerta",
@@ -88,6 +90,7 @@ public class AlertaController {
      * - Recomendado para uso geral e painéis administrativos.
      */
     @GetMapping
+    @OrcamentoSql(2)
     @Operation(
             summary = "Listar alertas (paginado)",
             description = "Retorna todos os alertas cadastrados com suporte à paginação.",
@@ -114,6 +117,7 @@ public class AlertaController {
      * Suporta paginação e ordenação.
      */
     @GetMapping("/filtro")
+    @OrcamentoSql(2)
     @Cacheable(
             value = "alertas",
             key = "'spec_'+#filter.toString()+'_pagina_'+#pageable.pageNumber+'_tamanho_'+#pageable.pageSize+'_ordenacao_'+#pageable.sort.toString()"
@@ -142,6 +146,7 @@ public class AlertaController {
      * Consulta os dados de um alerta específico, informando o `ID` na URL.
      */
     @GetMapping("/{id}")
+    @OrcamentoSql(1)
     @Operation(
             summary = "Buscar alerta por ID",
             description = "Retorna os dados do alerta correspondente ao ID informado.",
@@ -167,6 +172,7 @@ public class AlertaController {
      * - Requisição deve conter os novos dados válidos.
      */
     @PutMapping("/{id}")
+    @OrcamentoSql(3)
     @CacheEvict(value = "alertas", allEntries = true)
     @Operation(
             summary = "Atualizar alerta",
@@ -196,6 +202,7 @@ public class AlertaController {
      * - Após a exclusão, a resposta HTTP será `204 No Content`.
      */
     @DeleteMapping("/{id}")
+    @OrcamentoSql(3)
     @CacheEvict(value = "alertas", allEntries = true)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(
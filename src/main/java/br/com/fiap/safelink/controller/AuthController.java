@@ -1,5 +1,6 @@
 package br.com.fiap.safelink.controller;
 
+import br.com.fiap.safelink.config.OrcamentoSql;
 import br.com.fiap.safelink.model.Credentials;
 import br.com.fiap.safelink.model.Token;
 import br.com.fiap.safelink.service.AuthService;
@@ -47,6 +48,7 @@ public class AuthController {
      * @throws BadCredentialsException se a senha estiver incorreta
      */
     @PostMapping("/login")
+    @OrcamentoSql(1)
     public Token login(@Valid @RequestBody Credentials credentials) {
         User user = (User) authService.loadUserByUsername(credentials.email());
 
@@ -1,9 +1,13 @@
 package br.com.fiap.safelink.controller;
 
+import br.com.fiap.safelink.config.OrcamentoSql;
 import br.com.fiap.safelink.dto.request.EventoNaturalRequestDTO;
 import br.com.fiap.safelink.dto.response.EventoNaturalResponseDTO;
+import br.com.fiap.safelink.dto.response.HistogramaEventoResponseDTO;
 import br.com.fiap.safelink.filter.EventoNaturalFilter;
+import br.com.fiap.safelink.model.enums.GranularidadeTempo;
 import br.com.fiap.safelink.service.EventoNaturalService;
+import br.com.fiap.safelink.service.HistogramaEventoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -15,10 +19,13 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 /**
  * # 🌪️ Controller: EventoNaturalController
  *
@@ -36,6 +43,7 @@ import org.springframework.web.bind.annotation.*;
  * ## Funcionalidades
  * - Criar, atualizar e excluir eventos naturais
  * - Consultar com e sem filtros (paginado)
+ * - Histograma por hora/dia/mês servido pelas tabelas de rollup
  * - Utiliza cache para melhorar desempenho em consultas
  */
 @SecurityRequirement(name = "bearerAuth")
@@ -48,6 +56,7 @@ import org.springframework.web.bind.annotation.*;
 public class EventoNaturalController {
 
     private final EventoNaturalService service;
+    private final HistogramaEventoService histogramaService;
 
     // ============================================
     // 📌 POST /eventos-naturais
@@ -63,6 +72,7 @@ public class EventoNaturalController {
      * - HTTP: `201 Created` em caso de sucesso
      */
     @PostMapping
+    @OrcamentoSql(3)
     @CacheEvict(value = "eventosNaturais", allEntries = true)
     @Operation(
             summary = "Registrar evento natural",
@@ -86,6 +96,7 @@ public class EventoNaturalController {
      * Retorna todos os eventos cadastrados, com suporte a paginação.
      */
     @GetMapping
+    @OrcamentoSql(2)
     @Operation(
             summary = "Listar eventos naturais (paginado)",
             description = "Retorna todos os eventos naturais, com suporte à paginação.",
@@ -112,6 +123,7 @@ public class EventoNaturalController {
      * - Região
      */
     @GetMapping("/filtro")
+    @OrcamentoSql(2)
     @Cacheable(
             value = "eventosNaturais",
             key = "'spec_'+#filter.toString()+'_pagina_'+#pageable.pageNumber+'_tamanho_'+#pageable.pageSize+'_ordenacao_'+#pageable.sort.toString()"
@@ -130,6 +142,62 @@ public class EventoNaturalController {
         return ResponseEntity.ok(service.consultarComFiltro(filter, pageable));
     }
 
+    // ============================================
+    // 📈 GET /eventos-naturais/histograma
+    // ============================================
+
+    /**
+     * ## 📈 Histograma de eventos
+     *
+     * Quantidade de eventos por hora, dia ou mês, servida pelas tabelas de rollup.
+     *
+     * - Sem `granularidade`, usa a mais grossa adequada ao intervalo
+     * - `dataFim` é exclusiva
+     */
+    @GetMapping("/histograma")
+    @OrcamentoSql(1)
+    @Operation(
+            summary = "Histograma de eventos",
+            description = "Série temporal de eventos por granularidade, região e tipo.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Histograma retornado com sucesso")
+            }
+    )
+    public ResponseEntity<HistogramaEventoResponseDTO> histograma(
+            @RequestParam(required = false) GranularidadeTempo granularidade,
+            @RequestParam(required = false) Long regiaoId,
+            @RequestParam(required = false) String tipo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim
+    ) {
+        return ResponseEntity.ok(histogramaService.consultar(granularidade, regiaoId, tipo, dataInicio, dataFim));
+    }
+
+    // ============================================
+    // 🔁 POST /eventos-naturais/histograma/reprocessar
+    // ============================================
+
+    /**
+     * ## 🔁 Reprocessar histogramas
+     *
+     * Dispara em segundo plano o backfill mês a mês das tabelas de rollup.
+     *
+     * - HTTP: 202 Accepted
+     */
+    @PostMapping("/histograma/reprocessar")
+    @OrcamentoSql(0)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(
+            summary = "Reprocessar histogramas",
+            description = "Recalcula as tabelas de rollup a partir dos eventos gravados (assíncrono).",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Reprocessamento iniciado")
+            }
+    )
+    public void reprocessarHistograma() {
+        histogramaService.reprocessarEmSegundoPlano();
+    }
+
     // ============================================
     // 🔎 GET /eventos-naturais/{id}
     // ============================================
@@ -140,6 +208,7 @@ public class EventoNaturalController {
      * Recupera um evento natural específico pelo identificador único.
      */
     @GetMapping("/{id}")
+    @OrcamentoSql(1)
     @Operation(
             summary = "Buscar evento por ID",
             description = "Retorna os dados do evento natural correspondente ao ID.",
@@ -165,6 +234,7 @@ public class EventoNaturalController {
      * - Retorna os dados atualizados com `200 OK`
      */
     @PutMapping("/{id}")
+    @OrcamentoSql(5)
     @CacheEvict(value = "eventosNaturais", allEntries = true)
     @Operation(
             summary = "Atualizar evento natural",
@@ -193,6 +263,7 @@ public class EventoNaturalController {
      * - Retorna `204 No Content` em caso de sucesso.
      */
     @DeleteMapping("/{id}")
+    @OrcamentoSql(3)
     @CacheEvict(value = "eventosNaturais", allEntries = true)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(
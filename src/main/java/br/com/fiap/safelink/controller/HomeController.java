@@ -1,5 +1,6 @@
 package br.com.fiap.safelink.controller;
 
+import br.com.fiap.safelink.config.OrcamentoSql;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class HomeController {
 
     @GetMapping("/")
+    @OrcamentoSql(0)
     @Operation(
             summary = "Página inicial da API",
             description = "Exibe uma mensagem de status e link para a documentação Swagger"
@@ -0,0 +1,92 @@
+package br.com.fiap.safelink.controller;
+
+import br.com.fiap.safelink.config.OrcamentoSql;
+import br.com.fiap.safelink.dto.response.PainelContadorResponseDTO;
+import br.com.fiap.safelink.dto.response.PicoAtividadeResponseDTO;
+import br.com.fiap.safelink.model.enums.EscopoPainel;
+import br.com.fiap.safelink.service.DetectorPicoService;
+import br.com.fiap.safelink.service.PainelRiscoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * # 📊 Controller: PainelController
+ *
+ * Expõe o painel de risco consolidado por estado, cidade e região
+ * e os picos de atividade detectados em fluxo.
+ *
+ * ---
+ * ## ⚡ Desempenho
+ * - Respostas servidas a partir de contadores em memória (sem consulta ao banco)
+ * - Contadores reconciliados periodicamente com o banco
+ * - Picos detectados a cada gravação, sem consulta ao banco
+ */
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "8 - Painel de Risco", description = "Contadores consolidados de alertas, eventos e relatos")
+@RestController
+@RequestMapping("/painel")
+@RequiredArgsConstructor
+public class PainelController {
+
+    private final PainelRiscoService service;
+    private final DetectorPicoService detectorPicoService;
+
+    // ============================================
+    // 📊 GET /painel/risco
+    // ============================================
+
+    /**
+     * ## 📊 Painel de risco
+     *
+     * Quantidade de alertas (por nível), eventos (por tipo) e relatos nas últimas
+     * 24 horas e 7 dias, no nível da hierarquia informado.
+     */
+    @GetMapping("/risco")
+    @OrcamentoSql(0)
+    @Operation(
+            summary = "Painel de risco consolidado",
+            description = "Retorna contagens de 24h/7d por estado, cidade ou região.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Painel retornado com sucesso")
+            }
+    )
+    public ResponseEntity<List<PainelContadorResponseDTO>> consultar(
+            @RequestParam(defaultValue = "ESTADO") EscopoPainel escopo,
+            @RequestParam(required = false) String estado
+    ) {
+        return ResponseEntity.ok(service.consultar(escopo, estado));
+    }
+
+    // ============================================
+    // 📡 GET /painel/picos
+    // ============================================
+
+    /**
+     * ## 📡 Picos de atividade
+     *
+     * Picos de relatos e eventos naturais por região e tipo, detectados comparando
+     * a janela deslizante recente com a linha de base aprendida.
+     */
+    @GetMapping("/picos")
+    @OrcamentoSql(0)
+    @Operation(
+            summary = "Picos de atividade",
+            description = "Retorna os picos ativos e, opcionalmente, os encerrados mais recentes.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Picos retornados com sucesso")
+            }
+    )
+    public ResponseEntity<List<PicoAtividadeResponseDTO>> consultarPicos(
+            @RequestParam(required = false) Long regiaoId,
+            @RequestParam(defaultValue = "false") boolean somenteAtivos
+    ) {
+        return ResponseEntity.ok(detectorPicoService.consultar(regiaoId, somenteAtivos));
+    }
+}
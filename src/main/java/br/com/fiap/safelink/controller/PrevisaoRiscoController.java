@@ -1,8 +1,11 @@
 package br.com.fiap.safelink.controller;
 
+import br.com.fiap.safelink.config.OrcamentoSql;
 import br.com.fiap.safelink.dto.request.PrevisaoRiscoRequestDTO;
+import br.com.fiap.safelink.dto.response.AcuraciaFonteResponseDTO;
 import br.com.fiap.safelink.dto.response.PrevisaoRiscoResponseDTO;
 import br.com.fiap.safelink.filter.PrevisaoRiscoFilter;
+import br.com.fiap.safelink.service.AcuraciaPrevisaoService;
 import br.com.fiap.safelink.service.PrevisaoRiscoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,10 +18,14 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * # 🔮 Controller: PrevisaoRiscoController
  *
@@ -36,6 +43,7 @@ import org.springframework.web.bind.annotation.*;
  * ## Funcionalidades
  * - Criar, buscar, listar com/sem filtro, atualizar e excluir previsões de risco
  * - Cache para otimização de consultas
+ * - Placar de acurácia das fontes frente aos eventos observados
  */
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "7 - Previsões de Risco", description = "Endpoints relacionados à geração e gerenciamento de previsões de risco")
@@ -46,6 +54,7 @@ import org.springframework.web.bind.annotation.*;
 public class PrevisaoRiscoController {
 
     private final PrevisaoRiscoService service;
+    private final AcuraciaPrevisaoService acuraciaService;
 
     // ============================================
     // 📌 POST /previsoes-risco
@@ -61,6 +70,7 @@ public class PrevisaoRiscoController {
      * - HTTP: 201 Created
      */
     @PostMapping
+    @OrcamentoSql(2)
     @CacheEvict(value = "previsoesRisco", allEntries = true)
     @Operation(
             summary = "Cadastrar previsão de risco",
@@ -84,6 +94,7 @@ public class PrevisaoRiscoController {
      * Retorna todas as previsões cadastradas, com paginação e ordenação.
      */
     @GetMapping
+    @OrcamentoSql(2)
     @Operation(
             summary = "Listar previsões de risco (paginado)",
             description = "Retorna todas as previsões de risco do sistema, com suporte à paginação e ordenação.",
@@ -111,6 +122,7 @@ public class PrevisaoRiscoController {
      * - Cache para evitar sobrecarga
      */
     @GetMapping("/filtro")
+    @OrcamentoSql(2)
     @Cacheable(
             value = "previsoesRisco",
             key = "'spec_'+#filter.toString()+'_pagina_'+#pageable.pageNumber+'_tamanho_'+#pageable.pageSize+'_ordenacao_'+#pageable.sort.toString()"
@@ -129,6 +141,65 @@ public class PrevisaoRiscoController {
         return ResponseEntity.ok(service.consultarComFiltro(filter, pageable));
     }
 
+    // ============================================
+    // 🎯 GET /previsoes-risco/acuracia
+    // ============================================
+
+    /**
+     * ## 🎯 Acurácia por fonte
+     *
+     * Placar das fontes de previsão frente aos eventos observados: alarmes, acertos,
+     * falsos alarmes e eventos antecipados, calculado pelo job de acurácia.
+     *
+     * - `dataFim` é exclusiva; dias ainda dentro do horizonte não aparecem
+     */
+    @GetMapping("/acuracia")
+    @OrcamentoSql(1)
+    @Operation(
+            summary = "Acurácia das previsões por fonte",
+            description = "Retorna taxas de acerto e de falso alarme por fonte, com filtros opcionais.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Placar retornado com sucesso"),
+                    @ApiResponse(responseCode = "404", description = "Região não encontrada")
+            }
+    )
+    public ResponseEntity<List<AcuraciaFonteResponseDTO>> acuracia(
+            @RequestParam(required = false) Long regiaoId,
+            @RequestParam(required = false) String fonte,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim
+    ) {
+        return ResponseEntity.ok(acuraciaService.consultar(regiaoId, fonte, dataInicio, dataFim));
+    }
+
+    // ============================================
+    // 🔁 POST /previsoes-risco/acuracia/reprocessar
+    // ============================================
+
+    /**
+     * ## 🔁 Reprocessar acurácia
+     *
+     * Recalcula em segundo plano o placar a partir de `desde` (ou de todo o histórico),
+     * para incorporar previsões ou eventos gravados retroativamente.
+     *
+     * - HTTP: 202 Accepted
+     */
+    @PostMapping("/acuracia/reprocessar")
+    @OrcamentoSql(0)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(
+            summary = "Reprocessar acurácia das previsões",
+            description = "Recua os checkpoints do job de acurácia e o executa novamente (assíncrono).",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Reprocessamento iniciado")
+            }
+    )
+    public void reprocessarAcuracia(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde
+    ) {
+        acuraciaService.reprocessarEmSegundoPlano(desde);
+    }
+
     // ============================================
     // 🔎 GET /previsoes-risco/{id}
     // ============================================
@@ -139,6 +210,7 @@ public class PrevisaoRiscoController {
      * Retorna os dados de uma previsão de risco com base no identificador único.
      */
     @GetMapping("/{id}")
+    @OrcamentoSql(1)
     @Operation(
             summary = "Buscar previsão por ID",
             description = "Retorna os dados da previsão de risco correspondente ao ID informado.",
@@ -164,6 +236,7 @@ public class PrevisaoRiscoController {
      * - HTTP: 200 OK
      */
     @PutMapping("/{id}")
+    @OrcamentoSql(3)
     @CacheEvict(value = "previsoesRisco", allEntries = true)
     @Operation(
             summary = "Atualizar previsão de risco",
@@ -193,6 +266,7 @@ public class PrevisaoRiscoController {
      * - HTTP: 204 No Content
      */
     @DeleteMapping("/{id}")
+    @OrcamentoSql(3)
     @CacheEvict(value = "previsoesRisco", allEntries = true)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(
@@ -1,9 +1,12 @@
 package br.com.fiap.safelink.controller;
 
+import br.com.fiap.safelink.config.OrcamentoSql;
 import br.com.fiap.safelink.dto.request.RegiaoRequestDTO;
 import br.com.fiap.safelink.dto.response.RegiaoResponseDTO;
+import br.com.fiap.safelink.dto.response.RiscoRegiaoResponseDTO;
 import br.com.fiap.safelink.filter.RegiaoFilter;
 import br.com.fiap.safelink.service.RegiaoService;
+import br.com.fiap.safelink.service.RiscoRegiaoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -19,6 +22,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * # 🗺️ Controller: RegiaoController
  *
@@ -33,6 +38,7 @@ import org.springframework.web.bind.annotation.*;
  *
  * ## 📚 Funcionalidades
  * - Criar, consultar, listar (com ou sem filtro), atualizar e excluir regiões geográficas
+ * - Consultar o risco atual consolidado de uma ou de todas as regiões
  */
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "3 - Regiões", description = "Endpoints relacionados ao cadastro e gerenciamento de regiões geográficas")
@@ -44,6 +50,7 @@ import org.springframework.web.bind.annotation.*;
 public class RegiaoController {
 
     private final RegiaoService service;
+    private final RiscoRegiaoService riscoService;
 
     // ============================================
     // 📌 POST /regioes
@@ -59,6 +66,7 @@ public class RegiaoController {
      * - HTTP: 201 Created
      */
     @PostMapping
+    @OrcamentoSql(1)
     @CacheEvict(value = "regioes", allEntries = true)
     @Operation(
             summary = "Cadastrar região",
@@ -82,6 +90,7 @@ public class RegiaoController {
      * Retorna todas as regiões cadastradas com suporte à paginação e ordenação.
      */
     @GetMapping
+    @OrcamentoSql(2)
     @Operation(
             summary = "Listar regiões (paginado)",
             description = "Retorna todas as regiões cadastradas, com suporte à paginação.",
@@ -107,6 +116,7 @@ public class RegiaoController {
      * Utiliza Specification + Pageable com cache.
      */
     @GetMapping("/filtro")
+    @OrcamentoSql(2)
     @Cacheable(
             value = "regioes",
             key = "'spec_'+#filter.toString()+'_pagina_'+#pageable.pageNumber+'_tamanho_'+#pageable.pageSize+'_ordenacao_'+#pageable.sort.toString()"
@@ -125,6 +135,53 @@ public class RegiaoController {
         return ResponseEntity.ok(service.consultarComFiltro(filter, pageable));
     }
 
+    // ============================================
+    // 🚦 GET /regioes/risco
+    // ============================================
+
+    /**
+     * ## 🚦 Risco atual de todas as regiões
+     *
+     * Retorna o risco consolidado de cada região, da maior para a menor pontuação.
+     * Respondido a partir do motor de risco em memória.
+     */
+    @GetMapping("/risco")
+    @OrcamentoSql(0)
+    @Operation(
+            summary = "Risco atual de todas as regiões",
+            description = "Retorna o risco consolidado (previsões, alertas ativos, eventos e relatos recentes) de todas as regiões.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Riscos retornados com sucesso")
+            }
+    )
+    public ResponseEntity<List<RiscoRegiaoResponseDTO>> consultarRiscos() {
+        return ResponseEntity.ok(riscoService.consultarTodas());
+    }
+
+    // ============================================
+    // 🚦 GET /regioes/{id}/risco
+    // ============================================
+
+    /**
+     * ## 🚦 Risco atual de uma região
+     *
+     * Retorna o risco consolidado da região informada.
+     * Respondido a partir do motor de risco em memória.
+     */
+    @GetMapping("/{id}/risco")
+    @OrcamentoSql(0)
+    @Operation(
+            summary = "Risco atual da região",
+            description = "Retorna o risco consolidado (previsões, alertas ativos, eventos e relatos recentes) da região.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Risco retornado com sucesso"),
+                    @ApiResponse(responseCode = "404", description = "Região não encontrada")
+            }
+    )
+    public ResponseEntity<RiscoRegiaoResponseDTO> consultarRisco(@PathVariable Long id) {
+        return ResponseEntity.ok(riscoService.consultarPorRegiao(id));
+    }
+
     // ============================================
     // 🔎 GET /regioes/{id}
     // ============================================
@@ -135,6 +192,7 @@ public class RegiaoController {
      * Retorna os dados de uma região específica com base no identificador único.
      */
     @GetMapping("/{id}")
+    @OrcamentoSql(1)
     @Operation(
             summary = "Buscar região por ID",
             description = "Retorna os dados da região correspondente ao ID informado.",
@@ -160,6 +218,7 @@ public class RegiaoController {
      * - Resposta: DTO atualizado
      */
     @PutMapping("/{id}")
+    @OrcamentoSql(2)
     @CacheEvict(value = "regioes", allEntries = true)
     @Operation(
             summary = "Atualizar região",
@@ -189,6 +248,7 @@ public class RegiaoController {
      * - HTTP: 204 No Content
      */
     @DeleteMapping("/{id}")
+    @OrcamentoSql(8)
     @CacheEvict(value = "regioes", allEntries = true)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(
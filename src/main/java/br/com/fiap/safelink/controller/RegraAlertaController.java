@@ -0,0 +1,214 @@
+package br.com.fiap.safelink.controller;
+
+import br.com.fiap.safelink.config.OrcamentoSql;
+import br.com.fiap.safelink.dto.request.RegraAlertaRequestDTO;
+import br.com.fiap.safelink.dto.response.DisparoRegraResponseDTO;
+import br.com.fiap.safelink.dto.response.RegraAlertaResponseDTO;
+import br.com.fiap.safelink.service.RegraAlertaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * # 📐 Controller: RegraAlertaController
+ *
+ * Gerencia as regras declarativas de geração automática de alertas.
+ *
+ * ---
+ * ## 🔐 Segurança
+ * - Leitura para USER e ADMIN; cadastro, alteração, exclusão e simulação apenas para ADMIN
+ *
+ * ## 📚 Funcionalidades
+ * - CRUD de regras (cada alteração recompila o motor de regras)
+ * - Histórico de disparos por regra
+ * - Simulação (dry-run) sobre o histórico, sem gerar alertas
+ */
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "9 - Regras de Alerta", description = "Regras de geração automática de alertas, disparos e simulação")
+@RestController
+@RequestMapping("/regras-alerta")
+@RequiredArgsConstructor
+public class RegraAlertaController {
+
+    private final RegraAlertaService service;
+
+    // ============================================
+    // 📌 POST /regras-alerta
+    // ============================================
+
+    /**
+     * ## 📌 Cadastrar regra
+     *
+     * - HTTP: 201 Created
+     */
+    @PostMapping
+    @OrcamentoSql(4)
+    @Operation(
+            summary = "Cadastrar regra de alerta",
+            description = "Cria uma regra avaliada a cada gravação de previsões, eventos ou relatos.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Regra criada com sucesso"),
+                    @ApiResponse(responseCode = "400", description = "Erro de validação nos dados enviados")
+            }
+    )
+    public ResponseEntity<RegraAlertaResponseDTO> gravar(@RequestBody @Valid RegraAlertaRequestDTO dto) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(service.gravar(dto));
+    }
+
+    // ============================================
+    // 📋 GET /regras-alerta
+    // ============================================
+
+    /**
+     * ## 📋 Listar regras (paginado)
+     */
+    @GetMapping
+    @OrcamentoSql(2)
+    @Operation(
+            summary = "Listar regras de alerta",
+            description = "Retorna as regras cadastradas com paginação.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lista paginada de regras retornada com sucesso")
+            }
+    )
+    public ResponseEntity<Page<RegraAlertaResponseDTO>> listar(@ParameterObject Pageable pageable) {
+        return ResponseEntity.ok(service.consultarPaginado(pageable));
+    }
+
+    // ============================================
+    // 🔎 GET /regras-alerta/{id}
+    // ============================================
+
+    /**
+     * ## 🔎 Buscar regra por ID
+     */
+    @GetMapping("/{id}")
+    @OrcamentoSql(1)
+    @Operation(
+            summary = "Buscar regra de alerta por ID",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Regra encontrada"),
+                    @ApiResponse(responseCode = "404", description = "Regra não encontrada")
+            }
+    )
+    public ResponseEntity<RegraAlertaResponseDTO> buscarPorId(@PathVariable Long id) {
+        return ResponseEntity.ok(service.consultarPorId(id));
+    }
+
+    // ============================================
+    // 🔔 GET /regras-alerta/{id}/disparos
+    // ============================================
+
+    /**
+     * ## 🔔 Histórico de disparos
+     *
+     * Disparos gravados da regra, com o ID do alerta gerado.
+     */
+    @GetMapping("/{id}/disparos")
+    @OrcamentoSql(3)
+    @Operation(
+            summary = "Listar disparos da regra",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Disparos retornados com sucesso"),
+                    @ApiResponse(responseCode = "404", description = "Regra não encontrada")
+            }
+    )
+    public ResponseEntity<Page<DisparoRegraResponseDTO>> listarDisparos(@PathVariable Long id,
+                                                                        @ParameterObject Pageable pageable) {
+        return ResponseEntity.ok(service.consultarDisparos(id, pageable));
+    }
+
+    // ============================================
+    // 🧪 POST /regras-alerta/simulacao
+    // ============================================
+
+    /**
+     * ## 🧪 Simular regras sobre o histórico
+     *
+     * Reexecuta os registros do período contra:
+     * - a regra enviada no corpo (não precisa estar cadastrada), ou
+     * - a regra `regraId`, ou
+     * - todas as regras ativas.
+     *
+     * Nenhum alerta ou disparo é gravado. `fim` é exclusivo.
+     */
+    @PostMapping("/simulacao")
+    @OrcamentoSql(2)
+    @Operation(
+            summary = "Simular regras (dry-run)",
+            description = "Retorna os disparos que teriam ocorrido no período, sem gravar alertas.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Simulação concluída"),
+                    @ApiResponse(responseCode = "400", description = "Período ou regra inválidos"),
+                    @ApiResponse(responseCode = "404", description = "Regra não encontrada")
+            }
+    )
+    public ResponseEntity<List<DisparoRegraResponseDTO>> simular(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim,
+            @RequestParam(required = false) Long regraId,
+            @RequestBody(required = false) @Valid RegraAlertaRequestDTO dto
+    ) {
+        return ResponseEntity.ok(service.simular(dto, regraId, inicio, fim));
+    }
+
+    // ============================================
+    // ✏️ PUT /regras-alerta/{id}
+    // ============================================
+
+    /**
+     * ## ✏️ Atualizar regra
+     */
+    @PutMapping("/{id}")
+    @OrcamentoSql(4)
+    @Operation(
+            summary = "Atualizar regra de alerta",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Regra atualizada com sucesso"),
+                    @ApiResponse(responseCode = "400", description = "Erro de validação nos dados enviados"),
+                    @ApiResponse(responseCode = "404", description = "Regra não encontrada")
+            }
+    )
+    public ResponseEntity<RegraAlertaResponseDTO> atualizar(@PathVariable Long id,
+                                                            @RequestBody @Valid RegraAlertaRequestDTO dto) {
+        return ResponseEntity.ok(service.atualizar(id, dto));
+    }
+
+    // ============================================
+    // 🗑️ DELETE /regras-alerta/{id}
+    // ============================================
+
+    /**
+     * ## 🗑️ Excluir regra
+     *
+     * Remove a regra e seu histórico de disparos. Os alertas já gerados são mantidos.
+     *
+     * - HTTP: 204 No Content
+     */
+    @DeleteMapping("/{id}")
+    @OrcamentoSql(5)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(
+            summary = "Excluir regra de alerta",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "Regra removida com sucesso"),
+                    @ApiResponse(responseCode = "404", description = "Regra não encontrada")
+            }
+    )
+    public void excluir(@PathVariable Long id) {
+        service.excluir(id);
+    }
+}
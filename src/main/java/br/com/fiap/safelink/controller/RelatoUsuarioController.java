@@ -1,9 +1,12 @@
 package br.com.fiap.safelink.controller;
 
+import br.com.fiap.safelink.config.OrcamentoSql;
 import br.com.fiap.safelink.dto.request.RelatoUsuarioRequestDTO;
 import br.com.fiap.safelink.dto.response.RelatoUsuarioResponseDTO;
+import br.com.fiap.safelink.dto.response.ReportersDistintosResponseDTO;
 import br.com.fiap.safelink.filter.RelatoUsuarioFilter;
 import br.com.fiap.safelink.service.RelatoUsuarioService;
+import br.com.fiap.safelink.service.ReporterDistintoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -15,10 +18,13 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 /**
  * # 🗣️ Controller: RelatoUsuarioController
  *
@@ -33,6 +39,7 @@ import org.springframework.web.bind.annotation.*;
  *
  * ## 📚 Funcionalidades
  * - Criar, consultar, listar (com e sem filtro), atualizar e excluir relatos enviados por usuários
+ * - Estimar quantos usuários distintos relataram por região e janela de tempo
  */
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "5 - Relatos de Usuário", description = "Endpoints relacionados aos relatos enviados por cidadãos e agentes de campo")
@@ -44,6 +51,7 @@ import org.springframework.web.bind.annotation.*;
 public class RelatoUsuarioController {
 
     private final RelatoUsuarioService service;
+    private final ReporterDistintoService reporterDistintoService;
 
     // ============================================
     // 📌 POST /relatos-usuario
@@ -59,6 +67,7 @@ public class RelatoUsuarioController {
      * - HTTP: 201 Created
      */
     @PostMapping
+    @OrcamentoSql(5)
     @CacheEvict(value = "relatosUsuario", allEntries = true)
     @Operation(
             summary = "Cadastrar relato de usuário",
@@ -82,6 +91,7 @@ public class RelatoUsuarioController {
      * Retorna todos os relatos cadastrados, com suporte a paginação e ordenação.
      */
     @GetMapping
+    @OrcamentoSql(2)
     @Operation(
             summary = "Listar relatos (paginado)",
             description = "Retorna todos os relatos cadastrados, com suporte à paginação.",
@@ -106,6 +116,7 @@ public class RelatoUsuarioController {
      * - Cache ativado para performance
      */
     @GetMapping("/filtro")
+    @OrcamentoSql(2)
     @Cacheable(
             value = "relatosUsuario",
             key = "'spec_'+#filter.toString()+'_pagina_'+#pageable.pageNumber+'_tamanho_'+#pageable.pageSize+'_ordenacao_'+#pageable.sort.toString()"
@@ -124,6 +135,64 @@ public class RelatoUsuarioController {
         return ResponseEntity.ok(service.consultarComFiltro(filter, pageable));
     }
 
+    // ============================================
+    // 🔢 GET /relatos-usuario/reporters-distintos
+    // ============================================
+
+    /**
+     * ## 🔢 Usuários distintos que relataram
+     *
+     * Estimativa (HyperLogLog, erro de ~0,8%) de quantos usuários diferentes enviaram relatos
+     * na janela, servida pela união dos sketches horários.
+     *
+     * - Sem `regiaoId`, considera todas as regiões (sem contar duas vezes o mesmo usuário)
+     * - Sem datas, considera as últimas 24 horas; a janela é alinhada às horas e `dataFim` é exclusiva
+     */
+    @GetMapping("/reporters-distintos")
+    @OrcamentoSql(1)
+    @Operation(
+            summary = "Estimar usuários distintos que relataram",
+            description = "Retorna a estimativa de usuários distintos por região e janela de tempo.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Estimativa retornada com sucesso"),
+                    @ApiResponse(responseCode = "400", description = "Janela inválida"),
+                    @ApiResponse(responseCode = "404", description = "Região não encontrada")
+            }
+    )
+    public ResponseEntity<ReportersDistintosResponseDTO> reportersDistintos(
+            @RequestParam(required = false) Long regiaoId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim
+    ) {
+        return ResponseEntity.ok(reporterDistintoService.consultar(regiaoId, dataInicio, dataFim));
+    }
+
+    // ============================================
+    // 🔁 POST /relatos-usuario/reporters-distintos/reprocessar
+    // ============================================
+
+    /**
+     * ## 🔁 Reprocessar sketches de usuários distintos
+     *
+     * Reconstrói em segundo plano os sketches a partir dos relatos gravados,
+     * eliminando o efeito de relatos excluídos ou movidos.
+     *
+     * - HTTP: 202 Accepted
+     */
+    @PostMapping("/reporters-distintos/reprocessar")
+    @OrcamentoSql(0)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(
+            summary = "Reprocessar sketches de usuários distintos",
+            description = "Recalcula os sketches horários a partir dos relatos gravados (assíncrono).",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Reprocessamento iniciado")
+            }
+    )
+    public void reprocessarReportersDistintos() {
+        reporterDistintoService.reprocessarEmSegundoPlano();
+    }
+
     // ============================================
     // 🔍 GET /relatos-usuario/{id}
     // ============================================
@@ -134,6 +203,7 @@ public class RelatoUsuarioController {
      * Retorna os dados detalhados de um relato a partir do ID informado.
      */
     @GetMapping("/{id}")
+    @OrcamentoSql(1)
     @Operation(
             summary = "Buscar relato por ID",
             description = "Retorna os dados do relato correspondente ao ID informado.",
@@ -159,6 +229,7 @@ public class RelatoUsuarioController {
      * - Resposta: DTO atualizado
      */
     @PutMapping("/{id}")
+    @OrcamentoSql(6)
     @CacheEvict(value = "relatosUsuario", allEntries = true)
     @Operation(
             summary = "Atualizar relato",
@@ -188,6 +259,7 @@ public class RelatoUsuarioController {
      * - HTTP: 204 No Content
      */
     @DeleteMapping("/{id}")
+    @OrcamentoSql(3)
     @CacheEvict(value = "relatosUsuario", allEntries = true)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(
@@ -1,5 +1,6 @@
 package br.com.fiap.safelink.controller;
 
+import br.com.fiap.safelink.config.OrcamentoSql;
 import br.com.fiap.safelink.dto.request.UserRequestDTO;
 import br.com.fiap.safelink.dto.response.UserResponseDTO;
 import br.com.fiap.safelink.service.UserService;
@@ -56,6 +57,7 @@ public class UserController {
      * - HTTP: 201 Created
      */
     @PostMapping
+    @OrcamentoSql(1)
     @CacheEvict(value = "users", allEntries = true)
     @Operation(
             summary = "Criar novo usuário",
@@ -77,6 +79,7 @@ public class UserController {
      * ## 📋 Listar todos os usuários (paginado)
      */
     @GetMapping
+    @OrcamentoSql(2)
     @Operation(
             summary = "Listar usuários (paginado)",
             description = "Retorna todos os usuários cadastrados com suporte à paginação.",
@@ -96,6 +99,7 @@ public class UserController {
      * ## 🔎 Buscar usuário por ID
      */
     @GetMapping("/{id}")
+    @OrcamentoSql(1)
     @Operation(
             summary = "Buscar usuário por ID",
             description = "Retorna os dados do usuário correspondente ao ID informado.",
@@ -116,6 +120,7 @@ public class UserController {
      * ## ✏️ Atualizar usuário
      */
     @PutMapping("/{id}")
+    @OrcamentoSql(2)
     @CacheEvict(value = "users", allEntries = true)
     @Operation(
             summary = "Atualizar usuário",
@@ -138,6 +143,7 @@ public class UserController {
      * ## 🗑️ Excluir usuário
      */
     @DeleteMapping("/{id}")
+    @OrcamentoSql(3)
     @CacheEvict(value = "users", allEntries = true)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Operation(
@@ -0,0 +1,83 @@
+package br.com.fiap.safelink.dto.request;
+
+import br.com.fiap.safelink.model.enums.NivelRisco;
+import br.com.fiap.safelink.model.enums.TipoRegistro;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+/**
+ * # 📦 DTO: RegraAlertaRequestDTO
+ *
+ * Dados para criação, atualização ou simulação de uma regra de alerta automático.
+ *
+ * ---
+ * ## 🧾 Campos Obrigatórios
+ * - nome, tipo de registro, quantidade mínima, janela
+ * - nível e mensagem do alerta gerado
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegraAlertaRequestDTO {
+
+    // ===========================
+    // 📝 Identificação
+    // ===========================
+
+    @Schema(example = "Duas fontes prevendo risco ALTO", description = "Nome descritivo da regra")
+    @NotBlank(message = "O nome da regra é obrigatório.")
+    private String nome;
+
+    @Schema(example = "true", description = "Se a regra participa da avaliação (padrão: true)")
+    private Boolean ativa;
+
+    // ===========================
+    // 🎯 Condição
+    // ===========================
+
+    @Schema(example = "PREVISAO_RISCO", description = "Registro observado: PREVISAO_RISCO, EVENTO_NATURAL ou RELATO_USUARIO")
+    @NotNull(message = "O tipo de registro é obrigatório.")
+    private TipoRegistro tipoRegistro;
+
+    @Schema(example = "1", description = "Região observada (vazio = todas as regiões)")
+    private Long regiaoId;
+
+    @Schema(example = "Enchente", description = "Tipo do evento natural exigido (apenas EVENTO_NATURAL)")
+    private String categoria;
+
+    @Schema(example = "ALTO", description = "Nível mínimo previsto (apenas PREVISAO_RISCO)")
+    private NivelRisco nivelMinimo;
+
+    @Schema(example = "2", description = "Quantidade de registros (ou fontes distintas) na janela")
+    @NotNull(message = "A quantidade mínima é obrigatória.")
+    @Min(value = 1, message = "A quantidade mínima deve ser ao menos 1.")
+    private Integer quantidadeMinima;
+
+    @Schema(example = "true", description = "Contar fontes distintas em vez de registros (apenas PREVISAO_RISCO)")
+    private Boolean fontesDistintas;
+
+    @Schema(example = "6", description = "Janela de observação em horas (também o intervalo mínimo entre disparos)")
+    @NotNull(message = "A janela é obrigatória.")
+    @Min(value = 1, message = "A janela deve ser de ao menos 1 hora.")
+    @Max(value = 720, message = "A janela deve ser de no máximo 720 horas.")
+    private Integer janelaHoras;
+
+    // ===========================
+    // 🚨 Alerta emitido
+    // ===========================
+
+    @Schema(example = "ALTO", description = "Nível de risco do alerta gerado")
+    @NotBlank(message = "O nível do alerta é obrigatório.")
+    private String nivelAlerta;
+
+    @Schema(example = "Duas fontes preveem risco alto. Acompanhe as orientações da Defesa Civil.",
+            description = "Mensagem do alerta gerado")
+    @NotBlank(message = "A mensagem do alerta é obrigatória.")
+    private String mensagemAlerta;
+}
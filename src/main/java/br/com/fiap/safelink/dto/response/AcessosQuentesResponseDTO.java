@@ -0,0 +1,50 @@
+package br.com.fiap.safelink.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * # 📤 DTO: AcessosQuentesResponseDTO
+ *
+ * Rankings aproximados das regiões e dos formatos de filtro mais acessados recentemente.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Retornado pelo endpoint `GET /admin/hot`
+ * - Contagens são estimativas (Count-Min) e caem pela metade a cada meia-vida
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AcessosQuentesResponseDTO {
+
+    /** Intervalo, em segundos, em que as contagens caem pela metade. */
+    private long meiaVidaSegundos;
+
+    /** Regiões mais acessadas (chave = ID da região). */
+    private List<Item> regioes;
+
+    /** Assinaturas de consulta mais frequentes (rota + parâmetros informados + ordenação). */
+    private List<Item> filtros;
+
+    /**
+     * Item de um ranking.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        /** Chave rastreada. */
+        private String chave;
+
+        /** Contagem estimada (com decaimento). */
+        private long estimativa;
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.fiap.safelink.dto.response;
+
+import lombok.*;
+
+/**
+ * # 📤 DTO: AcuraciaFonteResponseDTO
+ *
+ * Placar de acurácia de uma fonte de previsões de risco frente aos eventos observados.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Retornado pelo endpoint `GET /previsoes-risco/acuracia`
+ * - Compara fontes: quais antecipam eventos e quais geram alarmes demais
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AcuraciaFonteResponseDTO {
+
+    /** Fonte da previsão (`N/D` quando não informada). */
+    private String fonte;
+
+    // ===========================
+    // 🔮 Previsões
+    // ===========================
+
+    /** Previsões no nível de alarme ou acima. */
+    private long alarmes;
+
+    /** Alarmes seguidos de evento na região dentro do horizonte. */
+    private long acertos;
+
+    /** Alarmes sem evento na região dentro do horizonte. */
+    private long falsosAlarmes;
+
+    /** Previsões abaixo do nível de alarme. */
+    private long previsoesSemAlarme;
+
+    // ===========================
+    // 🌪️ Eventos
+    // ===========================
+
+    /** Eventos observados nas regiões cobertas pela fonte. */
+    private long eventos;
+
+    /** Eventos precedidos por alarme da fonte dentro do horizonte. */
+    private long eventosAntecipados;
+
+    // ===========================
+    // 📊 Taxas
+    // ===========================
+
+    /** Fração dos eventos antecipados por alarme (nulo sem eventos). */
+    private Double taxaAcerto;
+
+    /** Fração dos alarmes sem evento (nulo sem alarmes). */
+    private Double taxaFalsoAlarme;
+}
@@ -0,0 +1,54 @@
+package br.com.fiap.safelink.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * # 📤 DTO: ConsultaLentaResponseDTO
+ *
+ * Comando SQL que passou do limite de duração, com o contexto que o originou.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Retornado pelo endpoint `GET /admin/sql-lentas`
+ * - `plano` só é preenchido para a amostra de consultas reexecutadas com `EXPLAIN (ANALYZE, BUFFERS)`
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsultaLentaResponseDTO {
+
+    /** Sequencial do registro. */
+    private long id;
+
+    /** Momento em que o comando terminou. */
+    private LocalDateTime registradaEm;
+
+    /** Duração do comando, em ms. */
+    private double duracaoMs;
+
+    /** SQL executado. */
+    private String sql;
+
+    /** Parâmetros vinculados, na ordem dos `?`. */
+    private List<String> parametros;
+
+    /** Método de serviço que executou o comando (`Classe.metodo:linha`). */
+    private String origem;
+
+    /** Método e URI da requisição HTTP (nulo fora de requisições). */
+    private String requisicao;
+
+    /** Registro de filtro da consulta, quando houver. */
+    private String filtro;
+
+    /** Saída do `EXPLAIN (ANALYZE, BUFFERS)`, quando amostrado. */
+    private String plano;
+}
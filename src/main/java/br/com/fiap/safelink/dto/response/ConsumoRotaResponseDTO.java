@@ -0,0 +1,47 @@
+package br.com.fiap.safelink.dto.response;
+
+import lombok.*;
+
+/**
+ * # 📤 DTO: ConsumoRotaResponseDTO
+ *
+ * Memória alocada e CPU consumidos pelas requisições de uma rota.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Retornado pelo endpoint `GET /admin/alocacao`, das rotas que mais alocam para as que menos alocam
+ * - Acumulado desde a subida, apenas sobre as requisições amostradas
+ * - Percentis são aproximados (baldes logarítmicos)
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsumoRotaResponseDTO {
+
+    /** Método e padrão da rota (`GET /alertas/filtro`). */
+    private String rota;
+
+    /** Requisições amostradas. */
+    private long requisicoes;
+
+    /** Fração de toda a memória alocada pelas requisições amostradas (0 a 1). */
+    private double fracaoAlocacao;
+
+    /** Memória alocada no total, em MB. */
+    private double alocadoTotalMb;
+
+    /** Memória alocada por requisição: média, p99 e máximo, em KB. */
+    private double alocadoMedioKb;
+    private double alocadoP99Kb;
+    private double alocadoMaximoKb;
+
+    /** CPU por requisição: média, p99 e máximo, em ms. */
+    private double cpuMediaMs;
+    private double cpuP99Ms;
+    private double cpuMaximoMs;
+}
@@ -0,0 +1,47 @@
+package br.com.fiap.safelink.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * # 📤 DTO: DisparoRegraResponseDTO
+ *
+ * Disparo (real ou simulado) de uma regra de alerta em uma região.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - `GET /regras-alerta/{id}/disparos` — histórico gravado
+ * - `POST /regras-alerta/simulacao` — disparos que teriam ocorrido (sem `id` e sem `alertaId`)
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DisparoRegraResponseDTO {
+
+    /** Identificador do disparo (nulo em simulações). */
+    private Long id;
+
+    /** Regra disparada (nulo ao simular uma regra não cadastrada). */
+    private Long regraId;
+
+    /** Nome da regra. */
+    private String regraNome;
+
+    /** Região em que a condição foi satisfeita. */
+    private Long regiaoId;
+
+    /** Instante do registro que completou a condição. */
+    private LocalDateTime disparadoEm;
+
+    /** Registros (ou fontes distintas) na janela. */
+    private int ocorrencias;
+
+    /** Alerta gerado (nulo em simulações). */
+    private Long alertaId;
+}
@@ -0,0 +1,42 @@
+package br.com.fiap.safelink.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * # 📤 DTO: GravacaoJfrResponseDTO
+ *
+ * Arquivo `.jfr` gerado a partir da gravação contínua do Flight Recorder.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Retornado pelo endpoint `POST /admin/jfr`
+ * - O arquivo fica no servidor, para ser copiado e aberto no JDK Mission Control (`jfr print` também lê)
+ * - O período é aproximado: o JFR grava em blocos, e o arquivo pode começar um pouco antes do pedido
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GravacaoJfrResponseDTO {
+
+    /** Caminho absoluto do arquivo no servidor. */
+    private String arquivo;
+
+    /** Tamanho do arquivo em bytes. */
+    private long tamanhoBytes;
+
+    /** Minutos pedidos. */
+    private int minutos;
+
+    /** Início do período pedido. */
+    private LocalDateTime inicio;
+
+    /** Momento da geração. */
+    private LocalDateTime fim;
+}
@@ -0,0 +1,69 @@
+package br.com.fiap.safelink.dto.response;
+
+import br.com.fiap.safelink.model.enums.GranularidadeTempo;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * # 📤 DTO: HistogramaEventoResponseDTO
+ *
+ * Série temporal de eventos naturais agregados por bucket de tempo.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Retornado pelo endpoint `GET /eventos-naturais/histograma`
+ * - Alimenta gráficos históricos (horas, dias ou meses) no front-end
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistogramaEventoResponseDTO {
+
+    // ===========================
+    // 🔎 Critérios aplicados
+    // ===========================
+
+    /** Granularidade usada (informada ou escolhida pelo intervalo). */
+    private GranularidadeTempo granularidade;
+
+    /** Região filtrada (nulo = todas). */
+    private Long regiaoId;
+
+    /** Tipo filtrado (nulo = todos). */
+    private String tipo;
+
+    /** Início do intervalo consultado. */
+    private LocalDateTime dataInicio;
+
+    /** Fim (exclusivo) do intervalo consultado. */
+    private LocalDateTime dataFim;
+
+    // ===========================
+    // 📈 Série
+    // ===========================
+
+    /** Buckets com quantidade maior que zero, em ordem cronológica. */
+    private List<Bucket> buckets;
+
+    /**
+     * Ponto da série: início do bucket e quantidade de eventos.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+
+        /** Início do bucket. */
+        private LocalDateTime inicio;
+
+        /** Quantidade de eventos no bucket. */
+        private long quantidade;
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.fiap.safelink.dto.response;
+
+import br.com.fiap.safelink.model.enums.EscopoPainel;
+import br.com.fiap.safelink.model.enums.TipoRegistro;
+import lombok.*;
+
+/**
+ * # 📤 DTO: PainelContadorResponseDTO
+ *
+ * Linha do painel de risco: quantidade de registros de um tipo/categoria
+ * em um nível da hierarquia geográfica, nas últimas 24 horas e 7 dias.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Retornado pelo endpoint `GET /painel/risco`
+ * - Alimenta as telas de operação sem paginar os endpoints de filtro
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PainelContadorResponseDTO {
+
+    // ===========================
+    // 🧭 Localização
+    // ===========================
+
+    /** Nível da hierarquia (ESTADO, CIDADE ou REGIAO). */
+    private EscopoPainel escopo;
+
+    /** UF à qual o agregado pertence. */
+    private String estado;
+
+    /** Chave do local (UF, UF/cidade ou ID da região). */
+    private String local;
+
+    /** Nome legível do local. */
+    private String nome;
+
+    // ===========================
+    // 📊 Contagens
+    // ===========================
+
+    /** Tipo de registro contado (ALERTA, EVENTO_NATURAL, RELATO_USUARIO). */
+    private TipoRegistro tipoRegistro;
+
+    /** Categoria: nível de risco (alertas), tipo (eventos) ou TOTAL (relatos). */
+    private String categoria;
+
+    /** Registros nas últimas 24 horas. */
+    private long ultimas24h;
+
+    /** Registros nos últimos 7 dias. */
+    private long ultimos7d;
+}
@@ -0,0 +1,69 @@
+package br.com.fiap.safelink.dto.response;
+
+import br.com.fiap.safelink.model.enums.TipoRegistro;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * # 📤 DTO: PicoAtividadeResponseDTO
+ *
+ * Pico de atividade (relatos ou eventos) detectado em uma região,
+ * comparando a janela deslizante com a linha de base aprendida.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Retornado pelo endpoint `GET /painel/picos`
+ * - Sinaliza incidentes antes que um administrador consulte os dados
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PicoAtividadeResponseDTO {
+
+    // ===========================
+    // 🌍 Origem
+    // ===========================
+
+    /** ID da região do pico. */
+    private Long regiaoId;
+
+    /** Nome da região. */
+    private String nomeRegiao;
+
+    /** Tipo de registro monitorado (EVENTO_NATURAL ou RELATO_USUARIO). */
+    private TipoRegistro tipoRegistro;
+
+    /** Tipo do evento ou `TOTAL` para relatos. */
+    private String categoria;
+
+    // ===========================
+    // 📈 Medições
+    // ===========================
+
+    /** Indica se o pico ainda está em andamento. */
+    private boolean ativo;
+
+    /** Momento da detecção. */
+    private LocalDateTime inicio;
+
+    /** Momento em que a atividade voltou ao normal (nulo se ativo). */
+    private LocalDateTime fim;
+
+    /** Tamanho da janela deslizante, em minutos. */
+    private int janelaMinutos;
+
+    /** Maior quantidade de registros observada na janela durante o pico. */
+    private long registrosJanela;
+
+    /** Quantidade esperada na janela segundo a linha de base. */
+    private double esperadoJanela;
+
+    /** Distância da observação à base, em desvios-padrão. */
+    private double desvios;
+}
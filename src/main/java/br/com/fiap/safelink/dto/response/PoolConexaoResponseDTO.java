@@ -0,0 +1,66 @@
+package br.com.fiap.safelink.dto.response;
+
+import lombok.*;
+
+/**
+ * # 📤 DTO: PoolConexaoResponseDTO
+ *
+ * Situação de um pool de conexões (servidor + classe de carga) e latências de espera e uso.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Retornado pelo endpoint `GET /admin/pools`
+ * - Percentis são aproximados (baldes logarítmicos) e acumulados desde a subida
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoolConexaoResponseDTO {
+
+    /** Servidor do pool (`primario`, `replica-1`, ...). */
+    private String servidor;
+
+    /** Nome do pool no Hikari. */
+    private String nome;
+
+    /** Classe de carga atendida (`interativo`, `relatorio`, `lote`). */
+    private String classe;
+
+    /** Tamanho máximo do pool. */
+    private int maximo;
+
+    /** Conexões em uso. */
+    private int ativas;
+
+    /** Conexões ociosas. */
+    private int ociosas;
+
+    /** Threads aguardando conexão. */
+    private int aguardando;
+
+    /** Fração do pool em uso (0 a 1). */
+    private double saturacao;
+
+    /** Espera média por conexão, em ms. */
+    private double esperaMediaMs;
+
+    /** Espera p99 por conexão, em ms. */
+    private double esperaP99Ms;
+
+    /** Maior espera por conexão, em ms. */
+    private double esperaMaximaMs;
+
+    /** Pedidos de conexão que desistiram por timeout de fila. */
+    private long timeoutsFila;
+
+    /** Tempo médio com a conexão emprestada, em ms. */
+    private double usoMedioMs;
+
+    /** Tempo p99 com a conexão emprestada, em ms. */
+    private double usoP99Ms;
+}
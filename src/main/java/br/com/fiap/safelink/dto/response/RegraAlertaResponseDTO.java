@@ -0,0 +1,62 @@
+package br.com.fiap.safelink.dto.response;
+
+import br.com.fiap.safelink.model.enums.NivelRisco;
+import br.com.fiap.safelink.model.enums.TipoRegistro;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * # 📤 DTO: RegraAlertaResponseDTO
+ *
+ * Representa uma regra de alerta automático cadastrada.
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegraAlertaResponseDTO {
+
+    /** Identificador da regra. */
+    private Long id;
+
+    /** Nome descritivo. */
+    private String nome;
+
+    /** Se a regra participa da avaliação. */
+    private boolean ativa;
+
+    /** Registro observado. */
+    private TipoRegistro tipoRegistro;
+
+    /** Região observada (nulo = todas). */
+    private Long regiaoId;
+
+    /** Tipo do evento exigido (nulo = qualquer). */
+    private String categoria;
+
+    /** Nível mínimo previsto (nulo = qualquer). */
+    private NivelRisco nivelMinimo;
+
+    /** Quantidade exigida na janela. */
+    private int quantidadeMinima;
+
+    /** Se conta fontes distintas. */
+    private boolean fontesDistintas;
+
+    /** Janela em horas. */
+    private int janelaHoras;
+
+    /** Nível do alerta gerado. */
+    private String nivelAlerta;
+
+    /** Mensagem do alerta gerado. */
+    private String mensagemAlerta;
+
+    /** Data de criação. */
+    private LocalDateTime dataCriacao;
+}
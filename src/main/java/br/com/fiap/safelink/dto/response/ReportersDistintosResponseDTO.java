@@ -0,0 +1,44 @@
+package br.com.fiap.safelink.dto.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * # 📤 DTO: ReportersDistintosResponseDTO
+ *
+ * Estimativa de usuários distintos que enviaram relatos em uma janela de tempo.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Retornado pelo endpoint `GET /relatos-usuario/reporters-distintos`
+ * - Indica a credibilidade de uma ocorrência (muitos relatos de poucos usuários pesam menos)
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportersDistintosResponseDTO {
+
+    /** Região consultada (nulo = todas). */
+    private Long regiaoId;
+
+    /** Início da janela, alinhado à hora. */
+    private LocalDateTime dataInicio;
+
+    /** Fim exclusivo da janela, alinhado à hora. */
+    private LocalDateTime dataFim;
+
+    /** Quantidade de sketches horários unidos (horas com ao menos um relato). */
+    private int horasComRelatos;
+
+    /** Estimativa de usuários distintos que relataram na janela. */
+    private long reportersDistintos;
+
+    /** Erro relativo padrão da estimativa (ex.: 0,008 = 0,8%). */
+    private double erroPadraoRelativo;
+}
@@ -0,0 +1,98 @@
+package br.com.fiap.safelink.dto.response;
+
+import br.com.fiap.safelink.model.enums.NivelRisco;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * # 📤 DTO: RiscoRegiaoResponseDTO
+ *
+ * Risco atual consolidado de uma região: previsões vigentes por fonte,
+ * alertas ativos e intensidade recente de eventos e relatos.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Retornado por `GET /regioes/{id}/risco` e `GET /regioes/risco`
+ * - Respondido a partir do motor de risco em memória (sem acesso ao banco)
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RiscoRegiaoResponseDTO {
+
+    // ===========================
+    // 🌍 Região
+    // ===========================
+
+    /** ID da região. */
+    private Long regiaoId;
+
+    /** Nome da região. */
+    private String nome;
+
+    /** Cidade da região. */
+    private String cidade;
+
+    /** UF da região. */
+    private String estado;
+
+    // ===========================
+    // 🚦 Risco consolidado
+    // ===========================
+
+    /** Nível consolidado, derivado da pontuação. */
+    private NivelRisco nivel;
+
+    /** Pontuação consolidada (0–100). */
+    private int pontuacao;
+
+    // ===========================
+    // 🧩 Componentes
+    // ===========================
+
+    /** Maior nível entre as previsões vigentes (nulo se não houver). */
+    private NivelRisco nivelPrevisto;
+
+    /** Previsão mais recente de cada fonte, dentro da validade. */
+    private List<PrevisaoFonte> previsoes;
+
+    /** Maior nível entre os alertas ativos (nulo se não houver). */
+    private NivelRisco nivelAlerta;
+
+    /** Quantidade de alertas ativos. */
+    private int alertasAtivos;
+
+    /** Eventos recentes, com peso decaindo pela meia-vida configurada. */
+    private double intensidadeEventos;
+
+    /** Relatos recentes, com peso decaindo pela meia-vida configurada. */
+    private double intensidadeRelatos;
+
+    /** Momento da última alteração do estado da região. */
+    private LocalDateTime atualizadoEm;
+
+    /**
+     * Previsão vigente de uma fonte.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PrevisaoFonte {
+
+        /** Fonte da previsão (modelo, serviço meteorológico etc.). */
+        private String fonte;
+
+        /** Nível previsto. */
+        private NivelRisco nivel;
+
+        /** Data de geração da previsão. */
+        private LocalDateTime geradoEm;
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.fiap.safelink.event;
+
+import br.com.fiap.safelink.model.Alerta;
+
+/**
+ * 📣 Evento de domínio publicado quando um novo `Alerta` é gravado.
+ *
+ * Consumido após o commit da transação por componentes que mantêm
+ * estado derivado em memória (painéis, índices e detectores).
+ *
+ * @param alerta entidade recém-persistida (com a região carregada)
+ */
+public record AlertaGravadoEvent(Alerta alerta) {
+}
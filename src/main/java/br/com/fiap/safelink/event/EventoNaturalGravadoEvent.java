@@ -0,0 +1,14 @@
+package br.com.fiap.safelink.event;
+
+import br.com.fiap.safelink.model.EventoNatural;
+
+/**
+ * 📣 Evento de domínio publicado quando um novo `EventoNatural` é gravado.
+ *
+ * Consumido após o commit da transação por componentes que mantêm
+ * estado derivado em memória (painéis, índices e detectores).
+ *
+ * @param evento entidade recém-persistida (com a região carregada)
+ */
+public record EventoNaturalGravadoEvent(EventoNatural evento) {
+}
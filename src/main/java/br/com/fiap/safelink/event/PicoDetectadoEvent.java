@@ -0,0 +1,18 @@
+package br.com.fiap.safelink.event;
+
+import br.com.fiap.safelink.model.enums.TipoRegistro;
+
+/**
+ * 📣 Evento publicado quando o detector identifica um pico de atividade em uma região.
+ *
+ * @param regiaoId        região do pico
+ * @param nomeRegiao      nome da região
+ * @param tipoRegistro    tipo de registro (EVENTO_NATURAL ou RELATO_USUARIO)
+ * @param categoria       tipo do evento ou `TOTAL` para relatos
+ * @param registrosJanela registros observados na janela
+ * @param esperadoJanela  registros esperados pela linha de base
+ * @param janelaMinutos   tamanho da janela em minutos
+ */
+public record PicoDetectadoEvent(Long regiaoId, String nomeRegiao, TipoRegistro tipoRegistro, String categoria,
+                                 long registrosJanela, double esperadoJanela, int janelaMinutos) {
+}
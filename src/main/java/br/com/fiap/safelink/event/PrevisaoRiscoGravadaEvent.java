@@ -0,0 +1,14 @@
+package br.com.fiap.safelink.event;
+
+import br.com.fiap.safelink.model.PrevisaoRisco;
+
+/**
+ * 📣 Evento de domínio publicado quando uma `PrevisaoRisco` é gravada ou atualizada.
+ *
+ * Consumido após o commit da transação por componentes que mantêm
+ * estado derivado em memória (painéis, índices e detectores).
+ *
+ * @param previsao entidade persistida (com a região carregada)
+ */
+public record PrevisaoRiscoGravadaEvent(PrevisaoRisco previsao) {
+}
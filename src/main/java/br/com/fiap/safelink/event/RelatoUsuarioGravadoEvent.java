@@ -0,0 +1,14 @@
+package br.com.fiap.safelink.event;
+
+import br.com.fiap.safelink.model.RelatoUsuario;
+
+/**
+ * 📣 Evento de domínio publicado quando um novo `RelatoUsuario` é gravado.
+ *
+ * Consumido após o commit da transação por componentes que mantêm
+ * estado derivado em memória (painéis, índices e detectores).
+ *
+ * @param relato entidade recém-persistida (com região e usuário carregados)
+ */
+public record RelatoUsuarioGravadoEvent(RelatoUsuario relato) {
+}
@@ -0,0 +1,12 @@
+package br.com.fiap.safelink.event;
+
+/**
+ * 📣 Evento de domínio publicado quando um `User` é cadastrado ou tem o e-mail alterado.
+ *
+ * Consumido após o commit da transação pelo filtro de Bloom de e-mails,
+ * para que nenhuma reconstrução do filtro deixe de enxergar o cadastro.
+ *
+ * @param email e-mail gravado
+ */
+public record UsuarioGravadoEvent(String email) {
+}
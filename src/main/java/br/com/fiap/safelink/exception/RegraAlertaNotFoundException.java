@@ -0,0 +1,28 @@
+package br.com.fiap.safelink.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * ❌ Exceção lançada quando uma RegraAlerta não é encontrada.
+ *
+ * ---
+ * Pode ocorrer nas operações de:
+ * - Consulta por ID
+ * - Atualização
+ * - Remoção
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public class RegraAlertaNotFoundException extends ResponseStatusException {
+
+    /**
+     * Construtor padrão com ID ausente.
+     *
+     * @param id identificador da regra
+     */
+    public RegraAlertaNotFoundException(Long id) {
+        super(HttpStatus.NOT_FOUND, "Regra de alerta não encontrada para o ID: " + id);
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.fiap.safelink.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * # 🎯 Entidade: AcuraciaPrevisao
+ *
+ * Placar diário de uma fonte de previsões em uma região: alarmes emitidos, acertos,
+ * falsos alarmes e eventos observados/antecipados.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Gravada pelo job de acurácia (`AcuraciaPrevisaoService`), região a região
+ * - Alarmes são contados no dia da previsão; eventos, no dia da ocorrência
+ * - Base do endpoint `GET /previsoes-risco/acuracia`
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_acuracia_previsao", uniqueConstraints = @UniqueConstraint(
+        name = "uk_acuracia_previsao",
+        columnNames = {"id_regiao", "ds_fonte", "dt_dia"}))
+public class AcuraciaPrevisao {
+
+    // ===========================
+    // 🔑 Identificação
+    // ===========================
+
+    /** Identificador técnico do placar. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_acuracia_previsao")
+    private Long id;
+
+    /** Região avaliada. */
+    @Column(name = "id_regiao", nullable = false)
+    private Long regiaoId;
+
+    /** Fonte da previsão, normalizada em maiúsculas (`N/D` quando ausente). */
+    @Column(name = "ds_fonte", nullable = false)
+    private String fonte;
+
+    /** Dia do placar. */
+    @Column(name = "dt_dia", nullable = false)
+    private LocalDate dia;
+
+    // ===========================
+    // 🔮 Previsões do dia
+    // ===========================
+
+    /** Previsões com nível igual ou acima do nível de alarme. */
+    @Column(name = "qt_alarmes", nullable = false)
+    private int alarmes;
+
+    /** Alarmes seguidos de ao menos um evento na região dentro do horizonte. */
+    @Column(name = "qt_acertos", nullable = false)
+    private int acertos;
+
+    /** Alarmes sem evento na região dentro do horizonte. */
+    @Column(name = "qt_falsos_alarmes", nullable = false)
+    private int falsosAlarmes;
+
+    /** Previsões abaixo do nível de alarme. */
+    @Column(name = "qt_previsoes_sem_alarme", nullable = false)
+    private int previsoesSemAlarme;
+
+    // ===========================
+    // 🌪️ Eventos do dia
+    // ===========================
+
+    /** Eventos ocorridos na região. */
+    @Column(name = "qt_eventos", nullable = false)
+    private int eventos;
+
+    /** Eventos precedidos por um alarme da fonte dentro do horizonte. */
+    @Column(name = "qt_eventos_antecipados", nullable = false)
+    private int eventosAntecipados;
+}
@@ -59,7 +59,7 @@ public class Alerta {
     // ===========================
 
     /** Região afetada pelo alerta */
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "id_regiao", nullable = false)
     private Regiao regiao;
 
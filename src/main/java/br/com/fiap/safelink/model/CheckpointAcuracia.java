@@ -0,0 +1,39 @@
+package br.com.fiap.safelink.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * # 📍 Entidade: CheckpointAcuracia
+ *
+ * Progresso do job de acurácia de previsões em uma região: todos os dias anteriores a
+ * `processadoAte` já têm placar gravado.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Atualizado na mesma transação que grava cada bloco de dias da região
+ * - Um job interrompido retoma do checkpoint, sem refazer blocos concluídos
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_checkpoint_acuracia")
+public class CheckpointAcuracia {
+
+    /** Região do checkpoint. */
+    @Id
+    @Column(name = "id_regiao")
+    private Long regiaoId;
+
+    /** Primeiro dia ainda não processado (exclusivo). */
+    @Column(name = "dt_processado_ate", nullable = false)
+    private LocalDate processadoAte;
+}
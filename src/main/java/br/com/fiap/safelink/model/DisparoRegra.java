@@ -0,0 +1,80 @@
+package br.com.fiap.safelink.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * # 🔔 Entidade: DisparoRegra
+ *
+ * Registro de cada disparo de uma `RegraAlerta` em uma região, com o alerta gerado.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Auditoria das regras automáticas
+ * - Deduplicação: uma regra não dispara de novo na mesma região dentro da sua janela
+ *
+ * ---
+ * ## 🔗 Relacionamentos
+ * - N:1 com `RegraAlerta` e `Regiao`
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_disparo_regra", indexes = @Index(
+        name = "ix_disparo_regra_regiao", columnList = "id_regra_alerta, id_regiao, dt_disparo"))
+public class DisparoRegra {
+
+    // ===========================
+    // 🔑 Identificação
+    // ===========================
+
+    /** Identificador único do disparo. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_disparo_regra")
+    private Long id;
+
+    // ===========================
+    // 🔗 Relacionamentos
+    // ===========================
+
+    /** Regra disparada. */
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_regra_alerta", nullable = false)
+    private RegraAlerta regra;
+
+    /** Região em que a condição foi satisfeita. */
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_regiao", nullable = false)
+    private Regiao regiao;
+
+    /** ID do alerta gerado (sem chave estrangeira: o alerta pode ser excluído depois). */
+    @Column(name = "id_alerta")
+    private Long alertaId;
+
+    // ===========================
+    // 📊 Detalhes
+    // ===========================
+
+    /** Instante do registro que completou a condição. */
+    @Column(name = "dt_disparo", nullable = false)
+    private LocalDateTime disparadoEm;
+
+    /** Registros (ou fontes distintas) contados na janela no momento do disparo. */
+    @Column(name = "qt_ocorrencias", nullable = false)
+    private int ocorrencias;
+
+    /** Timestamp de gravação do disparo. */
+    @CreationTimestamp
+    @Column(name = "dt_criacao", updatable = false)
+    private LocalDateTime dataCriacao;
+}
@@ -68,7 +68,7 @@ public class EventoNatural {
     // ===========================
 
     /** Região onde o evento foi registrado. */
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "id_regiao", nullable = false)
     private Regiao regiao;
 
@@ -0,0 +1,73 @@
+package br.com.fiap.safelink.model;
+
+import br.com.fiap.safelink.model.enums.GranularidadeTempo;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * # 📈 Entidade: HistogramaEvento
+ *
+ * Tabela de rollup com a quantidade de eventos naturais por bucket de tempo,
+ * região e tipo, nas granularidades hora, dia e mês.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Mantida incrementalmente pelo `EventoNaturalService` (mesma transação da gravação)
+ * - Reprocessada por mês pelo job de backfill
+ * - Base do endpoint `GET /eventos-naturais/histograma`
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_histograma_evento", uniqueConstraints = @UniqueConstraint(
+        name = "uk_histograma_evento_bucket",
+        columnNames = {"tp_granularidade", "dt_bucket", "id_regiao", "ds_tipo"}))
+public class HistogramaEvento {
+
+    // ===========================
+    // 🔑 Identificação
+    // ===========================
+
+    /** Identificador técnico do bucket. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_histograma_evento")
+    private Long id;
+
+    // ===========================
+    // 🪣 Bucket
+    // ===========================
+
+    /** Granularidade do bucket (HORA, DIA, MES). */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tp_granularidade", nullable = false, length = 10)
+    private GranularidadeTempo granularidade;
+
+    /** Início do bucket (data truncada na granularidade). */
+    @Column(name = "dt_bucket", nullable = false)
+    private LocalDateTime inicio;
+
+    /** Região dos eventos contados. */
+    @Column(name = "id_regiao", nullable = false)
+    private Long regiaoId;
+
+    /** Tipo do evento, normalizado em maiúsculas. */
+    @Column(name = "ds_tipo", nullable = false)
+    private String tipo;
+
+    // ===========================
+    // 📊 Contagem
+    // ===========================
+
+    /** Quantidade de eventos no bucket. */
+    @Column(name = "qt_eventos", nullable = false)
+    private Long quantidade;
+}
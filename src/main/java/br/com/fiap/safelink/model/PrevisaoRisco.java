@@ -68,7 +68,7 @@ public class PrevisaoRisco {
     // ===========================
 
     /** Região associada à previsão de risco. */
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "id_regiao", nullable = false)
     private Regiao regiao;
 
@@ -0,0 +1,119 @@
+package br.com.fiap.safelink.model;
+
+import br.com.fiap.safelink.model.enums.NivelRisco;
+import br.com.fiap.safelink.model.enums.TipoRegistro;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * # 📐 Entidade: RegraAlerta
+ *
+ * Regra declarativa de geração automática de alertas, avaliada a cada gravação
+ * de previsões, eventos naturais e relatos.
+ *
+ * ---
+ * ## 📌 Exemplo
+ * "Se 2 fontes distintas preverem risco ALTO na mesma região em até 6 horas, emitir alerta":
+ * - `tipoRegistro` = PREVISAO_RISCO, `nivelMinimo` = ALTO
+ * - `quantidadeMinima` = 2, `fontesDistintas` = true, `janelaHoras` = 6
+ *
+ * ---
+ * ## 🔗 Relacionamentos
+ * - N:1 com `Regiao` (opcional — sem região, vale para todas)
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_regra_alerta")
+public class RegraAlerta {
+
+    // ===========================
+    // 🔑 Identificação
+    // ===========================
+
+    /** Identificador único da regra. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_regra_alerta")
+    private Long id;
+
+    /** Nome descritivo da regra. */
+    @NotBlank(message = "O nome da regra é obrigatório.")
+    @Column(name = "nm_regra", nullable = false)
+    private String nome;
+
+    /** Indica se a regra participa da avaliação. */
+    @Column(name = "fl_ativa", nullable = false)
+    private boolean ativa;
+
+    // ===========================
+    // 🎯 Condição
+    // ===========================
+
+    /** Tipo de registro observado (PREVISAO_RISCO, EVENTO_NATURAL ou RELATO_USUARIO). */
+    @NotNull(message = "O tipo de registro é obrigatório.")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tp_registro", nullable = false, length = 30)
+    private TipoRegistro tipoRegistro;
+
+    /** Região observada (nulo = qualquer região). */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_regiao")
+    private Regiao regiao;
+
+    /** Tipo do evento natural exigido (apenas EVENTO_NATURAL; nulo = qualquer). */
+    @Column(name = "ds_categoria")
+    private String categoria;
+
+    /** Nível mínimo previsto (apenas PREVISAO_RISCO; nulo = qualquer). */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tp_nivel_minimo", length = 20)
+    private NivelRisco nivelMinimo;
+
+    /** Quantidade de registros (ou de fontes distintas) exigida dentro da janela. */
+    @Min(value = 1, message = "A quantidade mínima deve ser ao menos 1.")
+    @Column(name = "qt_minima", nullable = false)
+    private int quantidadeMinima;
+
+    /** Conta fontes distintas em vez de registros (apenas PREVISAO_RISCO). */
+    @Column(name = "fl_fontes_distintas", nullable = false)
+    private boolean fontesDistintas;
+
+    /** Janela de observação em horas; também é o intervalo mínimo entre disparos por região. */
+    @Min(value = 1, message = "A janela deve ser de ao menos 1 hora.")
+    @Column(name = "qt_janela_horas", nullable = false)
+    private int janelaHoras;
+
+    // ===========================
+    // 🚨 Alerta emitido
+    // ===========================
+
+    /** Nível de risco do alerta gerado. */
+    @NotBlank(message = "O nível do alerta é obrigatório.")
+    @Column(name = "ds_nivel_alerta", nullable = false)
+    private String nivelAlerta;
+
+    /** Mensagem do alerta gerado. */
+    @NotBlank(message = "A mensagem do alerta é obrigatória.")
+    @Column(name = "ds_mensagem_alerta", nullable = false)
+    private String mensagemAlerta;
+
+    // ===========================
+    // 🕒 Controle de criação
+    // ===========================
+
+    /** Timestamp de criação da regra. */
+    @CreationTimestamp
+    @Column(name = "dt_criacao", updatable = false)
+    private LocalDateTime dataCriacao;
+}
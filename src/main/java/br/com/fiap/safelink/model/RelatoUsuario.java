@@ -66,12 +66,12 @@ public class RelatoUsuario {
     // ===========================
 
     /** Usuário que realizou o relato. */
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "id_usuario", nullable = false)
     private User usuario;
 
     /** Região onde o relato foi feito ou observado. */
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "id_regiao", nullable = false)
     private Regiao regiao;
 
@@ -0,0 +1,63 @@
+package br.com.fiap.safelink.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * # 🔢 Entidade: SketchRelatoHora
+ *
+ * Sketch HyperLogLog dos usuários distintos que enviaram relatos em uma região
+ * durante uma hora.
+ *
+ * ---
+ * ## 📌 Utilização
+ * - Mantido pelo `ReporterDistintoService` na mesma transação da gravação do relato
+ * - Janelas arbitrárias são respondidas pela união dos sketches horários
+ * - Base do endpoint `GET /relatos-usuario/reporters-distintos`
+ *
+ * ---
+ * @author Rafael
+ * @version 1.0
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_sketch_relato_hora", uniqueConstraints = @UniqueConstraint(
+        name = "uk_sketch_relato_hora",
+        columnNames = {"id_regiao", "dt_hora"}))
+public class SketchRelatoHora {
+
+    // ===========================
+    // 🔑 Identificação
+    // ===========================
+
+    /** Identificador técnico do sketch. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_sketch_relato_hora")
+    private Long id;
+
+    // ===========================
+    // 🪣 Bucket
+    // ===========================
+
+    /** Região dos relatos. */
+    @Column(name = "id_regiao", nullable = false)
+    private Long regiaoId;
+
+    /** Início da hora (data truncada na hora). */
+    @Column(name = "dt_hora", nullable = false)
+    private LocalDateTime hora;
+
+    // ===========================
+    // 🔢 Sketch
+    // ===========================
+
+    /** Registradores do HyperLogLog serializados (formato esparso ou denso). */
+    @Column(name = "bt_sketch", nullable = false)
+    private byte[] sketch;
+}
@@ -0,0 +1,22 @@
+package br.com.fiap.safelink.model.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 🧭 Enumeração: EscopoPainel
+ *
+ * Níveis da hierarquia geográfica usados na consolidação do painel de risco
+ * (estado → cidade → região).
+ */
+@Schema(description = "Nível da hierarquia geográfica do painel de risco.")
+public enum EscopoPainel {
+
+    @Schema(description = "Consolidação por UF")
+    ESTADO,
+
+    @Schema(description = "Consolidação por cidade (UF/cidade)")
+    CIDADE,
+
+    @Schema(description = "Consolidação por região monitorada")
+    REGIAO
+}
@@ -0,0 +1,33 @@
+package br.com.fiap.safelink.model.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * ⏳ Enumeração: GranularidadeTempo
+ *
+ * Tamanho dos buckets de tempo usados nos histogramas pré-agregados.
+ * Cada valor conhece a unidade equivalente do `date_trunc` do PostgreSQL.
+ */
+@Schema(description = "Granularidade dos buckets de tempo dos histogramas.")
+public enum GranularidadeTempo {
+
+    @Schema(description = "Bucket de uma hora")
+    HORA("hour"),
+
+    @Schema(description = "Bucket de um dia")
+    DIA("day"),
+
+    @Schema(description = "Bucket de um mês")
+    MES("month");
+
+    private final String unidadeSql;
+
+    GranularidadeTempo(String unidadeSql) {
+        this.unidadeSql = unidadeSql;
+    }
+
+    /** Unidade aceita pelo `date_trunc` do PostgreSQL. */
+    public String getUnidadeSql() {
+        return unidadeSql;
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.fiap.safelink.model.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 🚦 Enumeração: NivelRisco
+ *
+ * Escala ordenada de risco usada pelo motor de risco por região.
+ * Alertas e previsões gravam o nível como texto livre; {@link #interpretar(String)}
+ * converte as grafias usuais (com ou sem acento, "MÉDIO"/"MODERADO").
+ */
+@Schema(description = "Nível de risco consolidado.")
+public enum NivelRisco {
+
+    @Schema(description = "Risco baixo")
+    BAIXO(10),
+
+    @Schema(description = "Risco moderado (também aceito como MÉDIO)")
+    MODERADO(35),
+
+    @Schema(description = "Risco alto")
+    ALTO(60),
+
+    @Schema(description = "Risco crítico")
+    CRITICO(85);
+
+    private final int peso;
+
+    NivelRisco(int peso) {
+        this.peso = peso;
+    }
+
+    /** Pontuação base (0–100) atribuída a este nível. */
+    public int getPeso() {
+        return peso;
+    }
+
+    /**
+     * Converte o texto gravado em alertas/previsões para o enum.
+     *
+     * @param texto nível informado (ex: "Alto", "MÉDIO", "crítico")
+     * @return nível correspondente, ou vazio se o texto não for reconhecido
+     */
+    public static Optional<NivelRisco> interpretar(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return Optional.empty();
+        }
+        String normalizado = Normalizer.normalize(texto.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toUpperCase(Locale.ROOT);
+        return switch (normalizado) {
+            case "BAIXO" -> Optional.of(BAIXO);
+            case "MEDIO", "MODERADO" -> Optional.of(MODERADO);
+            case "ALTO" -> Optional.of(ALTO);
+            case "CRITICO", "MUITO ALTO", "EXTREMO" -> Optional.of(CRITICO);
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * Nível correspondente a uma pontuação consolidada (0–100).
+     */
+    public static NivelRisco dePontuacao(int pontuacao) {
+        if (pontuacao >= CRITICO.peso) {
+            return CRITICO;
+        }
+        if (pontuacao >= ALTO.peso) {
+            return ALTO;
+        }
+        if (pontuacao >= MODERADO.peso) {
+            return MODERADO;
+        }
+        return BAIXO;
+    }
+}
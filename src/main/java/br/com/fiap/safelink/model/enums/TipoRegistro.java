@@ -0,0 +1,25 @@
+package br.com.fiap.safelink.model.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 🗂️ Enumeração: TipoRegistro
+ *
+ * Identifica o tipo de registro monitorado pelos componentes de agregação
+ * (painéis, índices de risco e detectores).
+ */
+@Schema(description = "Tipos de registro monitorados pelo SafeLink.")
+public enum TipoRegistro {
+
+    @Schema(description = "Alerta de risco emitido")
+    ALERTA,
+
+    @Schema(description = "Evento natural ocorrido")
+    EVENTO_NATURAL,
+
+    @Schema(description = "Relato enviado por usuário")
+    RELATO_USUARIO,
+
+    @Schema(description = "Previsão de risco gerada")
+    PREVISAO_RISCO
+}
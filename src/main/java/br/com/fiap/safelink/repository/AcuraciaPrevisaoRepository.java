@@ -0,0 +1,115 @@
+package br.com.fiap.safelink.repository;
+
+import br.com.fiap.safelink.model.AcuraciaPrevisao;
+import br.com.fiap.safelink.repository.projection.AcuraciaFonte;
+import br.com.fiap.safelink.repository.projection.InicioFonte;
+import br.com.fiap.safelink.repository.projection.OcorrenciaRegiao;
+import br.com.fiap.safelink.repository.projection.PrevisaoAvaliada;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 📁 Repositório JPA para a entidade {@link AcuraciaPrevisao}.
+ *
+ * Leituras por região usadas pelo job de acurácia e consulta do placar consolidado.
+ *
+ * ---
+ * ### Funcionalidades oferecidas:
+ * - 🗺️ `buscarInicioPorRegiao()` — regiões com previsões e a data da primeira previsão
+ * - 📡 `buscarFontes(...)` — fontes que cobrem a região
+ * - 🔮 `buscarPrevisoes(...)` / 🌪️ `buscarEventos(...)` — dados de um bloco de uma região
+ * - 🧹 `excluirBloco(...)` — limpa o placar de um bloco antes de regravá-lo
+ * - 🎯 `somarPorFonte(...)` — placar somado por fonte
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Repository
+public interface AcuraciaPrevisaoRepository extends JpaRepository<AcuraciaPrevisao, Long> {
+
+    /**
+     * 🗺️ Data da primeira previsão de cada região que tem previsões.
+     */
+    @Query(value = """
+            select id_regiao as regiaoId, min(dt_gerado_em) as dataHora
+              from tb_previsao_risco
+             group by id_regiao
+             order by id_regiao
+            """, nativeQuery = true)
+    List<OcorrenciaRegiao> buscarInicioPorRegiao();
+
+    /**
+     * 📡 Fontes que já fizeram previsões para a região antes de `fim`, com a data da primeira previsão.
+     */
+    @Query(value = """
+            select coalesce(nullif(upper(trim(ds_fonte)), ''), 'N/D') as fonte, min(dt_gerado_em) as inicio
+              from tb_previsao_risco
+             where id_regiao = :regiaoId and dt_gerado_em < :fim
+             group by 1
+            """, nativeQuery = true)
+    List<InicioFonte> buscarFontes(@Param("regiaoId") Long regiaoId, @Param("fim") LocalDateTime fim);
+
+    /**
+     * 🔮 Previsões da região no intervalo, em ordem cronológica, com a fonte normalizada.
+     */
+    @Query(value = """
+            select dt_gerado_em as geradoEm,
+                   coalesce(nullif(upper(trim(ds_fonte)), ''), 'N/D') as fonte,
+                   ds_nivel_previsto as nivelPrevisto
+              from tb_previsao_risco
+             where id_regiao = :regiaoId and dt_gerado_em >= :inicio and dt_gerado_em < :fim
+             order by dt_gerado_em
+            """, nativeQuery = true)
+    List<PrevisaoAvaliada> buscarPrevisoes(@Param("regiaoId") Long regiaoId,
+                                           @Param("inicio") LocalDateTime inicio,
+                                           @Param("fim") LocalDateTime fim);
+
+    /**
+     * 🌪️ Instantes dos eventos da região no intervalo, em ordem cronológica.
+     */
+    @Query("""
+            select e.dataOcorrencia from EventoNatural e
+             where e.regiao.id = :regiaoId and e.dataOcorrencia >= :inicio and e.dataOcorrencia < :fim
+             order by e.dataOcorrencia
+            """)
+    List<LocalDateTime> buscarEventos(@Param("regiaoId") Long regiaoId,
+                                      @Param("inicio") LocalDateTime inicio,
+                                      @Param("fim") LocalDateTime fim);
+
+    /**
+     * 🧹 Remove o placar da região nos dias do bloco.
+     */
+    @Modifying
+    @Query("delete from AcuraciaPrevisao a where a.regiaoId = :regiaoId and a.dia >= :inicio and a.dia < :fim")
+    void excluirBloco(@Param("regiaoId") Long regiaoId,
+                      @Param("inicio") LocalDate inicio,
+                      @Param("fim") LocalDate fim);
+
+    /**
+     * 🎯 Placar somado por fonte, com filtros opcionais de região, fonte e período (`fim` exclusivo).
+     */
+    @Query("""
+            select a.fonte as fonte,
+                   sum(a.alarmes) as alarmes, sum(a.acertos) as acertos, sum(a.falsosAlarmes) as falsosAlarmes,
+                   sum(a.previsoesSemAlarme) as previsoesSemAlarme,
+                   sum(a.eventos) as eventos, sum(a.eventosAntecipados) as eventosAntecipados
+              from AcuraciaPrevisao a
+             where (:regiaoId is null or a.regiaoId = :regiaoId)
+               and (:fonte is null or a.fonte = :fonte)
+               and a.dia >= :inicio and a.dia < :fim
+             group by a.fonte
+             order by a.fonte
+            """)
+    List<AcuraciaFonte> somarPorFonte(@Param("regiaoId") Long regiaoId,
+                                      @Param("fonte") String fonte,
+                                      @Param("inicio") LocalDate inicio,
+                                      @Param("fim") LocalDate fim);
+}
@@ -1,10 +1,22 @@
 package br.com.fiap.safelink.repository;
 
 import br.com.fiap.safelink.model.Alerta;
+import br.com.fiap.safelink.repository.projection.ContagemHoraria;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 📁 Repositório JPA para a entidade {@link Alerta}.
  *
@@ -26,4 +38,60 @@ import org.springframework.stereotype.Repository;
 public interface AlertaRepository extends
         JpaRepository<Alerta, Long>,
         JpaSpecificationExecutor<Alerta> {
+
+    /**
+     * 🔍 Página filtrada com a região carregada na mesma consulta (sem N+1).
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    Page<Alerta> findAll(Specification<Alerta> spec, Pageable pageable);
+
+    /**
+     * 📄 Página com a região carregada na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    Page<Alerta> findAll(Pageable pageable);
+
+    /**
+     * 📋 Todos os alertas com a região carregada na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    List<Alerta> findAll();
+
+    /**
+     * 🔎 Busca por ID com a região carregada na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    Optional<Alerta> findById(Long id);
+
+    /**
+     * 📊 Conta alertas por região, nível de risco e hora desde a data informada.
+     *
+     * @param desde limite inferior de `emitidoEm`
+     * @return contagens agregadas por hora
+     */
+    @Query(value = """
+            select id_regiao as regiaoId, upper(ds_nivel_risco) as categoria,
+                   date_trunc('hour', dt_emitido_em) as hora, count(*) as total
+              from tb_alerta
+             where dt_emitido_em >= :desde
+             group by 1, 2, 3
+            """, nativeQuery = true)
+    List<ContagemHoraria> contarPorHoraDesde(@Param("desde") LocalDateTime desde);
+
+    /**
+     * 🔎 IDs, entre os informados, de alertas visíveis na transação atual
+     * (dedup de registros incrementais recebidos durante uma reconciliação).
+     */
+    @Query("select a.id from Alerta a where a.id in :ids")
+    List<Long> buscarIdsExistentes(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 🚨 Alertas emitidos desde a data informada, com a região já carregada.
+     */
+    @Query("select a from Alerta a join fetch a.regiao where a.emitidoEm >= :desde")
+    List<Alerta> buscarEmitidosDesde(@Param("desde") LocalDateTime desde);
 }
@@ -0,0 +1,28 @@
+package br.com.fiap.safelink.repository;
+
+import br.com.fiap.safelink.model.CheckpointAcuracia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * 📁 Repositório JPA para a entidade {@link CheckpointAcuracia}.
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Repository
+public interface CheckpointAcuraciaRepository extends JpaRepository<CheckpointAcuracia, Long> {
+
+    /**
+     * ⏪ Recua os checkpoints posteriores ao dia informado (reprocessamento parcial).
+     */
+    @Modifying
+    @Query("update CheckpointAcuracia c set c.processadoAte = :dia where c.processadoAte > :dia")
+    int recuarPara(@Param("dia") LocalDate dia);
+}
@@ -0,0 +1,54 @@
+package br.com.fiap.safelink.repository;
+
+import br.com.fiap.safelink.model.DisparoRegra;
+import br.com.fiap.safelink.repository.projection.UltimoDisparo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 📁 Repositório JPA para a entidade {@link DisparoRegra}.
+ *
+ * ---
+ * ### Funcionalidades oferecidas:
+ * - 📋 `findByRegraId(...)` — histórico paginado de disparos de uma regra
+ * - 🔔 `buscarUltimosDisparos()` — último disparo por regra/região (deduplicação)
+ * - 🗑️ `excluirPorRegra(...)` — remove o histórico ao excluir a regra
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Repository
+public interface DisparoRegraRepository extends JpaRepository<DisparoRegra, Long> {
+
+    /**
+     * 📋 Histórico paginado de disparos de uma regra, com a regra carregada na mesma consulta.
+     */
+    @EntityGraph(attributePaths = "regra")
+    Page<DisparoRegra> findByRegraId(Long regraId, Pageable pageable);
+
+    /**
+     * 🔔 Último disparo de cada regra em cada região.
+     */
+    @Query("""
+            select d.regra.id as regraId, d.regiao.id as regiaoId, max(d.disparadoEm) as disparadoEm
+              from DisparoRegra d
+             group by d.regra.id, d.regiao.id
+            """)
+    List<UltimoDisparo> buscarUltimosDisparos();
+
+    /**
+     * 🗑️ Remove os disparos de uma regra.
+     */
+    @Modifying
+    @Query("delete from DisparoRegra d where d.regra.id = :regraId")
+    void excluirPorRegra(@Param("regraId") Long regraId);
+}
@@ -1,10 +1,24 @@
 package br.com.fiap.safelink.repository;
 
 import br.com.fiap.safelink.model.EventoNatural;
+import br.com.fiap.safelink.repository.projection.ContagemHoraria;
+import br.com.fiap.safelink.repository.projection.OcorrenciaRegiao;
+import br.com.fiap.safelink.repository.projection.RegistroRegra;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 📁 Repositório JPA para a entidade {@link EventoNatural}.
  *
@@ -26,4 +40,88 @@ import org.springframework.stereotype.Repository;
 public interface EventoNaturalRepository extends
         JpaRepository<EventoNatural, Long>,
         JpaSpecificationExecutor<EventoNatural> {
+
+    /**
+     * 🔍 Página filtrada com a região carregada na mesma consulta (sem N+1).
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    Page<EventoNatural> findAll(Specification<EventoNatural> spec, Pageable pageable);
+
+    /**
+     * 📄 Página com a região carregada na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    Page<EventoNatural> findAll(Pageable pageable);
+
+    /**
+     * 📋 Todos os eventos com a região carregada na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    List<EventoNatural> findAll();
+
+    /**
+     * 🔎 Busca por ID com a região carregada na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    Optional<EventoNatural> findById(Long id);
+
+    /**
+     * 📊 Conta eventos por região, tipo e hora desde a data informada.
+     *
+     * @param desde limite inferior de `dataOcorrencia`
+     * @return contagens agregadas por hora
+     */
+    @Query(value = """
+            select id_regiao as regiaoId, upper(ds_tipo) as categoria,
+                   date_trunc('hour', dt_ocorrencia) as hora, count(*) as total
+              from tb_evento_natural
+             where dt_ocorrencia >= :desde
+             group by 1, 2, 3
+            """, nativeQuery = true)
+    List<ContagemHoraria> contarPorHoraDesde(@Param("desde") LocalDateTime desde);
+
+    /**
+     * 🗓️ Menor data de ocorrência registrada (início do backfill de histogramas).
+     */
+    @Query("select min(e.dataOcorrencia) from EventoNatural e")
+    LocalDateTime menorDataOcorrencia();
+
+    /**
+     * 🗓️ Maior data de ocorrência registrada (fim do backfill de histogramas).
+     */
+    @Query("select max(e.dataOcorrencia) from EventoNatural e")
+    LocalDateTime maiorDataOcorrencia();
+
+    /**
+     * 📍 Região e data de ocorrência dos eventos desde a data informada.
+     */
+    @Query("""
+            select e.regiao.id as regiaoId, e.dataOcorrencia as dataHora
+              from EventoNatural e
+             where e.dataOcorrencia >= :desde
+            """)
+    List<OcorrenciaRegiao> buscarOcorrenciasDesde(@Param("desde") LocalDateTime desde);
+
+    /**
+     * 🔎 IDs, entre os informados, de eventos visíveis na transação atual
+     * (dedup de alterações incrementais recebidas durante uma reconstrução).
+     */
+    @Query("select e.id from EventoNatural e where e.id in :ids")
+    List<Long> buscarIdsExistentes(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 📐 Eventos ocorridos no intervalo, em ordem cronológica (replay das regras de alerta).
+     */
+    @Query(value = """
+            select id_evento_natural as id, id_regiao as regiaoId, dt_ocorrencia as dataHora,
+                   ds_tipo as categoria, cast(null as varchar) as fonte
+              from tb_evento_natural
+             where dt_ocorrencia >= :inicio and dt_ocorrencia < :fim
+             order by dt_ocorrencia
+            """, nativeQuery = true)
+    List<RegistroRegra> buscarRegistrosEntre(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
 }
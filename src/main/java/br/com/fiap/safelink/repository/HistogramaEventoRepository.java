@@ -0,0 +1,101 @@
+package br.com.fiap.safelink.repository;
+
+import br.com.fiap.safelink.model.HistogramaEvento;
+import br.com.fiap.safelink.repository.projection.BucketHistograma;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 📁 Repositório JPA para a entidade {@link HistogramaEvento}.
+ *
+ * Concentra as operações de manutenção (upsert incremental e backfill) e a leitura
+ * das tabelas de rollup de eventos naturais.
+ *
+ * ---
+ * ### Funcionalidades oferecidas:
+ * - ➕ `somar(...)` — incrementa/decrementa as três granularidades em um único comando
+ * - 🧹 `excluirZerados(...)` — limpeza dos buckets zerados após o reprocessamento
+ * - 📈 `consultarBuckets(...)` — série temporal agregada
+ * - ⏱️ `contarEventosPorHora(...)` — contagem direta nas bordas de intervalos não alinhados a hora
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Repository
+public interface HistogramaEventoRepository extends JpaRepository<HistogramaEvento, Long> {
+
+    /**
+     * ➕ Soma `delta` nos buckets de hora, dia e mês do instante informado.
+     * O tipo é normalizado no banco (`upper(trim(...))`), como no backfill.
+     */
+    @Modifying
+    @Query(value = """
+            insert into tb_histograma_evento (tp_granularidade, dt_bucket, id_regiao, ds_tipo, qt_eventos)
+            select g.tp, date_trunc(g.unidade, cast(:dataHora as timestamp)), :regiaoId, upper(trim(:tipo)), :delta
+              from (values ('HORA', 'hour'), ('DIA', 'day'), ('MES', 'month')) as g(tp, unidade)
+            on conflict (tp_granularidade, dt_bucket, id_regiao, ds_tipo)
+            do update set qt_eventos = tb_histograma_evento.qt_eventos + excluded.qt_eventos
+            """, nativeQuery = true)
+    void somar(@Param("dataHora") LocalDateTime dataHora,
+               @Param("regiaoId") Long regiaoId,
+               @Param("tipo") String tipo,
+               @Param("delta") long delta);
+
+    /**
+     * 🧹 Remove os buckets zerados que começam dentro da janela.
+     * Buckets em uso por gravações em andamento são pulados (ficam para o próximo reprocessamento).
+     */
+    @Modifying
+    @Query(value = """
+            delete from tb_histograma_evento
+             where id_histograma_evento in (
+                   select id_histograma_evento from tb_histograma_evento
+                    where dt_bucket >= :inicio and dt_bucket < :fim and qt_eventos = 0
+                      for update skip locked)
+            """, nativeQuery = true)
+    void excluirZerados(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+
+    /**
+     * 📈 Série temporal de uma granularidade, opcionalmente filtrada por região e tipo.
+     */
+    @Query(value = """
+            select dt_bucket as inicio, sum(qt_eventos) as quantidade
+              from tb_histograma_evento
+             where tp_granularidade = :granularidade
+               and dt_bucket >= :inicio and dt_bucket < :fim
+               and (cast(:regiaoId as bigint) is null or id_regiao = :regiaoId)
+               and (cast(:tipo as text) is null or ds_tipo = upper(trim(cast(:tipo as text))))
+             group by dt_bucket
+            having sum(qt_eventos) > 0
+             order by dt_bucket
+            """, nativeQuery = true)
+    List<BucketHistograma> consultarBuckets(@Param("granularidade") String granularidade,
+                                            @Param("inicio") LocalDateTime inicio,
+                                            @Param("fim") LocalDateTime fim,
+                                            @Param("regiaoId") Long regiaoId,
+                                            @Param("tipo") String tipo);
+
+    /**
+     * ⏱️ Eventos do intervalo contados direto em `tb_evento_natural`, por hora.
+     * Usado só nas bordas de consultas que não caem no início de uma hora.
+     */
+    @Query(value = """
+            select date_trunc('hour', dt_ocorrencia) as inicio, count(*) as quantidade
+              from tb_evento_natural
+             where dt_ocorrencia >= :inicio and dt_ocorrencia < :fim
+               and (cast(:regiaoId as bigint) is null or id_regiao = :regiaoId)
+               and (cast(:tipo as text) is null or upper(trim(ds_tipo)) = upper(trim(cast(:tipo as text))))
+             group by 1
+            """, nativeQuery = true)
+    List<BucketHistograma> contarEventosPorHora(@Param("inicio") LocalDateTime inicio,
+                                                @Param("fim") LocalDateTime fim,
+                                                @Param("regiaoId") Long regiaoId,
+                                                @Param("tipo") String tipo);
+}
@@ -1,10 +1,21 @@
 package br.com.fiap.safelink.repository;
 
 import br.com.fiap.safelink.model.PrevisaoRisco;
+import br.com.fiap.safelink.repository.projection.RegistroRegra;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 📁 Repositório JPA para a entidade {@link PrevisaoRisco}.
  *
@@ -26,4 +37,56 @@ import org.springframework.stereotype.Repository;
 public interface PrevisaoRiscoRepository extends
         JpaRepository<PrevisaoRisco, Long>,
         JpaSpecificationExecutor<PrevisaoRisco> {
+
+    /**
+     * 🔍 Página filtrada com a região carregada na mesma consulta (sem N+1).
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    Page<PrevisaoRisco> findAll(Specification<PrevisaoRisco> spec, Pageable pageable);
+
+    /**
+     * 📄 Página com a região carregada na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    Page<PrevisaoRisco> findAll(Pageable pageable);
+
+    /**
+     * 📋 Todos os previsões com a região carregada na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    List<PrevisaoRisco> findAll();
+
+    /**
+     * 🔎 Busca por ID com a região carregada na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = "regiao")
+    Optional<PrevisaoRisco> findById(Long id);
+
+    /**
+     * 🔮 Previsão mais recente de cada par região/fonte gerada desde a data informada.
+     */
+    @Query("""
+            select p from PrevisaoRisco p join fetch p.regiao
+             where p.geradoEm >= :desde
+               and p.geradoEm = (select max(p2.geradoEm) from PrevisaoRisco p2
+                                  where p2.regiao = p.regiao
+                                    and coalesce(p2.fonte, '') = coalesce(p.fonte, ''))
+            """)
+    List<PrevisaoRisco> buscarMaisRecentesPorFonte(@Param("desde") LocalDateTime desde);
+
+    /**
+     * 📐 Previsões geradas no intervalo, em ordem cronológica (replay das regras de alerta).
+     */
+    @Query(value = """
+            select id_previsao_risco as id, id_regiao as regiaoId, dt_gerado_em as dataHora,
+                   ds_nivel_previsto as categoria, ds_fonte as fonte
+              from tb_previsao_risco
+             where dt_gerado_em >= :inicio and dt_gerado_em < :fim
+             order by dt_gerado_em
+            """, nativeQuery = true)
+    List<RegistroRegra> buscarRegistrosEntre(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
 }
@@ -0,0 +1,30 @@
+package br.com.fiap.safelink.repository;
+
+import br.com.fiap.safelink.model.RegraAlerta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 📁 Repositório JPA para a entidade {@link RegraAlerta}.
+ *
+ * ---
+ * ### Funcionalidades oferecidas:
+ * - 💾 Operações CRUD padrão
+ * - ✅ `buscarAtivas()` — regras ativas, base da compilação do motor de regras
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Repository
+public interface RegraAlertaRepository extends JpaRepository<RegraAlerta, Long> {
+
+    /**
+     * ✅ Regras ativas com a região já carregada.
+     */
+    @Query("select r from RegraAlerta r left join fetch r.regiao where r.ativa = true")
+    List<RegraAlerta> buscarAtivas();
+}
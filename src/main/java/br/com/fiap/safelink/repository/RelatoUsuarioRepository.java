@@ -1,10 +1,24 @@
 package br.com.fiap.safelink.repository;
 
 import br.com.fiap.safelink.model.RelatoUsuario;
+import br.com.fiap.safelink.repository.projection.ContagemHoraria;
+import br.com.fiap.safelink.repository.projection.OcorrenciaRegiao;
+import br.com.fiap.safelink.repository.projection.RegistroRegra;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 📁 Repositório JPA para a entidade {@link RelatoUsuario}.
  *
@@ -26,4 +40,94 @@ import org.springframework.stereotype.Repository;
 public interface RelatoUsuarioRepository extends
         JpaRepository<RelatoUsuario, Long>,
         JpaSpecificationExecutor<RelatoUsuario> {
+
+    /**
+     * 🔍 Página filtrada com o usuário e a região carregados na mesma consulta (sem N+1).
+     */
+    @Override
+    @EntityGraph(attributePaths = {"usuario", "regiao"})
+    Page<RelatoUsuario> findAll(Specification<RelatoUsuario> spec, Pageable pageable);
+
+    /**
+     * 📄 Página com o usuário e a região carregados na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"usuario", "regiao"})
+    Page<RelatoUsuario> findAll(Pageable pageable);
+
+    /**
+     * 📋 Todos os relatos com o usuário e a região carregados na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"usuario", "regiao"})
+    List<RelatoUsuario> findAll();
+
+    /**
+     * 🔎 Busca por ID com o usuário e a região carregados na mesma consulta.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"usuario", "regiao"})
+    Optional<RelatoUsuario> findById(Long id);
+
+    /**
+     * 📊 Conta relatos por região e hora desde a data informada.
+     *
+     * @param desde limite inferior de `dataRelato`
+     * @return contagens agregadas por hora (categoria fixa `TOTAL`)
+     */
+    @Query(value = """
+            select id_regiao as regiaoId, 'TOTAL' as categoria,
+                   date_trunc('hour', dt_relato) as hora, count(*) as total
+              from tb_relato_usuario
+             where dt_relato >= :desde
+             group by 1, 2, 3
+            """, nativeQuery = true)
+    List<ContagemHoraria> contarPorHoraDesde(@Param("desde") LocalDateTime desde);
+
+    /**
+     * 🗓️ Menor data de relato registrada (início do reprocessamento de sketches).
+     */
+    @Query("select min(r.dataRelato) from RelatoUsuario r")
+    LocalDateTime menorDataRelato();
+
+    /**
+     * 🗓️ Maior data de relato registrada (fim do reprocessamento de sketches).
+     */
+    @Query("select max(r.dataRelato) from RelatoUsuario r")
+    LocalDateTime maiorDataRelato();
+
+    /**
+     * 🔢 Maior ID de relato gravado (0 sem relatos); marca d'água do reprocessamento de sketches.
+     */
+    @Query("select coalesce(max(r.id), 0) from RelatoUsuario r")
+    long maiorId();
+
+    /**
+     * 📍 Região e data dos relatos enviados desde a data informada.
+     */
+    @Query("""
+            select r.regiao.id as regiaoId, r.dataRelato as dataHora
+              from RelatoUsuario r
+             where r.dataRelato >= :desde
+            """)
+    List<OcorrenciaRegiao> buscarOcorrenciasDesde(@Param("desde") LocalDateTime desde);
+
+    /**
+     * 🔎 IDs, entre os informados, de relatos visíveis na transação atual
+     * (dedup de alterações incrementais recebidas durante uma reconstrução).
+     */
+    @Query("select r.id from RelatoUsuario r where r.id in :ids")
+    List<Long> buscarIdsExistentes(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 📐 Relatos enviados no intervalo, em ordem cronológica (replay das regras de alerta).
+     */
+    @Query(value = """
+            select id_relato_usuario as id, id_regiao as regiaoId, dt_relato as dataHora,
+                   cast(null as varchar) as categoria, cast(null as varchar) as fonte
+              from tb_relato_usuario
+             where dt_relato >= :inicio and dt_relato < :fim
+             order by dt_relato
+            """, nativeQuery = true)
+    List<RegistroRegra> buscarRegistrosEntre(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
 }
@@ -0,0 +1,104 @@
+package br.com.fiap.safelink.repository;
+
+import br.com.fiap.safelink.model.SketchRelatoHora;
+import br.com.fiap.safelink.repository.projection.UsuarioRelatoHora;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+/**
+ * 📁 Repositório JPA para a entidade {@link SketchRelatoHora}.
+ *
+ * Manutenção e leitura dos sketches horários de usuários distintos por região.
+ *
+ * ---
+ * ### Funcionalidades oferecidas:
+ * - 🔒 `garantirBucket(...)` + `buscarParaAtualizacao(...)` — atualização concorrente segura
+ * - 🔢 `buscarSketches(...)` — sketches da janela, em fluxo, para união
+ * - 🔁 `excluirJanela(...)` / `buscarUsuariosPorHora(...)` — reprocessamento, em fluxo
+ *
+ * ---
+ * @author Rafael
+ * @since 1.0
+ */
+@Repository
+public interface SketchRelatoHoraRepository extends JpaRepository<SketchRelatoHora, Long> {
+
+    /**
+     * ➕ Cria o bucket (região, hora) com o sketch vazio informado, se ainda não existir.
+     */
+    @Modifying
+    @Query(value = """
+            insert into tb_sketch_relato_hora (id_regiao, dt_hora, bt_sketch)
+            values (:regiaoId, :hora, :sketch)
+            on conflict (id_regiao, dt_hora) do nothing
+            """, nativeQuery = true)
+    void garantirBucket(@Param("regiaoId") Long regiaoId,
+                        @Param("hora") LocalDateTime hora,
+                        @Param("sketch") byte[] sketch);
+
+    /**
+     * 🔒 Bucket (região, hora) com bloqueio de escrita até o fim da transação.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from SketchRelatoHora s where s.regiaoId = :regiaoId and s.hora = :hora")
+    Optional<SketchRelatoHora> buscarParaAtualizacao(@Param("regiaoId") Long regiaoId,
+                                                     @Param("hora") LocalDateTime hora);
+
+    /**
+     * 🔢 Sketches das horas da janela, opcionalmente de uma única região.
+     * Deve ser consumido dentro de uma transação.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "256"))
+    @Query("""
+            select s.sketch from SketchRelatoHora s
+             where s.hora >= :inicio and s.hora < :fim
+               and (:regiaoId is null or s.regiaoId = :regiaoId)
+            """)
+    Stream<byte[]> buscarSketches(@Param("regiaoId") Long regiaoId,
+                                  @Param("inicio") LocalDateTime inicio,
+                                  @Param("fim") LocalDateTime fim);
+
+    /**
+     * 🧹 Remove os sketches das horas da janela.
+     */
+    @Modifying
+    @Query(value = """
+            delete from tb_sketch_relato_hora
+             where dt_hora >= :inicio and dt_hora < :fim
+            """, nativeQuery = true)
+    void excluirJanela(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+
+    /**
+     * 🔁 Pares distintos (região, hora, usuário) dos relatos da janela com ID em `(acimaDe, ate]`,
+     * agrupados por bucket. Deve ser consumido dentro de uma transação.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1024"))
+    @Query(value = """
+            select distinct id_regiao as regiaoId, date_trunc('hour', dt_relato) as hora, id_usuario as usuarioId
+              from tb_relato_usuario
+             where dt_relato >= :inicio and dt_relato < :fim
+               and id_relato_usuario > :acimaDe and id_relato_usuario <= :ate
+             order by 1, 2
+            """, nativeQuery = true)
+    Stream<UsuarioRelatoHora> buscarUsuariosPorHora(@Param("inicio") LocalDateTime inicio,
+                                                    @Param("fim") LocalDateTime fim,
+                                                    @Param("acimaDe") long acimaDe,
+                                                    @Param("ate") long ate);
+
+    /**
+     * 🔒 Espera as inserções em `tb_relato_usuario` em andamento terminarem e bloqueia novas até o fim
+     * da transação. Usar só em transações curtas (marca d'água do reprocessamento).
+     */
+    @Modifying
+    @Query(value = "lock table tb_relato_usuario in share mode", nativeQuery = true)
+    void bloquearRelatos();
+}
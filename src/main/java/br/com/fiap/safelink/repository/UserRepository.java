@@ -2,8 +2,10 @@ package br.com.fiap.safelink.repository;
 
 import br.com.fiap.safelink.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,6 +17,7 @@ import java.util.Optional;
  * ---
  * - findByEmail(String)
  * - existsByEmail(String)
+ * - findAllEmails()
  *
  * Ideal para uso com autenticação via Spring Security e validação de usuários.
  *
@@ -39,4 +42,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true se existir, false caso contrário
      */
     boolean existsByEmail(String email);
+
+    /**
+     * 📋 Lista apenas os e-mails cadastrados (projeção leve, sem carregar entidades).
+     * Usado na reconstrução do filtro de Bloom de e-mails.
+     *
+     * @return e-mails de todos os usuários
+     */
+    @Query("select u.email from User u")
+    List<String> findAllEmails();
 }
@@ -0,0 +1,23 @@
+package br.com.fiap.safelink.repository.projection;
+
+/**
+ * 🎯 Projeção: AcuraciaFonte
+ *
+ * Placar de acurácia somado por fonte.
+ */
+public interface AcuraciaFonte {
+
+    String getFonte();
+
+    long getAlarmes();
+
+    long getAcertos();
+
+    long getFalsosAlarmes();
+
+    long getPrevisoesSemAlarme();
+
+    long getEventos();
+
+    long getEventosAntecipados();
+}
@@ -0,0 +1,17 @@
+package br.com.fiap.safelink.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📈 Projeção: BucketHistograma
+ *
+ * Um ponto do histograma: início do bucket e quantidade somada.
+ */
+public interface BucketHistograma {
+
+    /** Início do bucket. */
+    LocalDateTime getInicio();
+
+    /** Quantidade de registros no bucket. */
+    Long getQuantidade();
+}
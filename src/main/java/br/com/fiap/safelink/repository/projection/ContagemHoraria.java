@@ -0,0 +1,24 @@
+package br.com.fiap.safelink.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📊 Projeção: ContagemHoraria
+ *
+ * Resultado de consultas agregadas por região, categoria e hora cheia.
+ * Usada na reconciliação dos contadores em memória com o banco.
+ */
+public interface ContagemHoraria {
+
+    /** ID da região dos registros agregados. */
+    Long getRegiaoId();
+
+    /** Categoria agregada (nível de risco, tipo de evento, etc.). */
+    String getCategoria();
+
+    /** Hora cheia (truncada) dos registros. */
+    LocalDateTime getHora();
+
+    /** Quantidade de registros no grupo. */
+    Long getTotal();
+}
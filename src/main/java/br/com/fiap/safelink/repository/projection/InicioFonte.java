@@ -0,0 +1,18 @@
+package br.com.fiap.safelink.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🎯 Projeção: InicioFonte
+ *
+ * Primeira previsão de uma fonte em uma região: a partir dela, os eventos da região
+ * entram no placar da fonte.
+ */
+public interface InicioFonte {
+
+    /** Fonte normalizada (`N/D` quando ausente). */
+    String getFonte();
+
+    /** Data/hora da primeira previsão da fonte na região. */
+    LocalDateTime getInicio();
+}
@@ -0,0 +1,18 @@
+package br.com.fiap.safelink.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📍 Projeção: OcorrenciaRegiao
+ *
+ * Instante de um registro (evento ou relato) e a região a que pertence.
+ * Usada para recompor as taxas com decaimento do motor de risco.
+ */
+public interface OcorrenciaRegiao {
+
+    /** ID da região do registro. */
+    Long getRegiaoId();
+
+    /** Data/hora em que o registro ocorreu. */
+    LocalDateTime getDataHora();
+}
@@ -0,0 +1,20 @@
+package br.com.fiap.safelink.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🎯 Projeção: PrevisaoAvaliada
+ *
+ * Dados mínimos de uma previsão para o placar de acurácia.
+ */
+public interface PrevisaoAvaliada {
+
+    /** Data/hora em que a previsão foi gerada. */
+    LocalDateTime getGeradoEm();
+
+    /** Fonte normalizada (`N/D` quando ausente). */
+    String getFonte();
+
+    /** Nível previsto, como gravado. */
+    String getNivelPrevisto();
+}
@@ -0,0 +1,27 @@
+package br.com.fiap.safelink.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📐 Projeção: RegistroRegra
+ *
+ * Campos de um registro (previsão, evento ou relato) relevantes para as regras de alerta.
+ * Usada no aquecimento do motor de regras e nas simulações sobre o histórico.
+ */
+public interface RegistroRegra {
+
+    /** ID do registro na sua tabela de origem. */
+    Long getId();
+
+    /** ID da região do registro. */
+    Long getRegiaoId();
+
+    /** Data/hora do registro (geração, ocorrência ou relato). */
+    LocalDateTime getDataHora();
+
+    /** Nível previsto (previsões) ou tipo (eventos); nulo para relatos. */
+    String getCategoria();
+
+    /** Fonte da previsão; nulo para os demais registros. */
+    String getFonte();
+}
@@ -0,0 +1,20 @@
+package br.com.fiap.safelink.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🔔 Projeção: UltimoDisparo
+ *
+ * Último disparo de cada regra por região, usado na deduplicação após reinícios.
+ */
+public interface UltimoDisparo {
+
+    /** ID da regra. */
+    Long getRegraId();
+
+    /** ID da região. */
+    Long getRegiaoId();
+
+    /** Instante do último disparo. */
+    LocalDateTime getDisparadoEm();
+}
@@ -0,0 +1,21 @@
+package br.com.fiap.safelink.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🔢 Projeção: UsuarioRelatoHora
+ *
+ * Usuário que enviou ao menos um relato na região durante a hora.
+ * Usada no reprocessamento dos sketches de usuários distintos.
+ */
+public interface UsuarioRelatoHora {
+
+    /** ID da região do relato. */
+    Long getRegiaoId();
+
+    /** Início da hora do relato. */
+    LocalDateTime getHora();
+
+    /** ID do usuário autor do relato. */
+    Long getUsuarioId();
+}
@@ -0,0 +1,91 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.dto.response.AcessosQuentesResponseDTO;
+import br.com.fiap.safelink.util.TopKAproximado;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * # 🔥 Service: AcessoQuenteService
+ *
+ * Rastreia, com memória fixa, as regiões mais acessadas e os formatos de consulta
+ * `/filtro` mais frequentes no tráfego recente.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Alimentado pelo `AcessoQuenteInterceptor` a cada requisição
+ * - Count-Min sketch + candidatas limitadas ({@link TopKAproximado}), sem locks no registro
+ * - A cada `envelhecimento-ms` as contagens caem pela metade (meia-vida configurável)
+ *
+ * 📌 Uso: pré-aquecer caches e dimensionar índices a partir do tráfego real.
+ */
+@Slf4j
+@Service
+public class AcessoQuenteService {
+
+    private final TopKAproximado regioes;
+    private final TopKAproximado filtros;
+    private final long envelhecimentoMs;
+
+    public AcessoQuenteService(@Value("${safelink.hot.top-k:20}") int k,
+                               @Value("${safelink.hot.largura:2048}") int largura,
+                               @Value("${safelink.hot.profundidade:4}") int profundidade,
+                               @Value("${safelink.hot.envelhecimento-ms:300000}") long envelhecimentoMs) {
+        this.regioes = new TopKAproximado(k, largura, profundidade);
+        this.filtros = new TopKAproximado(k, largura, profundidade);
+        this.envelhecimentoMs = envelhecimentoMs;
+    }
+
+    // ============================================
+    // 📥 Registro
+    // ============================================
+
+    /** Registra um acesso a uma região. */
+    public void registrarRegiao(Long regiaoId) {
+        regioes.registrar(String.valueOf(regiaoId));
+    }
+
+    /** Registra uma consulta com a assinatura normalizada informada. */
+    public void registrarFiltro(String assinatura) {
+        filtros.registrar(assinatura);
+    }
+
+    // ============================================
+    // 🔍 Consulta
+    // ============================================
+
+    /**
+     * Regiões e filtros mais acessados, com contagens decaídas.
+     *
+     * @param limite itens por ranking
+     */
+    public AcessosQuentesResponseDTO consultar(int limite) {
+        return AcessosQuentesResponseDTO.builder()
+                .meiaVidaSegundos(envelhecimentoMs / 1000)
+                .regioes(paraItens(regioes.top(limite)))
+                .filtros(paraItens(filtros.top(limite)))
+                .build();
+    }
+
+    // ============================================
+    // ⏳ Decaimento
+    // ============================================
+
+    @Scheduled(initialDelayString = "${safelink.hot.envelhecimento-ms:300000}",
+            fixedRateString = "${safelink.hot.envelhecimento-ms:300000}")
+    public void envelhecer() {
+        regioes.envelhecer();
+        filtros.envelhecer();
+    }
+
+    private static List<AcessosQuentesResponseDTO.Item> paraItens(List<Map.Entry<String, Long>> top) {
+        return top.stream()
+                .map(e -> new AcessosQuentesResponseDTO.Item(e.getKey(), e.getValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,338 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.ContextoPool;
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
+import br.com.fiap.safelink.dto.response.AcuraciaFonteResponseDTO;
+import br.com.fiap.safelink.model.AcuraciaPrevisao;
+import br.com.fiap.safelink.model.CheckpointAcuracia;
+import br.com.fiap.safelink.model.enums.NivelRisco;
+import br.com.fiap.safelink.repository.AcuraciaPrevisaoRepository;
+import br.com.fiap.safelink.repository.CheckpointAcuraciaRepository;
+import br.com.fiap.safelink.repository.projection.AcuraciaFonte;
+import br.com.fiap.safelink.repository.projection.InicioFonte;
+import br.com.fiap.safelink.repository.projection.OcorrenciaRegiao;
+import br.com.fiap.safelink.repository.projection.PrevisaoAvaliada;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * # 🎯 Service: AcuraciaPrevisaoService
+ *
+ * Job que mede, por fonte e região, quanto as previsões de risco antecipam os eventos naturais.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Alarme = previsão com nível igual ou acima de `nivel-alarme`
+ * - Acerto = alarme seguido de evento na região em até `horizonte-horas`; senão, falso alarme
+ * - Evento antecipado = evento precedido por alarme da fonte em até `horizonte-horas`;
+ *   cada evento conta para as fontes que já faziam previsões para a região
+ * - Regiões processadas em paralelo (fork-join), em blocos de dias; cada bloco grava o placar
+ *   e o checkpoint da região na mesma transação, então um job interrompido retoma de onde parou
+ * - Só são processados dias cujo horizonte já terminou; execuções seguintes são incrementais
+ *
+ * 📌 Dados gravados com atraso (previsões/eventos retroativos) exigem reprocessamento.
+ */
+@Slf4j
+@Service
+public class AcuraciaPrevisaoService {
+
+    private static final LocalDate INICIO_PADRAO = LocalDate.of(1970, 1, 1);
+    private static final LocalDate FIM_PADRAO = LocalDate.of(9999, 1, 1);
+
+    private final AcuraciaPrevisaoRepository repository;
+    private final CheckpointAcuraciaRepository checkpointRepository;
+    private final RegiaoService regiaoService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration horizonte;
+    private final NivelRisco nivelAlarme;
+    private final int paralelismo;
+    private final int diasPorBloco;
+    private final AtomicBoolean executando = new AtomicBoolean(false);
+
+    public AcuraciaPrevisaoService(AcuraciaPrevisaoRepository repository,
+                                   CheckpointAcuraciaRepository checkpointRepository,
+                                   RegiaoService regiaoService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${safelink.acuracia.horizonte-horas:48}") long horizonteHoras,
+                                   @Value("${safelink.acuracia.nivel-alarme:ALTO}") NivelRisco nivelAlarme,
+                                   @Value("${safelink.acuracia.paralelismo:4}") int paralelismo,
+                                   @Value("${safelink.acuracia.dias-por-bloco:31}") int diasPorBloco) {
+        this.repository = repository;
+        this.checkpointRepository = checkpointRepository;
+        this.regiaoService = regiaoService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.horizonte = Duration.ofHours(horizonteHoras);
+        this.nivelAlarme = nivelAlarme;
+        this.paralelismo = Math.max(1, Math.min(paralelismo, Runtime.getRuntime().availableProcessors()));
+        this.diasPorBloco = Math.max(1, diasPorBloco);
+    }
+
+    // ============================================
+    // 🔍 Consulta
+    // ============================================
+
+    /**
+     * Placar somado por fonte.
+     *
+     * @param regiaoId   região (opcional)
+     * @param fonte      fonte (opcional, sem diferenciar maiúsculas)
+     * @param dataInicio primeiro dia (opcional)
+     * @param dataFim    dia final exclusivo (opcional)
+     */
+    @UsarPool(PoolConexao.RELATORIO)
+    @Transactional(readOnly = true)
+    public List<AcuraciaFonteResponseDTO> consultar(Long regiaoId, String fonte, LocalDate dataInicio, LocalDate dataFim) {
+        if (regiaoId != null) {
+            regiaoService.buscarEntidadePorId(regiaoId);
+        }
+        String fonteNormalizada = fonte == null || fonte.isBlank() ? null : fonte.trim().toUpperCase(Locale.ROOT);
+        return repository.somarPorFonte(regiaoId, fonteNormalizada,
+                        dataInicio != null ? dataInicio : INICIO_PADRAO,
+                        dataFim != null ? dataFim : FIM_PADRAO).stream()
+                .map(AcuraciaPrevisaoService::toDTO)
+                .toList();
+    }
+
+    // ============================================
+    // 🔁 Execução do job
+    // ============================================
+
+    /**
+     * Retoma na subida um processamento interrompido (ou inicia o primeiro).
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void retomarNaSubida() {
+        executar();
+    }
+
+    /**
+     * Execução incremental diária.
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @Scheduled(cron = "${safelink.acuracia.cron:0 30 3 * * *}")
+    public void executarAgendado() {
+        executar();
+    }
+
+    /**
+     * Reprocessa em segundo plano a partir do dia informado (ou desde o início).
+     *
+     * @param desde primeiro dia a reprocessar (nulo = todo o histórico)
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @Async
+    public void reprocessarEmSegundoPlano(LocalDate desde) {
+        if (executando.get()) {
+            log.warn("⚠️ Job de acurácia de previsões já em andamento; reprocessamento ignorado");
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (desde == null) {
+                repository.deleteAllInBatch();
+                checkpointRepository.deleteAllInBatch();
+            } else {
+                checkpointRepository.recuarPara(desde);
+            }
+        });
+        executar();
+    }
+
+    /**
+     * Processa, em paralelo por região, todos os dias ainda sem placar cujo horizonte já terminou.
+     *
+     * @return blocos processados (0 se já havia uma execução em andamento)
+     */
+    public int executar() {
+        if (!executando.compareAndSet(false, true)) {
+            log.warn("⚠️ Job de acurácia de previsões já em andamento");
+            return 0;
+        }
+        long inicio = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            LocalDate limite = LocalDateTime.now().minus(horizonte).toLocalDate();
+            List<OcorrenciaRegiao> regioes = repository.buscarInicioPorRegiao();
+            int blocos = pool.invoke(new TarefaRegioes(regioes, limite));
+            log.info("🎯 Acurácia de previsões: {} blocos em {} regiões ({} ms)",
+                    blocos, regioes.size(), (System.nanoTime() - inicio) / 1_000_000);
+            return blocos;
+        } finally {
+            pool.shutdown();
+            executando.set(false);
+        }
+    }
+
+    /**
+     * Divide a lista de regiões ao meio até restar uma região por tarefa.
+     */
+    private final class TarefaRegioes extends RecursiveTask<Integer> {
+
+        private final List<OcorrenciaRegiao> regioes;
+        private final LocalDate limite;
+
+        private TarefaRegioes(List<OcorrenciaRegiao> regioes, LocalDate limite) {
+            this.regioes = regioes;
+            this.limite = limite;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (regioes.isEmpty()) {
+                return 0;
+            }
+            if (regioes.size() == 1) {
+                OcorrenciaRegiao regiao = regioes.get(0);
+                // Threads do ForkJoinPool não herdam o pool de conexões de quem disparou o job
+                return ContextoPool.executar(PoolConexao.LOTE,
+                        () -> processarRegiao(regiao.getRegiaoId(), regiao.getDataHora().toLocalDate(), limite));
+            }
+            int meio = regioes.size() / 2;
+            TarefaRegioes esquerda = new TarefaRegioes(regioes.subList(0, meio), limite);
+            esquerda.fork();
+            int direita = new TarefaRegioes(regioes.subList(meio, regioes.size()), limite).compute();
+            return direita + esquerda.join();
+        }
+    }
+
+    /**
+     * Processa os blocos pendentes de uma região. Uma falha interrompe só esta região;
+     * os blocos já gravados ficam no checkpoint.
+     */
+    private int processarRegiao(Long regiaoId, LocalDate primeiroDia, LocalDate limite) {
+        LocalDate dia = checkpointRepository.findById(regiaoId)
+                .map(CheckpointAcuracia::getProcessadoAte)
+                .orElse(primeiroDia);
+        int blocos = 0;
+        try {
+            while (dia.isBefore(limite)) {
+                LocalDate inicioBloco = dia;
+                LocalDate fimBloco = dia.plusDays(diasPorBloco).isBefore(limite) ? dia.plusDays(diasPorBloco) : limite;
+                transactionTemplate.executeWithoutResult(status -> processarBloco(regiaoId, inicioBloco, fimBloco));
+                blocos++;
+                dia = fimBloco;
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ Falha no placar de acurácia da região {} a partir de {}", regiaoId, dia, e);
+        }
+        return blocos;
+    }
+
+    // ============================================
+    // 🧮 Placar de um bloco
+    // ============================================
+
+    /**
+     * Recalcula e grava o placar da região nos dias `[inicio, fim)` e avança o checkpoint.
+     */
+    private void processarBloco(Long regiaoId, LocalDate inicio, LocalDate fim) {
+        LocalDateTime inicioBloco = inicio.atStartOfDay();
+        LocalDateTime fimBloco = fim.atStartOfDay();
+
+        // Previsões anteriores ao bloco também podem antecipar eventos do bloco
+        List<PrevisaoAvaliada> previsoes = repository.buscarPrevisoes(regiaoId, inicioBloco.minus(horizonte), fimBloco);
+        List<LocalDateTime> eventos = repository.buscarEventos(regiaoId, inicioBloco, fimBloco.plus(horizonte));
+
+        List<InicioFonte> fontes = repository.buscarFontes(regiaoId, fimBloco);
+
+        Map<String, List<LocalDateTime>> alarmesPorFonte = new HashMap<>();
+        Map<String, Map<LocalDate, AcuraciaPrevisao>> placares = new HashMap<>();
+
+        for (PrevisaoAvaliada previsao : previsoes) {
+            Optional<NivelRisco> nivel = NivelRisco.interpretar(previsao.getNivelPrevisto());
+            boolean alarme = nivel.isPresent() && nivel.get().getPeso() >= nivelAlarme.getPeso();
+            if (alarme) {
+                alarmesPorFonte.computeIfAbsent(previsao.getFonte(), f -> new ArrayList<>()).add(previsao.getGeradoEm());
+            }
+            if (previsao.getGeradoEm().isBefore(inicioBloco) || nivel.isEmpty()) {
+                continue;
+            }
+            AcuraciaPrevisao placar = placar(placares, regiaoId, previsao.getFonte(), previsao.getGeradoEm().toLocalDate());
+            if (!alarme) {
+                placar.setPrevisoesSemAlarme(placar.getPrevisoesSemAlarme() + 1);
+            } else if (existeEntre(eventos, previsao.getGeradoEm(), previsao.getGeradoEm().plus(horizonte))) {
+                placar.setAlarmes(placar.getAlarmes() + 1);
+                placar.setAcertos(placar.getAcertos() + 1);
+            } else {
+                placar.setAlarmes(placar.getAlarmes() + 1);
+                placar.setFalsosAlarmes(placar.getFalsosAlarmes() + 1);
+            }
+        }
+
+        // Um evento conta para toda fonte que já cobria a região quando ele ocorreu
+        for (LocalDateTime evento : eventos) {
+            if (!evento.isBefore(fimBloco)) {
+                break;
+            }
+            for (InicioFonte fonte : fontes) {
+                if (fonte.getInicio().isAfter(evento)) {
+                    continue;
+                }
+                AcuraciaPrevisao placar = placar(placares, regiaoId, fonte.getFonte(), evento.toLocalDate());
+                placar.setEventos(placar.getEventos() + 1);
+                if (existeEntre(alarmesPorFonte.getOrDefault(fonte.getFonte(), List.of()), evento.minus(horizonte), evento)) {
+                    placar.setEventosAntecipados(placar.getEventosAntecipados() + 1);
+                }
+            }
+        }
+
+        repository.excluirBloco(regiaoId, inicio, fim);
+        List<AcuraciaPrevisao> linhas = new ArrayList<>();
+        placares.values().forEach(porDia -> linhas.addAll(porDia.values()));
+        repository.saveAll(linhas);
+        checkpointRepository.save(new CheckpointAcuracia(regiaoId, fim));
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    private static AcuraciaPrevisao placar(Map<String, Map<LocalDate, AcuraciaPrevisao>> placares,
+                                           Long regiaoId, String fonte, LocalDate dia) {
+        return placares.computeIfAbsent(fonte, f -> new HashMap<>())
+                .computeIfAbsent(dia, d -> AcuraciaPrevisao.builder().regiaoId(regiaoId).fonte(fonte).dia(d).build());
+    }
+
+    /**
+     * Indica se a lista ordenada tem algum instante em `[de, ate]` (busca binária).
+     */
+    private static boolean existeEntre(List<LocalDateTime> ordenados, LocalDateTime de, LocalDateTime ate) {
+        int indice = Collections.binarySearch(ordenados, de);
+        if (indice < 0) {
+            indice = -indice - 1;
+        }
+        return indice < ordenados.size() && !ordenados.get(indice).isAfter(ate);
+    }
+
+    private static AcuraciaFonteResponseDTO toDTO(AcuraciaFonte fonte) {
+        return AcuraciaFonteResponseDTO.builder()
+                .fonte(fonte.getFonte())
+                .alarmes(fonte.getAlarmes())
+                .acertos(fonte.getAcertos())
+                .falsosAlarmes(fonte.getFalsosAlarmes())
+                .previsoesSemAlarme(fonte.getPrevisoesSemAlarme())
+                .eventos(fonte.getEventos())
+                .eventosAntecipados(fonte.getEventosAntecipados())
+                .taxaAcerto(fonte.getEventos() > 0 ? (double) fonte.getEventosAntecipados() / fonte.getEventos() : null)
+                .taxaFalsoAlarme(fonte.getAlarmes() > 0 ? (double) fonte.getFalsosAlarmes() / fonte.getAlarmes() : null)
+                .build();
+    }
+}
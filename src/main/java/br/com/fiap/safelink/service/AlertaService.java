@@ -1,23 +1,33 @@
 package br.com.fiap.safelink.service;
 
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
 import br.com.fiap.safelink.dto.request.AlertaRequestDTO;
 import br.com.fiap.safelink.dto.response.AlertaResponseDTO;
+import br.com.fiap.safelink.event.AlertaGravadoEvent;
 import br.com.fiap.safelink.exception.AlertaNotFoundException;
 import br.com.fiap.safelink.filter.AlertaFilter;
 import br.com.fiap.safelink.model.Alerta;
+import br.com.fiap.safelink.model.Regiao;
 import br.com.fiap.safelink.repository.AlertaRepository;
 import br.com.fiap.safelink.specification.AlertaSpecification;
+import br.com.fiap.safelink.util.ArquivoColunar;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * # 🧠 Service: AlertaService
@@ -33,6 +43,8 @@ public class AlertaService {
     private final AlertaRepository repository;
     private final RegiaoService regiaoService;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArquivoFrioService arquivoFrioService;
 
     // ============================================
     // 📌 Criação
@@ -49,6 +61,7 @@ public class AlertaService {
         Alerta alerta = modelMapper.map(dto, Alerta.class);
         preencherRelacionamentos(alerta, dto);
         alerta = repository.save(alerta);
+        eventPublisher.publishEvent(new AlertaGravadoEvent(alerta));
         log.info("✅ Alerta criado com sucesso: ID {}", alerta.getId());
         return toDTO(alerta);
     }
@@ -88,36 +101,50 @@ public class AlertaService {
             value = "alertasTodos",
             key = "'pagina_'+#pageable.pageNumber+'_tamanho_'+#pageable.pageSize+'_ordenacao_'+#pageable.sort.toString()"
     )
+    @Transactional(readOnly = true)
     public Page<AlertaResponseDTO> consultarPaginado(Pageable pageable) {
-        log.info("📄 Consulta paginada de alertas | Página: {} | Tamanho: {} | Ordenação: {}",
-                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        if (log.isDebugEnabled()) {
+            // Guardado: os argumentos (int encaixotado + varargs) seriam alocados mesmo com DEBUG desligado
+            log.debug("📄 Consulta paginada de alertas | Página: {} | Tamanho: {} | Ordenação: {}",
+                    pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        }
         return repository.findAll(pageable).map(this::toDTO);
     }
 
     /**
-     * Consulta alertas com filtros dinâmicos.
+     * Consulta alertas com filtros dinâmicos (banco + histórico arquivado).
      */
+    @Transactional(readOnly = true)
     public Page<AlertaResponseDTO> consultarComFiltro(AlertaFilter filtro, Pageable pageable) {
         Specification<Alerta> spec = AlertaSpecification.withFilters(filtro);
-        log.info("🔍 Consulta de alertas com filtros: {}", filtro);
-        return repository.findAll(spec, pageable).map(this::toDTO);
+        log.debug("🔍 Consulta de alertas com filtros: {}", filtro);
+        ArquivoFrioService.Consulta consultaFria = new ArquivoFrioService.Consulta(
+                filtro.dataInicio(), filtro.dataFim(),
+                Collections.singletonMap("id_regiao", filtro.regiaoId()),
+                ArquivoFrioService.semTermos(filtro.nivelRisco()) ? null
+                        : linha -> ArquivoFrioService.igual(linha.texto("ds_nivel_risco"), filtro.nivelRisco()));
+        return arquivoFrioService.federar(ArquivoFrioService.Tabela.ALERTA, consultaFria, pageable,
+                pagina -> repository.findAll(spec, pagina).map(this::toDTO), this::toDTOArquivados);
     }
 
     /**
      * Consulta um alerta por ID.
      */
+    @Transactional(readOnly = true)
     public AlertaResponseDTO consultarPorId(Long id) {
         Alerta alerta = repository.findById(id)
                 .orElseThrow(() -> new AlertaNotFoundException(id));
-        log.info("🔎 Alerta encontrado: ID {}", id);
+        log.debug("🔎 Alerta encontrado: ID {}", id);
         return toDTO(alerta);
     }
 
     /**
      * Consulta completa de alertas (sem paginação).
      */
+    @UsarPool(PoolConexao.RELATORIO)
+    @Transactional(readOnly = true)
     public List<AlertaResponseDTO> consultarTodos() {
-        log.info("📃 Listando todos os alertas");
+        log.debug("📃 Listando todos os alertas");
         return repository.findAll().stream().map(this::toDTO).toList();
     }
 
@@ -160,4 +187,20 @@ public class AlertaService {
     private AlertaResponseDTO toDTO(Alerta alerta) {
         return modelMapper.map(alerta, AlertaResponseDTO.class);
     }
+
+    /**
+     * Converte alertas da camada fria para DTO (regiões carregadas em lote).
+     */
+    private List<AlertaResponseDTO> toDTOArquivados(List<ArquivoColunar.Linha> linhas) {
+        Map<Long, Regiao> regioes = regiaoService.buscarEntidadesPorIds(linhas.stream()
+                .map(linha -> linha.inteiro("id_regiao")).filter(Objects::nonNull).collect(Collectors.toSet()));
+        return linhas.stream().map(linha -> toDTO(Alerta.builder()
+                .id(linha.inteiro("id_alerta"))
+                .nivelRisco(linha.texto("ds_nivel_risco"))
+                .mensagem(linha.texto("ds_mensagem"))
+                .emitidoEm(linha.dataHora("dt_emitido_em"))
+                .regiao(regioes.get(linha.inteiro("id_regiao")))
+                .dataCriacao(linha.dataHora("dt_criacao"))
+                .build())).toList();
+    }
 }
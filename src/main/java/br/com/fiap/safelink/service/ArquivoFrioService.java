@@ -0,0 +1,645 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.util.ArquivoColunar;
+import br.com.fiap.safelink.util.ArquivoColunar.Coluna;
+import br.com.fiap.safelink.util.ArquivoColunar.Faixa;
+import br.com.fiap.safelink.util.ArquivoColunar.Linha;
+import br.com.fiap.safelink.util.ArquivoColunar.Tipo;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * # 🧊 Service: ArquivoFrioService
+ *
+ * Camada fria do histórico: partições mensais antigas das tabelas de séries temporais
+ * são exportadas para arquivos colunares comprimidos em disco local ({@link ArquivoColunar})
+ * e removidas do banco. As consultas `/filtro` continuam enxergando as duas camadas.
+ *
+ * ---
+ * ## ⚙️ Arquivamento
+ * - Acionado pela manutenção de partições: meses anteriores a `meses-quentes` saem do banco
+ * - Um arquivo por tabela e mês: `<diretorio>/<tabela>/<AAAAMM>.slc`
+ * - Em uma única transação: bloqueia a partição, exporta para um arquivo temporário, confere a
+ *   contagem, desanexa e exclui a partição e só então publica o arquivo (rename atômico)
+ *
+ * ## 🔎 Consultas federadas
+ * - Sem arquivos no período pedido, a consulta vai só ao banco, sem custo adicional
+ * - Nos arquivos: pushdown da faixa de datas e dos IDs (mês do arquivo + min/max por grupo);
+ *   os filtros de texto são aplicados linha a linha com a mesma semântica das Specifications
+ * - Linhas frias lidas em fluxo: cada arquivo é um mês em ordem de data, então a leitura para
+ *   ao completar a página e só retém até `offset + size` linhas
+ * - Sem ordenação: banco primeiro, depois a camada fria; a fria só é lida se a página passar do banco
+ * - Ordenação só por data: mescla por data (a partição padrão pode ter linhas dos meses arquivados);
+ *   se a primeira linha fria vem depois da página do banco, a camada fria só entra na contagem
+ * - Demais ordenações: mescla com as `offset + size` primeiras linhas de cada camada
+ *
+ * 📌 Linhas arquivadas são somente leitura: não aparecem em busca por ID, atualização,
+ * exclusão, histogramas, acurácia nem no replay de regras.
+ */
+@Slf4j
+@Service
+public class ArquivoFrioService {
+
+    /**
+     * Tabelas arquivadas: colunas exportadas, coluna de partição e o campo da entidade
+     * correspondente (usado para reconhecer ordenação por data).
+     */
+    public enum Tabela {
+        ALERTA("tb_alerta", "dt_emitido_em", "emitidoEm", List.of(
+                new Coluna("id_alerta", Tipo.INTEIRO),
+                new Coluna("ds_nivel_risco", Tipo.TEXTO),
+                new Coluna("ds_mensagem", Tipo.TEXTO),
+                new Coluna("dt_emitido_em", Tipo.DATA_HORA),
+                new Coluna("id_regiao", Tipo.INTEIRO),
+                new Coluna("dt_criacao", Tipo.DATA_HORA))),
+        EVENTO_NATURAL("tb_evento_natural", "dt_ocorrencia", "dataOcorrencia", List.of(
+                new Coluna("id_evento_natural", Tipo.INTEIRO),
+                new Coluna("ds_tipo", Tipo.TEXTO),
+                new Coluna("ds_descricao", Tipo.TEXTO),
+                new Coluna("dt_ocorrencia", Tipo.DATA_HORA),
+                new Coluna("id_regiao", Tipo.INTEIRO),
+                new Coluna("dt_criacao", Tipo.DATA_HORA))),
+        PREVISAO_RISCO("tb_previsao_risco", "dt_gerado_em", "geradoEm", List.of(
+                new Coluna("id_previsao_risco", Tipo.INTEIRO),
+                new Coluna("ds_nivel_previsto", Tipo.TEXTO),
+                new Coluna("ds_fonte", Tipo.TEXTO),
+                new Coluna("dt_gerado_em", Tipo.DATA_HORA),
+                new Coluna("id_regiao", Tipo.INTEIRO),
+                new Coluna("dt_criacao", Tipo.DATA_HORA))),
+        RELATO_USUARIO("tb_relato_usuario", "dt_relato", "dataRelato", List.of(
+                new Coluna("id_relato_usuario", Tipo.INTEIRO),
+                new Coluna("ds_mensagem", Tipo.TEXTO),
+                new Coluna("dt_relato", Tipo.DATA_HORA),
+                new Coluna("id_usuario", Tipo.INTEIRO),
+                new Coluna("id_regiao", Tipo.INTEIRO),
+                new Coluna("dt_criacao", Tipo.DATA_HORA)));
+
+        private final String nome;
+        private final String colunaData;
+        private final String campoData;
+        private final List<Coluna> colunas;
+
+        Tabela(String nome, String colunaData, String campoData, List<Coluna> colunas) {
+            this.nome = nome;
+            this.colunaData = colunaData;
+            this.campoData = campoData;
+            this.colunas = colunas;
+        }
+
+        public String getNome() {
+            return nome;
+        }
+
+        /** Tabela arquivável pelo nome físico, se houver. */
+        public static Optional<Tabela> porNome(String nome) {
+            return Arrays.stream(values()).filter(t -> t.nome.equals(nome)).findFirst();
+        }
+    }
+
+    /**
+     * Critérios de uma consulta na camada fria.
+     *
+     * @param dataInicio  limite inferior inclusivo da coluna de data (opcional)
+     * @param dataFim     limite superior inclusivo da coluna de data (opcional)
+     * @param igualdades  colunas inteiras com valor exato (ex.: `id_regiao`), valores nulos são ignorados
+     * @param filtro      demais predicados, aplicados linha a linha (nulo = nenhum: a contagem usa só
+     *                    as colunas de data e IDs)
+     */
+    public record Consulta(LocalDateTime dataInicio, LocalDateTime dataFim,
+                           Map<String, Long> igualdades, Predicate<Linha> filtro) {
+    }
+
+    private static final DateTimeFormatter SUFIXO_MES = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String EXTENSAO = ".slc";
+    private static final int LOTE_CONVERSAO = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path diretorio;
+    private final int mesesQuentes;
+    private final int linhasPorGrupo;
+
+    /** Arquivos publicados por tabela, ordenados por mês. */
+    private final Map<Tabela, NavigableMap<YearMonth, Path>> arquivos = new ConcurrentHashMap<>();
+
+    public ArquivoFrioService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${safelink.arquivo-frio.diretorio:./dados/frio}") String diretorio,
+                              @Value("${safelink.arquivo-frio.meses-quentes:0}") int mesesQuentes,
+                              @Value("${safelink.arquivo-frio.linhas-por-grupo:8192}") int linhasPorGrupo) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.diretorio = Path.of(diretorio);
+        this.mesesQuentes = mesesQuentes;
+        this.linhasPorGrupo = linhasPorGrupo;
+        for (Tabela tabela : Tabela.values()) {
+            arquivos.put(tabela, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * Indexa os arquivos já publicados e descarta temporários de exportações interrompidas.
+     */
+    @PostConstruct
+    public void carregarArquivos() {
+        for (Tabela tabela : Tabela.values()) {
+            Path pasta = diretorio.resolve(tabela.nome);
+            if (!Files.isDirectory(pasta)) {
+                continue;
+            }
+            try (Stream<Path> conteudo = Files.list(pasta)) {
+                for (Path arquivo : conteudo.toList()) {
+                    String nome = arquivo.getFileName().toString();
+                    if (nome.endsWith(".tmp")) {
+                        Files.deleteIfExists(arquivo);
+                    } else if (nome.matches("\\d{6}" + Pattern.quote(EXTENSAO))) {
+                        arquivos.get(tabela).put(YearMonth.parse(nome.substring(0, 6), SUFIXO_MES), arquivo);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o diretório da camada fria " + pasta, e);
+            }
+            if (!arquivos.get(tabela).isEmpty()) {
+                log.info("🧊 Camada fria de {}: {} meses ({} a {})", tabela.nome, arquivos.get(tabela).size(),
+                        arquivos.get(tabela).firstKey(), arquivos.get(tabela).lastKey());
+            }
+        }
+    }
+
+    // ============================================
+    // 📦 Arquivamento
+    // ============================================
+
+    /** Indica se o arquivamento está ativo (`meses-quentes` > 0). */
+    public boolean isHabilitado() {
+        return mesesQuentes > 0;
+    }
+
+    /** Primeiro mês mantido no banco: partições anteriores a ele são arquivadas. */
+    public YearMonth primeiroMesQuente() {
+        return YearMonth.now().minusMonths(mesesQuentes);
+    }
+
+    /**
+     * Exporta a partição mensal para a camada fria e a remove do banco, atomicamente:
+     * falhas antes do commit mantêm a partição e descartam o arquivo.
+     *
+     * @param tabela   tabela particionada
+     * @param particao partição `<tabela>_pAAAAMM`
+     * @param mes      mês da partição
+     */
+    public void arquivarParticao(Tabela tabela, String particao, YearMonth mes) {
+        long inicio = System.nanoTime();
+        Path destino = diretorio.resolve(tabela.nome).resolve(SUFIXO_MES.format(mes) + EXTENSAO);
+        Path temporario = destino.resolveSibling(destino.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(destino.getParent());
+            long linhas = transactionTemplate.execute(status -> {
+                // Bloqueia escritas na partição durante a exportação
+                jdbcTemplate.execute("lock table " + particao + " in share mode");
+                long exportadas = exportar(tabela, particao, temporario);
+                long conferidas = contarLinhas(temporario, tabela);
+                Long noBanco = jdbcTemplate.queryForObject("select count(*) from " + particao, Long.class);
+                if (exportadas != conferidas || noBanco == null || noBanco != conferidas) {
+                    throw new IllegalStateException("Contagem divergente ao arquivar " + particao
+                            + ": banco " + noBanco + ", exportadas " + exportadas + ", arquivo " + conferidas);
+                }
+                jdbcTemplate.execute("alter table " + tabela.nome + " detach partition " + particao);
+                jdbcTemplate.execute("drop table " + particao);
+                mover(temporario, destino);
+                return conferidas;
+            });
+            arquivos.get(tabela).put(mes, destino);
+            log.info("🧊 Partição {} arquivada em {}: {} linhas, {} KB em {} ms", particao, destino, linhas,
+                    Files.size(destino) / 1024, (System.nanoTime() - inicio) / 1_000_000);
+        } catch (RuntimeException | IOException e) {
+            // Rollback: a partição continua no banco; o arquivo não pode ficar publicado
+            apagar(temporario);
+            if (tipoTabela(particao) != null) {
+                apagar(destino);
+            }
+            log.error("❌ Falha ao arquivar a partição {}", particao, e);
+        }
+    }
+
+    /**
+     * Remove da camada fria os meses anteriores ao limite (retenção).
+     */
+    public void excluirAnteriores(Tabela tabela, YearMonth limite) {
+        NavigableMap<YearMonth, Path> antigos = arquivos.get(tabela).headMap(limite, false);
+        for (Map.Entry<YearMonth, Path> antigo : new ArrayList<>(antigos.entrySet())) {
+            antigos.remove(antigo.getKey());
+            apagar(antigo.getValue());
+            log.info("🗑️ Arquivo frio {} removido pela retenção", antigo.getValue());
+        }
+    }
+
+    // ============================================
+    // 🔎 Consulta federada
+    // ============================================
+
+    /**
+     * Executa a consulta paginada nas duas camadas.
+     *
+     * @param tabela         tabela consultada
+     * @param consulta       critérios da camada fria (equivalentes à Specification)
+     * @param pageable       paginação e ordenação pedidas
+     * @param consultaQuente consulta ao banco para uma página qualquer
+     * @param conversor      converte linhas arquivadas em DTOs (na mesma ordem)
+     */
+    public <T> Page<T> federar(Tabela tabela, Consulta consulta, Pageable pageable,
+                               Function<Pageable, Page<T>> consultaQuente,
+                               Function<List<Linha>, List<T>> conversor) {
+        NavigableMap<YearMonth, Path> meses = mesesNoPeriodo(tabela, consulta);
+        if (meses.isEmpty()) {
+            return consultaQuente.apply(pageable);
+        }
+
+        Sort sort = pageable.getSort();
+        Sort.Order ordemData = sort.getOrderFor(tabela.campoData);
+        if (pageable.isUnpaged()) {
+            List<T> todos = new ArrayList<>(consultaQuente.apply(pageable).getContent());
+            todos.addAll(conversor.apply(lerFrios(tabela, consulta, meses, false, 0, Long.MAX_VALUE)));
+            if (sort.isSorted()) {
+                todos.sort(comparador(sort));
+            }
+            return new PageImpl<>(todos, pageable, todos.size());
+        }
+        if (sort.isUnsorted()) {
+            return concatenar(tabela, consulta, meses, pageable, consultaQuente, conversor);
+        }
+        if (ordemData != null && sort.stream().count() == 1) {
+            return mesclarPorData(tabela, consulta, meses, pageable, consultaQuente, conversor, ordemData.isAscending());
+        }
+        return mesclar(tabela, consulta, meses, pageable, consultaQuente, conversor);
+    }
+
+    /**
+     * Sem ordenação: banco e depois camada fria. A camada fria só é lida quando a página passa do banco,
+     * e a contagem só é feita quando o total não sai da própria página.
+     */
+    private <T> Page<T> concatenar(Tabela tabela, Consulta consulta, NavigableMap<YearMonth, Path> meses,
+                                   Pageable pageable, Function<Pageable, Page<T>> consultaQuente,
+                                   Function<List<Linha>, List<T>> conversor) {
+        int tamanho = pageable.getPageSize();
+        Janela<T> quentes = janelaQuente(consultaQuente, pageable, pageable.getOffset(), tamanho);
+        List<T> conteudo = new ArrayList<>(quentes.itens());
+        if (conteudo.size() < tamanho) {
+            long offsetFrio = Math.max(0, pageable.getOffset() - quentes.total());
+            conteudo.addAll(conversor.apply(lerFrios(tabela, consulta, meses, false, offsetFrio, tamanho - conteudo.size())));
+        }
+        return PageableExecutionUtils.getPage(conteudo, pageable,
+                () -> quentes.total() + contarFrios(tabela, consulta, meses));
+    }
+
+    /**
+     * Ordenação só por data. Se a primeira linha fria (na ordem pedida) não vem antes da última linha da
+     * página do banco, a página é a do banco; senão, mescla as `offset + size` primeiras linhas de cada camada
+     * (em empates, o banco vem antes).
+     */
+    private <T> Page<T> mesclarPorData(Tabela tabela, Consulta consulta, NavigableMap<YearMonth, Path> meses,
+                                       Pageable pageable, Function<Pageable, Page<T>> consultaQuente,
+                                       Function<List<Linha>, List<T>> conversor, boolean crescente) {
+        long offset = pageable.getOffset();
+        int tamanho = pageable.getPageSize();
+        Janela<T> quentes = janelaQuente(consultaQuente, pageable, offset, tamanho);
+        List<Linha> primeira = lerFrios(tabela, consulta, meses, !crescente, 0, 1);
+        if (primeira.isEmpty()) {
+            return new PageImpl<>(quentes.itens(), pageable, quentes.total());
+        }
+        LocalDateTime dataFria = primeira.get(0).dataHora(tabela.colunaData);
+        if (quentes.itens().size() == tamanho
+                && propriedade(quentes.itens().get(tamanho - 1), tabela.campoData) instanceof LocalDateTime ultima
+                && (crescente ? !dataFria.isBefore(ultima) : !dataFria.isAfter(ultima))) {
+            return PageableExecutionUtils.getPage(quentes.itens(), pageable,
+                    () -> quentes.total() + contarFrios(tabela, consulta, meses));
+        }
+
+        long janela = offset + tamanho;
+        List<T> frios = conversor.apply(lerFrios(tabela, consulta, meses, !crescente, 0, janela));
+        Page<T> topo = consultaQuente.apply(PageRequest.of(0, (int) janela, pageable.getSort()));
+        List<T> todos = new ArrayList<>(topo.getContent());
+        todos.addAll(frios);
+        todos.sort(comparador(pageable.getSort()));
+        return PageableExecutionUtils.getPage(recortar(todos, offset, tamanho), pageable,
+                () -> topo.getTotalElements() + (frios.size() < janela ? frios.size() : contarFrios(tabela, consulta, meses)));
+    }
+
+    /**
+     * Ordenação por outros campos: os arquivos não estão nessa ordem, então todos são percorridos,
+     * retendo só as `offset + size` primeiras linhas frias (convertidas em lotes).
+     */
+    private <T> Page<T> mesclar(Tabela tabela, Consulta consulta, NavigableMap<YearMonth, Path> meses,
+                                Pageable pageable, Function<Pageable, Page<T>> consultaQuente,
+                                Function<List<Linha>, List<T>> conversor) {
+        long janela = pageable.getOffset() + pageable.getPageSize();
+        Comparator<T> ordem = comparador(pageable.getSort());
+        PriorityQueue<T> melhores = new PriorityQueue<>(ordem.reversed());
+        List<Linha> lote = new ArrayList<>(LOTE_CONVERSAO);
+        long[] frios = {0};
+        Consumer<List<Linha>> reter = linhas -> {
+            for (T item : conversor.apply(linhas)) {
+                melhores.add(item);
+                if (melhores.size() > janela) {
+                    melhores.poll();
+                }
+            }
+            linhas.clear();
+        };
+        percorrerFrios(tabela, consulta, meses, false, linha -> {
+            frios[0]++;
+            lote.add(linha);
+            if (lote.size() >= LOTE_CONVERSAO) {
+                reter.accept(lote);
+            }
+            return true;
+        });
+        if (!lote.isEmpty()) {
+            reter.accept(lote);
+        }
+
+        Page<T> topo = consultaQuente.apply(PageRequest.of(0, (int) janela, pageable.getSort()));
+        List<T> todos = new ArrayList<>(topo.getContent());
+        todos.addAll(melhores);
+        todos.sort(ordem);
+        return new PageImpl<>(recortar(todos, pageable.getOffset(), pageable.getPageSize()), pageable,
+                topo.getTotalElements() + frios[0]);
+    }
+
+    private record Janela<T>(List<T> itens, long total) {
+    }
+
+    /**
+     * Linhas do banco no intervalo `[offset, offset + limite)` com no máximo duas páginas
+     * do tamanho pedido (o offset nem sempre é múltiplo do tamanho).
+     */
+    private <T> Janela<T> janelaQuente(Function<Pageable, Page<T>> consultaQuente, Pageable pageable,
+                                       long offset, int limite) {
+        int tamanho = pageable.getPageSize();
+        if (limite <= 0) {
+            return new Janela<>(List.of(), consultaQuente.apply(PageRequest.of(0, 1, pageable.getSort())).getTotalElements());
+        }
+        int pagina = (int) (offset / tamanho);
+        int deslocamento = (int) (offset % tamanho);
+        Page<T> primeira = consultaQuente.apply(PageRequest.of(pagina, tamanho, pageable.getSort()));
+        List<T> itens = new ArrayList<>(recortar(primeira.getContent(), deslocamento, limite));
+        if (itens.size() < limite && primeira.hasNext()) {
+            Page<T> segunda = consultaQuente.apply(PageRequest.of(pagina + 1, tamanho, pageable.getSort()));
+            itens.addAll(recortar(segunda.getContent(), 0, limite - itens.size()));
+        }
+        return new Janela<>(itens, primeira.getTotalElements());
+    }
+
+    /**
+     * Meses arquivados que intersectam o período da consulta.
+     */
+    private NavigableMap<YearMonth, Path> mesesNoPeriodo(Tabela tabela, Consulta consulta) {
+        NavigableMap<YearMonth, Path> meses = arquivos.get(tabela);
+        if (meses.isEmpty()) {
+            return meses;
+        }
+        YearMonth de = consulta.dataInicio() != null ? YearMonth.from(consulta.dataInicio()) : meses.firstKey();
+        YearMonth ate = consulta.dataFim() != null ? YearMonth.from(consulta.dataFim()) : meses.lastKey();
+        return de.isAfter(ate) ? Collections.emptyNavigableMap() : meses.subMap(de, true, ate, true);
+    }
+
+    /**
+     * Linhas frias em ordem de data, ignorando as `pular` primeiras e retendo no máximo `limite`.
+     */
+    private List<Linha> lerFrios(Tabela tabela, Consulta consulta, NavigableMap<YearMonth, Path> meses,
+                                 boolean decrescente, long pular, long limite) {
+        List<Linha> linhas = new ArrayList<>((int) Math.min(limite, LOTE_CONVERSAO));
+        long[] vistas = {0};
+        percorrerFrios(tabela, consulta, meses, decrescente, linha -> {
+            if (vistas[0]++ >= pular) {
+                linhas.add(linha);
+            }
+            return linhas.size() < limite;
+        });
+        return linhas;
+    }
+
+    /**
+     * Percorre as linhas frias que atendem à consulta em ordem de data (arquivo a arquivo),
+     * até o consumidor devolver `false`.
+     */
+    private void percorrerFrios(Tabela tabela, Consulta consulta, NavigableMap<YearMonth, Path> meses,
+                                boolean decrescente, Predicate<Linha> consumidor) {
+        Map<String, Faixa> faixas = faixas(tabela, consulta);
+        boolean[] continuar = {true};
+        int gruposLidos = 0;
+        int gruposIgnorados = 0;
+        for (Path arquivo : (decrescente ? meses.descendingMap() : meses).values()) {
+            try {
+                ArquivoColunar.Estatisticas estatisticas = ArquivoColunar.ler(arquivo, faixas, List.of(), decrescente, linha -> {
+                    if (consulta.filtro() != null && !consulta.filtro().test(linha)) {
+                        return true;
+                    }
+                    continuar[0] = consumidor.test(linha);
+                    return continuar[0];
+                });
+                gruposLidos += estatisticas.gruposLidos();
+                gruposIgnorados += estatisticas.gruposIgnorados();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o arquivo frio " + arquivo, e);
+            }
+            if (!continuar[0]) {
+                break;
+            }
+        }
+        log.debug("🧊 Pushdown em {}: {} grupos lidos, {} ignorados", tabela.nome, gruposLidos, gruposIgnorados);
+    }
+
+    /**
+     * Total de linhas frias da consulta: sem filtro linha a linha, lê só as colunas de data e IDs.
+     */
+    private long contarFrios(Tabela tabela, Consulta consulta, NavigableMap<YearMonth, Path> meses) {
+        if (consulta.filtro() != null) {
+            long[] total = {0};
+            percorrerFrios(tabela, consulta, meses, false, linha -> {
+                total[0]++;
+                return true;
+            });
+            return total[0];
+        }
+        Map<String, Faixa> faixas = faixas(tabela, consulta);
+        long total = 0;
+        for (Path arquivo : meses.values()) {
+            try {
+                total += ArquivoColunar.contar(arquivo, faixas);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o arquivo frio " + arquivo, e);
+            }
+        }
+        return total;
+    }
+
+    private static Map<String, Faixa> faixas(Tabela tabela, Consulta consulta) {
+        Map<String, Faixa> faixas = new HashMap<>();
+        if (consulta.dataInicio() != null || consulta.dataFim() != null) {
+            faixas.put(tabela.colunaData, Faixa.entre(consulta.dataInicio(), consulta.dataFim()));
+        }
+        consulta.igualdades().forEach((coluna, valor) -> {
+            if (valor != null) {
+                faixas.put(coluna, Faixa.igual(valor));
+            }
+        });
+        return faixas;
+    }
+
+    // ============================================
+    // 🧰 Predicados (mesma semântica das Specifications)
+    // ============================================
+
+    /** Nenhum termo de texto informado: a consulta fria dispensa o filtro linha a linha. */
+    public static boolean semTermos(String... termos) {
+        return Arrays.stream(termos).allMatch(termo -> termo == null || termo.isBlank());
+    }
+
+    /** `lower(coluna) like %termo%`; termo vazio não filtra. */
+    public static boolean contem(String valor, String termo) {
+        if (termo == null || termo.isBlank()) {
+            return true;
+        }
+        return valor != null && valor.toLowerCase().contains(termo.toLowerCase());
+    }
+
+    /** `lower(coluna) = lower(termo)`; termo vazio não filtra. */
+    public static boolean igual(String valor, String termo) {
+        if (termo == null || termo.isBlank()) {
+            return true;
+        }
+        return valor != null && valor.toLowerCase().equals(termo.toLowerCase());
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    private long exportar(Tabela tabela, String particao, Path temporario) {
+        String colunas = tabela.colunas.stream().map(Coluna::nome).collect(Collectors.joining(", "));
+        String sql = "select " + colunas + " from " + particao + " order by " + tabela.colunaData;
+        try (ArquivoColunar.Escritor escritor = new ArquivoColunar.Escritor(temporario, tabela.colunas, linhasPorGrupo)) {
+            jdbcTemplate.query(conexao -> {
+                PreparedStatement statement = conexao.prepareStatement(sql);
+                statement.setFetchSize(linhasPorGrupo);
+                return statement;
+            }, (ResultSet rs) -> {
+                Object[] valores = new Object[tabela.colunas.size()];
+                for (int c = 0; c < valores.length; c++) {
+                    valores[c] = switch (tabela.colunas.get(c).tipo()) {
+                        case INTEIRO -> rs.getObject(c + 1) != null ? rs.getLong(c + 1) : null;
+                        case DATA_HORA -> {
+                            Timestamp timestamp = rs.getTimestamp(c + 1);
+                            yield timestamp != null ? timestamp.toLocalDateTime() : null;
+                        }
+                        case TEXTO -> rs.getString(c + 1);
+                    };
+                }
+                try {
+                    escritor.adicionar(valores);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            // O try-with-resources fecha (grava o rodapé) antes do retorno
+            return escritor.getTotalLinhas();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao exportar " + particao, e);
+        }
+    }
+
+    private long contarLinhas(Path arquivo, Tabela tabela) {
+        try {
+            return ArquivoColunar.ler(arquivo, Map.of(), List.of(tabela.colunas.get(0).nome()), linha -> {
+            }).linhasEmitidas();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao conferir " + arquivo, e);
+        }
+    }
+
+    private static <T> List<T> recortar(List<T> lista, long inicio, int quantidade) {
+        if (inicio >= lista.size() || quantidade <= 0) {
+            return List.of();
+        }
+        return lista.subList((int) inicio, (int) Math.min(lista.size(), inicio + quantidade));
+    }
+
+    /**
+     * Comparador equivalente ao `ORDER BY` pedido, aplicado às propriedades do DTO
+     * (propriedades inexistentes no DTO são tratadas como nulas).
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Comparator<T> comparador(Sort sort) {
+        Comparator<T> resultado = (a, b) -> 0;
+        for (Sort.Order ordem : sort) {
+            Comparator<Comparable> valores = Comparator.nullsLast(Comparator.naturalOrder());
+            Comparator<T> campo = Comparator.comparing(item -> (Comparable) propriedade(item, ordem.getProperty()),
+                    ordem.isAscending() ? valores : valores.reversed());
+            resultado = resultado.thenComparing(campo);
+        }
+        return resultado;
+    }
+
+    private static Object propriedade(Object item, String nome) {
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(item);
+        if (!wrapper.isReadableProperty(nome)) {
+            return null;
+        }
+        Object valor = wrapper.getPropertyValue(nome);
+        return valor instanceof Comparable<?> ? valor : null;
+    }
+
+    private static void mover(Path origem, Path destino) {
+        try {
+            Files.move(origem, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao publicar " + destino, e);
+        }
+    }
+
+    private static void apagar(Path arquivo) {
+        try {
+            Files.deleteIfExists(arquivo);
+        } catch (IOException e) {
+            log.warn("⚠️ Não foi possível remover {}", arquivo, e);
+        }
+    }
+
+    private String tipoTabela(String nome) {
+        List<String> tipos = jdbcTemplate.queryForList(
+                "select c.relkind::text from pg_class c where c.relname = ?", String.class, nome);
+        return tipos.isEmpty() ? null : tipos.get(0);
+    }
+}
@@ -15,9 +15,11 @@ import lombok.RequiredArgsConstructor;
 public class AuthService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final EmailBloomFilterService emailBloomFilter;
 
     /**
      * Carrega um usuário pelo e-mail (usado como username pelo Spring Security).
+     * E-mails que o filtro de Bloom garante não existirem são rejeitados sem consulta ao banco.
      *
      * @param email e-mail do usuário
      * @return UserDetails para o processo de autenticação
@@ -25,6 +27,11 @@ public class AuthService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        if (!emailBloomFilter.podeExistir(email)) {
+            log.debug("Login descartado pelo filtro de e-mails: {}", email);
+            throw new UsernameNotFoundException("Usuário com e-mail '" + email + "' não encontrado");
+        }
+
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     log.warn("Tentativa de login com e-mail inexistente: {}", email);
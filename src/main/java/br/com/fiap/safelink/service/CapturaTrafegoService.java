@@ -0,0 +1,200 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.util.LogTrafego;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * # 📼 Service: CapturaTrafegoService
+ *
+ * Grava em disco os metadados das requisições de produção ({@link LogTrafego}), para reproduzir
+ * a mistura real de filtros, ordenações e tamanhos de página contra uma instância de teste.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - A requisição só enfileira o registro (fila limitada, sem bloqueio); fila cheia descarta e conta
+ * - Uma única thread grava os arquivos, descarregando o buffer sempre que a fila esvazia
+ * - Arquivos `trafego-<data>.slt` em `diretorio`, trocados ao passar de `tamanho-maximo-mb`
+ * - Desligado por padrão (`safelink.captura.habilitado`)
+ *
+ * 📊 Métricas: `safelink.captura.registros` (tag `resultado`: gravado, descartado, falha) e
+ * `safelink.captura.fila`.
+ */
+@Slf4j
+@Service
+public class CapturaTrafegoService {
+
+    private static final DateTimeFormatter FORMATO_ARQUIVO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final boolean habilitado;
+    private final Path diretorio;
+    private final long tamanhoMaximoBytes;
+    private final BlockingQueue<LogTrafego.Registro> fila;
+    private final Counter gravados;
+    private final Counter descartados;
+    private final Counter falhas;
+
+    private volatile boolean ativo;
+    private Thread gravador;
+    private Path arquivoAtual;
+
+    public CapturaTrafegoService(MeterRegistry meterRegistry,
+                                 @Value("${safelink.captura.habilitado:false}") boolean habilitado,
+                                 @Value("${safelink.captura.diretorio:./dados/captura}") String diretorio,
+                                 @Value("${safelink.captura.tamanho-maximo-mb:256}") long tamanhoMaximoMb,
+                                 @Value("${safelink.captura.fila:8192}") int capacidadeFila) {
+        this.habilitado = habilitado;
+        this.diretorio = Paths.get(diretorio).toAbsolutePath().normalize();
+        this.tamanhoMaximoBytes = tamanhoMaximoMb * 1024 * 1024;
+        this.fila = new ArrayBlockingQueue<>(Math.max(1, capacidadeFila));
+        this.gravados = contador(meterRegistry, "gravado");
+        this.descartados = contador(meterRegistry, "descartado");
+        this.falhas = contador(meterRegistry, "falha");
+        Gauge.builder("safelink.captura.fila", fila, BlockingQueue::size)
+                .description("Registros de tráfego aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    private static Counter contador(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("safelink.captura.registros")
+                .description("Requisições capturadas para reprodução")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    // ============================================
+    // ⏯️ Ciclo de vida
+    // ============================================
+
+    @PostConstruct
+    public void iniciar() {
+        if (!habilitado) {
+            return;
+        }
+        ativo = true;
+        gravador = new Thread(this::gravar, "captura-trafego");
+        gravador.setDaemon(true);
+        gravador.start();
+        log.info("📼 Captura de tráfego ativa em {}", diretorio);
+    }
+
+    /** Para a gravação depois de escrever o que já estava na fila. */
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        if (gravador == null) {
+            return;
+        }
+        ativo = false;
+        gravador.interrupt();
+        gravador.join(TimeUnit.SECONDS.toMillis(10));
+        gravador = null;
+    }
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    // ============================================
+    // ➕ Registro
+    // ============================================
+
+    /**
+     * Enfileira uma requisição para gravação; nunca bloqueia a thread chamadora.
+     */
+    public void registrar(LogTrafego.Registro registro) {
+        if (!ativo || !fila.offer(registro)) {
+            descartados.increment();
+        }
+    }
+
+    // ============================================
+    // 💾 Gravação
+    // ============================================
+
+    private void gravar() {
+        LogTrafego.Escritor escritor = null;
+        OutputStream arquivo = null;
+        try {
+            while (ativo || !fila.isEmpty()) {
+                LogTrafego.Registro registro;
+                try {
+                    registro = ativo ? fila.poll(1, TimeUnit.SECONDS) : fila.poll();
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                if (registro == null) {
+                    continue;
+                }
+                try {
+                    if (escritor == null || Files.size(arquivoAtual) >= tamanhoMaximoBytes) {
+                        fechar(escritor);
+                        arquivo = abrir();
+                        escritor = new LogTrafego.Escritor(arquivo, registro.inicioMicros());
+                    }
+                    escritor.adicionar(registro);
+                    gravados.increment();
+                    if (fila.isEmpty()) {
+                        escritor.descarregar();
+                    }
+                } catch (IOException e) {
+                    falhas.increment();
+                    log.warn("⚠️ Falha ao gravar a captura de tráfego em {}: {}", arquivoAtual, e.getMessage());
+                    fecharSilenciosamente(arquivo);
+                    escritor = null;
+                }
+            }
+        } finally {
+            try {
+                fechar(escritor);
+            } catch (IOException e) {
+                log.warn("⚠️ Falha ao fechar a captura de tráfego {}: {}", arquivoAtual, e.getMessage());
+            }
+        }
+    }
+
+    private OutputStream abrir() throws IOException {
+        Files.createDirectories(diretorio);
+        String base = "trafego-" + FORMATO_ARQUIVO.format(LocalDateTime.now());
+        Path arquivo = diretorio.resolve(base + ".slt");
+        for (int i = 1; Files.exists(arquivo); i++) {
+            arquivo = diretorio.resolve(base + "-" + i + ".slt");
+        }
+        arquivoAtual = arquivo;
+        log.info("📼 Gravando captura de tráfego em {}", arquivo);
+        return Files.newOutputStream(arquivo);
+    }
+
+    private static void fechar(LogTrafego.Escritor escritor) throws IOException {
+        if (escritor != null) {
+            escritor.close();
+        }
+    }
+
+    private static void fecharSilenciosamente(OutputStream arquivo) {
+        if (arquivo == null) {
+            return;
+        }
+        try {
+            arquivo.close();
+        } catch (IOException ignorada) {
+            // O arquivo já falhou; o próximo registro abre outro
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.ContextoPool;
+import br.com.fiap.safelink.config.FiltroConsultaAspect;
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.PrazoRequisicao;
+import br.com.fiap.safelink.config.RegistroPools;
+import br.com.fiap.safelink.dto.response.ConsultaLentaResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * # 🐢 Service: ConsultaLentaService
+ *
+ * Registro de comandos SQL lentos, em substituição ao `show-sql` (que imprimia todos os comandos).
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Alimentado pelo `MonitorSqlDataSource` com comandos acima de `limite-ms`
+ * - Cada registro leva SQL, parâmetros vinculados, método de serviço de origem, requisição e
+ *   registro de filtro da consulta; os mais recentes ficam em um buffer circular de `capacidade`
+ * - Uma amostra das consultas (`amostra-explain`) é reexecutada com `EXPLAIN (ANALYZE, BUFFERS)`
+ *   em segundo plano, no pool de lote do primário, dentro de uma transação desfeita ao final;
+ *   só um `EXPLAIN` roda por vez e os excedentes são descartados
+ * - Somente `SELECT`/`WITH` sem escrita são explicados (`ANALYZE` executa o comando)
+ */
+@Slf4j
+@Service
+public class ConsultaLentaService implements DisposableBean {
+
+    private static final int MAX_TEXTO_PARAMETRO = 200;
+    private static final String PACOTE_APLICACAO = "br.com.fiap.safelink.";
+    private static final String PACOTE_SERVICOS = PACOTE_APLICACAO + "service.";
+    private static final String PACOTE_CONFIG = PACOTE_APLICACAO + "config.";
+
+    private final RegistroPools registroPools;
+    private final long limiteNanos;
+    private final int capacidade;
+    private final double amostraExplain;
+    private final long timeoutExplainMs;
+
+    private final Deque<Registro> registros = new ArrayDeque<>();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final ThreadPoolExecutor explicador;
+
+    /**
+     * Comando lento registrado; o plano chega depois, quando amostrado.
+     */
+    private static final class Registro {
+
+        private final long id;
+        private final LocalDateTime registradaEm = LocalDateTime.now();
+        private final long duracaoNanos;
+        private final String sql;
+        private final Object[] parametros;
+        private final String origem;
+        private final String requisicao;
+        private final String filtro;
+        private volatile String plano;
+
+        private Registro(long id, long duracaoNanos, String sql, Object[] parametros,
+                         String origem, String requisicao, String filtro) {
+            this.id = id;
+            this.duracaoNanos = duracaoNanos;
+            this.sql = sql;
+            this.parametros = parametros;
+            this.origem = origem;
+            this.requisicao = requisicao;
+            this.filtro = filtro;
+        }
+    }
+
+    public ConsultaLentaService(RegistroPools registroPools,
+                                @Value("${safelink.sql-lenta.limite-ms:200}") long limiteMs,
+                                @Value("${safelink.sql-lenta.capacidade:100}") int capacidade,
+                                @Value("${safelink.sql-lenta.amostra-explain:0.2}") double amostraExplain,
+                                @Value("${safelink.sql-lenta.timeout-explain-ms:10000}") long timeoutExplainMs) {
+        this.registroPools = registroPools;
+        this.limiteNanos = TimeUnit.MILLISECONDS.toNanos(limiteMs);
+        this.capacidade = capacidade;
+        this.amostraExplain = amostraExplain;
+        this.timeoutExplainMs = timeoutExplainMs;
+        this.explicador = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "explain-sql-lenta");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public long getLimiteNanos() {
+        return limiteNanos;
+    }
+
+    // ============================================
+    // 📥 Registro
+    // ============================================
+
+    /**
+     * Registra um comando que passou do limite, na thread que o executou
+     * (de onde saem a origem, a requisição e o filtro).
+     */
+    public void registrar(String sql, Object[] parametros, long duracaoNanos) {
+        PrazoRequisicao requisicao = PrazoRequisicao.atual();
+        Object filtro = FiltroConsultaAspect.filtroAtual();
+        Registro registro = new Registro(sequencia.incrementAndGet(), duracaoNanos, sql, parametros, origem(),
+                requisicao != null ? requisicao.getDescricao() : null,
+                filtro != null ? filtro.toString() : null);
+
+        synchronized (registros) {
+            registros.addFirst(registro);
+            while (registros.size() > capacidade) {
+                registros.removeLast();
+            }
+        }
+        log.warn("🐢 SQL lenta ({} ms) em {}{}: {} | parâmetros {}", TimeUnit.NANOSECONDS.toMillis(duracaoNanos),
+                registro.origem, registro.filtro != null ? " com " + registro.filtro : "",
+                sql, formatar(parametros));
+
+        if (explicavel(sql) && ThreadLocalRandom.current().nextDouble() < amostraExplain) {
+            explicador.execute(() -> ContextoPool.executar(PoolConexao.LOTE, () -> explicar(registro)));
+        }
+    }
+
+    // ============================================
+    // 🔍 Consulta
+    // ============================================
+
+    /**
+     * Comandos lentos mais recentes primeiro.
+     */
+    public List<ConsultaLentaResponseDTO> consultar(int limite) {
+        List<Registro> copia;
+        synchronized (registros) {
+            copia = new ArrayList<>(registros);
+        }
+        return copia.stream()
+                .limit(Math.max(0, limite))
+                .map(this::toDTO)
+                .toList();
+    }
+
+    // ============================================
+    // 🧾 EXPLAIN
+    // ============================================
+
+    private void explicar(Registro registro) {
+        try (Connection conexao = registroPools.getPrimario().getConnection()) {
+            conexao.setAutoCommit(false);
+            try {
+                try (Statement statement = conexao.createStatement()) {
+                    statement.execute("set local statement_timeout = " + timeoutExplainMs);
+                }
+                StringBuilder plano = new StringBuilder();
+                try (PreparedStatement statement = conexao.prepareStatement(
+                        "explain (analyze, buffers) " + registro.sql)) {
+                    for (int i = 0; i < registro.parametros.length; i++) {
+                        statement.setObject(i + 1, registro.parametros[i]);
+                    }
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            plano.append(rs.getString(1)).append('\n');
+                        }
+                    }
+                }
+                registro.plano = plano.toString();
+            } finally {
+                conexao.rollback();
+            }
+        } catch (SQLException e) {
+            registro.plano = "EXPLAIN indisponível: " + e.getMessage();
+        }
+    }
+
+    /** `ANALYZE` executa o comando: só consultas sem escrita podem ser explicadas. */
+    private static boolean explicavel(String sql) {
+        String texto = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (texto.startsWith("select")) {
+            return !texto.contains(" for update") && !texto.contains(" for share");
+        }
+        return texto.startsWith("with")
+                && !texto.contains("insert ") && !texto.contains("update ") && !texto.contains("delete ");
+    }
+
+    @Override
+    public void destroy() {
+        explicador.shutdownNow();
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    /**
+     * Primeiro método de serviço na pilha (ou, sem serviço, o primeiro da aplicação fora da configuração).
+     */
+    private static String origem() {
+        return StackWalker.getInstance().walk(frames -> {
+            String outro = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String classe = frame.getClassName();
+                if (!classe.startsWith(PACOTE_APLICACAO) || classe.contains("$$")
+                        || classe.equals(ConsultaLentaService.class.getName())) {
+                    continue;
+                }
+                String metodo = frame.getMethodName();
+                if (metodo.startsWith("lambda$")) {
+                    // lambda$consultarComFiltro$2 -> consultarComFiltro
+                    metodo = metodo.substring(7, Math.max(7, metodo.lastIndexOf('$')));
+                }
+                String descricao = classe.substring(classe.lastIndexOf('.') + 1) + "." + metodo + ":" + frame.getLineNumber();
+                if (classe.startsWith(PACOTE_SERVICOS)) {
+                    return descricao;
+                }
+                if (outro == null && !classe.startsWith(PACOTE_CONFIG)) {
+                    outro = descricao;
+                }
+            }
+            return outro != null ? outro : "desconhecida";
+        });
+    }
+
+    private static List<String> formatar(Object[] parametros) {
+        List<String> textos = new ArrayList<>(parametros.length);
+        for (Object parametro : parametros) {
+            String texto = parametro instanceof byte[] bytes ? "<" + bytes.length + " bytes>" : String.valueOf(parametro);
+            textos.add(texto.length() > MAX_TEXTO_PARAMETRO ? texto.substring(0, MAX_TEXTO_PARAMETRO) + "…" : texto);
+        }
+        return textos;
+    }
+
+    private ConsultaLentaResponseDTO toDTO(Registro registro) {
+        return ConsultaLentaResponseDTO.builder()
+                .id(registro.id)
+                .registradaEm(registro.registradaEm)
+                .duracaoMs(registro.duracaoNanos / 1_000_000.0)
+                .sql(registro.sql)
+                .parametros(formatar(registro.parametros))
+                .origem(registro.origem)
+                .requisicao(registro.requisicao)
+                .filtro(registro.filtro)
+                .plano(registro.plano)
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.ConsumoRequisicaoFilter;
+import br.com.fiap.safelink.dto.response.ConsumoRotaResponseDTO;
+import br.com.fiap.safelink.util.HistogramaLatencia;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * # 🧪 Service: ConsumoRequisicaoService
+ *
+ * Acumula, por rota, a memória alocada e o tempo de CPU das requisições medidas pelo
+ * {@link ConsumoRequisicaoFilter}.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Histogramas em memória por rota (baldes logarítmicos, bytes e nanossegundos) para `/admin/alocacao`
+ * - Métricas `safelink.requisicao.alocacao` (bytes) e `safelink.requisicao.cpu`, com tag `rota`:
+ *   histograma com faixa esperada (1 KB a 512 MB; 1 ms a 10 s) para limitar os baldes por rota,
+ *   sem percentis calculados na aplicação
+ * - Medidores de cada rota são criados uma vez e reaproveitados: o registro não consulta o `MeterRegistry`
+ */
+@Service
+@RequiredArgsConstructor
+public class ConsumoRequisicaoService {
+
+    private static final double BYTES_POR_KB = 1024.0;
+    private static final double BYTES_POR_MB = 1024.0 * 1024.0;
+    private static final double NANOS_POR_MS = 1_000_000.0;
+    private static final double ALOCACAO_MINIMA = 1024.0;
+    private static final double ALOCACAO_MAXIMA = 512.0 * 1024 * 1024;
+    private static final Duration CPU_MINIMA = Duration.ofMillis(1);
+    private static final Duration CPU_MAXIMA = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ConsumoRota> rotas = new ConcurrentHashMap<>();
+
+    // ============================================
+    // ✍️ Registro
+    // ============================================
+
+    /**
+     * Registra o consumo de uma requisição.
+     *
+     * @param rota     método e padrão da rota
+     * @param bytes    memória alocada pela thread da requisição
+     * @param cpuNanos tempo de CPU da thread (negativo quando indisponível)
+     */
+    public void registrar(String rota, long bytes, long cpuNanos) {
+        ConsumoRota consumo = rotas.computeIfAbsent(rota, this::criar);
+        consumo.alocacao.registrar(bytes);
+        consumo.medidorAlocacao.record(bytes);
+        if (cpuNanos >= 0) {
+            consumo.cpu.registrar(cpuNanos);
+            consumo.medidorCpu.record(cpuNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // ============================================
+    // 🔍 Consulta
+    // ============================================
+
+    /**
+     * Rotas que mais alocaram memória desde a subida.
+     *
+     * @param limite número máximo de rotas
+     */
+    public List<ConsumoRotaResponseDTO> consultar(int limite) {
+        long alocadoTotal = rotas.values().stream().mapToLong(consumo -> consumo.alocacao.getSoma()).sum();
+        return rotas.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, ConsumoRota> rota) -> rota.getValue().alocacao.getSoma())
+                        .reversed())
+                .limit(Math.max(0, limite))
+                .map(rota -> toDTO(rota.getKey(), rota.getValue(), alocadoTotal))
+                .toList();
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    private ConsumoRota criar(String rota) {
+        return new ConsumoRota(
+                DistributionSummary.builder("safelink.requisicao.alocacao")
+                        .description("Memória alocada pela thread da requisição")
+                        .baseUnit("bytes")
+                        .tag("rota", rota)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(ALOCACAO_MINIMA)
+                        .maximumExpectedValue(ALOCACAO_MAXIMA)
+                        .register(meterRegistry),
+                Timer.builder("safelink.requisicao.cpu")
+                        .description("Tempo de CPU da thread da requisição")
+                        .tag("rota", rota)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(CPU_MINIMA)
+                        .maximumExpectedValue(CPU_MAXIMA)
+                        .register(meterRegistry));
+    }
+
+    private static ConsumoRotaResponseDTO toDTO(String rota, ConsumoRota consumo, long alocadoTotal) {
+        HistogramaLatencia alocacao = consumo.alocacao;
+        HistogramaLatencia cpu = consumo.cpu;
+        return ConsumoRotaResponseDTO.builder()
+                .rota(rota)
+                .requisicoes(alocacao.getContagem())
+                .fracaoAlocacao(alocadoTotal == 0 ? 0 : (double) alocacao.getSoma() / alocadoTotal)
+                .alocadoTotalMb(alocacao.getSoma() / BYTES_POR_MB)
+                .alocadoMedioKb(alocacao.media() / BYTES_POR_KB)
+                .alocadoP99Kb(alocacao.percentil(99) / BYTES_POR_KB)
+                .alocadoMaximoKb(alocacao.getMaximo() / BYTES_POR_KB)
+                .cpuMediaMs(cpu.media() / NANOS_POR_MS)
+                .cpuP99Ms(cpu.percentil(99) / NANOS_POR_MS)
+                .cpuMaximoMs(cpu.getMaximo() / NANOS_POR_MS)
+                .build();
+    }
+
+    /** Histogramas e medidores de uma rota. */
+    private static final class ConsumoRota {
+
+        private final HistogramaLatencia alocacao = new HistogramaLatencia();
+        private final HistogramaLatencia cpu = new HistogramaLatencia();
+        private final DistributionSummary medidorAlocacao;
+        private final Timer medidorCpu;
+
+        private ConsumoRota(DistributionSummary medidorAlocacao, Timer medidorCpu) {
+            this.medidorAlocacao = medidorAlocacao;
+            this.medidorCpu = medidorCpu;
+        }
+    }
+}
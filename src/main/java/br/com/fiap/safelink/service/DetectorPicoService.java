@@ -0,0 +1,282 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.dto.request.AlertaRequestDTO;
+import br.com.fiap.safelink.dto.response.PicoAtividadeResponseDTO;
+import br.com.fiap.safelink.event.EventoNaturalGravadoEvent;
+import br.com.fiap.safelink.event.PicoDetectadoEvent;
+import br.com.fiap.safelink.event.RelatoUsuarioGravadoEvent;
+import br.com.fiap.safelink.model.Regiao;
+import br.com.fiap.safelink.model.enums.TipoRegistro;
+import br.com.fiap.safelink.util.MonitorPico;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * # 📡 Service: DetectorPicoService
+ *
+ * Detector em fluxo de picos de relatos e eventos naturais por região e tipo.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Alimentado pelos eventos de gravação (após o commit), sem nenhuma consulta ao banco
+ * - Cada região/tipo tem um {@link MonitorPico}: janela deslizante por minuto + linha de base aprendida
+ * - Um pico é sinalizado quando a janela atinge o mínimo configurado e excede a base
+ *   em `limiar-desvios` desvios-padrão; encerra quando cai abaixo da metade do limiar
+ * - Opcionalmente cria um rascunho de `Alerta` para cada pico novo
+ *
+ * 🧠 Memória constante por região: número de categorias limitado (excedentes vão para `OUTROS`).
+ */
+@Slf4j
+@Service
+public class DetectorPicoService {
+
+    private static final String CATEGORIA_RELATO = "TOTAL";
+    private static final String CATEGORIA_EXCEDENTE = "OUTROS";
+    private static final int TAMANHO_HISTORICO = 200;
+
+    private final AlertaService alertaService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int janelaMinutos;
+    private final long meiaVidaBaseMinutos;
+    private final long minimoRegistros;
+    private final double limiarDesvios;
+    private final int categoriasPorRegiao;
+    private final boolean alertaAutomatico;
+
+    private final Map<Chave, MonitorPico> monitores = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> categoriasEmUso = new ConcurrentHashMap<>();
+    private final Map<Chave, Pico> ativos = new ConcurrentHashMap<>();
+    private final Deque<Pico> historico = new ConcurrentLinkedDeque<>();
+
+    public DetectorPicoService(AlertaService alertaService,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${safelink.picos.janela-minutos:10}") int janelaMinutos,
+                               @Value("${safelink.picos.meia-vida-base-horas:24}") long meiaVidaBaseHoras,
+                               @Value("${safelink.picos.minimo-registros:5}") long minimoRegistros,
+                               @Value("${safelink.picos.limiar-desvios:3.0}") double limiarDesvios,
+                               @Value("${safelink.picos.categorias-por-regiao:16}") int categoriasPorRegiao,
+                               @Value("${safelink.picos.alerta-automatico:false}") boolean alertaAutomatico) {
+        this.alertaService = alertaService;
+        this.eventPublisher = eventPublisher;
+        this.janelaMinutos = janelaMinutos;
+        this.meiaVidaBaseMinutos = meiaVidaBaseHoras * 60;
+        this.minimoRegistros = minimoRegistros;
+        this.limiarDesvios = limiarDesvios;
+        this.categoriasPorRegiao = categoriasPorRegiao;
+        this.alertaAutomatico = alertaAutomatico;
+    }
+
+    // ============================================
+    // 📥 Entrada do fluxo
+    // ============================================
+
+    @TransactionalEventListener
+    public void aoGravarRelato(RelatoUsuarioGravadoEvent event) {
+        var relato = event.relato();
+        registrar(TipoRegistro.RELATO_USUARIO, relato.getRegiao(), CATEGORIA_RELATO, relato.getDataRelato());
+    }
+
+    @TransactionalEventListener
+    public void aoGravarEvento(EventoNaturalGravadoEvent event) {
+        var evento = event.evento();
+        String categoria = evento.getTipo() == null ? "N/D" : evento.getTipo().trim().toUpperCase(Locale.ROOT);
+        registrar(TipoRegistro.EVENTO_NATURAL, evento.getRegiao(), categoria, evento.getDataOcorrencia());
+    }
+
+    private void registrar(TipoRegistro tipo, Regiao regiao, String categoria, LocalDateTime dataHora) {
+        if (regiao == null || regiao.getId() == null || dataHora == null) {
+            return;
+        }
+        long agora = minuto(LocalDateTime.now());
+        Chave chave = chaveLimitada(regiao.getId(), tipo, categoria);
+        MonitorPico monitor = monitores.computeIfAbsent(chave, c -> new MonitorPico(janelaMinutos, meiaVidaBaseMinutos));
+        monitor.registrar(Math.min(minuto(dataHora), agora));
+        avaliar(chave, monitor, agora, regiao.getNome());
+    }
+
+    /**
+     * Limita a quantidade de categorias monitoradas por região para manter a memória constante.
+     */
+    private Chave chaveLimitada(Long regiaoId, TipoRegistro tipo, String categoria) {
+        Chave chave = new Chave(regiaoId, tipo, categoria);
+        if (monitores.containsKey(chave)) {
+            return chave;
+        }
+        AtomicInteger emUso = categoriasEmUso.computeIfAbsent(regiaoId, id -> new AtomicInteger());
+        if (emUso.incrementAndGet() > categoriasPorRegiao) {
+            emUso.decrementAndGet();
+            return new Chave(regiaoId, tipo, CATEGORIA_EXCEDENTE);
+        }
+        return chave;
+    }
+
+    // ============================================
+    // 🔎 Detecção
+    // ============================================
+
+    private void avaliar(Chave chave, MonitorPico monitor, long minutoAgora, String nomeRegiao) {
+        long registros = monitor.totalJanela(minutoAgora);
+        double esperado = monitor.esperadoJanela();
+        // Piso de Poisson: com base ainda vazia, o desvio não pode ser zero
+        double desvio = Math.max(monitor.desvioJanela(), Math.sqrt(Math.max(esperado, 1)));
+        double desvios = (registros - esperado) / desvio;
+
+        if (registros >= minimoRegistros && desvios >= limiarDesvios) {
+            Pico anterior = ativos.get(chave);
+            if (anterior == null) {
+                Pico novo = new Pico(chave, nomeRegiao, LocalDateTime.now(), null, registros, esperado, desvios);
+                if (ativos.putIfAbsent(chave, novo) == null) {
+                    log.warn("📡 Pico detectado: região {} {} {} — {} registros em {} min (esperado {})",
+                            chave.regiaoId(), chave.tipo(), chave.categoria(), registros, janelaMinutos,
+                            String.format(Locale.ROOT, "%.1f", esperado));
+                    eventPublisher.publishEvent(new PicoDetectadoEvent(chave.regiaoId(), nomeRegiao, chave.tipo(),
+                            chave.categoria(), registros, esperado, janelaMinutos));
+                }
+            } else if (registros > anterior.registrosJanela()) {
+                ativos.replace(chave, anterior, anterior.comMaximo(registros, esperado, desvios));
+            }
+        } else if (registros < minimoRegistros || desvios < limiarDesvios / 2) {
+            Pico encerrado = ativos.remove(chave);
+            if (encerrado != null) {
+                historico.addFirst(encerrado.encerrar(LocalDateTime.now()));
+                while (historico.size() > TAMANHO_HISTORICO) {
+                    historico.pollLast();
+                }
+                log.info("📡 Pico encerrado: região {} {} {}", chave.regiaoId(), chave.tipo(), chave.categoria());
+            }
+        }
+    }
+
+    /**
+     * Reavalia os picos ativos para encerrá-los mesmo sem novos registros.
+     */
+    @Scheduled(fixedDelayString = "${safelink.picos.reavaliacao-ms:60000}")
+    public void reavaliarAtivos() {
+        long agora = minuto(LocalDateTime.now());
+        ativos.forEach((chave, pico) -> {
+            MonitorPico monitor = monitores.get(chave);
+            if (monitor != null) {
+                avaliar(chave, monitor, agora, pico.nomeRegiao());
+            }
+        });
+    }
+
+    // ============================================
+    // 🔍 Consulta
+    // ============================================
+
+    /**
+     * Lista os picos ativos e, opcionalmente, os encerrados mais recentes.
+     *
+     * @param regiaoId      região (opcional)
+     * @param somenteAtivos se verdadeiro, omite o histórico
+     * @return picos, ativos primeiro e depois do mais recente para o mais antigo
+     */
+    public List<PicoAtividadeResponseDTO> consultar(Long regiaoId, boolean somenteAtivos) {
+        List<PicoAtividadeResponseDTO> picos = new ArrayList<>();
+        ativos.values().stream()
+                .filter(p -> regiaoId == null || regiaoId.equals(p.chave().regiaoId()))
+                .sorted(Comparator.comparing(Pico::inicio).reversed())
+                .forEach(p -> picos.add(toDTO(p)));
+        if (!somenteAtivos) {
+            historico.stream()
+                    .filter(p -> regiaoId == null || regiaoId.equals(p.chave().regiaoId()))
+                    .forEach(p -> picos.add(toDTO(p)));
+        }
+        return picos;
+    }
+
+    // ============================================
+    // 📝 Rascunho de alerta
+    // ============================================
+
+    /**
+     * Cria um rascunho de `Alerta` para cada pico novo, quando habilitado.
+     * Executado fora da thread da requisição que originou o pico.
+     */
+    @Async
+    @EventListener
+    @CacheEvict(value = "alertas", allEntries = true)
+    public void rascunharAlerta(PicoDetectadoEvent event) {
+        if (!alertaAutomatico) {
+            return;
+        }
+        String origem = event.tipoRegistro() == TipoRegistro.RELATO_USUARIO
+                ? "relatos de usuários"
+                : "eventos do tipo " + event.categoria();
+        try {
+            alertaService.gravarAlerta(AlertaRequestDTO.builder()
+                    .tipo(event.tipoRegistro() == TipoRegistro.RELATO_USUARIO ? "Relatos" : event.categoria())
+                    .nivelRisco("MODERADO")
+                    .mensagem(String.format(Locale.ROOT,
+                            "[RASCUNHO] Pico de %s: %d registros em %d min (esperado %.1f). Verificar a situação.",
+                            origem, event.registrosJanela(), event.janelaMinutos(), event.esperadoJanela()))
+                    .emitidoEm(LocalDateTime.now())
+                    .idRegiao(event.regiaoId())
+                    .build());
+        } catch (RuntimeException ex) {
+            log.warn("⚠️ Falha ao criar rascunho de alerta para pico na região {}: {}", event.regiaoId(), ex.getMessage());
+        }
+    }
+
+    // ============================================
+    // 🧩 Estruturas internas
+    // ============================================
+
+    private static long minuto(LocalDateTime dataHora) {
+        return Math.floorDiv(dataHora.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private PicoAtividadeResponseDTO toDTO(Pico pico) {
+        return PicoAtividadeResponseDTO.builder()
+                .regiaoId(pico.chave().regiaoId())
+                .nomeRegiao(pico.nomeRegiao())
+                .tipoRegistro(pico.chave().tipo())
+                .categoria(pico.chave().categoria())
+                .ativo(pico.fim() == null)
+                .inicio(pico.inicio())
+                .fim(pico.fim())
+                .janelaMinutos(janelaMinutos)
+                .registrosJanela(pico.registrosJanela())
+                .esperadoJanela(Math.round(pico.esperadoJanela() * 100) / 100.0)
+                .desvios(Math.round(pico.desvios() * 100) / 100.0)
+                .build();
+    }
+
+    /** Região, tipo de registro e categoria monitorados. */
+    private record Chave(Long regiaoId, TipoRegistro tipo, String categoria) {
+    }
+
+    /** Pico detectado (ativo enquanto `fim` for nulo). */
+    private record Pico(Chave chave, String nomeRegiao, LocalDateTime inicio, LocalDateTime fim,
+                        long registrosJanela, double esperadoJanela, double desvios) {
+
+        private Pico comMaximo(long registros, double esperado, double novosDesvios) {
+            return new Pico(chave, nomeRegiao, inicio, fim, registros, esperado, novosDesvios);
+        }
+
+        private Pico encerrar(LocalDateTime momento) {
+            return new Pico(chave, nomeRegiao, inicio, momento, registrosJanela, esperadoJanela, desvios);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.ContextoPool;
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
+import br.com.fiap.safelink.event.UsuarioGravadoEvent;
+import br.com.fiap.safelink.repository.UserRepository;
+import br.com.fiap.safelink.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * # 🌸 Service: EmailBloomFilterService
+ *
+ * Mantém em memória um filtro de Bloom com todos os e-mails cadastrados.
+ * Permite descartar, sem acesso ao banco, logins de e-mails que definitivamente não existem
+ * (padrão típico de ataques de credential stuffing).
+ *
+ * ---
+ * ## 🔄 Ciclo de vida
+ * - Reconstruído a partir do banco quando a aplicação fica pronta
+ * - Atualizado após o commit de cada cadastro/alteração de e-mail ({@link UsuarioGravadoEvent})
+ * - Redimensionado automaticamente, fora da transação do cadastro, quando a capacidade é ultrapassada
+ * - E-mails confirmados durante uma reconstrução ficam pendentes até entrarem no filtro novo
+ *
+ * ⚠️ Enquanto o filtro não estiver pronto, nenhuma consulta é descartada.
+ */
+@Slf4j
+@Service
+public class EmailBloomFilterService {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long capacidadeConfigurada;
+    private final double taxaFalsoPositivo;
+
+    private final AtomicBoolean reconstruindo = new AtomicBoolean(false);
+    private final Queue<String> registradosDuranteReconstrucao = new ConcurrentLinkedQueue<>();
+    private final AtomicLong totalRegistrado = new AtomicLong();
+    /** Registros compartilham a leitura; a troca do filtro ao fim da reconstrução é exclusiva. */
+    private final ReentrantReadWriteLock publicacao = new ReentrantReadWriteLock();
+
+    private volatile BloomFilter filtro;
+    private volatile long capacidadeAtual;
+    private volatile boolean pronto;
+
+    public EmailBloomFilterService(UserRepository userRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${safelink.bloom-emails.capacidade:100000}") long capacidade,
+                                   @Value("${safelink.bloom-emails.taxa-falso-positivo:0.01}") double taxaFalsoPositivo) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.capacidadeConfigurada = capacidade;
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+        this.capacidadeAtual = capacidade;
+        this.filtro = new BloomFilter(capacidade, taxaFalsoPositivo);
+    }
+
+    // ============================================
+    // 🔄 Reconstrução
+    // ============================================
+
+    /**
+     * Reconstrói o filtro quando a aplicação termina de subir
+     * (após seeders e migrações terem gravado seus usuários).
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        reconstruir();
+    }
+
+    /**
+     * Recarrega todos os e-mails do banco em um novo filtro e o publica atomicamente.
+     * E-mails confirmados depois do início da reconstrução ficam pendentes e entram no filtro novo
+     * antes de ele ser publicado; os confirmados antes já estão na leitura, feita no primário
+     * (transação de escrita) para não perder cadastros ainda não replicados.
+     */
+    public void reconstruir() {
+        if (!reconstruindo.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            registradosDuranteReconstrucao.clear();
+            List<String> emails = transactionTemplate.execute(status -> userRepository.findAllEmails());
+
+            long capacidade = Math.max(capacidadeConfigurada, emails.size() * 2L);
+            BloomFilter novo = new BloomFilter(capacidade, taxaFalsoPositivo);
+            emails.forEach(novo::adicionar);
+
+            publicacao.writeLock().lock();
+            try {
+                int pendentes = drenarPendentes(novo);
+                capacidadeAtual = capacidade;
+                totalRegistrado.set(emails.size() + pendentes);
+                filtro = novo;
+                pronto = true;
+                reconstruindo.set(false);
+            } finally {
+                publicacao.writeLock().unlock();
+            }
+
+            log.info("🌸 Filtro de e-mails reconstruído: {} e-mails | {} bits | {} hashes",
+                    emails.size(), novo.getTotalBits(), novo.getFuncoesHash());
+        } finally {
+            reconstruindo.set(false);
+        }
+    }
+
+    // ============================================
+    // ➕ Registro
+    // ============================================
+
+    /**
+     * Registra no filtro o e-mail de um cadastro já confirmado. Durante uma reconstrução,
+     * o e-mail também fica pendente para o filtro novo.
+     */
+    @TransactionalEventListener
+    public void aoGravarUsuario(UsuarioGravadoEvent event) {
+        publicacao.readLock().lock();
+        try {
+            filtro.adicionar(event.email());
+            if (reconstruindo.get()) {
+                registradosDuranteReconstrucao.add(event.email());
+            }
+        } finally {
+            publicacao.readLock().unlock();
+        }
+
+        if (totalRegistrado.incrementAndGet() > capacidadeAtual && !reconstruindo.get()) {
+            CompletableFuture.runAsync(() -> ContextoPool.executar(PoolConexao.LOTE, this::reconstruir));
+        }
+    }
+
+    // ============================================
+    // 🔍 Consulta
+    // ============================================
+
+    /**
+     * Indica se o e-mail pode estar cadastrado.
+     *
+     * @param email e-mail informado no login
+     * @return false apenas quando o e-mail definitivamente não existe
+     */
+    public boolean podeExistir(String email) {
+        return !pronto || email == null || filtro.podeConter(email);
+    }
+
+    private int drenarPendentes(BloomFilter destino) {
+        int total = 0;
+        String email;
+        while ((email = registradosDuranteReconstrucao.poll()) != null) {
+            destino.adicionar(email);
+            total++;
+        }
+        return total;
+    }
+}
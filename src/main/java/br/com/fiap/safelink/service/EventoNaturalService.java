@@ -1,22 +1,32 @@
 package br.com.fiap.safelink.service;
 
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
 import br.com.fiap.safelink.dto.request.EventoNaturalRequestDTO;
 import br.com.fiap.safelink.dto.response.EventoNaturalResponseDTO;
+import br.com.fiap.safelink.event.EventoNaturalGravadoEvent;
 import br.com.fiap.safelink.exception.EventoNaturalNotFoundException;
 import br.com.fiap.safelink.filter.EventoNaturalFilter;
 import br.com.fiap.safelink.model.EventoNatural;
+import br.com.fiap.safelink.model.Regiao;
 import br.com.fiap.safelink.repository.EventoNaturalRepository;
 import br.com.fiap.safelink.specification.EventoNaturalSpecification;
+import br.com.fiap.safelink.util.ArquivoColunar;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * # 🌪️ Service: EventoNaturalService
@@ -27,6 +37,7 @@ import java.util.List;
  * ---
  * ✅ Usa ModelMapper para conversões
  * 📦 Integra com RegiaoService para consistência relacional
+ * 📈 Mantém os histogramas (rollups) na mesma transação das escritas
  */
 @Slf4j
 @Service
@@ -36,6 +47,9 @@ public class EventoNaturalService {
     private final EventoNaturalRepository repository;
     private final RegiaoService regiaoService;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HistogramaEventoService histogramaService;
+    private final ArquivoFrioService arquivoFrioService;
 
     // ============================================
     // 📌 Criação
@@ -52,6 +66,8 @@ public class EventoNaturalService {
         EventoNatural evento = modelMapper.map(dto, EventoNatural.class);
         preencherRelacionamentos(evento, dto);
         evento = repository.save(evento);
+        histogramaService.registrar(evento, 1);
+        eventPublisher.publishEvent(new EventoNaturalGravadoEvent(evento));
         log.info("✅ Evento natural registrado: ID {}", evento.getId());
         return toDTO(evento);
     }
@@ -71,10 +87,16 @@ public class EventoNaturalService {
     public EventoNaturalResponseDTO atualizar(Long id, EventoNaturalRequestDTO dto) {
         EventoNatural evento = repository.findById(id)
                 .orElseThrow(() -> new EventoNaturalNotFoundException(id));
+        EventoNatural anterior = EventoNatural.builder()
+                .tipo(evento.getTipo())
+                .dataOcorrencia(evento.getDataOcorrencia())
+                .regiao(evento.getRegiao())
+                .build();
 
         modelMapper.map(dto, evento);
         preencherRelacionamentos(evento, dto);
         evento = repository.save(evento);
+        atualizarHistograma(anterior, evento);
 
         log.info("✏️ Evento natural atualizado: ID {}", evento.getId());
         return toDTO(evento);
@@ -87,35 +109,46 @@ public class EventoNaturalService {
     /**
      * Consulta eventos naturais com filtros dinâmicos (Specification).
      */
+    @Transactional(readOnly = true)
     public Page<EventoNaturalResponseDTO> consultarComFiltro(EventoNaturalFilter filtro, Pageable pageable) {
         Specification<EventoNatural> spec = EventoNaturalSpecification.withFilters(filtro);
-        log.info("🔍 Consulta de eventos com filtro: {}", filtro);
-        return repository.findAll(spec, pageable).map(this::toDTO);
+        log.debug("🔍 Consulta de eventos com filtro: {}", filtro);
+        ArquivoFrioService.Consulta consultaFria = new ArquivoFrioService.Consulta(
+                filtro.dataInicio(), filtro.dataFim(),
+                Collections.singletonMap("id_regiao", filtro.regiaoId()),
+                ArquivoFrioService.semTermos(filtro.tipo()) ? null
+                        : linha -> ArquivoFrioService.contem(linha.texto("ds_tipo"), filtro.tipo()));
+        return arquivoFrioService.federar(ArquivoFrioService.Tabela.EVENTO_NATURAL, consultaFria, pageable,
+                pagina -> repository.findAll(spec, pagina).map(this::toDTO), this::toDTOArquivados);
     }
 
     /**
      * Consulta evento por ID.
      */
+    @Transactional(readOnly = true)
     public EventoNaturalResponseDTO consultarPorId(Long id) {
         EventoNatural evento = repository.findById(id)
                 .orElseThrow(() -> new EventoNaturalNotFoundException(id));
-        log.info("🔎 Evento natural encontrado: ID {}", id);
+        log.debug("🔎 Evento natural encontrado: ID {}", id);
         return toDTO(evento);
     }
 
     /**
      * Lista todos os eventos naturais (sem filtro).
      */
+    @UsarPool(PoolConexao.RELATORIO)
+    @Transactional(readOnly = true)
     public List<EventoNaturalResponseDTO> consultarTodos() {
-        log.info("📋 Listando todos os eventos naturais");
+        log.debug("📋 Listando todos os eventos naturais");
         return repository.findAll().stream().map(this::toDTO).toList();
     }
 
     /**
      * Lista eventos com paginação simples (sem filtros).
      */
+    @Transactional(readOnly = true)
     public Page<EventoNaturalResponseDTO> consultarPaginado(Pageable pageable) {
-        log.info("📄 Listando eventos naturais paginados");
+        log.debug("📄 Listando eventos naturais paginados");
         return repository.findAll(pageable).map(this::toDTO);
     }
 
@@ -130,11 +163,11 @@ public class EventoNaturalService {
      */
     @Transactional
     public void excluir(Long id) {
-        if (!repository.existsById(id)) {
-            throw new EventoNaturalNotFoundException("Evento natural não encontrado para exclusão: " + id);
-        }
+        EventoNatural evento = repository.findById(id)
+                .orElseThrow(() -> new EventoNaturalNotFoundException("Evento natural não encontrado para exclusão: " + id));
 
-        repository.deleteById(id);
+        repository.delete(evento);
+        histogramaService.registrar(evento, -1);
         log.info("🗑️ Evento natural excluído: ID {}", id);
     }
 
@@ -154,6 +187,25 @@ public class EventoNaturalService {
         }
     }
 
+    // ============================================
+    // 📈 Histogramas
+    // ============================================
+
+    /**
+     * Move o evento de bucket no rollup quando região, tipo ou data mudam.
+     */
+    private void atualizarHistograma(EventoNatural anterior, EventoNatural atual) {
+        boolean mesmaRegiao = anterior.getRegiao() != null && atual.getRegiao() != null
+                && anterior.getRegiao().getId().equals(atual.getRegiao().getId());
+        if (mesmaRegiao
+                && Objects.equals(anterior.getTipo(), atual.getTipo())
+                && Objects.equals(anterior.getDataOcorrencia(), atual.getDataOcorrencia())) {
+            return;
+        }
+        histogramaService.registrar(anterior, -1);
+        histogramaService.registrar(atual, 1);
+    }
+
     // ============================================
     // 🔄 Conversão
     // ============================================
@@ -164,4 +216,20 @@ public class EventoNaturalService {
     private EventoNaturalResponseDTO toDTO(EventoNatural evento) {
         return modelMapper.map(evento, EventoNaturalResponseDTO.class);
     }
+
+    /**
+     * Converte eventos da camada fria para DTO (regiões carregadas em lote).
+     */
+    private List<EventoNaturalResponseDTO> toDTOArquivados(List<ArquivoColunar.Linha> linhas) {
+        Map<Long, Regiao> regioes = regiaoService.buscarEntidadesPorIds(linhas.stream()
+                .map(linha -> linha.inteiro("id_regiao")).filter(Objects::nonNull).collect(Collectors.toSet()));
+        return linhas.stream().map(linha -> toDTO(EventoNatural.builder()
+                .id(linha.inteiro("id_evento_natural"))
+                .tipo(linha.texto("ds_tipo"))
+                .descricao(linha.texto("ds_descricao"))
+                .dataOcorrencia(linha.dataHora("dt_ocorrencia"))
+                .regiao(regioes.get(linha.inteiro("id_regiao")))
+                .dataCriacao(linha.dataHora("dt_criacao"))
+                .build())).toList();
+    }
 }
@@ -0,0 +1,164 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.dto.response.GravacaoJfrResponseDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.management.jfr.FlightRecorderMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * # 🛩️ Service: GravacaoJfrService
+ *
+ * Mantém uma gravação contínua do JDK Flight Recorder e gera arquivos com os últimos minutos,
+ * para investigar incidentes de latência depois do fato, sem anexar profilers.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Gravação em disco, em anel: descarta o que passar de `idade-maxima-min` ou `tamanho-maximo-mb`
+ * - Configuração do JDK (`default`, ~1% de sobrecarga) mais os eventos da aplicação (`safelink.*`):
+ *   operações de serviço, cache, JWT e conversões do ModelMapper
+ * - O arquivo é gerado a partir de uma cópia parada da gravação: a contínua segue sem interrupção
+ */
+@Slf4j
+@Service
+public class GravacaoJfrService {
+
+    private static final String NOME = "safelink-continua";
+    private static final DateTimeFormatter FORMATO_ARQUIVO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final boolean habilitado;
+    private final String configuracao;
+    private final Duration idadeMaxima;
+    private final long tamanhoMaximoBytes;
+    private final Path diretorio;
+
+    private Recording gravacao;
+
+    public GravacaoJfrService(@Value("${safelink.jfr.habilitado:true}") boolean habilitado,
+                              @Value("${safelink.jfr.configuracao:default}") String configuracao,
+                              @Value("${safelink.jfr.idade-maxima-min:30}") long idadeMaximaMin,
+                              @Value("${safelink.jfr.tamanho-maximo-mb:64}") long tamanhoMaximoMb,
+                              @Value("${safelink.jfr.diretorio:./dados/jfr}") String diretorio) {
+        this.habilitado = habilitado;
+        this.configuracao = configuracao;
+        this.idadeMaxima = Duration.ofMinutes(idadeMaximaMin);
+        this.tamanhoMaximoBytes = tamanhoMaximoMb * 1024 * 1024;
+        this.diretorio = Paths.get(diretorio).toAbsolutePath().normalize();
+    }
+
+    // ============================================
+    // ⏯️ Ciclo de vida
+    // ============================================
+
+    /**
+     * Inicia a gravação contínua. Falhas (JVM sem JFR, configuração inexistente) só desligam o recurso.
+     */
+    @PostConstruct
+    public void iniciar() {
+        if (!habilitado) {
+            return;
+        }
+        if (!FlightRecorder.isAvailable()) {
+            log.info("ℹ️ JDK Flight Recorder indisponível nesta JVM: gravação contínua desligada");
+            return;
+        }
+        try {
+            Recording nova = new Recording(Configuration.getConfiguration(configuracao));
+            nova.setName(NOME);
+            nova.setToDisk(true);
+            nova.setMaxAge(idadeMaxima);
+            nova.setMaxSize(tamanhoMaximoBytes);
+            nova.enable("safelink.*");
+            nova.start();
+            gravacao = nova;
+            log.info("🛩️ Gravação JFR contínua iniciada ({}, últimos {} min, até {} MB)",
+                    configuracao, idadeMaxima.toMinutes(), tamanhoMaximoBytes / (1024 * 1024));
+        } catch (IOException | ParseException | IllegalStateException e) {
+            log.warn("⚠️ Gravação JFR contínua não iniciada: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        if (gravacao != null) {
+            gravacao.close();
+            gravacao = null;
+        }
+    }
+
+    // ============================================
+    // 💾 Geração de arquivo
+    // ============================================
+
+    /**
+     * Grava em `diretorio` os últimos `minutos` da gravação contínua.
+     *
+     * @param minutos entre 1 e `idade-maxima-min`
+     */
+    public GravacaoJfrResponseDTO gerarArquivo(int minutos) {
+        Recording atual = gravacao;
+        if (atual == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Gravação JFR contínua desligada.");
+        }
+        if (minutos < 1 || minutos > idadeMaxima.toMinutes()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Os minutos devem estar entre 1 e " + idadeMaxima.toMinutes() + ".");
+        }
+
+        Instant fim = Instant.now();
+        Instant inicio = fim.minus(Duration.ofMinutes(minutos));
+        Path arquivo = diretorio.resolve("safelink-" + FORMATO_ARQUIVO.format(fim.atZone(ZoneId.systemDefault()))
+                + "-" + minutos + "min.jfr");
+
+        FlightRecorderMXBean mxBean = ManagementFactory.getPlatformMXBean(FlightRecorderMXBean.class);
+        try {
+            Files.createDirectories(diretorio);
+            long copia = mxBean.cloneRecording(atual.getId(), true);
+            try {
+                long fluxo = mxBean.openStream(copia, Map.of("startTime", inicio.toString()));
+                try (OutputStream saida = Files.newOutputStream(arquivo)) {
+                    for (byte[] bloco = mxBean.readStream(fluxo); bloco != null; bloco = mxBean.readStream(fluxo)) {
+                        saida.write(bloco);
+                    }
+                } finally {
+                    mxBean.closeStream(fluxo);
+                }
+            } finally {
+                mxBean.closeRecording(copia);
+            }
+            long tamanho = Files.size(arquivo);
+            log.info("💾 Gravação JFR dos últimos {} min salva em {} ({} bytes)", minutos, arquivo, tamanho);
+            return GravacaoJfrResponseDTO.builder()
+                    .arquivo(arquivo.toString())
+                    .tamanhoBytes(tamanho)
+                    .minutos(minutos)
+                    .inicio(LocalDateTime.ofInstant(inicio, ZoneId.systemDefault()))
+                    .fim(LocalDateTime.ofInstant(fim, ZoneId.systemDefault()))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar " + arquivo, e);
+        }
+    }
+}
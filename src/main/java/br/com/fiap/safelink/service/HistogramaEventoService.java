@@ -0,0 +1,341 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
+import br.com.fiap.safelink.dto.response.HistogramaEventoResponseDTO;
+import br.com.fiap.safelink.model.EventoNatural;
+import br.com.fiap.safelink.model.enums.GranularidadeTempo;
+import br.com.fiap.safelink.repository.EventoNaturalRepository;
+import br.com.fiap.safelink.repository.HistogramaEventoRepository;
+import br.com.fiap.safelink.repository.projection.BucketHistograma;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * # 📈 Service: HistogramaEventoService
+ *
+ * Mantém e consulta as tabelas de rollup de eventos naturais por hora, dia e mês.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Cada gravação/alteração/exclusão de evento ajusta os três buckets na mesma transação
+ * - O backfill recalcula mês a mês sem bloquear gravações: compara eventos e buckets num único
+ *   retrato e soma as diferenças aos buckets, preservando os ajustes de gravações concorrentes
+ * - Consultas leem o rollup mais grosso adequado ao intervalo pedido; nas bordas não alinhadas
+ *   a ele, leem granularidades mais finas (ou os próprios eventos, abaixo de uma hora)
+ */
+@Slf4j
+@Service
+public class HistogramaEventoService {
+
+    private static final LocalDateTime INICIO_PADRAO = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime FIM_PADRAO = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    private static final String CRIAR_TEMPORARIA = """
+            create temp table tmp_ajuste_histograma
+                   (tp_granularidade text, dt_bucket timestamp, id_regiao bigint, ds_tipo text, qt_ajuste bigint)
+            on commit drop
+            """;
+    // Um único comando: eventos e buckets vêm do mesmo retrato (cada gravação ajusta os dois na mesma transação)
+    private static final String CALCULAR_AJUSTES = """
+            insert into tmp_ajuste_histograma (tp_granularidade, dt_bucket, id_regiao, ds_tipo, qt_ajuste)
+            select tp, bucket, regiao, tipo, sum(quantidade)
+              from (select g.tp, date_trunc(g.unidade, e.dt_ocorrencia), e.id_regiao, upper(trim(e.ds_tipo)), count(*)
+                      from tb_evento_natural e
+                     cross join (values ('HORA', 'hour'), ('DIA', 'day'), ('MES', 'month')) as g(tp, unidade)
+                     where e.dt_ocorrencia >= ? and e.dt_ocorrencia < ?
+                     group by 1, 2, 3, 4
+                    union all
+                    select tp_granularidade, dt_bucket, id_regiao, ds_tipo, -qt_eventos
+                      from tb_histograma_evento
+                     where dt_bucket >= ? and dt_bucket < ?) as fontes(tp, bucket, regiao, tipo, quantidade)
+             group by 1, 2, 3, 4
+            having sum(quantidade) <> 0
+            """;
+    // Mesma ordem de bloqueio do registrar (hora, dia, mês), para não gerar deadlock com gravações
+    private static final String APLICAR_AJUSTES = """
+            insert into tb_histograma_evento (tp_granularidade, dt_bucket, id_regiao, ds_tipo, qt_eventos)
+            select tp_granularidade, dt_bucket, id_regiao, ds_tipo, qt_ajuste
+              from tmp_ajuste_histograma
+             order by case tp_granularidade when 'HORA' then 0 when 'DIA' then 1 else 2 end,
+                      dt_bucket, id_regiao, ds_tipo
+            on conflict (tp_granularidade, dt_bucket, id_regiao, ds_tipo)
+            do update set qt_eventos = tb_histograma_evento.qt_eventos + excluded.qt_eventos
+            """;
+
+    private final HistogramaEventoRepository repository;
+    private final EventoNaturalRepository eventoNaturalRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean reprocessando = new AtomicBoolean(false);
+
+    public HistogramaEventoService(HistogramaEventoRepository repository,
+                                   EventoNaturalRepository eventoNaturalRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.eventoNaturalRepository = eventoNaturalRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ============================================
+    // ➕ Manutenção incremental
+    // ============================================
+
+    /**
+     * Soma (ou subtrai) um evento nos buckets de hora, dia e mês.
+     * Deve ser chamado dentro da transação que grava o evento.
+     *
+     * @param evento evento gravado/removido
+     * @param delta  +1 para inclusão, -1 para remoção
+     */
+    @Transactional
+    public void registrar(EventoNatural evento, long delta) {
+        if (evento.getRegiao() == null || evento.getDataOcorrencia() == null || evento.getTipo() == null) {
+            return;
+        }
+        repository.somar(evento.getDataOcorrencia(), evento.getRegiao().getId(), evento.getTipo(), delta);
+    }
+
+    // ============================================
+    // 🔍 Consulta
+    // ============================================
+
+    /**
+     * Consulta o histograma de eventos.
+     * Sem granularidade informada, escolhe a mais grossa que ainda descreve bem o intervalo.
+     * Cada bucket conta apenas os eventos dentro de [dataInicio, dataFim), mesmo nos extremos
+     * que o intervalo cobre só em parte.
+     *
+     * @param granularidade granularidade desejada (opcional)
+     * @param regiaoId      região (opcional)
+     * @param tipo          tipo do evento (opcional)
+     * @param dataInicio    início do intervalo (opcional)
+     * @param dataFim       fim exclusivo do intervalo (opcional)
+     * @return série temporal agregada
+     */
+    @UsarPool(PoolConexao.RELATORIO)
+    @Transactional(readOnly = true)
+    public HistogramaEventoResponseDTO consultar(GranularidadeTempo granularidade, Long regiaoId, String tipo,
+                                                 LocalDateTime dataInicio, LocalDateTime dataFim) {
+        LocalDateTime inicio = dataInicio != null ? dataInicio : INICIO_PADRAO;
+        LocalDateTime fim = dataFim != null ? dataFim : FIM_PADRAO;
+        GranularidadeTempo escolhida = granularidade != null ? granularidade : escolherGranularidade(dataInicio, dataFim);
+        String tipoFiltrado = tipo == null || tipo.isBlank() ? null : tipo;
+
+        Map<LocalDateTime, Long> totais = new TreeMap<>();
+        for (Trecho trecho : decompor(escolhida, inicio, fim)) {
+            List<BucketHistograma> parciais = trecho.granularidade() == null
+                    ? repository.contarEventosPorHora(trecho.inicio(), trecho.fim(), regiaoId, tipoFiltrado)
+                    : repository.consultarBuckets(trecho.granularidade().name(), trecho.inicio(), trecho.fim(),
+                    regiaoId, tipoFiltrado);
+            parciais.forEach(b -> totais.merge(piso(escolhida, b.getInicio()), b.getQuantidade(), Long::sum));
+        }
+        var buckets = totais.entrySet().stream()
+                .filter(total -> total.getValue() > 0)
+                .map(total -> new HistogramaEventoResponseDTO.Bucket(total.getKey(), total.getValue()))
+                .toList();
+
+        return HistogramaEventoResponseDTO.builder()
+                .granularidade(escolhida)
+                .regiaoId(regiaoId)
+                .tipo(tipoFiltrado)
+                .dataInicio(dataInicio)
+                .dataFim(dataFim)
+                .buckets(buckets)
+                .build();
+    }
+
+    /**
+     * Intervalos de até 3 dias usam horas, até ~4 meses usam dias e o resto usa meses.
+     */
+    private GranularidadeTempo escolherGranularidade(LocalDateTime inicio, LocalDateTime fim) {
+        if (inicio == null) {
+            return GranularidadeTempo.MES;
+        }
+        Duration intervalo = Duration.between(inicio, fim != null ? fim : LocalDateTime.now());
+        if (intervalo.compareTo(Duration.ofDays(3)) <= 0) {
+            return GranularidadeTempo.HORA;
+        }
+        if (intervalo.compareTo(Duration.ofDays(120)) <= 0) {
+            return GranularidadeTempo.DIA;
+        }
+        return GranularidadeTempo.MES;
+    }
+
+    /**
+     * Trecho de uma consulta lido de uma única granularidade do rollup
+     * (ou de `tb_evento_natural`, quando a granularidade é nula).
+     */
+    record Trecho(GranularidadeTempo granularidade, LocalDateTime inicio, LocalDateTime fim) {
+    }
+
+    /**
+     * Divide [inicio, fim) em trechos alinhados: o miolo na granularidade pedida e, em cada borda,
+     * as sobras em granularidades cada vez mais finas, até a leitura direta dos eventos
+     * abaixo de uma hora. Trechos vazios não são gerados.
+     */
+    static List<Trecho> decompor(GranularidadeTempo granularidade, LocalDateTime inicio, LocalDateTime fim) {
+        List<Trecho> antes = new ArrayList<>();
+        List<Trecho> depois = new ArrayList<>();
+        LocalDateTime esquerda = inicio;
+        LocalDateTime direita = fim;
+        GranularidadeTempo anterior = null;
+        for (GranularidadeTempo atual : GranularidadeTempo.values()) {
+            if (atual.compareTo(granularidade) > 0) {
+                break;
+            }
+            LocalDateTime teto = teto(atual, esquerda);
+            LocalDateTime piso = piso(atual, direita);
+            if (!teto.isBefore(piso)) {
+                break;
+            }
+            adicionar(antes, anterior, esquerda, teto);
+            adicionar(depois, anterior, piso, direita);
+            esquerda = teto;
+            direita = piso;
+            anterior = atual;
+        }
+        adicionar(antes, anterior, esquerda, direita);
+        for (int i = depois.size() - 1; i >= 0; i--) {
+            antes.add(depois.get(i));
+        }
+        return antes;
+    }
+
+    private static void adicionar(List<Trecho> trechos, GranularidadeTempo granularidade,
+                                  LocalDateTime inicio, LocalDateTime fim) {
+        if (inicio.isBefore(fim)) {
+            trechos.add(new Trecho(granularidade, inicio, fim));
+        }
+    }
+
+    /** Início do bucket da granularidade que contém o instante. */
+    static LocalDateTime piso(GranularidadeTempo granularidade, LocalDateTime dataHora) {
+        return switch (granularidade) {
+            case HORA -> dataHora.truncatedTo(ChronoUnit.HOURS);
+            case DIA -> dataHora.truncatedTo(ChronoUnit.DAYS);
+            case MES -> inicioDoMes(dataHora);
+        };
+    }
+
+    /** Primeiro início de bucket da granularidade em ou após o instante. */
+    private static LocalDateTime teto(GranularidadeTempo granularidade, LocalDateTime dataHora) {
+        LocalDateTime piso = piso(granularidade, dataHora);
+        if (piso.equals(dataHora)) {
+            return piso;
+        }
+        return switch (granularidade) {
+            case HORA -> piso.plusHours(1);
+            case DIA -> piso.plusDays(1);
+            case MES -> piso.plusMonths(1);
+        };
+    }
+
+    // ============================================
+    // 🔁 Backfill
+    // ============================================
+
+    /**
+     * Executa o backfill na subida quando o rollup ainda está vazio.
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillInicial() {
+        if (repository.count() == 0 && eventoNaturalRepository.count() > 0) {
+            reprocessar();
+        }
+    }
+
+    /**
+     * Recalcula todos os buckets mês a mês, cada mês em sua própria transação (ver {@link #ajustarJanela}).
+     * Uma falha interrompe o job sem desfazer os meses já processados.
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @Async
+    public void reprocessarEmSegundoPlano() {
+        reprocessar();
+    }
+
+    /**
+     * Recalcula todos os buckets mês a mês (execução síncrona).
+     *
+     * @return quantidade de meses processados (0 se já havia um reprocessamento em andamento)
+     */
+    public int reprocessar() {
+        if (!reprocessando.compareAndSet(false, true)) {
+            log.warn("⚠️ Reprocessamento de histogramas já em andamento");
+            return 0;
+        }
+        try {
+            LocalDateTime menor = eventoNaturalRepository.menorDataOcorrencia();
+            LocalDateTime maior = eventoNaturalRepository.maiorDataOcorrencia();
+            if (menor == null) {
+                ajustarJanela(INICIO_PADRAO, FIM_PADRAO);
+                return 0;
+            }
+
+            // Buckets fora do intervalo com eventos não têm mais origem e são zerados
+            ajustarJanela(INICIO_PADRAO, inicioDoMes(menor));
+            ajustarJanela(inicioDoMes(maior).plusMonths(1), FIM_PADRAO);
+
+            int meses = 0;
+            LocalDateTime inicio = inicioDoMes(menor);
+            while (!inicio.isAfter(maior)) {
+                LocalDateTime fim = inicio.plusMonths(1);
+                ajustarJanela(inicio, fim);
+                meses++;
+                inicio = fim;
+            }
+
+            log.info("📈 Histogramas de eventos reprocessados: {} meses", meses);
+            return meses;
+        } finally {
+            reprocessando.set(false);
+        }
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    /**
+     * Corrige os buckets da janela (alinhada ao início de um mês) sem bloquear a gravação de eventos:
+     * 1. Num único comando, calcula em tabela temporária a diferença entre a contagem dos eventos
+     *    e os buckets atuais — o mesmo retrato vale para os dois lados
+     * 2. Soma as diferenças aos buckets; gravações confirmadas depois do retrato já somaram os seus
+     *    próprios ajustes, que são preservados (as somas comutam)
+     * 3. Remove os buckets que ficaram zerados
+     */
+    private void ajustarJanela(LocalDateTime inicio, LocalDateTime fim) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute(CRIAR_TEMPORARIA);
+            jdbcTemplate.update(CALCULAR_AJUSTES, inicio, fim, inicio, fim);
+            jdbcTemplate.update(APLICAR_AJUSTES);
+        });
+        transactionTemplate.executeWithoutResult(status -> repository.excluirZerados(inicio, fim));
+    }
+
+    private static LocalDateTime inicioDoMes(LocalDateTime dataHora) {
+        return dataHora.with(TemporalAdjusters.firstDayOfMonth()).truncatedTo(ChronoUnit.DAYS);
+    }
+}
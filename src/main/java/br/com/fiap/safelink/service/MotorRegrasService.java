@@ -0,0 +1,492 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
+import br.com.fiap.safelink.dto.request.AlertaRequestDTO;
+import br.com.fiap.safelink.dto.response.AlertaResponseDTO;
+import br.com.fiap.safelink.dto.response.DisparoRegraResponseDTO;
+import br.com.fiap.safelink.event.EventoNaturalGravadoEvent;
+import br.com.fiap.safelink.event.PrevisaoRiscoGravadaEvent;
+import br.com.fiap.safelink.event.RelatoUsuarioGravadoEvent;
+import br.com.fiap.safelink.model.DisparoRegra;
+import br.com.fiap.safelink.model.Regiao;
+import br.com.fiap.safelink.model.RegraAlerta;
+import br.com.fiap.safelink.model.enums.NivelRisco;
+import br.com.fiap.safelink.model.enums.TipoRegistro;
+import br.com.fiap.safelink.repository.DisparoRegraRepository;
+import br.com.fiap.safelink.repository.EventoNaturalRepository;
+import br.com.fiap.safelink.repository.PrevisaoRiscoRepository;
+import br.com.fiap.safelink.repository.RegraAlertaRepository;
+import br.com.fiap.safelink.repository.RelatoUsuarioRepository;
+import br.com.fiap.safelink.repository.projection.RegistroRegra;
+import br.com.fiap.safelink.repository.projection.UltimoDisparo;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * # ⚙️ Service: MotorRegrasService
+ *
+ * Avalia incrementalmente as {@link RegraAlerta} ativas a cada gravação de previsão,
+ * evento natural ou relato, e emite alertas quando uma condição é satisfeita.
+ *
+ * ---
+ * ## 🧠 Compilação
+ * - As regras são compiladas em um índice por (tipo de registro, região, categoria)
+ * - Cada registro consulta no máximo algumas chaves do índice (região exata ou "todas",
+ *   categoria exata ou "qualquer"): o custo não cresce com o total de regras cadastradas
+ *
+ * ---
+ * ## 🔁 Estado e disparo
+ * - Cada par regra/região mantém uma janela com os registros recentes (limitada à quantidade exigida)
+ * - Disparos são deduplicados: no máximo um por regra/região a cada janela
+ * - O alerta e o {@link DisparoRegra} são gravados fora da thread da requisição
+ * - Na subida e a cada recompilação, as janelas são reaquecidas com o histórico recente
+ *
+ * ---
+ * ## 🧪 Simulação
+ * - {@link #simular} reexecuta o histórico de um período contra regras informadas, sem gravar nada
+ */
+@Slf4j
+@Service
+public class MotorRegrasService {
+
+    /** ID usado para regras simuladas sem cadastro. */
+    private static final long REGRA_AVULSA = -1L;
+
+    private final RegraAlertaRepository regraRepository;
+    private final DisparoRegraRepository disparoRepository;
+    private final PrevisaoRiscoRepository previsaoRiscoRepository;
+    private final EventoNaturalRepository eventoNaturalRepository;
+    private final RelatoUsuarioRepository relatoUsuarioRepository;
+    private final AlertaService alertaService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean recompilando = new AtomicBoolean(false);
+    private final Queue<Ocorrencia> recebidasDuranteRecompilacao = new ConcurrentLinkedQueue<>();
+    private final Map<ChaveEstado, LocalDateTime> ultimosDisparos = new ConcurrentHashMap<>();
+
+    private volatile Motor motor = new Motor(IndiceRegras.compilar(List.of()));
+
+    public MotorRegrasService(RegraAlertaRepository regraRepository,
+                              DisparoRegraRepository disparoRepository,
+                              PrevisaoRiscoRepository previsaoRiscoRepository,
+                              EventoNaturalRepository eventoNaturalRepository,
+                              RelatoUsuarioRepository relatoUsuarioRepository,
+                              AlertaService alertaService,
+                              ApplicationEventPublisher eventPublisher,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager) {
+        this.regraRepository = regraRepository;
+        this.disparoRepository = disparoRepository;
+        this.previsaoRiscoRepository = previsaoRiscoRepository;
+        this.eventoNaturalRepository = eventoNaturalRepository;
+        this.relatoUsuarioRepository = relatoUsuarioRepository;
+        this.alertaService = alertaService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ============================================
+    // 🧠 Compilação
+    // ============================================
+
+    @UsarPool(PoolConexao.LOTE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        for (UltimoDisparo ultimo : disparoRepository.buscarUltimosDisparos()) {
+            ultimosDisparos.merge(new ChaveEstado(ultimo.getRegraId(), ultimo.getRegiaoId()),
+                    ultimo.getDisparadoEm(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+        recompilar();
+    }
+
+    /**
+     * Recompila as regras ativas e reaquece as janelas com o histórico recente.
+     * Registros recebidos durante a recompilação são reaplicados no motor novo.
+     */
+    public synchronized void recompilar() {
+        recompilando.set(true);
+        try {
+            recebidasDuranteRecompilacao.clear();
+            IndiceRegras indice = IndiceRegras.compilar(regraRepository.buscarAtivas().stream()
+                    .map(RegraCompilada::de)
+                    .toList());
+
+            Motor novo = new Motor(indice);
+            LocalDateTime agora = LocalDateTime.now();
+            for (Ocorrencia ocorrencia : historico(indice.tipos(), agora.minus(indice.maiorJanela()), agora.plusMinutes(1))) {
+                novo.avaliar(ocorrencia, disparo -> { });
+            }
+            drenarPendentes(novo);
+
+            motor = novo;
+            drenarPendentes(novo);
+            log.info("⚙️ Motor de regras compilado: {} regras ativas", indice.total());
+        } finally {
+            recompilando.set(false);
+        }
+    }
+
+    private void drenarPendentes(Motor destino) {
+        Ocorrencia ocorrencia;
+        while ((ocorrencia = recebidasDuranteRecompilacao.poll()) != null) {
+            destino.avaliar(ocorrencia, this::disparar);
+        }
+    }
+
+    // ============================================
+    // 📥 Avaliação incremental
+    // ============================================
+
+    @TransactionalEventListener
+    public void aoGravarPrevisao(PrevisaoRiscoGravadaEvent event) {
+        var previsao = event.previsao();
+        receber(new Ocorrencia(TipoRegistro.PREVISAO_RISCO, previsao.getId(), idRegiao(previsao.getRegiao()),
+                previsao.getGeradoEm(), previsao.getNivelPrevisto(), previsao.getFonte()));
+    }
+
+    @TransactionalEventListener
+    public void aoGravarEvento(EventoNaturalGravadoEvent event) {
+        var evento = event.evento();
+        receber(new Ocorrencia(TipoRegistro.EVENTO_NATURAL, evento.getId(), idRegiao(evento.getRegiao()),
+                evento.getDataOcorrencia(), evento.getTipo(), null));
+    }
+
+    @TransactionalEventListener
+    public void aoGravarRelato(RelatoUsuarioGravadoEvent event) {
+        var relato = event.relato();
+        receber(new Ocorrencia(TipoRegistro.RELATO_USUARIO, relato.getId(), idRegiao(relato.getRegiao()),
+                relato.getDataRelato(), null, null));
+    }
+
+    private void receber(Ocorrencia ocorrencia) {
+        if (ocorrencia.regiaoId() == null || ocorrencia.dataHora() == null) {
+            return;
+        }
+        Motor atual = motor;
+        atual.avaliar(ocorrencia, this::disparar);
+        if (recompilando.get()) {
+            recebidasDuranteRecompilacao.add(ocorrencia);
+        }
+    }
+
+    /**
+     * Deduplica e publica o disparo. Registros mais antigos que a janela da regra
+     * atualizam o estado, mas não geram alertas sobre situações já passadas.
+     */
+    private void disparar(Disparo disparo) {
+        RegraCompilada regra = disparo.regra();
+        if (disparo.instante().isBefore(LocalDateTime.now().minus(regra.janela()))) {
+            return;
+        }
+        ChaveEstado chave = new ChaveEstado(regra.id(), disparo.regiaoId());
+        AtomicBoolean novo = new AtomicBoolean(false);
+        ultimosDisparos.compute(chave, (c, ultimo) -> {
+            if (ultimo == null || !disparo.instante().isBefore(ultimo.plus(regra.janela()))) {
+                novo.set(true);
+                return disparo.instante();
+            }
+            return ultimo;
+        });
+        if (novo.get()) {
+            eventPublisher.publishEvent(disparo);
+        }
+    }
+
+    /**
+     * Grava o alerta e o registro do disparo, fora da thread que originou o disparo.
+     */
+    @Async
+    @EventListener
+    @CacheEvict(value = "alertas", allEntries = true)
+    public void registrarDisparo(Disparo disparo) {
+        RegraCompilada regra = disparo.regra();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                AlertaResponseDTO alerta = alertaService.gravarAlerta(AlertaRequestDTO.builder()
+                        .tipo(regra.categoria() != null ? regra.categoria() : regra.nome())
+                        .nivelRisco(regra.nivelAlerta())
+                        .mensagem(regra.mensagemAlerta())
+                        .emitidoEm(LocalDateTime.now())
+                        .idRegiao(disparo.regiaoId())
+                        .build());
+                disparoRepository.save(DisparoRegra.builder()
+                        .regra(entityManager.getReference(RegraAlerta.class, regra.id()))
+                        .regiao(entityManager.getReference(Regiao.class, disparo.regiaoId()))
+                        .alertaId(alerta.getId())
+                        .disparadoEm(disparo.instante())
+                        .ocorrencias(disparo.ocorrencias())
+                        .build());
+            });
+            log.info("🔔 Regra '{}' disparada na região {} ({} ocorrências)",
+                    regra.nome(), disparo.regiaoId(), disparo.ocorrencias());
+        } catch (RuntimeException ex) {
+            log.warn("⚠️ Falha ao registrar disparo da regra {} na região {}: {}",
+                    regra.id(), disparo.regiaoId(), ex.getMessage());
+        }
+    }
+
+    // ============================================
+    // 🧪 Simulação
+    // ============================================
+
+    /**
+     * Reexecuta o histórico do período contra as regras informadas, sem gravar alertas.
+     * As janelas são pré-aquecidas com o histórico anterior ao início do período.
+     *
+     * @param regras regras a simular (cadastradas ou não)
+     * @param inicio início do período
+     * @param fim    fim (exclusivo) do período
+     * @return disparos que teriam ocorrido, em ordem cronológica
+     */
+    public List<DisparoRegraResponseDTO> simular(Collection<RegraAlerta> regras, LocalDateTime inicio, LocalDateTime fim) {
+        IndiceRegras indice = IndiceRegras.compilar(regras.stream().map(RegraCompilada::de).toList());
+        Motor simulado = new Motor(indice);
+        Map<ChaveEstado, LocalDateTime> disparosSimulados = new HashMap<>();
+        List<DisparoRegraResponseDTO> resultado = new ArrayList<>();
+
+        for (Ocorrencia ocorrencia : historico(indice.tipos(), inicio.minus(indice.maiorJanela()), fim)) {
+            simulado.avaliar(ocorrencia, disparo -> {
+                if (disparo.instante().isBefore(inicio)) {
+                    return;
+                }
+                RegraCompilada regra = disparo.regra();
+                LocalDateTime ultimo = disparosSimulados.get(new ChaveEstado(regra.id(), disparo.regiaoId()));
+                if (ultimo != null && disparo.instante().isBefore(ultimo.plus(regra.janela()))) {
+                    return;
+                }
+                disparosSimulados.put(new ChaveEstado(regra.id(), disparo.regiaoId()), disparo.instante());
+                resultado.add(DisparoRegraResponseDTO.builder()
+                        .regraId(regra.id() == REGRA_AVULSA ? null : regra.id())
+                        .regraNome(regra.nome())
+                        .regiaoId(disparo.regiaoId())
+                        .disparadoEm(disparo.instante())
+                        .ocorrencias(disparo.ocorrencias())
+                        .build());
+            });
+        }
+        return resultado;
+    }
+
+    // ============================================
+    // 📜 Histórico
+    // ============================================
+
+    /**
+     * Carrega, em ordem cronológica, os registros dos tipos usados pelas regras.
+     */
+    private List<Ocorrencia> historico(Collection<TipoRegistro> tipos, LocalDateTime inicio, LocalDateTime fim) {
+        List<Ocorrencia> ocorrencias = new ArrayList<>();
+        for (TipoRegistro tipo : tipos) {
+            List<RegistroRegra> registros = switch (tipo) {
+                case PREVISAO_RISCO -> previsaoRiscoRepository.buscarRegistrosEntre(inicio, fim);
+                case EVENTO_NATURAL -> eventoNaturalRepository.buscarRegistrosEntre(inicio, fim);
+                case RELATO_USUARIO -> relatoUsuarioRepository.buscarRegistrosEntre(inicio, fim);
+                default -> List.of();
+            };
+            for (RegistroRegra registro : registros) {
+                ocorrencias.add(new Ocorrencia(tipo, registro.getId(), registro.getRegiaoId(),
+                        registro.getDataHora(), registro.getCategoria(), registro.getFonte()));
+            }
+        }
+        ocorrencias.sort(Comparator.comparing(Ocorrencia::dataHora));
+        return ocorrencias;
+    }
+
+    private static Long idRegiao(Regiao regiao) {
+        return regiao == null ? null : regiao.getId();
+    }
+
+    // ============================================
+    // 🧩 Estruturas internas
+    // ============================================
+
+    /** Registro recebido, normalizado para avaliação. */
+    private record Ocorrencia(TipoRegistro tipo, Long id, Long regiaoId, LocalDateTime dataHora,
+                              String categoria, String fonte) {
+    }
+
+    /** Regra que teve a condição satisfeita em uma região. */
+    public record Disparo(RegraCompilada regra, Long regiaoId, LocalDateTime instante, int ocorrencias) {
+    }
+
+    /** Par regra/região. */
+    private record ChaveEstado(Long regraId, Long regiaoId) {
+    }
+
+    /** Chave do índice: tipo de registro, região (nula = todas) e categoria (nula = qualquer). */
+    private record ChaveIndice(TipoRegistro tipo, Long regiaoId, String categoria) {
+    }
+
+    /**
+     * Forma imutável e normalizada de uma regra.
+     * A categoria indexada é o tipo do evento (EVENTO_NATURAL) ou o nível mínimo (PREVISAO_RISCO).
+     */
+    public record RegraCompilada(Long id, String nome, TipoRegistro tipo, Long regiaoId, String categoria,
+                                 NivelRisco nivelMinimo, int quantidadeMinima, boolean fontesDistintas,
+                                 Duration janela, String nivelAlerta, String mensagemAlerta) {
+
+        private static RegraCompilada de(RegraAlerta regra) {
+            String categoria = regra.getCategoria() == null || regra.getCategoria().isBlank()
+                    ? null : regra.getCategoria().trim().toUpperCase(Locale.ROOT);
+            return new RegraCompilada(regra.getId() != null ? regra.getId() : REGRA_AVULSA, regra.getNome(),
+                    regra.getTipoRegistro(), regra.getRegiao() != null ? regra.getRegiao().getId() : null,
+                    categoria, regra.getNivelMinimo(), Math.max(1, regra.getQuantidadeMinima()),
+                    regra.isFontesDistintas(), Duration.ofHours(regra.getJanelaHoras()),
+                    regra.getNivelAlerta(), regra.getMensagemAlerta());
+        }
+
+        private String categoriaIndexada() {
+            return switch (tipo) {
+                case PREVISAO_RISCO -> nivelMinimo != null ? nivelMinimo.name() : null;
+                case EVENTO_NATURAL -> categoria;
+                default -> null;
+            };
+        }
+    }
+
+    /** Índice imutável das regras compiladas. */
+    private record IndiceRegras(Map<ChaveIndice, List<RegraCompilada>> regras, Duration maiorJanela, int total) {
+
+        private static IndiceRegras compilar(List<RegraCompilada> compiladas) {
+            Map<ChaveIndice, List<RegraCompilada>> indice = new HashMap<>();
+            Duration maiorJanela = Duration.ZERO;
+            for (RegraCompilada regra : compiladas) {
+                if (regra.tipo() == TipoRegistro.ALERTA) {
+                    continue;
+                }
+                indice.computeIfAbsent(new ChaveIndice(regra.tipo(), regra.regiaoId(), regra.categoriaIndexada()),
+                        c -> new ArrayList<>()).add(regra);
+                if (regra.janela().compareTo(maiorJanela) > 0) {
+                    maiorJanela = regra.janela();
+                }
+            }
+            indice.replaceAll((chave, lista) -> List.copyOf(lista));
+            return new IndiceRegras(Map.copyOf(indice), maiorJanela, compiladas.size());
+        }
+
+        private Collection<TipoRegistro> tipos() {
+            return regras.keySet().stream().map(ChaveIndice::tipo).distinct().toList();
+        }
+
+        /** Chama o consumidor para cada regra candidata ao registro (no máximo 2 × (1 + níveis) chaves). */
+        private void candidatas(Ocorrencia ocorrencia, Consumer<RegraCompilada> consumidor) {
+            if (regras.isEmpty()) {
+                return;
+            }
+            List<String> categorias = new ArrayList<>(NivelRisco.values().length + 1);
+            categorias.add(null);
+            if (ocorrencia.tipo() == TipoRegistro.PREVISAO_RISCO) {
+                NivelRisco nivel = NivelRisco.interpretar(ocorrencia.categoria()).orElse(null);
+                if (nivel == null) {
+                    return;
+                }
+                for (NivelRisco n : NivelRisco.values()) {
+                    if (n.compareTo(nivel) <= 0) {
+                        categorias.add(n.name());
+                    }
+                }
+            } else if (ocorrencia.tipo() == TipoRegistro.EVENTO_NATURAL && ocorrencia.categoria() != null) {
+                categorias.add(ocorrencia.categoria().trim().toUpperCase(Locale.ROOT));
+            }
+            for (Long regiao : new Long[]{ocorrencia.regiaoId(), null}) {
+                for (String categoria : categorias) {
+                    List<RegraCompilada> lista = regras.get(new ChaveIndice(ocorrencia.tipo(), regiao, categoria));
+                    if (lista != null) {
+                        lista.forEach(consumidor);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Índice compilado e janelas por regra/região. */
+    private static final class Motor {
+
+        private final IndiceRegras indice;
+        private final Map<ChaveEstado, JanelaRegra> janelas = new ConcurrentHashMap<>();
+
+        private Motor(IndiceRegras indice) {
+            this.indice = indice;
+        }
+
+        private void avaliar(Ocorrencia ocorrencia, Consumer<Disparo> aoDisparar) {
+            indice.candidatas(ocorrencia, regra -> {
+                JanelaRegra janela = janelas.computeIfAbsent(new ChaveEstado(regra.id(), ocorrencia.regiaoId()),
+                        c -> new JanelaRegra());
+                String chave = regra.fontesDistintas()
+                        ? (ocorrencia.fonte() == null ? "" : ocorrencia.fonte().trim().toUpperCase(Locale.ROOT))
+                        : ocorrencia.tipo() + ":" + ocorrencia.id();
+                int ocorrencias = janela.registrar(chave, paraMs(ocorrencia.dataHora()),
+                        regra.janela().toMillis(), regra.quantidadeMinima());
+                if (ocorrencias >= regra.quantidadeMinima()) {
+                    aoDisparar.accept(new Disparo(regra, ocorrencia.regiaoId(), ocorrencia.dataHora(), ocorrencias));
+                }
+            });
+        }
+    }
+
+    /**
+     * Registros recentes de uma regra em uma região: chave (ID do registro ou fonte) → instante.
+     * Guarda no máximo `quantidadeMinima` entradas, todas dentro da janela do mais recente.
+     */
+    private static final class JanelaRegra {
+
+        private final Map<String, Long> instantes = new LinkedHashMap<>();
+        private long maisRecente = Long.MIN_VALUE;
+
+        private synchronized int registrar(String chave, long instanteMs, long janelaMs, int limite) {
+            maisRecente = Math.max(maisRecente, instanteMs);
+            long corte = maisRecente - janelaMs;
+            if (instanteMs >= corte) {
+                instantes.merge(chave, instanteMs, Math::max);
+            }
+            instantes.values().removeIf(t -> t < corte);
+            while (instantes.size() > limite) {
+                String maisAntiga = null;
+                long menor = Long.MAX_VALUE;
+                for (Map.Entry<String, Long> entrada : instantes.entrySet()) {
+                    if (entrada.getValue() < menor) {
+                        menor = entrada.getValue();
+                        maisAntiga = entrada.getKey();
+                    }
+                }
+                instantes.remove(maisAntiga);
+            }
+            return instantes.size();
+        }
+    }
+
+    private static long paraMs(LocalDateTime dataHora) {
+        return dataHora.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,336 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
+import br.com.fiap.safelink.dto.response.PainelContadorResponseDTO;
+import br.com.fiap.safelink.event.AlertaGravadoEvent;
+import br.com.fiap.safelink.event.EventoNaturalGravadoEvent;
+import br.com.fiap.safelink.event.RelatoUsuarioGravadoEvent;
+import br.com.fiap.safelink.model.Regiao;
+import br.com.fiap.safelink.model.enums.EscopoPainel;
+import br.com.fiap.safelink.model.enums.TipoRegistro;
+import br.com.fiap.safelink.repository.AlertaRepository;
+import br.com.fiap.safelink.repository.EventoNaturalRepository;
+import br.com.fiap.safelink.repository.RegiaoRepository;
+import br.com.fiap.safelink.repository.RelatoUsuarioRepository;
+import br.com.fiap.safelink.repository.projection.ContagemHoraria;
+import br.com.fiap.safelink.util.ContadorJanelaHoraria;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * # 📊 Service: PainelRiscoService
+ *
+ * Mantém contadores pré-agregados de alertas, eventos naturais e relatos por
+ * estado, cidade e região, nas janelas de 24 horas e 7 dias.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Cada gravação incrementa, sem locks exclusivos, os três níveis da hierarquia (UF → cidade → região)
+ * - Contadores usam buckets horários em anel ({@link ContadorJanelaHoraria})
+ * - Uma reconciliação periódica recalcula tudo via SQL, corrigindo atualizações e exclusões
+ * - Registros recebidos durante a reconciliação são contados uma única vez no novo painel:
+ *   os já visíveis no retrato do banco lido por ela são descartados pelo ID
+ *
+ * ⚡ As consultas do painel nunca acessam o banco: custo proporcional ao número de locais.
+ */
+@Slf4j
+@Service
+public class PainelRiscoService {
+
+    private static final int HORAS_JANELA = 168;
+    private static final int LOTE_IDS = 1000;
+
+    private final AlertaRepository alertaRepository;
+    private final EventoNaturalRepository eventoNaturalRepository;
+    private final RelatoUsuarioRepository relatoUsuarioRepository;
+    private final RegiaoRepository regiaoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean reconciliando = new AtomicBoolean(false);
+    private final Queue<Registro> registradosDuranteReconciliacao = new ConcurrentLinkedQueue<>();
+    /** Registros incrementais compartilham a leitura; a troca do painel ao fim da reconciliação é exclusiva. */
+    private final ReentrantReadWriteLock publicacao = new ReentrantReadWriteLock();
+
+    private volatile Painel painel = new Painel();
+
+    public PainelRiscoService(AlertaRepository alertaRepository,
+                              EventoNaturalRepository eventoNaturalRepository,
+                              RelatoUsuarioRepository relatoUsuarioRepository,
+                              RegiaoRepository regiaoRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.alertaRepository = alertaRepository;
+        this.eventoNaturalRepository = eventoNaturalRepository;
+        this.relatoUsuarioRepository = relatoUsuarioRepository;
+        this.regiaoRepository = regiaoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ============================================
+    // 📥 Atualização incremental
+    // ============================================
+
+    @TransactionalEventListener
+    public void aoGravarAlerta(AlertaGravadoEvent event) {
+        var alerta = event.alerta();
+        registrar(new Registro(TipoRegistro.ALERTA, alerta.getId(), alerta.getRegiao(),
+                normalizar(alerta.getNivelRisco()), alerta.getEmitidoEm(), 1));
+    }
+
+    @TransactionalEventListener
+    public void aoGravarEvento(EventoNaturalGravadoEvent event) {
+        var evento = event.evento();
+        registrar(new Registro(TipoRegistro.EVENTO_NATURAL, evento.getId(), evento.getRegiao(),
+                normalizar(evento.getTipo()), evento.getDataOcorrencia(), 1));
+    }
+
+    @TransactionalEventListener
+    public void aoGravarRelato(RelatoUsuarioGravadoEvent event) {
+        var relato = event.relato();
+        registrar(new Registro(TipoRegistro.RELATO_USUARIO, relato.getId(), relato.getRegiao(),
+                "TOTAL", relato.getDataRelato(), 1));
+    }
+
+    /**
+     * Conta o registro no painel publicado e, durante uma reconciliação, guarda-o para o novo painel.
+     * A trava de publicação garante que cada registro vá para um único desses caminhos.
+     */
+    private void registrar(Registro registro) {
+        publicacao.readLock().lock();
+        try {
+            painel.aplicar(registro);
+            if (reconciliando.get()) {
+                registradosDuranteReconciliacao.add(registro);
+            }
+        } finally {
+            publicacao.readLock().unlock();
+        }
+    }
+
+    // ============================================
+    // 🔍 Consulta
+    // ============================================
+
+    /**
+     * Retorna os contadores de um nível da hierarquia, opcionalmente restritos a uma UF.
+     *
+     * @param escopo nível (ESTADO, CIDADE ou REGIAO)
+     * @param estado UF para filtrar (opcional)
+     * @return linhas do painel com contagens de 24h e 7d
+     */
+    public List<PainelContadorResponseDTO> consultar(EscopoPainel escopo, String estado) {
+        long horaAtual = hora(LocalDateTime.now());
+        Painel atual = painel;
+        List<PainelContadorResponseDTO> linhas = new ArrayList<>();
+
+        atual.contadores.get(escopo).forEach((chave, contador) -> {
+            if (estado != null && !chave.estado().equalsIgnoreCase(estado)) {
+                return;
+            }
+            long semana = contador.total(horaAtual, HORAS_JANELA);
+            if (semana == 0) {
+                return;
+            }
+            linhas.add(PainelContadorResponseDTO.builder()
+                    .escopo(escopo)
+                    .estado(chave.estado())
+                    .local(chave.local())
+                    .nome(atual.nomes.getOrDefault(chave.local(), chave.local()))
+                    .tipoRegistro(chave.tipo())
+                    .categoria(chave.categoria())
+                    .ultimas24h(contador.total(horaAtual, 24))
+                    .ultimos7d(semana)
+                    .build());
+        });
+
+        linhas.sort(Comparator.comparing(PainelContadorResponseDTO::getLocal)
+                .thenComparing(PainelContadorResponseDTO::getTipoRegistro)
+                .thenComparing(PainelContadorResponseDTO::getCategoria));
+        return linhas;
+    }
+
+    // ============================================
+    // 🔄 Reconciliação
+    // ============================================
+
+    /**
+     * Recalcula os contadores dos últimos 7 dias a partir do banco e publica o novo painel.
+     * Registros gravados durante o recálculo que o retrato lido não contém são reaplicados sobre o resultado.
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @Scheduled(initialDelayString = "${safelink.painel.reconciliacao-inicial-ms:0}",
+            fixedDelayString = "${safelink.painel.reconciliacao-ms:300000}")
+    public void reconciliar() {
+        if (!reconciliando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            registradosDuranteReconciliacao.clear();
+            transactionTemplate.executeWithoutResult(status -> recalcular());
+        } catch (RuntimeException ex) {
+            log.warn("⚠️ Falha ao reconciliar painel de risco: {}", ex.getMessage());
+        } finally {
+            reconciliando.set(false);
+        }
+    }
+
+    /**
+     * Monta o novo painel em uma única transação e, sob a trava de publicação, aplica os registros
+     * pendentes (ainda com o retrato aberto) e o publica.
+     */
+    private void recalcular() {
+        // Primário e um único retrato: o que foi confirmado antes da reconciliação precisa estar nele
+        jdbcTemplate.execute("set transaction isolation level repeatable read");
+        LocalDateTime desde = LocalDateTime.now().minusHours(HORAS_JANELA);
+        Map<Long, Regiao> regioes = regiaoRepository.findAll().stream()
+                .collect(Collectors.toMap(Regiao::getId, Function.identity()));
+
+        Painel novo = new Painel();
+        aplicarContagens(novo, TipoRegistro.ALERTA, alertaRepository.contarPorHoraDesde(desde), regioes);
+        aplicarContagens(novo, TipoRegistro.EVENTO_NATURAL, eventoNaturalRepository.contarPorHoraDesde(desde), regioes);
+        aplicarContagens(novo, TipoRegistro.RELATO_USUARIO, relatoUsuarioRepository.contarPorHoraDesde(desde), regioes);
+
+        publicacao.writeLock().lock();
+        try {
+            aplicarPendentes(novo);
+            painel = novo;
+            reconciliando.set(false);
+        } finally {
+            publicacao.writeLock().unlock();
+        }
+        log.debug("📊 Painel de risco reconciliado: {} regiões", regioes.size());
+    }
+
+    private void aplicarContagens(Painel destino, TipoRegistro tipo,
+                                  List<ContagemHoraria> contagens, Map<Long, Regiao> regioes) {
+        for (ContagemHoraria contagem : contagens) {
+            Regiao regiao = regioes.get(contagem.getRegiaoId());
+            if (regiao != null) {
+                destino.aplicar(new Registro(tipo, null, regiao, contagem.getCategoria(),
+                        contagem.getHora(), contagem.getTotal()));
+            }
+        }
+    }
+
+    /**
+     * Aplica ao novo painel os registros recebidos durante o recálculo, exceto os já visíveis
+     * no retrato do recálculo e os repetidos na fila.
+     */
+    private void aplicarPendentes(Painel destino) {
+        List<Registro> pendentes = new ArrayList<>();
+        Registro registro;
+        while ((registro = registradosDuranteReconciliacao.poll()) != null) {
+            pendentes.add(registro);
+        }
+        Map<TipoRegistro, Set<Long>> contabilizados = new EnumMap<>(TipoRegistro.class);
+        contabilizados.put(TipoRegistro.ALERTA, visiveis(pendentes, TipoRegistro.ALERTA, alertaRepository::buscarIdsExistentes));
+        contabilizados.put(TipoRegistro.EVENTO_NATURAL, visiveis(pendentes, TipoRegistro.EVENTO_NATURAL, eventoNaturalRepository::buscarIdsExistentes));
+        contabilizados.put(TipoRegistro.RELATO_USUARIO, visiveis(pendentes, TipoRegistro.RELATO_USUARIO, relatoUsuarioRepository::buscarIdsExistentes));
+        for (Registro pendente : pendentes) {
+            if (contabilizados.get(pendente.tipo()).add(pendente.id())) {
+                destino.aplicar(pendente);
+            }
+        }
+    }
+
+    /** IDs do tipo, entre os pendentes, que a transação do recálculo já enxerga. */
+    private static Set<Long> visiveis(List<Registro> pendentes, TipoRegistro tipo,
+                                      Function<Collection<Long>, List<Long>> buscarIdsExistentes) {
+        List<Long> ids = pendentes.stream()
+                .filter(registro -> registro.tipo() == tipo)
+                .map(Registro::id)
+                .distinct()
+                .toList();
+        Set<Long> visiveis = new HashSet<>();
+        for (int i = 0; i < ids.size(); i += LOTE_IDS) {
+            visiveis.addAll(buscarIdsExistentes.apply(ids.subList(i, Math.min(ids.size(), i + LOTE_IDS))));
+        }
+        return visiveis;
+    }
+
+    // ============================================
+    // 🧩 Estruturas internas
+    // ============================================
+
+    private static long hora(LocalDateTime dataHora) {
+        return Math.floorDiv(dataHora.toEpochSecond(ZoneOffset.UTC), 3600);
+    }
+
+    private static String normalizar(String categoria) {
+        return categoria == null ? "N/D" : categoria.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /** Registro a ser contabilizado no painel (ID nulo para contagens agregadas da reconciliação). */
+    private record Registro(TipoRegistro tipo, Long id, Regiao regiao, String categoria,
+                            LocalDateTime dataHora, long quantidade) {
+    }
+
+    /** Chave de um contador: nível, UF, local, tipo e categoria. */
+    private record Chave(EscopoPainel escopo, String estado, String local,
+                         TipoRegistro tipo, String categoria) {
+    }
+
+    /** Conjunto de contadores publicado atomicamente. */
+    private static final class Painel {
+
+        private final Map<EscopoPainel, ConcurrentHashMap<Chave, ContadorJanelaHoraria>> contadores =
+                new EnumMap<>(EscopoPainel.class);
+        private final ConcurrentHashMap<String, String> nomes = new ConcurrentHashMap<>();
+
+        private Painel() {
+            for (EscopoPainel escopo : EscopoPainel.values()) {
+                contadores.put(escopo, new ConcurrentHashMap<>());
+            }
+        }
+
+        private void aplicar(Registro registro) {
+            Regiao regiao = registro.regiao();
+            if (regiao == null || registro.dataHora() == null) {
+                return;
+            }
+            String estado = regiao.getEstado().toUpperCase(Locale.ROOT);
+            String cidade = estado + "/" + regiao.getCidade();
+            String idRegiao = String.valueOf(regiao.getId());
+            nomes.put(cidade, regiao.getCidade() + " - " + estado);
+            nomes.put(idRegiao, regiao.getNome());
+
+            long hora = hora(registro.dataHora());
+            incrementar(new Chave(EscopoPainel.ESTADO, estado, estado, registro.tipo(), registro.categoria()), hora, registro.quantidade());
+            incrementar(new Chave(EscopoPainel.CIDADE, estado, cidade, registro.tipo(), registro.categoria()), hora, registro.quantidade());
+            incrementar(new Chave(EscopoPainel.REGIAO, estado, idRegiao, registro.tipo(), registro.categoria()), hora, registro.quantidade());
+        }
+
+        private void incrementar(Chave chave, long hora, long quantidade) {
+            contadores.get(chave.escopo())
+                    .computeIfAbsent(chave, c -> new ContadorJanelaHoraria(HORAS_JANELA))
+                    .somar(hora, quantidade);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.ContextoPool;
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * # 🗂️ Service: ParticionamentoService
+ *
+ * Mantém as tabelas de séries temporais particionadas por mês (particionamento
+ * declarativo por faixa do PostgreSQL) e aplica a retenção removendo partições inteiras.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Na subida, apenas cria as partições do mês atual e dos próximos meses das tabelas já particionadas
+ * - Depois da subida, em segundo plano no pool de lote, converte as tabelas ainda não particionadas
+ *   (cópia dos dados em uma única transação, com bloqueio exclusivo da tabela durante a cópia)
+ * - Cada tabela tem partições mensais `<tabela>_pAAAAMM` e uma partição `_default` para datas fora delas
+ * - Diariamente cria as partições dos próximos meses (movendo linhas já caídas na `_default`)
+ * - Camada fria: partições anteriores à janela quente vão para arquivos colunares ({@link ArquivoFrioService})
+ * - Retenção: partições mais antigas que `retencao-meses` são desanexadas e excluídas (sem `DELETE` em massa),
+ *   assim como os arquivos frios do mesmo período
+ *
+ * 📌 Filtros por data (`/filtro`) usam comparações simples na coluna de partição,
+ * então o PostgreSQL lê apenas as partições do período (partition pruning).
+ */
+@Slf4j
+@Service
+public class ParticionamentoService {
+
+    /** Tabelas particionadas e suas colunas de data (chave de partição). */
+    private static final Map<String, String> TABELAS = Map.of(
+            "tb_alerta", "dt_emitido_em",
+            "tb_evento_natural", "dt_ocorrencia",
+            "tb_previsao_risco", "dt_gerado_em",
+            "tb_relato_usuario", "dt_relato"
+    );
+
+    private static final DateTimeFormatter SUFIXO_MES = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter LITERAL_DATA = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArquivoFrioService arquivoFrioService;
+    private final boolean habilitado;
+    private final int mesesFuturos;
+    private final int retencaoMeses;
+    private volatile boolean suportado;
+
+    /**
+     * O {@link EntityManagerFactory} é injetado só para garantir que o Hibernate
+     * já criou/atualizou o schema antes da criação das partições.
+     */
+    public ParticionamentoService(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  EntityManagerFactory entityManagerFactory,
+                                  ArquivoFrioService arquivoFrioService,
+                                  @Value("${safelink.particionamento.habilitado:true}") boolean habilitado,
+                                  @Value("${safelink.particionamento.meses-futuros:3}") int mesesFuturos,
+                                  @Value("${safelink.particionamento.retencao-meses:0}") int retencaoMeses) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.arquivoFrioService = arquivoFrioService;
+        this.habilitado = habilitado;
+        this.mesesFuturos = Math.max(1, mesesFuturos);
+        this.retencaoMeses = retencaoMeses;
+    }
+
+    // ============================================
+    // 🚀 Subida
+    // ============================================
+
+    /**
+     * Cria as partições do mês atual e dos próximos meses das tabelas já particionadas,
+     * antes de o servidor começar a atender requisições.
+     */
+    @PostConstruct
+    public void preparar() {
+        if (!habilitado) {
+            return;
+        }
+        String banco = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(banco)) {
+            log.warn("⚠️ Particionamento ignorado: banco {} não suportado", banco);
+            return;
+        }
+        suportado = true;
+        YearMonth atual = YearMonth.now();
+        // Fora de proxy: o pool de lote é definido aqui
+        ContextoPool.executar(PoolConexao.LOTE, () -> criarParticoes(atual, atual.plusMonths(mesesFuturos)));
+    }
+
+    /**
+     * Converte as tabelas ainda não particionadas depois da subida, em segundo plano.
+     * Cada conversão bloqueia a tabela (leitura e escrita) enquanto copia todas as linhas,
+     * então requisições que a usam aguardam até o fim da cópia.
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void converterPendentes() {
+        if (!suportado) {
+            return;
+        }
+        List<String> pendentes = TABELAS.keySet().stream()
+                .filter(tabela -> "r".equals(tipoTabela(tabela)))
+                .sorted()
+                .toList();
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        log.warn("⚠️ Convertendo {} para particionamento mensal: cada tabela fica bloqueada durante a cópia dos dados",
+                pendentes);
+        pendentes.forEach(tabela -> converter(tabela, TABELAS.get(tabela)));
+        manter();
+    }
+
+    // ============================================
+    // 🗓️ Manutenção
+    // ============================================
+
+    /**
+     * Cria as partições do mês atual e dos próximos meses, arquiva os meses
+     * fora da janela quente e aplica a retenção.
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @Scheduled(cron = "${safelink.particionamento.cron:0 0 2 * * *}")
+    public void manter() {
+        if (!habilitado) {
+            return;
+        }
+        YearMonth atual = YearMonth.now();
+        TABELAS.forEach((tabela, coluna) -> {
+            if (!"p".equals(tipoTabela(tabela))) {
+                return;
+            }
+            for (int i = 0; i <= mesesFuturos; i++) {
+                YearMonth mes = atual.plusMonths(i);
+                transactionTemplate.executeWithoutResult(status -> criarParticao(tabela, coluna, mes));
+            }
+            if (arquivoFrioService.isHabilitado()) {
+                arquivar(tabela, arquivoFrioService.primeiroMesQuente());
+            }
+            if (retencaoMeses > 0) {
+                aplicarRetencao(tabela, coluna, atual.minusMonths(retencaoMeses));
+            }
+        });
+    }
+
+    /**
+     * Cria as partições mensais de todas as tabelas entre os meses informados (inclusive),
+     * para que cargas de dados históricos não caiam na partição padrão.
+     */
+    public void criarParticoes(YearMonth inicio, YearMonth fim) {
+        if (!habilitado) {
+            return;
+        }
+        TABELAS.forEach((tabela, coluna) -> {
+            if (!"p".equals(tipoTabela(tabela))) {
+                return;
+            }
+            for (YearMonth mes = inicio; !mes.isAfter(fim); mes = mes.plusMonths(1)) {
+                YearMonth particao = mes;
+                transactionTemplate.executeWithoutResult(status -> criarParticao(tabela, coluna, particao));
+            }
+        });
+    }
+
+    /**
+     * Envia para a camada fria as partições mensais anteriores ao primeiro mês quente.
+     * Linhas antigas da partição padrão permanecem no banco.
+     */
+    private void arquivar(String tabela, YearMonth primeiroMesQuente) {
+        ArquivoFrioService.Tabela arquivavel = ArquivoFrioService.Tabela.porNome(tabela).orElseThrow();
+        particoesMensais(tabela).forEach((particao, mes) -> {
+            if (mes.isBefore(primeiroMesQuente)) {
+                arquivoFrioService.arquivarParticao(arquivavel, particao, mes);
+            }
+        });
+    }
+
+    /**
+     * Desanexa e exclui as partições inteiramente anteriores ao mês limite,
+     * remove da partição padrão as linhas antigas e os arquivos frios do período.
+     */
+    private void aplicarRetencao(String tabela, String coluna, YearMonth limite) {
+        ArquivoFrioService.Tabela.porNome(tabela).ifPresent(t -> arquivoFrioService.excluirAnteriores(t, limite));
+        for (Map.Entry<String, YearMonth> mensal : particoesMensais(tabela).entrySet()) {
+            String particao = mensal.getKey();
+            if (!mensal.getValue().isBefore(limite)) {
+                continue;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("alter table " + tabela + " detach partition " + particao);
+                jdbcTemplate.execute("drop table " + particao);
+            });
+            log.info("🗑️ Partição {} removida pela retenção ({} meses)", particao, retencaoMeses);
+        }
+        jdbcTemplate.update("delete from " + tabela + "_default where " + coluna + " < '"
+                + LITERAL_DATA.format(limite.atDay(1).atStartOfDay()) + "'");
+    }
+
+    // ============================================
+    // 🔁 Conversão de tabela comum em particionada
+    // ============================================
+
+    /**
+     * Recria a tabela como particionada por mês, com os mesmos dados, sequência,
+     * chaves estrangeiras e nomes, em uma única transação (bloqueio exclusivo durante a cópia).
+     */
+    private void converter(String tabela, String coluna) {
+        long inicio = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            String legado = tabela + "_legado";
+            String colunaId = jdbcTemplate.queryForObject("""
+                    select a.attname from pg_index i
+                      join pg_attribute a on a.attrelid = i.indrelid and a.attnum = any(i.indkey)
+                     where i.indrelid = cast(? as regclass) and i.indisprimary
+                    """, String.class, tabela);
+            String nomePk = jdbcTemplate.queryForObject(
+                    "select conname from pg_constraint where conrelid = cast(? as regclass) and contype = 'p'",
+                    String.class, tabela);
+            List<Map<String, Object>> chavesEstrangeiras = jdbcTemplate.queryForList("""
+                    select conname, pg_get_constraintdef(oid) as definicao from pg_constraint
+                     where conrelid = cast(? as regclass) and contype = 'f'
+                    """, tabela);
+
+            jdbcTemplate.execute("lock table " + tabela + " in access exclusive mode");
+            jdbcTemplate.execute("alter table " + tabela + " rename to " + legado);
+            jdbcTemplate.execute("alter table " + legado + " rename constraint " + nomePk + " to " + legado + "_pkey");
+            String sequencia = jdbcTemplate.queryForObject(
+                    "select pg_get_serial_sequence(?, ?)", String.class, legado, colunaId);
+
+            jdbcTemplate.execute("create table " + tabela + " (like " + legado
+                    + " including defaults including identity including generated including comments)"
+                    + " partition by range (" + coluna + ")");
+            jdbcTemplate.execute("alter table " + tabela + " add constraint " + nomePk
+                    + " primary key (" + colunaId + ", " + coluna + ")");
+            for (Map<String, Object> fk : chavesEstrangeiras) {
+                jdbcTemplate.execute("alter table " + legado + " drop constraint " + fk.get("conname"));
+                jdbcTemplate.execute("alter table " + tabela + " add constraint " + fk.get("conname") + " " + fk.get("definicao"));
+            }
+            jdbcTemplate.execute("create index ix_" + tabela + "_" + coluna + " on " + tabela + " (" + coluna + ")");
+            jdbcTemplate.execute("create table " + tabela + "_default partition of " + tabela + " default");
+
+            TreeSet<YearMonth> meses = new TreeSet<>();
+            jdbcTemplate.queryForList("select distinct date_trunc('month', " + coluna + ") from " + legado, LocalDateTime.class)
+                    .forEach(mes -> meses.add(YearMonth.from(mes)));
+            meses.forEach(mes -> criarParticao(tabela, coluna, mes));
+
+            long linhas = jdbcTemplate.update("insert into " + tabela + " select * from " + legado);
+
+            // Mantém a sequência de IDs: serial é transferido; identity recebe o próximo valor
+            String novaSequencia = jdbcTemplate.queryForObject(
+                    "select pg_get_serial_sequence(?, ?)", String.class, tabela, colunaId);
+            if (novaSequencia != null && !novaSequencia.equals(sequencia) && sequencia != null) {
+                jdbcTemplate.execute("select setval('" + novaSequencia + "', (select last_value from " + sequencia + "))");
+            } else if (sequencia != null) {
+                jdbcTemplate.execute("alter sequence " + sequencia + " owned by " + tabela + "." + colunaId);
+            }
+            jdbcTemplate.execute("drop table " + legado);
+            log.info("🗂️ Tabela {} convertida para particionamento mensal por {}: {} linhas em {} partições",
+                    tabela, coluna, linhas, meses.size());
+        });
+        log.info("🗂️ Conversão de {} concluída em {} ms", tabela, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    /**
+     * Cria a partição do mês, se ainda não existir. Linhas do mês que caíram na partição
+     * padrão são movidas para a nova partição antes de anexá-la.
+     */
+    private void criarParticao(String tabela, String coluna, YearMonth mes) {
+        String particao = tabela + "_p" + SUFIXO_MES.format(mes);
+        if (tipoTabela(particao) != null) {
+            return;
+        }
+        LocalDate primeiroDia = mes.atDay(1);
+        String de = "'" + LITERAL_DATA.format(primeiroDia.atStartOfDay()) + "'";
+        String ate = "'" + LITERAL_DATA.format(primeiroDia.plusMonths(1).atStartOfDay()) + "'";
+        String faixa = coluna + " >= " + de + " and " + coluna + " < " + ate;
+
+        Boolean padraoTemLinhas = jdbcTemplate.queryForObject(
+                "select exists (select 1 from " + tabela + "_default where " + faixa + ")", Boolean.class);
+        if (Boolean.TRUE.equals(padraoTemLinhas)) {
+            jdbcTemplate.execute("create table " + particao + " (like " + tabela + " including defaults)");
+            jdbcTemplate.update("with movidas as (delete from " + tabela + "_default where " + faixa
+                    + " returning *) insert into " + particao + " select * from movidas");
+            jdbcTemplate.execute("alter table " + tabela + " attach partition " + particao
+                    + " for values from (" + de + ") to (" + ate + ")");
+        } else {
+            jdbcTemplate.execute("create table " + particao + " partition of " + tabela
+                    + " for values from (" + de + ") to (" + ate + ")");
+        }
+        log.info("🗂️ Partição {} criada", particao);
+    }
+
+    /** Partições mensais (`<tabela>_pAAAAMM`) anexadas à tabela e seus meses. */
+    private Map<String, YearMonth> particoesMensais(String tabela) {
+        Pattern padrao = Pattern.compile(Pattern.quote(tabela) + "_p(\\d{6})");
+        Map<String, YearMonth> particoes = new LinkedHashMap<>();
+        for (String particao : listarParticoes(tabela)) {
+            Matcher matcher = padrao.matcher(particao);
+            if (matcher.matches()) {
+                particoes.put(particao, YearMonth.parse(matcher.group(1), SUFIXO_MES));
+            }
+        }
+        return particoes;
+    }
+
+    /** Partições anexadas à tabela. */
+    private List<String> listarParticoes(String tabela) {
+        return jdbcTemplate.queryForList("""
+                select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid
+                 where i.inhparent = cast(? as regclass)
+                 order by c.relname
+                """, String.class, tabela);
+    }
+
+    /**
+     * Tipo da relação no schema atual: `r` (tabela comum), `p` (particionada) ou nulo se não existir.
+     */
+    private String tipoTabela(String nome) {
+        List<String> tipos = jdbcTemplate.queryForList("""
+                select c.relkind::text from pg_class c
+                 where c.relname = ? and c.relnamespace = cast(current_schema() as regnamespace)
+                """, String.class, nome);
+        return tipos.isEmpty() ? null : tipos.get(0);
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.PoolsDataSource;
+import br.com.fiap.safelink.config.RegistroPools;
+import br.com.fiap.safelink.dto.response.PoolConexaoResponseDTO;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * # 🏊 Service: PoolConexaoService
+ *
+ * Expõe a saturação e as latências de cada pool de conexão (por servidor e classe de carga).
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Contagens instantâneas vêm do Hikari (ativas, ociosas, aguardando)
+ * - Esperas, usos e timeouts de fila são acumulados por {@link PoolsDataSource.Pool}
+ */
+@Service
+@RequiredArgsConstructor
+public class PoolConexaoService {
+
+    private static final double NANOS_POR_MS = 1_000_000.0;
+
+    private final RegistroPools registroPools;
+
+    // ============================================
+    // 🔍 Consulta
+    // ============================================
+
+    /**
+     * Situação de todos os pools, primário primeiro.
+     */
+    public List<PoolConexaoResponseDTO> consultar() {
+        List<PoolConexaoResponseDTO> pools = new ArrayList<>();
+        for (PoolsDataSource servidor : registroPools.getServidores()) {
+            servidor.getPools().forEach(pool -> pools.add(toDTO(servidor.getServidor(), pool)));
+        }
+        return pools;
+    }
+
+    // ============================================
+    // 🔄 Conversão
+    // ============================================
+
+    private PoolConexaoResponseDTO toDTO(String servidor, PoolsDataSource.Pool pool) {
+        int maximo = pool.getDataSource().getMaximumPoolSize();
+        HikariPoolMXBean mxBean = pool.getDataSource().getHikariPoolMXBean();
+        int ativas = mxBean != null ? mxBean.getActiveConnections() : 0;
+        return PoolConexaoResponseDTO.builder()
+                .servidor(servidor)
+                .nome(pool.getNome())
+                .classe(pool.getClasse().getNome())
+                .maximo(maximo)
+                .ativas(ativas)
+                .ociosas(mxBean != null ? mxBean.getIdleConnections() : 0)
+                .aguardando(mxBean != null ? mxBean.getThreadsAwaitingConnection() : 0)
+                .saturacao(maximo == 0 ? 0 : (double) ativas / maximo)
+                .esperaMediaMs(pool.getEspera().media() / NANOS_POR_MS)
+                .esperaP99Ms(pool.getEspera().percentil(99) / NANOS_POR_MS)
+                .esperaMaximaMs(pool.getEspera().getMaximo() / NANOS_POR_MS)
+                .timeoutsFila(pool.getTimeoutsFila())
+                .usoMedioMs(pool.getUso().media() / NANOS_POR_MS)
+                .usoP99Ms(pool.getUso().percentil(99) / NANOS_POR_MS)
+                .build();
+    }
+}
@@ -1,22 +1,32 @@
 package br.com.fiap.safelink.service;
 
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
 import br.com.fiap.safelink.dto.request.PrevisaoRiscoRequestDTO;
 import br.com.fiap.safelink.dto.response.PrevisaoRiscoResponseDTO;
+import br.com.fiap.safelink.event.PrevisaoRiscoGravadaEvent;
 import br.com.fiap.safelink.exception.PrevisaoRiscoNotFoundException;
 import br.com.fiap.safelink.filter.PrevisaoRiscoFilter;
 import br.com.fiap.safelink.model.PrevisaoRisco;
+import br.com.fiap.safelink.model.Regiao;
 import br.com.fiap.safelink.repository.PrevisaoRiscoRepository;
 import br.com.fiap.safelink.specification.PrevisaoRiscoSpecification;
+import br.com.fiap.safelink.util.ArquivoColunar;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * # ☁️ Service: PrevisaoRiscoService
@@ -36,6 +46,8 @@ public class PrevisaoRiscoService {
     private final PrevisaoRiscoRepository repository;
     private final RegiaoService regiaoService;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArquivoFrioService arquivoFrioService;
 
     // ============================================
     // 📌 Criação
@@ -52,6 +64,7 @@ public class PrevisaoRiscoService {
         PrevisaoRisco previsao = modelMapper.map(dto, PrevisaoRisco.class);
         preencherRelacionamentos(previsao, dto);
         previsao = repository.save(previsao);
+        eventPublisher.publishEvent(new PrevisaoRiscoGravadaEvent(previsao));
         log.info("✅ Previsão de risco registrada: ID {}", previsao.getId());
         return toDTO(previsao);
     }
@@ -75,6 +88,7 @@ public class PrevisaoRiscoService {
         modelMapper.map(dto, previsao);
         preencherRelacionamentos(previsao, dto);
         previsao = repository.save(previsao);
+        eventPublisher.publishEvent(new PrevisaoRiscoGravadaEvent(previsao));
 
         log.info("✏️ Previsão de risco atualizada: ID {}", previsao.getId());
         return toDTO(previsao);
@@ -87,35 +101,47 @@ public class PrevisaoRiscoService {
     /**
      * Consulta previsões com filtros dinâmicos.
      */
+    @Transactional(readOnly = true)
     public Page<PrevisaoRiscoResponseDTO> consultarComFiltro(PrevisaoRiscoFilter filtro, Pageable pageable) {
         Specification<PrevisaoRisco> spec = PrevisaoRiscoSpecification.withFilters(filtro);
-        log.info("🔍 Consulta com filtros: {}", filtro);
-        return repository.findAll(spec, pageable).map(this::toDTO);
+        log.debug("🔍 Consulta com filtros: {}", filtro);
+        ArquivoFrioService.Consulta consultaFria = new ArquivoFrioService.Consulta(
+                filtro.dataInicio(), filtro.dataFim(),
+                Collections.singletonMap("id_regiao", filtro.regiaoId()),
+                ArquivoFrioService.semTermos(filtro.nivelPrevisto(), filtro.fonte()) ? null
+                        : linha -> ArquivoFrioService.igual(linha.texto("ds_nivel_previsto"), filtro.nivelPrevisto())
+                        && ArquivoFrioService.contem(linha.texto("ds_fonte"), filtro.fonte()));
+        return arquivoFrioService.federar(ArquivoFrioService.Tabela.PREVISAO_RISCO, consultaFria, pageable,
+                pagina -> repository.findAll(spec, pagina).map(this::toDTO), this::toDTOArquivados);
     }
 
     /**
      * Consulta previsão de risco por ID.
      */
+    @Transactional(readOnly = true)
     public PrevisaoRiscoResponseDTO consultarPorId(Long id) {
         PrevisaoRisco previsao = repository.findById(id)
                 .orElseThrow(() -> new PrevisaoRiscoNotFoundException(id));
-        log.info("🔎 Previsão de risco encontrada: ID {}", id);
+        log.debug("🔎 Previsão de risco encontrada: ID {}", id);
         return toDTO(previsao);
     }
 
     /**
      * Lista todas as previsões sem filtro.
      */
+    @UsarPool(PoolConexao.RELATORIO)
+    @Transactional(readOnly = true)
     public List<PrevisaoRiscoResponseDTO> consultarTodas() {
-        log.info("📋 Listando todas as previsões de risco");
+        log.debug("📋 Listando todas as previsões de risco");
         return repository.findAll().stream().map(this::toDTO).toList();
     }
 
     /**
      * Lista previsões com paginação simples.
      */
+    @Transactional(readOnly = true)
     public Page<PrevisaoRiscoResponseDTO> consultarPaginado(Pageable pageable) {
-        log.info("📄 Listando previsões de risco paginadas");
+        log.debug("📄 Listando previsões de risco paginadas");
         return repository.findAll(pageable).map(this::toDTO);
     }
 
@@ -159,4 +185,20 @@ public class PrevisaoRiscoService {
     private PrevisaoRiscoResponseDTO toDTO(PrevisaoRisco previsao) {
         return modelMapper.map(previsao, PrevisaoRiscoResponseDTO.class);
     }
+
+    /**
+     * Converte previsões da camada fria para DTO (regiões carregadas em lote).
+     */
+    private List<PrevisaoRiscoResponseDTO> toDTOArquivados(List<ArquivoColunar.Linha> linhas) {
+        Map<Long, Regiao> regioes = regiaoService.buscarEntidadesPorIds(linhas.stream()
+                .map(linha -> linha.inteiro("id_regiao")).filter(Objects::nonNull).collect(Collectors.toSet()));
+        return linhas.stream().map(linha -> toDTO(PrevisaoRisco.builder()
+                .id(linha.inteiro("id_previsao_risco"))
+                .nivelPrevisto(linha.texto("ds_nivel_previsto"))
+                .fonte(linha.texto("ds_fonte"))
+                .geradoEm(linha.dataHora("dt_gerado_em"))
+                .regiao(regioes.get(linha.inteiro("id_regiao")))
+                .dataCriacao(linha.dataHora("dt_criacao"))
+                .build())).toList();
+    }
 }
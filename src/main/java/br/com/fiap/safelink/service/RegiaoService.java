@@ -1,5 +1,7 @@
 package br.com.fiap.safelink.service;
 
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
 import br.com.fiap.safelink.dto.request.RegiaoRequestDTO;
 import br.com.fiap.safelink.dto.response.RegiaoResponseDTO;
 import br.com.fiap.safelink.exception.RegiaoNotFoundException;
@@ -18,7 +20,11 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * # 🗺️ Service: RegiaoService
@@ -86,35 +92,40 @@ public class RegiaoService {
     /**
      * Consulta regiões com filtros dinâmicos (Specification).
      */
+    @Transactional(readOnly = true)
     public Page<RegiaoResponseDTO> consultarComFiltro(RegiaoFilter filtro, Pageable pageable) {
         Specification<Regiao> spec = RegiaoSpecification.withFilters(filtro);
-        log.info("🔍 Consulta com filtro: {}", filtro);
+        log.debug("🔍 Consulta com filtro: {}", filtro);
         return repository.findAll(spec, pageable).map(this::toDTO);
     }
 
     /**
      * Consulta região por ID.
      */
+    @Transactional(readOnly = true)
     public RegiaoResponseDTO consultarPorId(Long id) {
         Regiao regiao = repository.findById(id)
                 .orElseThrow(() -> new RegiaoNotFoundException(id));
-        log.info("🔎 Região encontrada: ID {}", id);
+        log.debug("🔎 Região encontrada: ID {}", id);
         return toDTO(regiao);
     }
 
     /**
      * Lista todas as regiões (sem paginação).
      */
+    @UsarPool(PoolConexao.RELATORIO)
+    @Transactional(readOnly = true)
     public List<RegiaoResponseDTO> consultarTodas() {
-        log.info("📋 Listando todas as regiões cadastradas");
+        log.debug("📋 Listando todas as regiões cadastradas");
         return repository.findAll().stream().map(this::toDTO).toList();
     }
 
     /**
      * Lista regiões com paginação simples.
      */
+    @Transactional(readOnly = true)
     public Page<RegiaoResponseDTO> consultarPaginado(Pageable pageable) {
-        log.info("📄 Listando regiões paginadas");
+        log.debug("📄 Listando regiões paginadas");
         return repository.findAll(pageable).map(this::toDTO);
     }
 
@@ -127,6 +138,15 @@ public class RegiaoService {
                 .orElseThrow(() -> new RegiaoNotFoundException(id));
     }
 
+    /**
+     * Retorna as entidades `Regiao` dos IDs informados, indexadas por ID (uso interno).
+     * IDs inexistentes ficam de fora do mapa.
+     */
+    public Map<Long, Regiao> buscarEntidadesPorIds(Collection<Long> ids) {
+        return repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Regiao::getId, Function.identity()));
+    }
+
     // ============================================
     // 🗑️ Exclusão
     // ============================================
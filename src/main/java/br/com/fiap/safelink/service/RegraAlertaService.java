@@ -0,0 +1,220 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
+import br.com.fiap.safelink.dto.request.RegraAlertaRequestDTO;
+import br.com.fiap.safelink.dto.response.DisparoRegraResponseDTO;
+import br.com.fiap.safelink.dto.response.RegraAlertaResponseDTO;
+import br.com.fiap.safelink.exception.RegraAlertaNotFoundException;
+import br.com.fiap.safelink.model.DisparoRegra;
+import br.com.fiap.safelink.model.RegraAlerta;
+import br.com.fiap.safelink.model.enums.TipoRegistro;
+import br.com.fiap.safelink.repository.DisparoRegraRepository;
+import br.com.fiap.safelink.repository.RegraAlertaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * # 📐 Service: RegraAlertaService
+ *
+ * Cadastro das regras de alerta automático e ponto de entrada das simulações.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Toda alteração de regra recompila o {@link MotorRegrasService} após o commit
+ * - Simulações usam regras cadastradas ou uma regra avulsa, sem gravar nada
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegraAlertaService {
+
+    private static final Duration PERIODO_MAXIMO_SIMULACAO = Duration.ofDays(366);
+
+    private final RegraAlertaRepository repository;
+    private final DisparoRegraRepository disparoRepository;
+    private final RegiaoService regiaoService;
+    private final MotorRegrasService motorRegrasService;
+
+    // ============================================
+    // 📌 Criação / ✏️ Atualização
+    // ============================================
+
+    /**
+     * Cadastra uma nova regra.
+     */
+    @Transactional
+    public RegraAlertaResponseDTO gravar(RegraAlertaRequestDTO dto) {
+        RegraAlerta regra = new RegraAlerta();
+        preencher(regra, dto);
+        regra = repository.save(regra);
+        recompilarAposCommit();
+        log.info("✅ Regra de alerta criada: ID {}", regra.getId());
+        return toDTO(regra);
+    }
+
+    /**
+     * Atualiza uma regra existente. As janelas da regra são reaquecidas na recompilação.
+     */
+    @Transactional
+    public RegraAlertaResponseDTO atualizar(Long id, RegraAlertaRequestDTO dto) {
+        RegraAlerta regra = buscarEntidadePorId(id);
+        preencher(regra, dto);
+        regra = repository.save(regra);
+        recompilarAposCommit();
+        log.info("✏️ Regra de alerta atualizada: ID {}", id);
+        return toDTO(regra);
+    }
+
+    // ============================================
+    // 🔍 Consultas
+    // ============================================
+
+    @Transactional(readOnly = true)
+    public Page<RegraAlertaResponseDTO> consultarPaginado(Pageable pageable) {
+        return repository.findAll(pageable).map(this::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public RegraAlertaResponseDTO consultarPorId(Long id) {
+        return toDTO(buscarEntidadePorId(id));
+    }
+
+    /**
+     * Histórico de disparos gravados de uma regra.
+     */
+    @Transactional(readOnly = true)
+    public Page<DisparoRegraResponseDTO> consultarDisparos(Long id, Pageable pageable) {
+        RegraAlerta regra = buscarEntidadePorId(id);
+        return disparoRepository.findByRegraId(regra.getId(), pageable).map(this::toDTO);
+    }
+
+    // ============================================
+    // 🧪 Simulação
+    // ============================================
+
+    /**
+     * Simula regras sobre o histórico do período.
+     *
+     * @param dto    regra avulsa a simular (opcional)
+     * @param regraId regra cadastrada a simular (opcional)
+     * @param inicio início do período
+     * @param fim    fim (exclusivo) do período
+     * @return disparos que teriam ocorrido; sem regra informada, simula todas as ativas
+     */
+    @UsarPool(PoolConexao.RELATORIO)
+    @Transactional(readOnly = true)
+    public List<DisparoRegraResponseDTO> simular(RegraAlertaRequestDTO dto, Long regraId,
+                                                 LocalDateTime inicio, LocalDateTime fim) {
+        if (!inicio.isBefore(fim) || Duration.between(inicio, fim).compareTo(PERIODO_MAXIMO_SIMULACAO) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Período de simulação inválido: o início deve ser anterior ao fim e o período de no máximo 366 dias.");
+        }
+        List<RegraAlerta> regras;
+        if (dto != null) {
+            RegraAlerta avulsa = new RegraAlerta();
+            preencher(avulsa, dto);
+            avulsa.setAtiva(true);
+            regras = List.of(avulsa);
+        } else if (regraId != null) {
+            regras = List.of(buscarEntidadePorId(regraId));
+        } else {
+            regras = repository.buscarAtivas();
+        }
+        log.info("🧪 Simulando {} regra(s) entre {} e {}", regras.size(), inicio, fim);
+        return motorRegrasService.simular(regras, inicio, fim);
+    }
+
+    // ============================================
+    // 🗑️ Exclusão
+    // ============================================
+
+    /**
+     * Exclui a regra e seu histórico de disparos (os alertas gerados são mantidos).
+     */
+    @Transactional
+    public void excluir(Long id) {
+        RegraAlerta regra = buscarEntidadePorId(id);
+        disparoRepository.excluirPorRegra(regra.getId());
+        repository.delete(regra);
+        recompilarAposCommit();
+        log.info("🗑️ Regra de alerta excluída: ID {}", id);
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    private RegraAlerta buscarEntidadePorId(Long id) {
+        return repository.findById(id).orElseThrow(() -> new RegraAlertaNotFoundException(id));
+    }
+
+    private void preencher(RegraAlerta regra, RegraAlertaRequestDTO dto) {
+        if (dto.getTipoRegistro() == TipoRegistro.ALERTA) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Regras não podem observar alertas (use PREVISAO_RISCO, EVENTO_NATURAL ou RELATO_USUARIO).");
+        }
+        regra.setNome(dto.getNome());
+        regra.setAtiva(dto.getAtiva() == null || dto.getAtiva());
+        regra.setTipoRegistro(dto.getTipoRegistro());
+        regra.setRegiao(dto.getRegiaoId() != null ? regiaoService.buscarEntidadePorId(dto.getRegiaoId()) : null);
+        regra.setCategoria(dto.getTipoRegistro() == TipoRegistro.EVENTO_NATURAL ? dto.getCategoria() : null);
+        regra.setNivelMinimo(dto.getTipoRegistro() == TipoRegistro.PREVISAO_RISCO ? dto.getNivelMinimo() : null);
+        regra.setQuantidadeMinima(dto.getQuantidadeMinima());
+        regra.setFontesDistintas(dto.getTipoRegistro() == TipoRegistro.PREVISAO_RISCO && Boolean.TRUE.equals(dto.getFontesDistintas()));
+        regra.setJanelaHoras(dto.getJanelaHoras());
+        regra.setNivelAlerta(dto.getNivelAlerta());
+        regra.setMensagemAlerta(dto.getMensagemAlerta());
+    }
+
+    private void recompilarAposCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                motorRegrasService.recompilar();
+            }
+        });
+    }
+
+    private RegraAlertaResponseDTO toDTO(RegraAlerta regra) {
+        return RegraAlertaResponseDTO.builder()
+                .id(regra.getId())
+                .nome(regra.getNome())
+                .ativa(regra.isAtiva())
+                .tipoRegistro(regra.getTipoRegistro())
+                .regiaoId(regra.getRegiao() != null ? regra.getRegiao().getId() : null)
+                .categoria(regra.getCategoria())
+                .nivelMinimo(regra.getNivelMinimo())
+                .quantidadeMinima(regra.getQuantidadeMinima())
+                .fontesDistintas(regra.isFontesDistintas())
+                .janelaHoras(regra.getJanelaHoras())
+                .nivelAlerta(regra.getNivelAlerta())
+                .mensagemAlerta(regra.getMensagemAlerta())
+                .dataCriacao(regra.getDataCriacao())
+                .build();
+    }
+
+    private DisparoRegraResponseDTO toDTO(DisparoRegra disparo) {
+        return DisparoRegraResponseDTO.builder()
+                .id(disparo.getId())
+                .regraId(disparo.getRegra().getId())
+                .regraNome(disparo.getRegra().getNome())
+                .regiaoId(disparo.getRegiao().getId())
+                .disparadoEm(disparo.getDisparadoEm())
+                .ocorrencias(disparo.getOcorrencias())
+                .alertaId(disparo.getAlertaId())
+                .build();
+    }
+}
@@ -1,7 +1,10 @@
 package br.com.fiap.safelink.service;
 
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
 import br.com.fiap.safelink.dto.request.RelatoUsuarioRequestDTO;
 import br.com.fiap.safelink.dto.response.RelatoUsuarioResponseDTO;
+import br.com.fiap.safelink.event.RelatoUsuarioGravadoEvent;
 import br.com.fiap.safelink.exception.RelatoUsuarioNotFoundException;
 import br.com.fiap.safelink.exception.RegiaoNotFoundException;
 import br.com.fiap.safelink.filter.RelatoUsuarioFilter;
@@ -10,10 +13,13 @@ import br.com.fiap.safelink.model.Regiao;
 import br.com.fiap.safelink.model.User;
 import br.com.fiap.safelink.repository.RelatoUsuarioRepository;
 import br.com.fiap.safelink.repository.RegiaoRepository;
+import br.com.fiap.safelink.repository.UserRepository;
 import br.com.fiap.safelink.specification.RelatoUsuarioSpecification;
+import br.com.fiap.safelink.util.ArquivoColunar;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -21,7 +27,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * # 🗣️ Service: RelatoUsuarioService
@@ -33,6 +44,7 @@ import java.util.List;
  * ---
  * 🔐 Todos os relatos são vinculados ao usuário autenticado.
  * 🌎 Cada relato pertence a uma região geográfica.
+ * 🔢 Mantém os sketches de usuários distintos na mesma transação das gravações.
  */
 @Slf4j
 @Service
@@ -42,6 +54,10 @@ public class RelatoUsuarioService {
     private final RelatoUsuarioRepository repository;
     private final RegiaoRepository regiaoRepository;
     private final ModelMapper modelMapper;
+    private final ReporterDistintoService reporterDistintoService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArquivoFrioService arquivoFrioService;
+    private final UserRepository userRepository;
 
     // ============================================
     // 📌 Criação
@@ -58,6 +74,8 @@ public class RelatoUsuarioService {
         preencherRelacionamentos(relato, dto);
 
         relato = repository.save(relato);
+        reporterDistintoService.registrar(relato);
+        eventPublisher.publishEvent(new RelatoUsuarioGravadoEvent(relato));
         log.info("✅ Relato criado com sucesso: ID {}", relato.getId());
 
         return toDTO(relato);
@@ -81,6 +99,7 @@ public class RelatoUsuarioService {
         preencherRelacionamentos(relato, dto);
 
         relato = repository.save(relato);
+        reporterDistintoService.registrar(relato);
         log.info("✅ Relato atualizado com sucesso: ID {}", relato.getId());
 
         return toDTO(relato);
@@ -90,15 +109,25 @@ public class RelatoUsuarioService {
     // 🔍 Consultas
     // ============================================
 
+    @Transactional(readOnly = true)
     public Page<RelatoUsuarioResponseDTO> consultarComFiltro(RelatoUsuarioFilter filtro, Pageable pageable) {
-        log.info("🔍 Consultando relatos com filtro: {}", filtro);
+        log.debug("🔍 Consultando relatos com filtro: {}", filtro);
 
         Specification<RelatoUsuario> spec = RelatoUsuarioSpecification.withFilters(filtro);
-        return repository.findAll(spec, pageable).map(this::toDTO);
+        Map<String, Long> ids = new HashMap<>();
+        ids.put("id_usuario", filtro.usuarioId());
+        ids.put("id_regiao", filtro.regiaoId());
+        ArquivoFrioService.Consulta consultaFria = new ArquivoFrioService.Consulta(
+                filtro.dataInicio(), filtro.dataFim(), ids,
+                ArquivoFrioService.semTermos(filtro.mensagem()) ? null
+                        : linha -> ArquivoFrioService.contem(linha.texto("ds_mensagem"), filtro.mensagem()));
+        return arquivoFrioService.federar(ArquivoFrioService.Tabela.RELATO_USUARIO, consultaFria, pageable,
+                pagina -> repository.findAll(spec, pagina).map(this::toDTO), this::toDTOArquivados);
     }
 
+    @Transactional(readOnly = true)
     public RelatoUsuarioResponseDTO consultarPorId(Long id) {
-        log.info("🔎 Consultando relato por ID: {}", id);
+        log.debug("🔎 Consultando relato por ID: {}", id);
 
         RelatoUsuario relato = repository.findById(id)
                 .orElseThrow(() -> new RelatoUsuarioNotFoundException(id));
@@ -106,13 +135,16 @@ public class RelatoUsuarioService {
         return toDTO(relato);
     }
 
+    @UsarPool(PoolConexao.RELATORIO)
+    @Transactional(readOnly = true)
     public List<RelatoUsuarioResponseDTO> consultarTodos() {
-        log.info("📋 Listando todos os relatos de usuários cadastrados");
+        log.debug("📋 Listando todos os relatos de usuários cadastrados");
         return repository.findAll().stream().map(this::toDTO).toList();
     }
 
+    @Transactional(readOnly = true)
     public Page<RelatoUsuarioResponseDTO> consultarPaginado(Pageable pageable) {
-        log.info("📄 Consulta paginada de relatos de usuários");
+        log.debug("📄 Consulta paginada de relatos de usuários");
         return repository.findAll(pageable).map(this::toDTO);
     }
 
@@ -172,4 +204,24 @@ public class RelatoUsuarioService {
     private RelatoUsuarioResponseDTO toDTO(RelatoUsuario relato) {
         return modelMapper.map(relato, RelatoUsuarioResponseDTO.class);
     }
+
+    /**
+     * Converte relatos da camada fria para DTO (regiões e usuários carregados em lote).
+     */
+    private List<RelatoUsuarioResponseDTO> toDTOArquivados(List<ArquivoColunar.Linha> linhas) {
+        Map<Long, Regiao> regioes = regiaoRepository.findAllById(linhas.stream()
+                        .map(linha -> linha.inteiro("id_regiao")).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Regiao::getId, Function.identity()));
+        Map<Long, User> usuarios = userRepository.findAllById(linhas.stream()
+                        .map(linha -> linha.inteiro("id_usuario")).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        return linhas.stream().map(linha -> toDTO(RelatoUsuario.builder()
+                .id(linha.inteiro("id_relato_usuario"))
+                .mensagem(linha.texto("ds_mensagem"))
+                .dataRelato(linha.dataHora("dt_relato"))
+                .usuario(usuarios.get(linha.inteiro("id_usuario")))
+                .regiao(regioes.get(linha.inteiro("id_regiao")))
+                .dataCriacao(linha.dataHora("dt_criacao"))
+                .build())).toList();
+    }
 }
@@ -0,0 +1,310 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
+import br.com.fiap.safelink.dto.response.ReportersDistintosResponseDTO;
+import br.com.fiap.safelink.model.RelatoUsuario;
+import br.com.fiap.safelink.model.SketchRelatoHora;
+import br.com.fiap.safelink.repository.RelatoUsuarioRepository;
+import br.com.fiap.safelink.repository.SketchRelatoHoraRepository;
+import br.com.fiap.safelink.repository.projection.UsuarioRelatoHora;
+import br.com.fiap.safelink.util.Hashes;
+import br.com.fiap.safelink.util.HyperLogLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * # 🔢 Service: ReporterDistintoService
+ *
+ * Estima quantos usuários distintos enviaram relatos por região e janela de tempo,
+ * sem `COUNT(DISTINCT ...)` sobre a tabela de relatos.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Um sketch HyperLogLog por região e hora, atualizado na mesma transação do relato
+ * - Janelas arbitrárias (e várias regiões) são respondidas pela união dos sketches horários
+ * - Memória constante por sketch (até ~12 KB denso; poucos bytes enquanto esparso), erro de ~0,8%
+ * - Sketches não suportam remoção: exclusões e mudanças de região/hora só saem no reprocessamento
+ * - O reprocessamento monta os sketches numa tabela temporária e troca mês a mês, sem bloquear novos relatos
+ */
+@Slf4j
+@Service
+public class ReporterDistintoService {
+
+    private static final LocalDateTime INICIO_PADRAO = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime FIM_PADRAO = LocalDateTime.of(9999, 1, 1, 0, 0);
+    private static final byte[] SKETCH_VAZIO = new HyperLogLog().serializar();
+    private static final int LOTE_TEMPORARIO = 500;
+
+    private static final String CRIAR_TEMPORARIA = """
+            create temp table tmp_sketch_relato_hora (id_regiao bigint, dt_hora timestamp, bt_sketch bytea)
+            on commit drop
+            """;
+    private static final String INSERIR_TEMPORARIA =
+            "insert into tmp_sketch_relato_hora (id_regiao, dt_hora, bt_sketch) values (?, ?, ?)";
+    private static final String PUBLICAR_TEMPORARIA = """
+            insert into tb_sketch_relato_hora (id_regiao, dt_hora, bt_sketch)
+            select id_regiao, dt_hora, bt_sketch from tmp_sketch_relato_hora
+            on conflict (id_regiao, dt_hora) do update set bt_sketch = excluded.bt_sketch
+            """;
+
+    private final SketchRelatoHoraRepository repository;
+    private final RelatoUsuarioRepository relatoUsuarioRepository;
+    private final RegiaoService regiaoService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean reprocessando = new AtomicBoolean(false);
+
+    public ReporterDistintoService(SketchRelatoHoraRepository repository,
+                                   RelatoUsuarioRepository relatoUsuarioRepository,
+                                   RegiaoService regiaoService,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.relatoUsuarioRepository = relatoUsuarioRepository;
+        this.regiaoService = regiaoService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ============================================
+    // ➕ Manutenção incremental
+    // ============================================
+
+    /**
+     * Adiciona o autor do relato ao sketch da região/hora do relato.
+     * Deve ser chamado dentro da transação que grava o relato.
+     */
+    @Transactional
+    public void registrar(RelatoUsuario relato) {
+        if (relato.getRegiao() == null || relato.getUsuario() == null || relato.getDataRelato() == null) {
+            return;
+        }
+        adicionar(relato.getRegiao().getId(), relato.getDataRelato().truncatedTo(ChronoUnit.HOURS),
+                relato.getUsuario().getId());
+    }
+
+    /**
+     * Adiciona o usuário ao sketch do bucket, criando-o se preciso.
+     * Se o reprocessamento trocar o bucket entre a criação e o bloqueio, a linha esperada some;
+     * a segunda tentativa encontra a publicada.
+     */
+    private void adicionar(Long regiaoId, LocalDateTime hora, Long usuarioId) {
+        SketchRelatoHora bucket = bloquearBucket(regiaoId, hora)
+                .or(() -> bloquearBucket(regiaoId, hora))
+                .orElseThrow();
+        HyperLogLog sketch = HyperLogLog.desserializar(bucket.getSketch());
+        if (sketch.adicionar(Hashes.mix64(usuarioId))) {
+            bucket.setSketch(sketch.serializar());
+        }
+    }
+
+    private Optional<SketchRelatoHora> bloquearBucket(Long regiaoId, LocalDateTime hora) {
+        repository.garantirBucket(regiaoId, hora, SKETCH_VAZIO);
+        return repository.buscarParaAtualizacao(regiaoId, hora);
+    }
+
+    // ============================================
+    // 🔍 Consulta
+    // ============================================
+
+    /**
+     * Estima os usuários distintos que relataram na janela.
+     * A janela é alinhada às horas: `dataInicio` é truncada e `dataFim` arredondada para cima.
+     *
+     * @param regiaoId   região (opcional; sem ela, considera todas as regiões)
+     * @param dataInicio início da janela (padrão: 24 horas antes do fim)
+     * @param dataFim    fim exclusivo da janela (padrão: fim da hora atual)
+     */
+    @UsarPool(PoolConexao.RELATORIO)
+    @Transactional(readOnly = true)
+    public ReportersDistintosResponseDTO consultar(Long regiaoId, LocalDateTime dataInicio, LocalDateTime dataFim) {
+        if (regiaoId != null) {
+            regiaoService.buscarEntidadePorId(regiaoId);
+        }
+        LocalDateTime fim = arredondarParaCima(dataFim != null ? dataFim : LocalDateTime.now());
+        LocalDateTime inicio = dataInicio != null ? dataInicio.truncatedTo(ChronoUnit.HOURS) : fim.minusHours(24);
+        if (!inicio.isBefore(fim)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A data de início deve ser anterior à data de fim.");
+        }
+
+        HyperLogLog uniao = new HyperLogLog();
+        int horas;
+        try (Stream<byte[]> sketches = repository.buscarSketches(regiaoId, inicio, fim)) {
+            horas = sketches.mapToInt(dados -> {
+                uniao.unir(HyperLogLog.desserializar(dados));
+                return 1;
+            }).sum();
+        }
+
+        return ReportersDistintosResponseDTO.builder()
+                .regiaoId(regiaoId)
+                .dataInicio(inicio)
+                .dataFim(fim)
+                .horasComRelatos(horas)
+                .reportersDistintos(uniao.estimar())
+                .erroPadraoRelativo(uniao.erroPadrao())
+                .build();
+    }
+
+    // ============================================
+    // 🔁 Reprocessamento
+    // ============================================
+
+    /**
+     * Gera os sketches na subida quando a tabela ainda está vazia.
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillInicial() {
+        if (repository.count() == 0 && relatoUsuarioRepository.count() > 0) {
+            reprocessar();
+        }
+    }
+
+    /**
+     * Reconstrói os sketches em segundo plano (ver {@link #reprocessar()}).
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @Async
+    public void reprocessarEmSegundoPlano() {
+        reprocessar();
+    }
+
+    /**
+     * Reconstrói todos os sketches a partir dos relatos, mês a mês (ver {@link #reconstruirJanela}).
+     * Remove o efeito de relatos excluídos ou movidos.
+     *
+     * @return quantidade de meses processados (0 se já havia um reprocessamento em andamento)
+     */
+    public int reprocessar() {
+        if (!reprocessando.compareAndSet(false, true)) {
+            log.warn("⚠️ Reprocessamento de sketches de relatos já em andamento");
+            return 0;
+        }
+        try {
+            LocalDateTime menor = relatoUsuarioRepository.menorDataRelato();
+            LocalDateTime maior = relatoUsuarioRepository.maiorDataRelato();
+            if (menor == null) {
+                reconstruirJanela(INICIO_PADRAO, FIM_PADRAO);
+                return 0;
+            }
+
+            reconstruirJanela(INICIO_PADRAO, inicioDoMes(menor));
+            reconstruirJanela(inicioDoMes(maior).plusMonths(1), FIM_PADRAO);
+
+            int meses = 0;
+            LocalDateTime inicio = inicioDoMes(menor);
+            while (!inicio.isAfter(maior)) {
+                LocalDateTime fim = inicio.plusMonths(1);
+                reconstruirJanela(inicio, fim);
+                meses++;
+                inicio = fim;
+            }
+
+            log.info("🔢 Sketches de usuários distintos reprocessados: {} meses", meses);
+            return meses;
+        } finally {
+            reprocessando.set(false);
+        }
+    }
+
+    /**
+     * Reconstrói os sketches da janela sem bloquear a gravação de relatos:
+     * 1. Marca d'água: espera as inserções em andamento e lê o maior ID de relato (bloqueio de instantes)
+     * 2. Monta os sketches dos relatos até a marca, em fluxo, numa tabela temporária
+     * 3. Troca os sketches da janela pelos montados e reaplica os relatos gravados depois da marca
+     *
+     * Relatos concorrentes entram no passo 3 ou pelo {@link #registrar} depois da troca; a união é idempotente.
+     */
+    private void reconstruirJanela(LocalDateTime inicio, LocalDateTime fim) {
+        long marca = transactionTemplate.execute(status -> {
+            repository.bloquearRelatos();
+            return relatoUsuarioRepository.maiorId();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute(CRIAR_TEMPORARIA);
+            try (Stream<UsuarioRelatoHora> linhas = repository.buscarUsuariosPorHora(inicio, fim, 0, marca)) {
+                montarSketches(linhas);
+            }
+            repository.excluirJanela(inicio, fim);
+            jdbcTemplate.update(PUBLICAR_TEMPORARIA);
+            try (Stream<UsuarioRelatoHora> linhas = repository.buscarUsuariosPorHora(inicio, fim, marca, Long.MAX_VALUE)) {
+                linhas.forEach(linha -> adicionar(linha.getRegiaoId(), linha.getHora(), linha.getUsuarioId()));
+            }
+        });
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    /**
+     * Grava na tabela temporária um sketch por (região, hora), em lotes; as linhas chegam ordenadas por região e hora.
+     */
+    private void montarSketches(Stream<UsuarioRelatoHora> linhas) {
+        List<Object[]> lote = new ArrayList<>();
+        Long regiaoId = null;
+        LocalDateTime hora = null;
+        HyperLogLog atual = null;
+        for (Iterator<UsuarioRelatoHora> it = linhas.iterator(); it.hasNext(); ) {
+            UsuarioRelatoHora linha = it.next();
+            if (atual == null || !regiaoId.equals(linha.getRegiaoId()) || !hora.equals(linha.getHora())) {
+                if (atual != null) {
+                    adicionarAoLote(lote, regiaoId, hora, atual);
+                }
+                regiaoId = linha.getRegiaoId();
+                hora = linha.getHora();
+                atual = new HyperLogLog();
+            }
+            atual.adicionar(Hashes.mix64(linha.getUsuarioId()));
+        }
+        if (atual != null) {
+            adicionarAoLote(lote, regiaoId, hora, atual);
+        }
+        gravarLote(lote);
+    }
+
+    private void adicionarAoLote(List<Object[]> lote, Long regiaoId, LocalDateTime hora, HyperLogLog sketch) {
+        lote.add(new Object[]{regiaoId, hora, sketch.serializar()});
+        if (lote.size() >= LOTE_TEMPORARIO) {
+            gravarLote(lote);
+        }
+    }
+
+    private void gravarLote(List<Object[]> lote) {
+        if (!lote.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERIR_TEMPORARIA, lote);
+            lote.clear();
+        }
+    }
+
+    private static LocalDateTime arredondarParaCima(LocalDateTime dataHora) {
+        LocalDateTime hora = dataHora.truncatedTo(ChronoUnit.HOURS);
+        return hora.equals(dataHora) ? hora : hora.plusHours(1);
+    }
+
+    private static LocalDateTime inicioDoMes(LocalDateTime dataHora) {
+        return dataHora.with(TemporalAdjusters.firstDayOfMonth()).truncatedTo(ChronoUnit.DAYS);
+    }
+}
@@ -0,0 +1,539 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
+import br.com.fiap.safelink.dto.response.RiscoRegiaoResponseDTO;
+import br.com.fiap.safelink.event.AlertaGravadoEvent;
+import br.com.fiap.safelink.event.EventoNaturalGravadoEvent;
+import br.com.fiap.safelink.event.PrevisaoRiscoGravadaEvent;
+import br.com.fiap.safelink.event.RelatoUsuarioGravadoEvent;
+import br.com.fiap.safelink.model.Alerta;
+import br.com.fiap.safelink.model.PrevisaoRisco;
+import br.com.fiap.safelink.model.Regiao;
+import br.com.fiap.safelink.model.enums.NivelRisco;
+import br.com.fiap.safelink.model.enums.TipoRegistro;
+import br.com.fiap.safelink.repository.AlertaRepository;
+import br.com.fiap.safelink.repository.EventoNaturalRepository;
+import br.com.fiap.safelink.repository.PrevisaoRiscoRepository;
+import br.com.fiap.safelink.repository.RegiaoRepository;
+import br.com.fiap.safelink.repository.RelatoUsuarioRepository;
+import br.com.fiap.safelink.repository.projection.OcorrenciaRegiao;
+import br.com.fiap.safelink.util.Hashes;
+import br.com.fiap.safelink.util.TaxaDecaimento;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * # 🚦 Service: RiscoRegiaoService
+ *
+ * Motor de risco em memória: mantém, para cada região, o estado atual que compõe o risco
+ * e responde "qual o risco agora na região X" sem acessar o banco.
+ *
+ * ---
+ * ## 🧩 Estado por região
+ * - Previsão mais recente de cada `fonte` (dentro da validade configurada)
+ * - Alertas ativos (emitidos dentro da janela configurada)
+ * - Intensidade de eventos e relatos com decaimento exponencial ({@link TaxaDecaimento})
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Cada gravação altera apenas a região afetada, sob um lock listrado (sem lock global)
+ * - Após cada alteração um retrato imutável é publicado; leituras não bloqueiam
+ * - Uma reconstrução periódica recarrega tudo do banco, corrigindo atualizações e exclusões
+ * - Alterações recebidas durante a reconstrução são aplicadas uma única vez ao novo motor:
+ *   eventos e relatos já visíveis no retrato do banco lido por ela são descartados pelo ID
+ */
+@Slf4j
+@Service
+public class RiscoRegiaoService {
+
+    private static final int LISTRAS = 64;
+    private static final int MEIAS_VIDAS_RECONSTRUCAO = 5;
+    private static final String FONTE_PADRAO = "N/D";
+    private static final int LOTE_IDS = 1000;
+
+    private final AlertaRepository alertaRepository;
+    private final EventoNaturalRepository eventoNaturalRepository;
+    private final RelatoUsuarioRepository relatoUsuarioRepository;
+    private final PrevisaoRiscoRepository previsaoRiscoRepository;
+    private final RegiaoRepository regiaoRepository;
+    private final RegiaoService regiaoService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration janelaAlerta;
+    private final Duration validadePrevisao;
+    private final Duration meiaVidaEventos;
+    private final Duration meiaVidaRelatos;
+
+    private final ReentrantLock[] travas = new ReentrantLock[LISTRAS];
+    private final AtomicBoolean reconstruindo = new AtomicBoolean(false);
+    private final Queue<Alteracao> alteradosDuranteReconstrucao = new ConcurrentLinkedQueue<>();
+    /** Alterações incrementais compartilham a leitura; a troca do motor ao fim da reconstrução é exclusiva. */
+    private final ReentrantReadWriteLock publicacao = new ReentrantReadWriteLock();
+
+    private volatile Motor motor = new Motor();
+
+    public RiscoRegiaoService(AlertaRepository alertaRepository,
+                              EventoNaturalRepository eventoNaturalRepository,
+                              RelatoUsuarioRepository relatoUsuarioRepository,
+                              PrevisaoRiscoRepository previsaoRiscoRepository,
+                              RegiaoRepository regiaoRepository,
+                              RegiaoService regiaoService,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${safelink.risco.alerta-ativo-horas:24}") long alertaAtivoHoras,
+                              @Value("${safelink.risco.validade-previsao-horas:48}") long validadePrevisaoHoras,
+                              @Value("${safelink.risco.meia-vida-eventos-horas:6}") long meiaVidaEventosHoras,
+                              @Value("${safelink.risco.meia-vida-relatos-horas:2}") long meiaVidaRelatosHoras) {
+        this.alertaRepository = alertaRepository;
+        this.eventoNaturalRepository = eventoNaturalRepository;
+        this.relatoUsuarioRepository = relatoUsuarioRepository;
+        this.previsaoRiscoRepository = previsaoRiscoRepository;
+        this.regiaoRepository = regiaoRepository;
+        this.regiaoService = regiaoService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.janelaAlerta = Duration.ofHours(alertaAtivoHoras);
+        this.validadePrevisao = Duration.ofHours(validadePrevisaoHoras);
+        this.meiaVidaEventos = Duration.ofHours(meiaVidaEventosHoras);
+        this.meiaVidaRelatos = Duration.ofHours(meiaVidaRelatosHoras);
+        for (int i = 0; i < LISTRAS; i++) {
+            travas[i] = new ReentrantLock();
+        }
+    }
+
+    // ============================================
+    // 📥 Atualização incremental
+    // ============================================
+
+    @TransactionalEventListener
+    public void aoGravarPrevisao(PrevisaoRiscoGravadaEvent event) {
+        PrevisaoRisco previsao = event.previsao();
+        alterar(TipoRegistro.PREVISAO_RISCO, previsao.getId(),
+                m -> m.alterar(previsao.getRegiao(), estado -> estado.aplicarPrevisao(previsao)));
+    }
+
+    @TransactionalEventListener
+    public void aoGravarAlerta(AlertaGravadoEvent event) {
+        Alerta alerta = event.alerta();
+        alterar(TipoRegistro.ALERTA, alerta.getId(),
+                m -> m.alterar(alerta.getRegiao(), estado -> estado.aplicarAlerta(alerta)));
+    }
+
+    @TransactionalEventListener
+    public void aoGravarEvento(EventoNaturalGravadoEvent event) {
+        var evento = event.evento();
+        long instante = paraMs(evento.getDataOcorrencia());
+        alterar(TipoRegistro.EVENTO_NATURAL, evento.getId(),
+                m -> m.alterar(evento.getRegiao(), estado -> estado.somarEvento(instante)));
+    }
+
+    @TransactionalEventListener
+    public void aoGravarRelato(RelatoUsuarioGravadoEvent event) {
+        var relato = event.relato();
+        long instante = paraMs(relato.getDataRelato());
+        alterar(TipoRegistro.RELATO_USUARIO, relato.getId(),
+                m -> m.alterar(relato.getRegiao(), estado -> estado.somarRelato(instante)));
+    }
+
+    /**
+     * Aplica a alteração ao motor publicado e, durante uma reconstrução, guarda-a para o novo motor.
+     * A trava de publicação garante que cada alteração vá para um único desses caminhos.
+     */
+    private void alterar(TipoRegistro tipo, Long id, Consumer<Motor> alteracao) {
+        publicacao.readLock().lock();
+        try {
+            alteracao.accept(motor);
+            if (reconstruindo.get()) {
+                alteradosDuranteReconstrucao.add(new Alteracao(tipo, id, alteracao));
+            }
+        } finally {
+            publicacao.readLock().unlock();
+        }
+    }
+
+    // ============================================
+    // 🔍 Consulta
+    // ============================================
+
+    /**
+     * Retorna o risco atual de uma região.
+     * Regiões sem nenhum registro recente respondem com risco BAIXO e componentes vazios.
+     *
+     * @param regiaoId ID da região
+     * @return risco consolidado
+     * @throws br.com.fiap.safelink.exception.RegiaoNotFoundException se a região não existir
+     */
+    public RiscoRegiaoResponseDTO consultarPorRegiao(Long regiaoId) {
+        EstadoRegiao estado = motor.regioes.get(regiaoId);
+        if (estado != null) {
+            return estado.retrato.paraDTO(LocalDateTime.now());
+        }
+        Regiao regiao = regiaoService.buscarEntidadePorId(regiaoId);
+        return new EstadoRegiao(regiao).retrato.paraDTO(LocalDateTime.now());
+    }
+
+    /**
+     * Retorna o risco atual de todas as regiões conhecidas pelo motor,
+     * da maior para a menor pontuação.
+     */
+    public List<RiscoRegiaoResponseDTO> consultarTodas() {
+        LocalDateTime agora = LocalDateTime.now();
+        List<RiscoRegiaoResponseDTO> riscos = new ArrayList<>();
+        for (EstadoRegiao estado : motor.regioes.values()) {
+            riscos.add(estado.retrato.paraDTO(agora));
+        }
+        riscos.sort(Comparator.comparingInt(RiscoRegiaoResponseDTO::getPontuacao).reversed()
+                .thenComparing(RiscoRegiaoResponseDTO::getRegiaoId));
+        return riscos;
+    }
+
+    // ============================================
+    // 🔄 Reconstrução
+    // ============================================
+
+    /**
+     * Recarrega o estado de todas as regiões a partir do banco e publica o novo motor.
+     * Alterações recebidas durante a recarga que o retrato lido não contém são reaplicadas sobre o resultado.
+     */
+    @UsarPool(PoolConexao.LOTE)
+    @Scheduled(initialDelayString = "${safelink.risco.reconstrucao-inicial-ms:0}",
+            fixedDelayString = "${safelink.risco.reconstrucao-ms:300000}")
+    public void reconstruir() {
+        if (!reconstruindo.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            alteradosDuranteReconstrucao.clear();
+            transactionTemplate.executeWithoutResult(status -> recarregar());
+        } catch (RuntimeException ex) {
+            log.warn("⚠️ Falha ao reconstruir motor de risco: {}", ex.getMessage());
+        } finally {
+            reconstruindo.set(false);
+        }
+    }
+
+    /**
+     * Monta o novo motor em uma única transação e, sob a trava de publicação, aplica as alterações
+     * pendentes (ainda com o retrato aberto) e o publica.
+     */
+    private void recarregar() {
+        // Primário e um único retrato: o que foi confirmado antes da reconstrução precisa estar nele
+        jdbcTemplate.execute("set transaction isolation level repeatable read");
+        LocalDateTime agora = LocalDateTime.now();
+        Motor novo = new Motor();
+        Map<Long, Regiao> regioes = new HashMap<>();
+        for (Regiao regiao : regiaoRepository.findAll()) {
+            regioes.put(regiao.getId(), regiao);
+            novo.alterar(regiao, estado -> { });
+        }
+        for (PrevisaoRisco previsao : previsaoRiscoRepository.buscarMaisRecentesPorFonte(agora.minus(validadePrevisao))) {
+            novo.alterar(previsao.getRegiao(), estado -> estado.aplicarPrevisao(previsao));
+        }
+        for (Alerta alerta : alertaRepository.buscarEmitidosDesde(agora.minus(janelaAlerta))) {
+            novo.alterar(alerta.getRegiao(), estado -> estado.aplicarAlerta(alerta));
+        }
+        aplicarOcorrencias(novo, regioes,
+                eventoNaturalRepository.buscarOcorrenciasDesde(agora.minus(meiaVidaEventos.multipliedBy(MEIAS_VIDAS_RECONSTRUCAO))),
+                EstadoRegiao::somarEvento);
+        aplicarOcorrencias(novo, regioes,
+                relatoUsuarioRepository.buscarOcorrenciasDesde(agora.minus(meiaVidaRelatos.multipliedBy(MEIAS_VIDAS_RECONSTRUCAO))),
+                EstadoRegiao::somarRelato);
+
+        publicacao.writeLock().lock();
+        try {
+            aplicarPendentes(novo);
+            motor = novo;
+            reconstruindo.set(false);
+        } finally {
+            publicacao.writeLock().unlock();
+        }
+        log.debug("🚦 Motor de risco reconstruído: {} regiões", novo.regioes.size());
+    }
+
+    private void aplicarOcorrencias(Motor destino, Map<Long, Regiao> regioes, List<OcorrenciaRegiao> ocorrencias,
+                                    ObjLongConsumer<EstadoRegiao> somar) {
+        for (OcorrenciaRegiao ocorrencia : ocorrencias) {
+            Regiao regiao = regioes.get(ocorrencia.getRegiaoId());
+            if (regiao != null) {
+                long instante = paraMs(ocorrencia.getDataHora());
+                destino.alterar(regiao, estado -> somar.accept(estado, instante));
+            }
+        }
+    }
+
+    /**
+     * Aplica ao novo motor as alterações recebidas durante a recarga. Eventos e relatos somam intensidade:
+     * os já visíveis no retrato da recarga, ou repetidos na fila, são ignorados. Previsões e alertas
+     * substituem o estado pelo ID e podem ser reaplicados.
+     */
+    private void aplicarPendentes(Motor destino) {
+        List<Alteracao> pendentes = new ArrayList<>();
+        Alteracao pendente;
+        while ((pendente = alteradosDuranteReconstrucao.poll()) != null) {
+            pendentes.add(pendente);
+        }
+        Map<TipoRegistro, Set<Long>> contabilizados = Map.of(
+                TipoRegistro.EVENTO_NATURAL, visiveis(pendentes, TipoRegistro.EVENTO_NATURAL, eventoNaturalRepository::buscarIdsExistentes),
+                TipoRegistro.RELATO_USUARIO, visiveis(pendentes, TipoRegistro.RELATO_USUARIO, relatoUsuarioRepository::buscarIdsExistentes));
+        for (Alteracao alteracao : pendentes) {
+            Set<Long> ids = contabilizados.get(alteracao.tipo());
+            if (ids == null || ids.add(alteracao.id())) {
+                alteracao.aplicar().accept(destino);
+            }
+        }
+    }
+
+    /** IDs do tipo, entre os pendentes, que a transação da recarga já enxerga. */
+    private static Set<Long> visiveis(List<Alteracao> pendentes, TipoRegistro tipo,
+                                      Function<Collection<Long>, List<Long>> buscarIdsExistentes) {
+        List<Long> ids = pendentes.stream()
+                .filter(alteracao -> alteracao.tipo() == tipo)
+                .map(Alteracao::id)
+                .distinct()
+                .toList();
+        Set<Long> visiveis = new HashSet<>();
+        for (int i = 0; i < ids.size(); i += LOTE_IDS) {
+            visiveis.addAll(buscarIdsExistentes.apply(ids.subList(i, Math.min(ids.size(), i + LOTE_IDS))));
+        }
+        return visiveis;
+    }
+
+    // ============================================
+    // 🧩 Estruturas internas
+    // ============================================
+
+    private static long paraMs(LocalDateTime dataHora) {
+        return dataHora.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private ReentrantLock travaDa(Long regiaoId) {
+        return travas[(int) (Hashes.mix64(regiaoId) & (LISTRAS - 1))];
+    }
+
+    /** Alteração incremental recebida durante uma reconstrução. */
+    private record Alteracao(TipoRegistro tipo, Long id, Consumer<Motor> aplicar) {
+    }
+
+    /** Conjunto de estados publicado atomicamente. */
+    private final class Motor {
+
+        private final ConcurrentHashMap<Long, EstadoRegiao> regioes = new ConcurrentHashMap<>();
+
+        /**
+         * Aplica uma alteração ao estado da região sob a trava da sua listra
+         * e publica o novo retrato.
+         */
+        private void alterar(Regiao regiao, Consumer<EstadoRegiao> alteracao) {
+            if (regiao == null || regiao.getId() == null) {
+                return;
+            }
+            ReentrantLock trava = travaDa(regiao.getId());
+            trava.lock();
+            try {
+                EstadoRegiao estado = regioes.computeIfAbsent(regiao.getId(), id -> new EstadoRegiao(regiao));
+                estado.atualizarDados(regiao);
+                alteracao.accept(estado);
+                estado.publicar();
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    /**
+     * Estado mutável de uma região. Alterado apenas sob a trava da listra;
+     * lido somente por meio do {@link Retrato} publicado.
+     */
+    private final class EstadoRegiao {
+
+        private final Long id;
+        private String nome;
+        private String cidade;
+        private String estado;
+        private final Map<String, PrevisaoVigente> previsoes = new HashMap<>();
+        private final Map<Long, AlertaAtivo> alertas = new HashMap<>();
+        private TaxaDecaimento eventos = new TaxaDecaimento(meiaVidaEventos.toMillis());
+        private TaxaDecaimento relatos = new TaxaDecaimento(meiaVidaRelatos.toMillis());
+
+        private volatile Retrato retrato;
+
+        private EstadoRegiao(Regiao regiao) {
+            this.id = regiao.getId();
+            atualizarDados(regiao);
+            publicar();
+        }
+
+        private void atualizarDados(Regiao regiao) {
+            this.nome = regiao.getNome();
+            this.cidade = regiao.getCidade();
+            this.estado = regiao.getEstado();
+        }
+
+        private void aplicarPrevisao(PrevisaoRisco previsao) {
+            NivelRisco nivel = NivelRisco.interpretar(previsao.getNivelPrevisto()).orElse(null);
+            if (nivel == null || previsao.getGeradoEm() == null) {
+                return;
+            }
+            String fonte = previsao.getFonte() == null || previsao.getFonte().isBlank()
+                    ? FONTE_PADRAO : previsao.getFonte().trim().toUpperCase(Locale.ROOT);
+            PrevisaoVigente atual = previsoes.get(fonte);
+            if (atual == null || atual.id().equals(previsao.getId()) || !previsao.getGeradoEm().isBefore(atual.geradoEm())) {
+                previsoes.put(fonte, new PrevisaoVigente(previsao.getId(), fonte, nivel, previsao.getGeradoEm()));
+            }
+        }
+
+        private void aplicarAlerta(Alerta alerta) {
+            NivelRisco nivel = NivelRisco.interpretar(alerta.getNivelRisco()).orElse(null);
+            if (nivel != null && alerta.getEmitidoEm() != null) {
+                alertas.put(alerta.getId(), new AlertaAtivo(nivel, alerta.getEmitidoEm()));
+            }
+        }
+
+        private void somarEvento(long instanteMs) {
+            eventos = eventos.somar(Math.min(instanteMs, paraMs(LocalDateTime.now())));
+        }
+
+        private void somarRelato(long instanteMs) {
+            relatos = relatos.somar(Math.min(instanteMs, paraMs(LocalDateTime.now())));
+        }
+
+        /** Descarta o que já expirou e publica um retrato imutável do estado. */
+        private void publicar() {
+            LocalDateTime agora = LocalDateTime.now();
+            previsoes.values().removeIf(p -> p.geradoEm().isBefore(agora.minus(validadePrevisao)));
+            alertas.values().removeIf(a -> a.emitidoEm().isBefore(agora.minus(janelaAlerta)));
+            retrato = new Retrato(id, nome, cidade, estado,
+                    List.copyOf(previsoes.values()), List.copyOf(alertas.values()),
+                    eventos, relatos, agora);
+        }
+    }
+
+    /** Previsão mais recente de uma fonte. */
+    private record PrevisaoVigente(Long id, String fonte, NivelRisco nivel, LocalDateTime geradoEm) {
+    }
+
+    /** Alerta dentro da janela de atividade. */
+    private record AlertaAtivo(NivelRisco nivel, LocalDateTime emitidoEm) {
+    }
+
+    /** Fotografia imutável do estado de uma região. */
+    private final class Retrato {
+
+        private final Long id;
+        private final String nome;
+        private final String cidade;
+        private final String estado;
+        private final List<PrevisaoVigente> previsoes;
+        private final List<AlertaAtivo> alertas;
+        private final TaxaDecaimento eventos;
+        private final TaxaDecaimento relatos;
+        private final LocalDateTime atualizadoEm;
+
+        private Retrato(Long id, String nome, String cidade, String estado,
+                        List<PrevisaoVigente> previsoes, List<AlertaAtivo> alertas,
+                        TaxaDecaimento eventos, TaxaDecaimento relatos, LocalDateTime atualizadoEm) {
+            this.id = id;
+            this.nome = nome;
+            this.cidade = cidade;
+            this.estado = estado;
+            this.previsoes = previsoes;
+            this.alertas = alertas;
+            this.eventos = eventos;
+            this.relatos = relatos;
+            this.atualizadoEm = atualizadoEm;
+        }
+
+        /**
+         * Calcula o risco no instante informado. Pontuação: peso do maior nível entre
+         * previsões e alertas vigentes, mais até 15 pontos de eventos e 10 de relatos recentes.
+         */
+        private RiscoRegiaoResponseDTO paraDTO(LocalDateTime agora) {
+            LocalDateTime limitePrevisao = agora.minus(validadePrevisao);
+            LocalDateTime limiteAlerta = agora.minus(janelaAlerta);
+            long agoraMs = paraMs(agora);
+
+            List<RiscoRegiaoResponseDTO.PrevisaoFonte> vigentes = new ArrayList<>();
+            NivelRisco nivelPrevisto = null;
+            for (PrevisaoVigente previsao : previsoes) {
+                if (!previsao.geradoEm().isBefore(limitePrevisao)) {
+                    vigentes.add(new RiscoRegiaoResponseDTO.PrevisaoFonte(previsao.fonte(), previsao.nivel(), previsao.geradoEm()));
+                    nivelPrevisto = maior(nivelPrevisto, previsao.nivel());
+                }
+            }
+            vigentes.sort(Comparator.comparing(RiscoRegiaoResponseDTO.PrevisaoFonte::getFonte));
+
+            int ativos = 0;
+            NivelRisco nivelAlerta = null;
+            for (AlertaAtivo alerta : alertas) {
+                if (!alerta.emitidoEm().isBefore(limiteAlerta)) {
+                    ativos++;
+                    nivelAlerta = maior(nivelAlerta, alerta.nivel());
+                }
+            }
+
+            double intensidadeEventos = eventos.valorEm(agoraMs);
+            double intensidadeRelatos = relatos.valorEm(agoraMs);
+            NivelRisco base = maior(nivelPrevisto, nivelAlerta);
+            int pontuacao = (base == null ? 0 : base.getPeso())
+                    + (int) Math.round(Math.min(15, intensidadeEventos * 5))
+                    + (int) Math.round(Math.min(10, intensidadeRelatos));
+
+            return RiscoRegiaoResponseDTO.builder()
+                    .regiaoId(id)
+                    .nome(nome)
+                    .cidade(cidade)
+                    .estado(estado)
+                    .nivel(NivelRisco.dePontuacao(Math.min(100, pontuacao)))
+                    .pontuacao(Math.min(100, pontuacao))
+                    .nivelPrevisto(nivelPrevisto)
+                    .previsoes(vigentes)
+                    .nivelAlerta(nivelAlerta)
+                    .alertasAtivos(ativos)
+                    .intensidadeEventos(arredondar(intensidadeEventos))
+                    .intensidadeRelatos(arredondar(intensidadeRelatos))
+                    .atualizadoEm(atualizadoEm)
+                    .build();
+        }
+    }
+
+    private static NivelRisco maior(NivelRisco a, NivelRisco b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static double arredondar(double valor) {
+        return Math.round(valor * 100) / 100.0;
+    }
+}
@@ -7,6 +7,8 @@ import br.com.fiap.safelink.model.enums.UserRole;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -24,12 +26,23 @@ import java.util.Date;
 public class TokenService {
 
     private final Algorithm algorithm;
+    private final Timer verificacoesValidas;
+    private final Timer verificacoesInvalidas;
 
     @Value("${jwt.expiration-seconds:14400}") // padrão: 4 horas
     private long expirationSeconds;
 
-    public TokenService(@Value("${jwt.secret}") String secret) {
+    public TokenService(@Value("${jwt.secret}") String secret, MeterRegistry meterRegistry) {
         this.algorithm = Algorithm.HMAC256(secret);
+        this.verificacoesValidas = timerVerificacao(meterRegistry, "valido");
+        this.verificacoesInvalidas = timerVerificacao(meterRegistry, "invalido");
+    }
+
+    private static Timer timerVerificacao(MeterRegistry meterRegistry, String resultado) {
+        return Timer.builder("safelink.jwt.verificacao")
+                .description("Tempo de verificação e leitura de tokens JWT")
+                .tag("resultado", resultado)
+                .register(meterRegistry);
     }
 
     /**
@@ -62,6 +75,7 @@ public class TokenService {
      * @return usuário autenticado extraído do JWT
      */
     public User getUserFromToken(String jwt) {
+        Timer.Sample inicio = Timer.start();
         try {
             var jwtVerified = JWT.require(algorithm).build().verify(jwt);
 
@@ -76,15 +90,21 @@ public class TokenService {
             // ⚠️ Remove o prefixo ROLE_ para converter em enum UserRole
             UserRole parsedRole = UserRole.valueOf(role.replace("ROLE_", ""));
 
-            return User.builder()
+            User user = User.builder()
                     .id(Long.parseLong(subject))
                     .email(email)
                     .role(parsedRole)
                     .build();
+            inicio.stop(verificacoesValidas);
+            return user;
 
         } catch (JWTVerificationException | IllegalArgumentException ex) {
-            log.warn("❌ Token inválido: {}", ex.getMessage());
+            inicio.stop(verificacoesInvalidas);
+            log.debug("❌ Token inválido: {}", ex.getMessage()); // o AuthFilter já registra a falha
             throw new InvalidTokenException("Token inválido ou expirado.");
+        } catch (InvalidTokenException ex) {
+            inicio.stop(verificacoesInvalidas);
+            throw ex;
         }
     }
 }
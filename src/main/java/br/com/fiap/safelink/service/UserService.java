@@ -1,7 +1,10 @@
 package br.com.fiap.safelink.service;
 
+import br.com.fiap.safelink.config.PoolConexao;
+import br.com.fiap.safelink.config.UsarPool;
 import br.com.fiap.safelink.dto.request.UserRequestDTO;
 import br.com.fiap.safelink.dto.response.UserResponseDTO;
+import br.com.fiap.safelink.event.UsuarioGravadoEvent;
 import br.com.fiap.safelink.exception.UsuarioNotFoundException;
 import br.com.fiap.safelink.model.User;
 import br.com.fiap.safelink.repository.UserRepository;
@@ -10,6 +13,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -28,7 +33,8 @@ import java.util.Optional;
  * Fornece operações de CRUD, filtros paginados, conversão DTO/entidade e criptografia de senha.
  *
  * ---
- * 🔐 Garante unicidade de e-mail e validações de negócio
+ * 🔐 Garante unicidade de e-mail via constraint única do banco (sem pré-consulta)
+ * 🌸 Mantém o filtro de Bloom de e-mails atualizado a cada gravação
  * 🔄 Utiliza ModelMapper para conversão automática
  */
 @Slf4j
@@ -39,6 +45,7 @@ public class UserService {
     private final UserRepository repository;
     private final ModelMapper modelMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ============================================
     // ➕ Criação
@@ -47,21 +54,17 @@ public class UserService {
     /**
      * Registra um novo usuário no sistema.
      *
-     * - Verifica unicidade de e-mail
      * - Criptografa a senha
+     * - Unicidade de e-mail garantida pela constraint única (uma única ida ao banco)
      *
      * @param dto dados do usuário
      * @return DTO do usuário criado
      */
     @Transactional
     public UserResponseDTO gravar(UserRequestDTO dto) {
-        if (repository.existsByEmail(dto.getEmail())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "E-mail já cadastrado.");
-        }
-
         User user = modelMapper.map(dto, User.class);
         user.setPassword(passwordEncoder.encode(dto.getPassword()));
-        user = repository.save(user);
+        user = salvarComEmailUnico(user, "E-mail já cadastrado.");
 
         log.info("✅ Usuário criado com sucesso: ID {}", user.getId());
         return toDTO(user);
@@ -74,7 +77,7 @@ public class UserService {
     /**
      * Atualiza os dados de um usuário.
      *
-     * - Valida duplicidade de e-mail
+     * - Duplicidade de e-mail rejeitada pela constraint única
      * - Recriptografa a senha
      *
      * @param id  identificador do usuário
@@ -86,13 +89,9 @@ public class UserService {
         User user = repository.findById(id)
                 .orElseThrow(() -> new UsuarioNotFoundException(id));
 
-        if (!user.getEmail().equals(dto.getEmail()) && repository.existsByEmail(dto.getEmail())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "E-mail já está em uso por outro usuário.");
-        }
-
         modelMapper.map(dto, user);
         user.setPassword(passwordEncoder.encode(dto.getPassword()));
-        user = repository.save(user);
+        user = salvarComEmailUnico(user, "E-mail já está em uso por outro usuário.");
 
         log.info("✏️ Usuário atualizado com sucesso: ID {}", user.getId());
         return toDTO(user);
@@ -105,26 +104,30 @@ public class UserService {
     /**
      * Lista todos os usuários sem paginação.
      */
+    @UsarPool(PoolConexao.RELATORIO)
+    @Transactional(readOnly = true)
     public List<UserResponseDTO> consultarTodos() {
-        log.info("📋 Listando todos os usuários");
+        log.debug("📋 Listando todos os usuários");
         return repository.findAll().stream().map(this::toDTO).toList();
     }
 
     /**
      * Lista usuários com paginação.
      */
+    @Transactional(readOnly = true)
     public Page<UserResponseDTO> consultarPaginado(Pageable pageable) {
-        log.info("📄 Listando usuários paginados");
+        log.debug("📄 Listando usuários paginados");
         return repository.findAll(pageable).map(this::toDTO);
     }
 
     /**
      * Consulta usuário por ID.
      */
+    @Transactional(readOnly = true)
     public UserResponseDTO consultarPorId(Long id) {
         User user = repository.findById(id)
                 .orElseThrow(() -> new UsuarioNotFoundException(id));
-        log.info("🔍 Usuário encontrado: ID {}", id);
+        log.debug("🔍 Usuário encontrado: ID {}", id);
         return toDTO(user);
     }
 
@@ -154,6 +157,28 @@ public class UserService {
         log.info("🗑️ Usuário excluído com sucesso: ID {}", id);
     }
 
+    // ============================================
+    // 🔐 Unicidade de e-mail
+    // ============================================
+
+    /**
+     * Persiste o usuário forçando o flush para que a constraint única de e-mail
+     * seja verificada dentro do método, e publica o e-mail para o filtro de Bloom (aplicado após o commit).
+     *
+     * @param user             entidade a ser gravada
+     * @param mensagemDuplicado mensagem retornada quando o e-mail já existe
+     * @return entidade persistida
+     */
+    private User salvarComEmailUnico(User user, String mensagemDuplicado) {
+        try {
+            user = repository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, mensagemDuplicado);
+        }
+        eventPublisher.publishEvent(new UsuarioGravadoEvent(user.getEmail()));
+        return user;
+    }
+
     // ============================================
     // 🔄 Conversão
     // ============================================
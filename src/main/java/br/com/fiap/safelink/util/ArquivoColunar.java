@@ -0,0 +1,527 @@
+package br.com.fiap.safelink.util;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * # 🧊 Estrutura: ArquivoColunar
+ *
+ * Formato de arquivo colunar comprimido para o histórico frio (no espírito do Parquet,
+ * sem dependências externas).
+ *
+ * ---
+ * ## ⚙️ Layout
+ * - Linhas agrupadas em grupos (row groups); dentro do grupo, cada coluna é um bloco
+ *   comprimido (Deflate) com bitmap de nulos + valores
+ * - Inteiros e datas: delta + zigzag + varint (sequências ordenadas ficam minúsculas)
+ * - Rodapé com o schema e, por grupo, o deslocamento, tamanhos dos blocos e min/max
+ *   das colunas numéricas e de data
+ *
+ * ## 🔎 Leitura
+ * - Predicate pushdown: grupos cujo min/max não intersecta as faixas pedidas nem são lidos
+ * - Projeção: apenas as colunas pedidas são descomprimidas
+ * - Leitura na ordem inversa e parada antecipada pelo consumidor (arquivos gravados em ordem de data)
+ *
+ * 🔒 Escritor não é thread-safe; leituras abrem o próprio canal e podem ser concorrentes.
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public final class ArquivoColunar {
+
+    private static final int MAGICO = 0x534c4331; // "SLC1"
+
+    private ArquivoColunar() {
+        // Utilitário estático - previne instanciamento
+    }
+
+    /** Tipos de coluna suportados. */
+    public enum Tipo {
+        /** {@link Long}. */
+        INTEIRO,
+        /** {@link LocalDateTime}, com precisão de microssegundos. */
+        DATA_HORA,
+        /** {@link String} UTF-8. */
+        TEXTO
+    }
+
+    /** Definição de coluna. */
+    public record Coluna(String nome, Tipo tipo) {
+    }
+
+    /**
+     * Faixa inclusiva de valores para o pushdown (nulo = sem limite naquele lado).
+     */
+    public record Faixa(Long minimo, Long maximo) {
+
+        /** Faixa de datas/horas (limites inclusivos, opcionais). */
+        public static Faixa entre(LocalDateTime inicio, LocalDateTime fim) {
+            return new Faixa(inicio != null ? codificar(inicio) : null, fim != null ? codificar(fim) : null);
+        }
+
+        /** Faixa de um único valor inteiro. */
+        public static Faixa igual(long valor) {
+            return new Faixa(valor, valor);
+        }
+
+        boolean intersecta(long min, long max) {
+            return (minimo == null || max >= minimo) && (maximo == null || min <= maximo);
+        }
+
+        boolean contem(long valor) {
+            return (minimo == null || valor >= minimo) && (maximo == null || valor <= maximo);
+        }
+    }
+
+    // ============================================
+    // ✍️ Escrita
+    // ============================================
+
+    /**
+     * Escritor sequencial: acumula as linhas do grupo atual e grava cada grupo ao completá-lo.
+     */
+    public static final class Escritor implements Closeable {
+
+        private final List<Coluna> colunas;
+        private final int linhasPorGrupo;
+        private final DataOutputStream saida;
+        private final List<Object[]> grupoAtual = new ArrayList<>();
+        private final List<Grupo> grupos = new ArrayList<>();
+        private long posicao;
+        private long totalLinhas;
+        private boolean fechado;
+
+        public Escritor(Path arquivo, List<Coluna> colunas, int linhasPorGrupo) throws IOException {
+            this.colunas = List.copyOf(colunas);
+            this.linhasPorGrupo = Math.max(1, linhasPorGrupo);
+            this.saida = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(arquivo.toFile()), 1 << 16));
+            saida.writeInt(MAGICO);
+            posicao = 4;
+        }
+
+        /**
+         * Adiciona uma linha (valores na ordem das colunas; nulos permitidos).
+         */
+        public void adicionar(Object... valores) throws IOException {
+            if (valores.length != colunas.size()) {
+                throw new IllegalArgumentException("Linha com " + valores.length + " valores para " + colunas.size() + " colunas.");
+            }
+            grupoAtual.add(valores);
+            totalLinhas++;
+            if (grupoAtual.size() >= linhasPorGrupo) {
+                gravarGrupo();
+            }
+        }
+
+        public long getTotalLinhas() {
+            return totalLinhas;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (fechado) {
+                return;
+            }
+            fechado = true;
+            try {
+                if (!grupoAtual.isEmpty()) {
+                    gravarGrupo();
+                }
+                long inicioRodape = posicao;
+                saida.writeInt(colunas.size());
+                for (Coluna coluna : colunas) {
+                    saida.writeUTF(coluna.nome());
+                    saida.writeByte(coluna.tipo().ordinal());
+                }
+                saida.writeInt(grupos.size());
+                for (Grupo grupo : grupos) {
+                    saida.writeLong(grupo.deslocamento());
+                    saida.writeInt(grupo.linhas());
+                    for (int c = 0; c < colunas.size(); c++) {
+                        saida.writeInt(grupo.tamanhos()[c]);
+                        saida.writeLong(grupo.minimos()[c]);
+                        saida.writeLong(grupo.maximos()[c]);
+                    }
+                }
+                saida.writeLong(inicioRodape);
+                saida.writeInt(MAGICO);
+                saida.flush();
+            } finally {
+                saida.close();
+            }
+        }
+
+        private void gravarGrupo() throws IOException {
+            int linhas = grupoAtual.size();
+            int[] tamanhos = new int[colunas.size()];
+            long[] minimos = new long[colunas.size()];
+            long[] maximos = new long[colunas.size()];
+            long deslocamento = posicao;
+            for (int c = 0; c < colunas.size(); c++) {
+                minimos[c] = Long.MAX_VALUE;
+                maximos[c] = Long.MIN_VALUE;
+                byte[] bloco = comprimir(codificarColuna(c, minimos, maximos));
+                saida.write(bloco);
+                tamanhos[c] = bloco.length;
+                posicao += bloco.length;
+            }
+            grupos.add(new Grupo(deslocamento, linhas, tamanhos, minimos, maximos));
+            grupoAtual.clear();
+        }
+
+        private byte[] codificarColuna(int c, long[] minimos, long[] maximos) throws IOException {
+            Tipo tipo = colunas.get(c).tipo();
+            int linhas = grupoAtual.size();
+            byte[] nulos = new byte[(linhas + 7) / 8];
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream valores = new DataOutputStream(bytes);
+            long anterior = 0;
+            for (int l = 0; l < linhas; l++) {
+                Object valor = grupoAtual.get(l)[c];
+                if (valor == null) {
+                    nulos[l >>> 3] |= (byte) (1 << (l & 7));
+                    continue;
+                }
+                if (tipo == Tipo.TEXTO) {
+                    byte[] texto = valor.toString().getBytes(StandardCharsets.UTF_8);
+                    escreverVarint(valores, texto.length);
+                    valores.write(texto);
+                } else {
+                    long atual = tipo == Tipo.DATA_HORA ? codificar((LocalDateTime) valor) : ((Number) valor).longValue();
+                    minimos[c] = Math.min(minimos[c], atual);
+                    maximos[c] = Math.max(maximos[c], atual);
+                    long delta = atual - anterior;
+                    escreverVarint(valores, (delta << 1) ^ (delta >> 63));
+                    anterior = atual;
+                }
+            }
+            ByteArrayOutputStream bloco = new ByteArrayOutputStream(nulos.length + bytes.size());
+            bloco.write(nulos);
+            bytes.writeTo(bloco);
+            return bloco.toByteArray();
+        }
+    }
+
+    // ============================================
+    // 🔎 Leitura
+    // ============================================
+
+    /**
+     * Resultado de uma leitura: grupos lidos e ignorados pelo pushdown.
+     */
+    public record Estatisticas(int gruposLidos, int gruposIgnorados, long linhasEmitidas) {
+    }
+
+    /**
+     * Linha lida, com acesso por nome às colunas projetadas.
+     */
+    public static final class Linha {
+
+        private final Map<String, Integer> indices;
+        private final Object[] valores;
+
+        private Linha(Map<String, Integer> indices, Object[] valores) {
+            this.indices = indices;
+            this.valores = valores;
+        }
+
+        public Long inteiro(String coluna) {
+            return (Long) valores[indices.get(coluna)];
+        }
+
+        public LocalDateTime dataHora(String coluna) {
+            return (LocalDateTime) valores[indices.get(coluna)];
+        }
+
+        public String texto(String coluna) {
+            return (String) valores[indices.get(coluna)];
+        }
+    }
+
+    /**
+     * Lê as linhas cujas colunas filtradas estão dentro das faixas.
+     *
+     * @param arquivo  arquivo gravado pelo {@link Escritor}
+     * @param faixas   filtros por coluna inteira/data (aplicados por grupo e por linha)
+     * @param projecao colunas a descomprimir (vazio = todas)
+     * @param consumidor recebe cada linha que satisfaz as faixas
+     */
+    public static Estatisticas ler(Path arquivo, Map<String, Faixa> faixas, Collection<String> projecao,
+                                   Consumer<Linha> consumidor) throws IOException {
+        return ler(arquivo, faixas, projecao, false, linha -> {
+            consumidor.accept(linha);
+            return true;
+        });
+    }
+
+    /**
+     * Como {@link #ler(Path, Map, Collection, Consumer)}, na ordem gravada ou na inversa (grupos e linhas
+     * de trás para frente), parando assim que o consumidor devolver `false`.
+     */
+    public static Estatisticas ler(Path arquivo, Map<String, Faixa> faixas, Collection<String> projecao,
+                                   boolean inversa, Predicate<Linha> consumidor) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            Rodape rodape = lerRodape(canal, arquivo);
+            List<Coluna> colunas = rodape.colunas();
+
+            // Colunas lidas = projeção + colunas filtradas (para o filtro exato por linha)
+            Set<String> necessarias = new LinkedHashSet<>();
+            if (projecao == null || projecao.isEmpty()) {
+                colunas.forEach(coluna -> necessarias.add(coluna.nome()));
+            } else {
+                necessarias.addAll(projecao);
+            }
+            necessarias.addAll(faixas.keySet());
+            List<Integer> lidas = new ArrayList<>();
+            Map<String, Integer> indices = new HashMap<>();
+            for (int c = 0; c < colunas.size(); c++) {
+                if (necessarias.contains(colunas.get(c).nome())) {
+                    indices.put(colunas.get(c).nome(), lidas.size());
+                    lidas.add(c);
+                }
+            }
+            if (!indices.keySet().containsAll(necessarias)) {
+                throw new IllegalArgumentException("Colunas inexistentes no arquivo: " + necessarias);
+            }
+            Faixa[] faixaPorColuna = new Faixa[colunas.size()];
+            for (int c = 0; c < colunas.size(); c++) {
+                faixaPorColuna[c] = faixas.get(colunas.get(c).nome());
+            }
+
+            int lidos = 0;
+            int ignorados = 0;
+            long emitidas = 0;
+            List<Grupo> grupos = rodape.grupos();
+            for (int ordem = 0; ordem < grupos.size(); ordem++) {
+                Grupo grupo = grupos.get(inversa ? grupos.size() - 1 - ordem : ordem);
+                if (!intersecta(grupo, faixaPorColuna)) {
+                    ignorados++;
+                    continue;
+                }
+                lidos++;
+
+                Object[][] valores = new Object[lidas.size()][];
+                for (int i = 0; i < lidas.size(); i++) {
+                    int c = lidas.get(i);
+                    long inicioBloco = grupo.deslocamento();
+                    for (int anterior = 0; anterior < c; anterior++) {
+                        inicioBloco += grupo.tamanhos()[anterior];
+                    }
+                    byte[] bloco = descomprimir(lerBytes(canal, inicioBloco, grupo.tamanhos()[c]).array());
+                    valores[i] = decodificarColuna(bloco, grupo.linhas(), colunas.get(c).tipo());
+                }
+                for (int posicao = 0; posicao < grupo.linhas(); posicao++) {
+                    int l = inversa ? grupo.linhas() - 1 - posicao : posicao;
+                    if (!linhaDentroDasFaixas(l, lidas, valores, colunas, faixaPorColuna)) {
+                        continue;
+                    }
+                    Object[] linha = new Object[lidas.size()];
+                    for (int i = 0; i < lidas.size(); i++) {
+                        linha[i] = valores[i][l];
+                    }
+                    emitidas++;
+                    if (!consumidor.test(new Linha(indices, linha))) {
+                        return new Estatisticas(lidos, ignorados, emitidas);
+                    }
+                }
+            }
+            return new Estatisticas(lidos, ignorados, emitidas);
+        }
+    }
+
+    /**
+     * Conta as linhas dentro das faixas descomprimindo só as colunas filtradas;
+     * sem faixas, a contagem sai do rodapé.
+     */
+    public static long contar(Path arquivo, Map<String, Faixa> faixas) throws IOException {
+        if (faixas.isEmpty()) {
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                return lerRodape(canal, arquivo).grupos().stream().mapToLong(Grupo::linhas).sum();
+            }
+        }
+        return ler(arquivo, faixas, faixas.keySet(), false, linha -> true).linhasEmitidas();
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    private record Grupo(long deslocamento, int linhas, int[] tamanhos, long[] minimos, long[] maximos) {
+    }
+
+    private record Rodape(List<Coluna> colunas, List<Grupo> grupos) {
+    }
+
+    private static Rodape lerRodape(FileChannel canal, Path arquivo) throws IOException {
+        long tamanho = canal.size();
+        ByteBuffer final12 = lerBytes(canal, tamanho - 12, 12);
+        long inicioRodape = final12.getLong();
+        if (final12.getInt() != MAGICO || lerBytes(canal, 0, 4).getInt() != MAGICO) {
+            throw new IOException("Arquivo colunar inválido: " + arquivo);
+        }
+        DataInputStream rodape = new DataInputStream(new ByteArrayInputStream(
+                lerBytes(canal, inicioRodape, (int) (tamanho - 12 - inicioRodape)).array()));
+
+        int quantidadeColunas = rodape.readInt();
+        List<Coluna> colunas = new ArrayList<>(quantidadeColunas);
+        for (int c = 0; c < quantidadeColunas; c++) {
+            colunas.add(new Coluna(rodape.readUTF(), Tipo.values()[rodape.readByte()]));
+        }
+        int quantidadeGrupos = rodape.readInt();
+        List<Grupo> grupos = new ArrayList<>(quantidadeGrupos);
+        for (int g = 0; g < quantidadeGrupos; g++) {
+            long deslocamento = rodape.readLong();
+            int linhas = rodape.readInt();
+            int[] tamanhos = new int[quantidadeColunas];
+            long[] minimos = new long[quantidadeColunas];
+            long[] maximos = new long[quantidadeColunas];
+            for (int c = 0; c < quantidadeColunas; c++) {
+                tamanhos[c] = rodape.readInt();
+                minimos[c] = rodape.readLong();
+                maximos[c] = rodape.readLong();
+            }
+            grupos.add(new Grupo(deslocamento, linhas, tamanhos, minimos, maximos));
+        }
+        return new Rodape(colunas, grupos);
+    }
+
+    private static boolean intersecta(Grupo grupo, Faixa[] faixaPorColuna) {
+        for (int c = 0; c < faixaPorColuna.length; c++) {
+            if (faixaPorColuna[c] != null && !faixaPorColuna[c].intersecta(grupo.minimos()[c], grupo.maximos()[c])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean linhaDentroDasFaixas(int l, List<Integer> lidas, Object[][] valores,
+                                                List<Coluna> colunas, Faixa[] faixaPorColuna) {
+        for (int i = 0; i < lidas.size(); i++) {
+            Faixa faixa = faixaPorColuna[lidas.get(i)];
+            if (faixa == null) {
+                continue;
+            }
+            Object valor = valores[i][l];
+            if (valor == null) {
+                return false;
+            }
+            long codificado = colunas.get(lidas.get(i)).tipo() == Tipo.DATA_HORA
+                    ? codificar((LocalDateTime) valor) : (Long) valor;
+            if (!faixa.contem(codificado)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object[] decodificarColuna(byte[] bloco, int linhas, Tipo tipo) throws IOException {
+        int tamanhoNulos = (linhas + 7) / 8;
+        DataInputStream entrada = new DataInputStream(
+                new ByteArrayInputStream(bloco, tamanhoNulos, bloco.length - tamanhoNulos));
+        Object[] valores = new Object[linhas];
+        long anterior = 0;
+        for (int l = 0; l < linhas; l++) {
+            if ((bloco[l >>> 3] & (1 << (l & 7))) != 0) {
+                continue;
+            }
+            if (tipo == Tipo.TEXTO) {
+                byte[] texto = new byte[(int) lerVarint(entrada)];
+                entrada.readFully(texto);
+                valores[l] = new String(texto, StandardCharsets.UTF_8);
+            } else {
+                long zigzag = lerVarint(entrada);
+                anterior += (zigzag >>> 1) ^ -(zigzag & 1);
+                valores[l] = tipo == Tipo.DATA_HORA ? decodificar(anterior) : (Object) anterior;
+            }
+        }
+        return valores;
+    }
+
+    static long codificar(LocalDateTime dataHora) {
+        return dataHora.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dataHora.getNano() / 1_000;
+    }
+
+    private static LocalDateTime decodificar(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static void escreverVarint(DataOutputStream saida, long valor) throws IOException {
+        while ((valor & ~0x7FL) != 0) {
+            saida.writeByte((int) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        saida.writeByte((int) valor);
+    }
+
+    private static long lerVarint(DataInputStream entrada) throws IOException {
+        long valor = 0;
+        int deslocamento = 0;
+        byte b;
+        do {
+            b = entrada.readByte();
+            valor |= (long) (b & 0x7F) << deslocamento;
+            deslocamento += 7;
+        } while ((b & 0x80) != 0);
+        return valor;
+    }
+
+    private static byte[] comprimir(byte[] dados) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(dados);
+            deflater.finish();
+            ByteArrayOutputStream saida = new ByteArrayOutputStream(Math.max(64, dados.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                saida.write(buffer, 0, deflater.deflate(buffer));
+            }
+            ByteBuffer bloco = ByteBuffer.allocate(4 + saida.size());
+            bloco.putInt(dados.length).put(saida.toByteArray());
+            return bloco.array();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] descomprimir(byte[] bloco) throws IOException {
+        int tamanhoOriginal = ByteBuffer.wrap(bloco).getInt();
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bloco, 4, bloco.length - 4);
+            byte[] dados = new byte[tamanhoOriginal];
+            int lidos = 0;
+            while (lidos < tamanhoOriginal && !inflater.finished()) {
+                lidos += inflater.inflate(dados, lidos, tamanhoOriginal - lidos);
+            }
+            return dados;
+        } catch (DataFormatException e) {
+            throw new IOException("Bloco comprimido inválido", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static ByteBuffer lerBytes(FileChannel canal, long posicao, int tamanho) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(tamanho);
+        while (buffer.hasRemaining()) {
+            if (canal.read(buffer, posicao + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.fiap.safelink.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * # 🌸 Estrutura: BloomFilter
+ *
+ * Filtro de Bloom thread-safe e sem locks para testes de pertinência de textos.
+ * Responde "definitivamente ausente" ou "possivelmente presente", com taxa de falso
+ * positivo controlada pelo dimensionamento.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Bits armazenados em `AtomicLongArray` (atualização por CAS)
+ * - `k` posições derivadas por hashing duplo (Kirsch–Mitzenmacher)
+ * - Não suporta remoção: itens removidos só saem na reconstrução
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long totalBits;
+    private final int funcoesHash;
+
+    /**
+     * Cria um filtro dimensionado para a capacidade e taxa de falso positivo informadas.
+     *
+     * @param capacidadeEsperada  número de itens esperados (mínimo 1)
+     * @param taxaFalsoPositivo   probabilidade desejada de falso positivo (0 &lt; p &lt; 1)
+     */
+    public BloomFilter(long capacidadeEsperada, double taxaFalsoPositivo) {
+        if (taxaFalsoPositivo <= 0 || taxaFalsoPositivo >= 1) {
+            throw new IllegalArgumentException("Taxa de falso positivo deve estar entre 0 e 1.");
+        }
+        long n = Math.max(1, capacidadeEsperada);
+        long m = (long) Math.ceil(-n * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+        int palavras = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (m + 63) / 64));
+
+        this.bits = new AtomicLongArray(palavras);
+        this.totalBits = (long) palavras * 64;
+        this.funcoesHash = Math.max(1, (int) Math.round((double) totalBits / n * Math.log(2)));
+    }
+
+    /**
+     * Registra um item no filtro.
+     *
+     * @param item texto a ser adicionado
+     */
+    public void adicionar(String item) {
+        long hash = Hashes.hash64(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= funcoesHash; i++) {
+            long posicao = indice(h1 + (long) i * h2);
+            int palavra = (int) (posicao >>> 6);
+            long mascara = 1L << posicao;
+            long atual;
+            do {
+                atual = bits.get(palavra);
+                if ((atual & mascara) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(palavra, atual, atual | mascara));
+        }
+    }
+
+    /**
+     * Indica se o item pode estar presente.
+     *
+     * @param item texto a ser verificado
+     * @return false se o item definitivamente nunca foi adicionado
+     */
+    public boolean podeConter(String item) {
+        long hash = Hashes.hash64(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= funcoesHash; i++) {
+            long posicao = indice(h1 + (long) i * h2);
+            if ((bits.get((int) (posicao >>> 6)) & (1L << posicao)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Quantidade de bits do filtro. */
+    public long getTotalBits() {
+        return totalBits;
+    }
+
+    /** Quantidade de funções de hash utilizadas. */
+    public int getFuncoesHash() {
+        return funcoesHash;
+    }
+
+    private long indice(long combinado) {
+        return (combinado & Long.MAX_VALUE) % totalBits;
+    }
+}
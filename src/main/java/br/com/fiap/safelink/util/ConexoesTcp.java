@@ -0,0 +1,104 @@
+package br.com.fiap.safelink.util;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * # 🔌 Utilitário: ConexoesTcp
+ *
+ * Lê a tabela de sockets TCP do kernel Linux (`/proc/net/tcp` e `/proc/net/tcp6`) para descobrir
+ * quais clientes já encerraram a conexão enquanto o servidor ainda processa a requisição.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Quando o cliente fecha o socket, o lado do servidor fica em `CLOSE_WAIT` até a aplicação
+ *   escrever ou fechar; o contêiner servlet só percebe isso ao escrever a resposta
+ * - Endereços em `/proc` são hexadecimais, em palavras de 32 bits little-endian
+ * - Fora do Linux (sem `/proc/net`), {@link #isDisponivel()} é falso e nada é detectado
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public final class ConexoesTcp {
+
+    private static final List<Path> TABELAS = List.of(Path.of("/proc/net/tcp"), Path.of("/proc/net/tcp6"));
+    private static final String CLOSE_WAIT = "08";
+
+    private ConexoesTcp() {
+        // Utilitário estático - previne instanciamento
+    }
+
+    /** Indica se a tabela de sockets do kernel pode ser lida neste ambiente. */
+    public static boolean isDisponivel() {
+        return Files.isReadable(TABELAS.get(0));
+    }
+
+    /**
+     * Clientes (`ip:porta`, no formato de {@link #chave(String, int)}) cuja conexão com a porta local
+     * informada foi encerrada do lado deles.
+     */
+    public static Set<String> encerradasPeloCliente(int portaLocal) {
+        Set<String> encerradas = new HashSet<>();
+        for (Path tabela : TABELAS) {
+            try {
+                encerradas.addAll(encerradasPeloCliente(Files.readAllLines(tabela), portaLocal));
+            } catch (IOException e) {
+                // tcp6 pode não existir (IPv6 desabilitado)
+            }
+        }
+        return encerradas;
+    }
+
+    /**
+     * Normaliza endereço e porta do cliente (IPv4 mapeado em IPv6 vira IPv4).
+     */
+    public static String chave(String endereco, int porta) {
+        try {
+            return InetAddress.getByName(endereco).getHostAddress() + ":" + porta;
+        } catch (UnknownHostException e) {
+            return endereco + ":" + porta;
+        }
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    static Set<String> encerradasPeloCliente(List<String> linhas, int portaLocal) {
+        Set<String> encerradas = new HashSet<>();
+        for (int i = 1; i < linhas.size(); i++) {
+            String[] campos = linhas.get(i).trim().split("\\s+");
+            if (campos.length < 4 || !CLOSE_WAIT.equals(campos[3])) {
+                continue;
+            }
+            String[] local = campos[1].split(":");
+            if (Integer.parseInt(local[1], 16) != portaLocal) {
+                continue;
+            }
+            String[] remoto = campos[2].split(":");
+            encerradas.add(endereco(remoto[0]) + ":" + Integer.parseInt(remoto[1], 16));
+        }
+        return encerradas;
+    }
+
+    private static String endereco(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int palavra = 0; palavra < bytes.length / 4; palavra++) {
+            for (int b = 0; b < 4; b++) {
+                int posicao = palavra * 8 + (3 - b) * 2;
+                bytes[palavra * 4 + b] = (byte) Integer.parseInt(hex.substring(posicao, posicao + 2), 16);
+            }
+        }
+        try {
+            return InetAddress.getByAddress(bytes).getHostAddress();
+        } catch (UnknownHostException e) {
+            return hex;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.fiap.safelink.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * # ⏱️ Estrutura: ContadorJanelaHoraria
+ *
+ * Contador sem locks com buckets horários em anel, cobrindo uma janela fixa
+ * (por padrão 7 dias = 168 horas).
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Cada slot guarda, em um único `long`, a hora (28 bits altos) e a contagem (36 bits baixos)
+ * - Incremento por CAS: se o slot pertence a uma hora antiga, é reiniciado na mesma operação
+ * - Leituras somam apenas os slots dentro da janela pedida
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public class ContadorJanelaHoraria {
+
+    private static final int BITS_CONTAGEM = 36;
+    private static final long MASCARA_CONTAGEM = (1L << BITS_CONTAGEM) - 1;
+
+    private final AtomicLongArray slots;
+    private final int horas;
+
+    /**
+     * @param horas tamanho da janela em horas
+     */
+    public ContadorJanelaHoraria(int horas) {
+        this.horas = horas;
+        this.slots = new AtomicLongArray(horas);
+    }
+
+    /**
+     * Soma uma quantidade na hora informada.
+     * Registros mais antigos que a janela (em relação ao slot) são ignorados.
+     *
+     * @param hora       hora em época (horas desde 1970-01-01T00:00)
+     * @param quantidade valor a somar
+     */
+    public void somar(long hora, long quantidade) {
+        int indice = (int) Math.floorMod(hora, (long) horas);
+        while (true) {
+            long atual = slots.get(indice);
+            long horaSlot = atual >>> BITS_CONTAGEM;
+            long novo;
+            if (horaSlot == hora) {
+                novo = atual + quantidade;
+            } else if (horaSlot < hora) {
+                novo = (hora << BITS_CONTAGEM) | (quantidade & MASCARA_CONTAGEM);
+            } else {
+                return;
+            }
+            if (slots.compareAndSet(indice, atual, novo)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Soma as contagens das últimas `ultimasHoras` horas, incluindo a hora atual.
+     *
+     * @param horaAtual    hora em época usada como referência
+     * @param ultimasHoras tamanho da janela consultada (limitado ao tamanho do anel)
+     * @return total de registros na janela
+     */
+    public long total(long horaAtual, int ultimasHoras) {
+        long inicio = horaAtual - Math.min(ultimasHoras, horas) + 1;
+        long total = 0;
+        for (int i = 0; i < horas; i++) {
+            long slot = slots.get(i);
+            long horaSlot = slot >>> BITS_CONTAGEM;
+            if (horaSlot >= inicio && horaSlot <= horaAtual) {
+                total += slot & MASCARA_CONTAGEM;
+            }
+        }
+        return total;
+    }
+}
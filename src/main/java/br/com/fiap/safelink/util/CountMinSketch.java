@@ -0,0 +1,83 @@
+package br.com.fiap.safelink.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * # 🧮 Estrutura: CountMinSketch
+ *
+ * Sketch de contagem aproximada com memória fixa (`profundidade × largura` contadores).
+ * A estimativa nunca é menor que a contagem real e o excesso é limitado a
+ * `e / largura` do total, com probabilidade `1 - e^-profundidade`.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Incrementos sem locks (`AtomicLongArray.addAndGet`)
+ * - {@link #envelhecer()} divide todos os contadores por 2 (decaimento no tempo)
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public class CountMinSketch {
+
+    private final AtomicLongArray contadores;
+    private final int largura;
+    private final int profundidade;
+
+    /**
+     * @param largura      contadores por linha (arredondado para potência de 2)
+     * @param profundidade quantidade de linhas (funções de hash)
+     */
+    public CountMinSketch(int largura, int profundidade) {
+        this.largura = Integer.highestOneBit(Math.max(16, largura - 1) << 1);
+        this.profundidade = Math.max(1, profundidade);
+        this.contadores = new AtomicLongArray(this.largura * this.profundidade);
+    }
+
+    /**
+     * Soma uma quantidade à chave e devolve a nova estimativa.
+     *
+     * @param hash       hash de 64 bits da chave (ver {@link Hashes})
+     * @param quantidade valor a somar
+     * @return estimativa atualizada da chave
+     */
+    public long somar(long hash, long quantidade) {
+        long estimativa = Long.MAX_VALUE;
+        for (int linha = 0; linha < profundidade; linha++) {
+            long valor = contadores.addAndGet(indice(hash, linha), quantidade);
+            estimativa = Math.min(estimativa, valor);
+        }
+        return estimativa;
+    }
+
+    /**
+     * Estimativa atual da chave.
+     */
+    public long estimar(long hash) {
+        long estimativa = Long.MAX_VALUE;
+        for (int linha = 0; linha < profundidade; linha++) {
+            estimativa = Math.min(estimativa, contadores.get(indice(hash, linha)));
+        }
+        return estimativa;
+    }
+
+    /**
+     * Divide todos os contadores por 2. Incrementos concorrentes não se perdem (CAS por célula).
+     */
+    public void envelhecer() {
+        for (int i = 0; i < contadores.length(); i++) {
+            long atual;
+            do {
+                atual = contadores.get(i);
+            } while (atual != 0 && !contadores.compareAndSet(i, atual, atual >>> 1));
+        }
+    }
+
+    /**
+     * Índice da célula na linha, usando hashing duplo (h1 + linha × h2).
+     */
+    private int indice(long hash, int linha) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return linha * largura + ((h1 + linha * h2) & (largura - 1));
+    }
+}
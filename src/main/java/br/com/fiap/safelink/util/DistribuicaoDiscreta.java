@@ -0,0 +1,80 @@
+package br.com.fiap.safelink.util;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * # 🎲 Utilitário: DistribuicaoDiscreta
+ *
+ * Sorteio de índices `0..n-1` com pesos arbitrários, usado pelo gerador de dados sintéticos
+ * para reproduzir concentrações reais (regiões quentes, usuários que relatam muito, horários de pico).
+ *
+ * ---
+ * - Pesos acumulados e normalizados; cada sorteio é uma busca binária (O(log n))
+ * - Imutável: pode ser compartilhada entre threads, cada uma com o seu {@link SplittableRandom}
+ * - {@link #zipf(int, double)} gera a cauda longa típica de popularidade
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public final class DistribuicaoDiscreta {
+
+    private final double[] acumulado;
+
+    /**
+     * @param pesos pesos não negativos, com soma positiva
+     */
+    public DistribuicaoDiscreta(double[] pesos) {
+        if (pesos.length == 0) {
+            throw new IllegalArgumentException("A distribuição precisa de ao menos um peso");
+        }
+        acumulado = new double[pesos.length];
+        double soma = 0;
+        for (int i = 0; i < pesos.length; i++) {
+            if (pesos[i] < 0 || Double.isNaN(pesos[i])) {
+                throw new IllegalArgumentException("Peso inválido na posição " + i + ": " + pesos[i]);
+            }
+            soma += pesos[i];
+            acumulado[i] = soma;
+        }
+        if (soma <= 0) {
+            throw new IllegalArgumentException("A soma dos pesos deve ser positiva");
+        }
+        for (int i = 0; i < acumulado.length; i++) {
+            acumulado[i] /= soma;
+        }
+    }
+
+    /**
+     * Distribuição de Zipf: o índice `i` tem peso `1 / (i + 1)^expoente`.
+     *
+     * @param tamanho  quantidade de índices
+     * @param expoente concentração (0 = uniforme; ~1 = cauda longa clássica)
+     */
+    public static DistribuicaoDiscreta zipf(int tamanho, double expoente) {
+        double[] pesos = new double[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            pesos[i] = 1.0 / Math.pow(i + 1, expoente);
+        }
+        return new DistribuicaoDiscreta(pesos);
+    }
+
+    /**
+     * Sorteia um índice conforme os pesos.
+     *
+     * @param aleatorio gerador da thread chamadora
+     */
+    public int sortear(SplittableRandom aleatorio) {
+        int posicao = Arrays.binarySearch(acumulado, aleatorio.nextDouble());
+        int indice = posicao >= 0 ? posicao + 1 : -posicao - 1;
+        // Índices com peso zero nunca são sorteados: avança até o próximo peso positivo
+        while (indice > 0 && indice < acumulado.length && acumulado[indice] == acumulado[indice - 1]) {
+            indice++;
+        }
+        return Math.min(indice, acumulado.length - 1);
+    }
+
+    public int getTamanho() {
+        return acumulado.length;
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.fiap.safelink.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * # #️⃣ Utilitário: Hashes
+ *
+ * Funções de hash de 64 bits, rápidas e não criptográficas, usadas pelas estruturas
+ * probabilísticas do SafeLink (Bloom filter, sketches de contagem e cardinalidade).
+ *
+ * ---
+ * - `mix64` é o finalizador do MurmurHash3 (boa avalanche para chaves numéricas)
+ * - `hash64` aplica FNV-1a sobre os bytes UTF-8 e finaliza com `mix64`
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public final class Hashes {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashes() {
+        // Utilitário estático - previne instanciamento
+    }
+
+    /**
+     * Finalizador do MurmurHash3 para valores de 64 bits.
+     *
+     * @param valor chave numérica
+     * @return hash com bits bem distribuídos
+     */
+    public static long mix64(long valor) {
+        long h = valor;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Hash de 64 bits de um texto.
+     *
+     * @param texto valor a ser hasheado (não nulo)
+     * @return hash de 64 bits
+     */
+    public static long hash64(String texto) {
+        long h = FNV_OFFSET;
+        for (byte b : texto.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= FNV_PRIME;
+        }
+        return mix64(h);
+    }
+}
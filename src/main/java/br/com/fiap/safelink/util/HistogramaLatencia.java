@@ -0,0 +1,107 @@
+package br.com.fiap.safelink.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * # ⏱️ Estrutura: HistogramaLatencia
+ *
+ * Histograma de durações com baldes logarítmicos (4 sub-baldes por potência de 2),
+ * para percentis aproximados com memória fixa e registro sem bloqueio.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Valores em nanossegundos; erro relativo do percentil de até ~19% (largura do sub-balde)
+ * - Contagem, soma e máximo exatos
+ *
+ * 🔒 Thread-safe: registros concorrentes usam apenas operações atômicas.
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public final class HistogramaLatencia {
+
+    private static final int SUB_BALDES_BITS = 2;
+    private static final int BALDES = (64 << SUB_BALDES_BITS);
+
+    private final AtomicLongArray baldes = new AtomicLongArray(BALDES);
+    private final AtomicLong contagem = new AtomicLong();
+    private final AtomicLong soma = new AtomicLong();
+    private final AtomicLong maximo = new AtomicLong();
+
+    /**
+     * Registra uma duração.
+     *
+     * @param nanos duração em nanossegundos (negativos contam como zero)
+     */
+    public void registrar(long nanos) {
+        long valor = Math.max(0, nanos);
+        baldes.incrementAndGet(balde(valor));
+        contagem.incrementAndGet();
+        soma.addAndGet(valor);
+        maximo.accumulateAndGet(valor, Math::max);
+    }
+
+    public long getContagem() {
+        return contagem.get();
+    }
+
+    /** Soma exata dos valores registrados. */
+    public long getSoma() {
+        return soma.get();
+    }
+
+    /** Média em nanossegundos (0 sem registros). */
+    public long media() {
+        long n = contagem.get();
+        return n == 0 ? 0 : soma.get() / n;
+    }
+
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    /**
+     * Percentil aproximado (limite superior do balde que o contém).
+     *
+     * @param percentil entre 0 e 100
+     */
+    public long percentil(double percentil) {
+        long n = contagem.get();
+        if (n == 0) {
+            return 0;
+        }
+        long alvo = Math.max(1, (long) Math.ceil(n * percentil / 100.0));
+        long acumulado = 0;
+        for (int b = 0; b < BALDES; b++) {
+            acumulado += baldes.get(b);
+            if (acumulado >= alvo) {
+                return Math.min(limiteSuperior(b), maximo.get());
+            }
+        }
+        return maximo.get();
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    private static int balde(long valor) {
+        if (valor < (1 << SUB_BALDES_BITS)) {
+            return (int) valor;
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        int sub = (int) ((valor >>> (expoente - SUB_BALDES_BITS)) & ((1 << SUB_BALDES_BITS) - 1));
+        return ((expoente - SUB_BALDES_BITS + 1) << SUB_BALDES_BITS) + sub;
+    }
+
+    private static long limiteSuperior(int balde) {
+        if (balde < (1 << SUB_BALDES_BITS)) {
+            return balde;
+        }
+        int expoente = (balde >>> SUB_BALDES_BITS) + SUB_BALDES_BITS - 1;
+        long sub = balde & ((1 << SUB_BALDES_BITS) - 1);
+        long base = (1L << expoente) + (sub << (expoente - SUB_BALDES_BITS));
+        return base + (1L << (expoente - SUB_BALDES_BITS)) - 1;
+    }
+}
@@ -0,0 +1,232 @@
+package br.com.fiap.safelink.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * # 🔢 Estrutura: HyperLogLog
+ *
+ * Sketch de cardinalidade (quantidade de elementos distintos) com memória constante
+ * e erro relativo padrão de `1,04 / √m`. Sketches de mesma precisão são uníveis:
+ * a união estima os distintos do conjunto combinado, sem dupla contagem.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - `2^p` registradores; cada hash escolhe um registrador pelos `p` bits altos e guarda
+ *   o maior "número de zeros à esquerda + 1" observado nos bits restantes
+ * - Estimador de Ertl (2017): sem viés em toda a faixa, sem tabelas de correção
+ * - Serialização esparsa (índice + valor) enquanto compensa; densa (6 bits por registrador) depois
+ *
+ * 🔒 Não é thread-safe: quem compartilha a instância deve sincronizar o acesso.
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public class HyperLogLog {
+
+    /** Precisão padrão: 16.384 registradores, erro padrão de ~0,8%. */
+    public static final int PRECISAO_PADRAO = 14;
+
+    private static final byte FORMATO_ESPARSO = 0;
+    private static final byte FORMATO_DENSO = 1;
+    private static final int BITS_REGISTRADOR = 6;
+
+    private final int precisao;
+    private final byte[] registradores;
+
+    /**
+     * @param precisao bits de índice (4 a 18)
+     */
+    public HyperLogLog(int precisao) {
+        if (precisao < 4 || precisao > 18) {
+            throw new IllegalArgumentException("Precisão do HyperLogLog deve estar entre 4 e 18.");
+        }
+        this.precisao = precisao;
+        this.registradores = new byte[1 << precisao];
+    }
+
+    public HyperLogLog() {
+        this(PRECISAO_PADRAO);
+    }
+
+    // ============================================
+    // ➕ Atualização
+    // ============================================
+
+    /**
+     * Registra um elemento a partir do seu hash de 64 bits.
+     *
+     * @param hash hash bem distribuído do elemento (ex.: {@link Hashes#mix64(long)})
+     * @return {@code true} se algum registrador mudou
+     */
+    public boolean adicionar(long hash) {
+        int indice = (int) (hash >>> (64 - precisao));
+        int limite = 64 - precisao;
+        int valor = Math.min(Long.numberOfLeadingZeros(hash << precisao), limite) + 1;
+        if (valor > registradores[indice]) {
+            registradores[indice] = (byte) valor;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Une outro sketch a este (máximo registrador a registrador).
+     *
+     * @param outro sketch de mesma precisão
+     */
+    public void unir(HyperLogLog outro) {
+        if (outro.precisao != precisao) {
+            throw new IllegalArgumentException("Sketches com precisões diferentes não podem ser unidos.");
+        }
+        for (int i = 0; i < registradores.length; i++) {
+            if (outro.registradores[i] > registradores[i]) {
+                registradores[i] = outro.registradores[i];
+            }
+        }
+    }
+
+    // ============================================
+    // 🔍 Estimativa
+    // ============================================
+
+    /**
+     * Estima a quantidade de elementos distintos registrados.
+     */
+    public long estimar() {
+        int m = registradores.length;
+        int q = 64 - precisao;
+        int[] histograma = new int[q + 2];
+        for (byte registrador : registradores) {
+            histograma[registrador]++;
+        }
+        if (histograma[0] == m) {
+            return 0;
+        }
+        double z = m * tau(1 - (double) histograma[q + 1] / m);
+        for (int k = q; k >= 1; k--) {
+            z = 0.5 * (z + histograma[k]);
+        }
+        z += m * sigma((double) histograma[0] / m);
+        return Math.round(m * (double) m / (2 * Math.log(2) * z));
+    }
+
+    /** Erro relativo padrão teórico desta precisão. */
+    public double erroPadrao() {
+        return 1.04 / Math.sqrt(registradores.length);
+    }
+
+    public int getPrecisao() {
+        return precisao;
+    }
+
+    // ============================================
+    // 💾 Serialização
+    // ============================================
+
+    /**
+     * Serializa o sketch no formato mais compacto: esparso (3 bytes por registrador
+     * não vazio) ou denso (6 bits por registrador).
+     */
+    public byte[] serializar() {
+        int naoVazios = 0;
+        for (byte registrador : registradores) {
+            if (registrador != 0) {
+                naoVazios++;
+            }
+        }
+        int tamanhoDenso = registradores.length * BITS_REGISTRADOR / 8;
+        if (4 + naoVazios * 3 < tamanhoDenso) {
+            ByteBuffer buffer = ByteBuffer.allocate(2 + 4 + naoVazios * 3);
+            buffer.put(FORMATO_ESPARSO).put((byte) precisao).putInt(naoVazios);
+            for (int i = 0; i < registradores.length; i++) {
+                if (registradores[i] != 0) {
+                    // 1º byte: 2 bits altos do índice + valor (6 bits); depois os 16 bits baixos do índice
+                    buffer.put((byte) ((i >>> 16) << BITS_REGISTRADOR | registradores[i]));
+                    buffer.putShort((short) i);
+                }
+            }
+            return buffer.array();
+        }
+        byte[] dados = new byte[2 + tamanhoDenso];
+        dados[0] = FORMATO_DENSO;
+        dados[1] = (byte) precisao;
+        long acumulador = 0;
+        int bits = 0;
+        int posicao = 2;
+        for (byte registrador : registradores) {
+            acumulador = (acumulador << BITS_REGISTRADOR) | registrador;
+            bits += BITS_REGISTRADOR;
+            while (bits >= 8) {
+                bits -= 8;
+                dados[posicao++] = (byte) (acumulador >>> bits);
+            }
+        }
+        return dados;
+    }
+
+    /**
+     * Reconstrói um sketch serializado por {@link #serializar()}.
+     */
+    public static HyperLogLog desserializar(byte[] dados) {
+        ByteBuffer buffer = ByteBuffer.wrap(dados);
+        byte formato = buffer.get();
+        HyperLogLog sketch = new HyperLogLog(buffer.get());
+        if (formato == FORMATO_ESPARSO) {
+            int naoVazios = buffer.getInt();
+            for (int n = 0; n < naoVazios; n++) {
+                int alto = buffer.get() & 0xff;
+                int indice = (alto >>> BITS_REGISTRADOR) << 16 | (buffer.getShort() & 0xffff);
+                sketch.registradores[indice] = (byte) (alto & 0x3f);
+            }
+            return sketch;
+        }
+        long acumulador = 0;
+        int bits = 0;
+        int indice = 0;
+        while (indice < sketch.registradores.length) {
+            while (bits < BITS_REGISTRADOR) {
+                acumulador = (acumulador << 8) | (buffer.get() & 0xff);
+                bits += 8;
+            }
+            bits -= BITS_REGISTRADOR;
+            sketch.registradores[indice++] = (byte) ((acumulador >>> bits) & 0x3f);
+        }
+        return sketch;
+    }
+
+    // ============================================
+    // 🧩 Auxiliares (estimador de Ertl)
+    // ============================================
+
+    private static double sigma(double x) {
+        if (x == 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double y = 1;
+        double z = x;
+        double anterior;
+        do {
+            x *= x;
+            anterior = z;
+            z += x * y;
+            y += y;
+        } while (z != anterior);
+        return z;
+    }
+
+    private static double tau(double x) {
+        if (x == 0 || x == 1) {
+            return 0;
+        }
+        double y = 1;
+        double z = 1 - x;
+        double anterior;
+        do {
+            x = Math.sqrt(x);
+            anterior = z;
+            y *= 0.5;
+            z -= (1 - x) * (1 - x) * y;
+        } while (z != anterior);
+        return z / 3;
+    }
+}
@@ -0,0 +1,284 @@
+package br.com.fiap.safelink.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * # 📼 Estrutura: LogTrafego
+ *
+ * Formato binário compacto para a captura de tráfego: metadados das requisições (rota, caminho,
+ * parâmetros de consulta, papel, status e duração), sem corpo e sem cabeçalhos.
+ *
+ * ---
+ * ## ⚙️ Layout
+ * - Cabeçalho: número mágico `SLT2` e o instante base (epoch em microssegundos)
+ * - Sequência de entradas, cada uma iniciada por um byte de tipo:
+ *   - `DEFINICAO`: registra um texto repetitivo (método, rota, papel, nome de parâmetro) no dicionário
+ *     do arquivo; as requisições passam a referenciá-lo pelo número
+ *   - Nomes de parâmetro vêm do cliente: só os primeiros {@link #MAXIMO_NOMES_DICIONARIO} distintos entram
+ *     no dicionário, os demais são gravados por extenso (o dicionário não cresce com nomes aleatórios)
+ *   - `REQUISICAO`: início em delta zigzag do anterior (a gravação segue a ordem de término), dicionário
+ *     para os textos repetitivos, varints para números
+ * - Sem rodapé nem índice: um arquivo interrompido perde apenas a última entrada, e pode ser lido
+ *   enquanto ainda é gravado
+ *
+ * 🔒 Escritor não é thread-safe (um único gravador por arquivo); a leitura é sequencial.
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public final class LogTrafego {
+
+    private static final int MAGICO = 0x534c5432; // "SLT2"
+    private static final int DEFINICAO = 1;
+    private static final int REQUISICAO = 2;
+    /** Referência de nome de parâmetro que indica texto por extenso em seguida. */
+    private static final int NOME_POR_EXTENSO = 0;
+
+    /** Nomes de parâmetro distintos mantidos no dicionário de cada arquivo. */
+    public static final int MAXIMO_NOMES_DICIONARIO = 256;
+
+    private LogTrafego() {
+        // Utilitário estático - previne instanciamento
+    }
+
+    /** Parâmetro de consulta, na ordem em que chegou (nomes podem se repetir, ex.: `sort`). */
+    public record Parametro(String nome, String valor) {
+    }
+
+    /**
+     * Metadados de uma requisição capturada.
+     *
+     * @param inicioMicros  início da requisição (epoch em microssegundos)
+     * @param metodo        método HTTP
+     * @param rota          padrão do mapeamento (`/alertas/{id}`)
+     * @param caminho       caminho efetivo (`/alertas/42`), sem a query string
+     * @param parametros    parâmetros de consulta já higienizados
+     * @param papel         papel do usuário autenticado (vazio se anônimo)
+     * @param status        status HTTP da resposta
+     * @param duracaoMicros tempo total no servidor
+     */
+    public record Registro(long inicioMicros, String metodo, String rota, String caminho,
+                           List<Parametro> parametros, String papel, int status, long duracaoMicros) {
+    }
+
+    // ============================================
+    // ✍️ Escrita
+    // ============================================
+
+    /** Escritor de um arquivo de captura. */
+    public static final class Escritor implements Closeable {
+
+        private final DataOutputStream saida;
+        private final Map<String, Integer> dicionario = new HashMap<>();
+        private int nomesNoDicionario;
+        private long anteriorMicros;
+        private long totalRegistros;
+
+        /**
+         * @param saida        fluxo do arquivo (bufferizado internamente)
+         * @param instanteBase epoch em microssegundos usado como referência dos deltas
+         */
+        public Escritor(OutputStream saida, long instanteBase) throws IOException {
+            this.saida = new DataOutputStream(new BufferedOutputStream(saida, 1 << 16));
+            this.saida.writeInt(MAGICO);
+            this.saida.writeLong(instanteBase);
+            this.anteriorMicros = instanteBase;
+        }
+
+        public void adicionar(Registro registro) throws IOException {
+            int metodo = termo(registro.metodo());
+            int rota = termo(registro.rota());
+            int papel = termo(registro.papel());
+            int[] nomes = new int[registro.parametros().size()];
+            for (int i = 0; i < nomes.length; i++) {
+                nomes[i] = nome(registro.parametros().get(i).nome());
+            }
+
+            saida.writeByte(REQUISICAO);
+            escreverVarint(saida, zigzag(registro.inicioMicros() - anteriorMicros));
+            anteriorMicros = registro.inicioMicros();
+            escreverVarint(saida, metodo);
+            escreverVarint(saida, rota);
+            escreverTexto(saida, registro.caminho());
+            escreverVarint(saida, nomes.length);
+            for (int i = 0; i < nomes.length; i++) {
+                escreverVarint(saida, nomes[i]);
+                if (nomes[i] == NOME_POR_EXTENSO) {
+                    escreverTexto(saida, registro.parametros().get(i).nome());
+                }
+                escreverTexto(saida, registro.parametros().get(i).valor());
+            }
+            escreverVarint(saida, papel);
+            escreverVarint(saida, registro.status());
+            escreverVarint(saida, Math.max(0, registro.duracaoMicros()));
+            totalRegistros++;
+        }
+
+        /** Envia o buffer ao arquivo (entradas completas ficam visíveis para leitores). */
+        public void descarregar() throws IOException {
+            saida.flush();
+        }
+
+        public long getTotalRegistros() {
+            return totalRegistros;
+        }
+
+        @Override
+        public void close() throws IOException {
+            saida.close();
+        }
+
+        /**
+         * Referência do nome de parâmetro: número no dicionário mais um, ou {@link #NOME_POR_EXTENSO}
+         * quando o dicionário já tem {@link #MAXIMO_NOMES_DICIONARIO} nomes e este não está entre eles.
+         */
+        private int nome(String nome) throws IOException {
+            Integer existente = dicionario.get(nome);
+            if (existente == null) {
+                if (nomesNoDicionario >= MAXIMO_NOMES_DICIONARIO) {
+                    return NOME_POR_EXTENSO;
+                }
+                nomesNoDicionario++;
+                existente = termo(nome);
+            }
+            return existente + 1;
+        }
+
+        /** Número do texto no dicionário, definindo-o na primeira ocorrência. */
+        private int termo(String texto) throws IOException {
+            Integer existente = dicionario.get(texto);
+            if (existente != null) {
+                return existente;
+            }
+            int numero = dicionario.size();
+            dicionario.put(texto, numero);
+            saida.writeByte(DEFINICAO);
+            escreverVarint(saida, numero);
+            escreverTexto(saida, texto);
+            return numero;
+        }
+    }
+
+    // ============================================
+    // 📖 Leitura
+    // ============================================
+
+    /**
+     * Lê o arquivo do início ao fim, entregando cada requisição na ordem gravada.
+     * Uma entrada final incompleta (arquivo ainda em gravação ou interrompido) é ignorada.
+     *
+     * @return quantidade de requisições lidas
+     */
+    public static long ler(Path arquivo, Consumer<Registro> consumidor) throws IOException {
+        try (InputStream fluxo = Files.newInputStream(arquivo)) {
+            return ler(fluxo, consumidor);
+        }
+    }
+
+    public static long ler(InputStream fluxo, Consumer<Registro> consumidor) throws IOException {
+        DataInputStream entrada = new DataInputStream(new BufferedInputStream(fluxo, 1 << 16));
+        if (entrada.readInt() != MAGICO) {
+            throw new IOException("Arquivo não é uma captura de tráfego (SLT2)");
+        }
+        long anteriorMicros = entrada.readLong();
+        List<String> dicionario = new ArrayList<>();
+        long lidos = 0;
+        while (true) {
+            int tipo = entrada.read();
+            if (tipo < 0) {
+                return lidos;
+            }
+            try {
+                if (tipo == DEFINICAO) {
+                    int numero = (int) lerVarint(entrada);
+                    if (numero != dicionario.size()) {
+                        throw new IOException("Dicionário fora de ordem: " + numero);
+                    }
+                    dicionario.add(lerTexto(entrada));
+                } else if (tipo == REQUISICAO) {
+                    long inicio = anteriorMicros + unzigzag(lerVarint(entrada));
+                    anteriorMicros = inicio;
+                    String metodo = dicionario.get((int) lerVarint(entrada));
+                    String rota = dicionario.get((int) lerVarint(entrada));
+                    String caminho = lerTexto(entrada);
+                    int quantidade = (int) lerVarint(entrada);
+                    List<Parametro> parametros = new ArrayList<>(quantidade);
+                    for (int i = 0; i < quantidade; i++) {
+                        int nome = (int) lerVarint(entrada);
+                        parametros.add(new Parametro(nome == NOME_POR_EXTENSO ? lerTexto(entrada) : dicionario.get(nome - 1),
+                                lerTexto(entrada)));
+                    }
+                    String papel = dicionario.get((int) lerVarint(entrada));
+                    int status = (int) lerVarint(entrada);
+                    long duracao = lerVarint(entrada);
+                    consumidor.accept(new Registro(inicio, metodo, rota, caminho, parametros, papel, status, duracao));
+                    lidos++;
+                } else {
+                    throw new IOException("Tipo de entrada desconhecido: " + tipo);
+                }
+            } catch (EOFException e) {
+                return lidos;
+            }
+        }
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    private static long zigzag(long valor) {
+        return (valor << 1) ^ (valor >> 63);
+    }
+
+    private static long unzigzag(long valor) {
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+
+    private static void escreverTexto(DataOutputStream saida, String texto) throws IOException {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        escreverVarint(saida, bytes.length);
+        saida.write(bytes);
+    }
+
+    private static String lerTexto(DataInputStream entrada) throws IOException {
+        byte[] bytes = new byte[(int) lerVarint(entrada)];
+        entrada.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void escreverVarint(DataOutputStream saida, long valor) throws IOException {
+        while ((valor & ~0x7FL) != 0) {
+            saida.writeByte((int) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        saida.writeByte((int) valor);
+    }
+
+    private static long lerVarint(DataInputStream entrada) throws IOException {
+        long valor = 0;
+        int deslocamento = 0;
+        byte b;
+        do {
+            b = entrada.readByte();
+            valor |= (long) (b & 0x7F) << deslocamento;
+            deslocamento += 7;
+        } while ((b & 0x80) != 0);
+        return valor;
+    }
+}
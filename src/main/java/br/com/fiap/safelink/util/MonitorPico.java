@@ -0,0 +1,112 @@
+package br.com.fiap.safelink.util;
+
+import java.util.Arrays;
+
+/**
+ * # 📡 Estrutura: MonitorPico
+ *
+ * Janela deslizante de contagens por minuto (anel de tamanho fixo) com uma linha de base
+ * aprendida: média e variância móveis exponenciais da contagem por minuto.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Cada registro incrementa o slot do seu minuto em O(1)
+ * - Ao virar o minuto, a contagem do minuto encerrado alimenta a linha de base
+ * - Minutos sem registros também alimentam a base (com zero), até um limite de iterações
+ * - Memória constante: um `long` por minuto da janela
+ *
+ * 🔒 Métodos sincronizados na própria instância (uma instância por região/categoria).
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public class MonitorPico {
+
+    /** Minutos ociosos processados um a um; acima disso a base já decaiu a ~0. */
+    private static final int MAXIMO_MINUTOS_OCIOSOS = 10_000;
+
+    private final long[] contagens;
+    private final double alfa;
+
+    private long minutoAtual = Long.MIN_VALUE;
+    private double media;
+    private double variancia;
+
+    /**
+     * @param minutosJanela  tamanho da janela deslizante em minutos
+     * @param meiaVidaMinutos meia-vida da linha de base em minutos
+     */
+    public MonitorPico(int minutosJanela, long meiaVidaMinutos) {
+        this.contagens = new long[minutosJanela];
+        this.alfa = 1 - Math.pow(2, -1.0 / Math.max(1, meiaVidaMinutos));
+    }
+
+    /**
+     * Registra uma ocorrência no minuto informado.
+     * Minutos anteriores à janela são ignorados.
+     *
+     * @param minuto minuto em época (minutos desde 1970-01-01T00:00)
+     */
+    public synchronized void registrar(long minuto) {
+        avancar(minuto);
+        if (minuto <= minutoAtual - contagens.length) {
+            return;
+        }
+        contagens[indice(minuto)]++;
+    }
+
+    /**
+     * Total de ocorrências na janela que termina no minuto informado.
+     */
+    public synchronized long totalJanela(long minutoReferencia) {
+        avancar(minutoReferencia);
+        long total = 0;
+        for (long contagem : contagens) {
+            total += contagem;
+        }
+        return total;
+    }
+
+    /** Média esperada de ocorrências por janela completa, segundo a linha de base. */
+    public synchronized double esperadoJanela() {
+        return media * contagens.length;
+    }
+
+    /** Desvio-padrão esperado por janela (minutos tratados como independentes). */
+    public synchronized double desvioJanela() {
+        return Math.sqrt(variancia * contagens.length);
+    }
+
+    // ============================================
+    // 🧩 Auxiliares
+    // ============================================
+
+    private void avancar(long minuto) {
+        if (minutoAtual == Long.MIN_VALUE) {
+            minutoAtual = minuto;
+            return;
+        }
+        long passos = Math.min(minuto - minutoAtual, MAXIMO_MINUTOS_OCIOSOS);
+        for (long i = 0; i < passos; i++) {
+            int encerrado = indice(minutoAtual);
+            aprender(contagens[encerrado]);
+            minutoAtual++;
+            contagens[indice(minutoAtual)] = 0;
+        }
+        if (minuto > minutoAtual) {
+            // Ociosidade longa: a janela inteira já expirou
+            Arrays.fill(contagens, 0);
+            minutoAtual = minuto;
+        }
+    }
+
+    private void aprender(long amostra) {
+        double diferenca = amostra - media;
+        media += alfa * diferenca;
+        variancia = (1 - alfa) * (variancia + alfa * diferenca * diferenca);
+    }
+
+    private int indice(long minuto) {
+        return (int) Math.floorMod(minuto, (long) contagens.length);
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.fiap.safelink.util;
+
+/**
+ * # 📉 TaxaDecaimento
+ *
+ * Contador com decaimento exponencial: cada ocorrência vale 1 no instante em que
+ * aconteceu e perde metade do peso a cada meia-vida. O valor lido aproxima
+ * "quantas ocorrências recentes" existem, sem guardar as ocorrências.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - Imutável: {@link #somar(long)} devolve uma nova instância
+ * - O valor é mantido referenciado ao instante mais recente visto
+ * - Ocorrências antigas (fora de ordem) entram já decaídas
+ */
+public final class TaxaDecaimento {
+
+    private final double lambdaPorMs;
+    private final double valor;
+    private final long instanteMs;
+
+    /**
+     * @param meiaVidaMs meia-vida em milissegundos
+     */
+    public TaxaDecaimento(long meiaVidaMs) {
+        this(Math.log(2) / Math.max(1, meiaVidaMs), 0, Long.MIN_VALUE);
+    }
+
+    private TaxaDecaimento(double lambdaPorMs, double valor, long instanteMs) {
+        this.lambdaPorMs = lambdaPorMs;
+        this.valor = valor;
+        this.instanteMs = instanteMs;
+    }
+
+    /**
+     * Acrescenta uma ocorrência no instante informado.
+     *
+     * @param ocorrenciaMs instante da ocorrência (epoch em ms)
+     * @return nova taxa com a ocorrência incluída
+     */
+    public TaxaDecaimento somar(long ocorrenciaMs) {
+        if (instanteMs == Long.MIN_VALUE) {
+            return new TaxaDecaimento(lambdaPorMs, 1, ocorrenciaMs);
+        }
+        if (ocorrenciaMs >= instanteMs) {
+            return new TaxaDecaimento(lambdaPorMs, valor * fator(ocorrenciaMs - instanteMs) + 1, ocorrenciaMs);
+        }
+        return new TaxaDecaimento(lambdaPorMs, valor + fator(instanteMs - ocorrenciaMs), instanteMs);
+    }
+
+    /**
+     * Valor decaído até o instante informado.
+     *
+     * @param agoraMs instante de leitura (epoch em ms)
+     */
+    public double valorEm(long agoraMs) {
+        if (instanteMs == Long.MIN_VALUE) {
+            return 0;
+        }
+        return agoraMs <= instanteMs ? valor : valor * fator(agoraMs - instanteMs);
+    }
+
+    private double fator(long decorridoMs) {
+        return Math.exp(-lambdaPorMs * decorridoMs);
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.fiap.safelink.util;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * # 🔥 Estrutura: TopKAproximado
+ *
+ * Rastreador de chaves mais frequentes (heavy hitters) com memória fixa:
+ * um {@link CountMinSketch} estima a frequência de qualquer chave e um conjunto
+ * limitado de candidatas guarda as maiores estimativas.
+ *
+ * ---
+ * ## ⚙️ Funcionamento
+ * - `registrar` incrementa o sketch sem locks e atualiza a candidata se ela já for relevante
+ * - Quando as candidatas passam de `2 × k`, uma única thread poda as menores (as demais seguem)
+ * - `envelhecer` divide sketch e candidatas por 2: o ranking reflete o tráfego recente
+ *
+ * @author Rafael
+ * @since 1.0
+ */
+public class TopKAproximado {
+
+    private final CountMinSketch sketch;
+    private final int k;
+    private final Map<String, Long> candidatas = new ConcurrentHashMap<>();
+    private final AtomicBoolean podando = new AtomicBoolean(false);
+
+    private volatile long menorRelevante;
+
+    /**
+     * @param k            quantidade de chaves mantidas no ranking
+     * @param largura      largura do sketch
+     * @param profundidade profundidade do sketch
+     */
+    public TopKAproximado(int k, int largura, int profundidade) {
+        this.k = k;
+        this.sketch = new CountMinSketch(largura, profundidade);
+    }
+
+    /**
+     * Registra uma ocorrência da chave.
+     */
+    public void registrar(String chave) {
+        long estimativa = sketch.somar(Hashes.hash64(chave), 1);
+        if (estimativa < menorRelevante && !candidatas.containsKey(chave)) {
+            return;
+        }
+        candidatas.put(chave, estimativa);
+        if (candidatas.size() > 2 * k) {
+            podar();
+        }
+    }
+
+    /**
+     * Chaves mais frequentes, em ordem decrescente de estimativa.
+     *
+     * @param limite quantidade máxima de itens
+     */
+    public List<Map.Entry<String, Long>> top(int limite) {
+        return candidatas.entrySet().stream()
+                .filter(e -> e.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(Math.min(limite, k))
+                .map(e -> Map.entry(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    /**
+     * Aplica o decaimento: divide as contagens por 2 e descarta candidatas zeradas.
+     */
+    public void envelhecer() {
+        sketch.envelhecer();
+        candidatas.replaceAll((chave, valor) -> valor >>> 1);
+        candidatas.values().removeIf(valor -> valor == 0);
+        menorRelevante = menorRelevante >>> 1;
+    }
+
+    private void podar() {
+        if (!podando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Map.Entry<String, Long>> ordenadas = candidatas.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                    .toList();
+            if (ordenadas.size() <= k) {
+                return;
+            }
+            menorRelevante = ordenadas.get(k - 1).getValue();
+            for (Map.Entry<String, Long> entrada : ordenadas.subList(k, ordenadas.size())) {
+                candidatas.remove(entrada.getKey(), entrada.getValue());
+            }
+        } finally {
+            podando.set(false);
+        }
+    }
+}
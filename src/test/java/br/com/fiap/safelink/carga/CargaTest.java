@@ -0,0 +1,159 @@
+package br.com.fiap.safelink.carga;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de carga com SLOs de latência por operação (`mvn -Pcarga test`).
+ *
+ * Sobe a aplicação em porta aleatória contra um PostgreSQL embutido (ou `carga.banco.url`), com o perfil
+ * `sintetico` gerando os volumes de `carga.properties`, aquece, envia a mistura do {@link GeradorTrafego}
+ * e falha se algum percentil ou taxa de erros passar do SLO configurado. Roda sem rede: os binários do PostgreSQL vêm
+ * do repositório Maven local.
+ */
+@Tag("carga")
+@ActiveProfiles("sintetico")
+// Log por requisição no console disputaria CPU com a própria medição
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.br.com.fiap.safelink=WARN")
+class CargaTest {
+
+    private static final ConfiguracaoCarga CONFIGURACAO = ConfiguracaoCarga.carregar();
+
+    private static EmbeddedPostgres postgres;
+
+    @LocalServerPort
+    private int porta;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registro) throws IOException {
+        String url = CONFIGURACAO.texto("banco.url");
+        if (url.isEmpty()) {
+            postgres = EmbeddedPostgres.builder().start();
+            url = postgres.getJdbcUrl("postgres", "postgres");
+        }
+        String endereco = url;
+        registro.add("spring.datasource.url", () -> endereco);
+        registro.add("spring.datasource.username", () -> CONFIGURACAO.texto("banco.usuario"));
+        registro.add("spring.datasource.password", () -> CONFIGURACAO.texto("banco.senha"));
+        registro.add("safelink.replicas.urls", () -> "");
+        registro.add("safelink.sintetico.semente", () -> CONFIGURACAO.texto("semente"));
+        for (String volume : List.of("meses", "regioes", "usuarios", "eventos", "alertas", "previsoes", "relatos")) {
+            registro.add("safelink.sintetico." + volume, () -> CONFIGURACAO.texto("volume." + volume));
+        }
+    }
+
+    @AfterAll
+    static void encerrarBanco() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    @Test
+    void mistura() throws Exception {
+        aguardarBancoOcioso();
+        GeradorTrafego.Contexto contexto = contexto();
+        GeradorTrafego gerador = new GeradorTrafego(CONFIGURACAO, contexto);
+        long duracao = CONFIGURACAO.longo("duracao-s");
+        long minimo = CONFIGURACAO.longo("slo.amostras-minimas");
+        List<String> poucasAmostras = gerador.amostrasEsperadas(Duration.ofSeconds(duracao)).entrySet().stream()
+                .filter(esperadas -> esperadas.getValue() < minimo)
+                .map(esperadas -> String.format(Locale.ROOT, "%s: ~%.0f", esperadas.getKey(), esperadas.getValue()))
+                .toList();
+        assertTrue(poucasAmostras.isEmpty(), () -> "taxa-rps x duracao-s não dá " + minimo
+                + " amostras a cada operação (SLO não verificado):\n  " + String.join("\n  ", poucasAmostras));
+
+        gerador.executar(Duration.ofSeconds(CONFIGURACAO.longo("aquecimento-s")), null);
+        MedicoesCarga medicoes = new MedicoesCarga();
+        gerador.executar(Duration.ofSeconds(duracao), medicoes);
+
+        System.out.println("\n🏋️ Teste de carga: " + CONFIGURACAO.inteiro("usuarios-virtuais") + " usuários virtuais, "
+                + duracao + " s\n" + medicoes.relatorio(duracao, CONFIGURACAO));
+        List<String> violacoes = medicoes.violacoes(CONFIGURACAO);
+        assertTrue(violacoes.isEmpty(), () -> "SLOs violados:\n  " + String.join("\n  ", violacoes));
+    }
+
+    // ============================================
+    // 🌱 Dados
+    // ============================================
+
+    /**
+     * Espera os reprocessamentos assíncronos da subida (sketches, histogramas, motor de risco) sobre os dados
+     * gerados: a medição começa com o banco ocioso por alguns segundos seguidos. Conexões "idle in transaction"
+     * contam como ocupadas (o reprocessamento de sketches segura um bloqueio enquanto calcula).
+     */
+    private void aguardarBancoOcioso() throws InterruptedException {
+        long limite = System.nanoTime() + Duration.ofMinutes(10).toNanos();
+        int segundosOcioso = 0;
+        while (segundosOcioso < 3 && System.nanoTime() < limite) {
+            Integer ativos = jdbcTemplate.queryForObject("SELECT count(*) FROM pg_stat_activity WHERE state <> 'idle'"
+                    + " AND pid <> pg_backend_pid() AND datname = current_database()", Integer.class);
+            segundosOcioso = ativos != null && ativos == 0 ? segundosOcioso + 1 : 0;
+            Thread.sleep(1000);
+        }
+    }
+
+    /**
+     * Lê o que o gerador precisa conhecer dos dados criados pelo perfil `sintetico` na subida.
+     */
+    private GeradorTrafego.Contexto contexto() {
+        String baseUrl = "http://localhost:" + porta;
+        return new GeradorTrafego.Contexto(baseUrl, token(baseUrl, "admin@safelink.com", "admin123"),
+                jdbcTemplate.queryForList("SELECT id_regiao FROM tb_regiao ORDER BY id_regiao", Long.class),
+                jdbcTemplate.queryForList("SELECT DISTINCT sg_estado FROM tb_regiao", String.class),
+                jdbcTemplate.queryForList("SELECT id_user FROM tb_user ORDER BY id_user", Long.class),
+                jdbcTemplate.queryForObject("SELECT min(id_alerta) FROM tb_alerta", Long.class),
+                jdbcTemplate.queryForObject("SELECT max(id_alerta) FROM tb_alerta", Long.class),
+                jdbcTemplate.queryForObject("SELECT min(id_relato_usuario) FROM tb_relato_usuario", Long.class),
+                jdbcTemplate.queryForObject("SELECT max(id_relato_usuario) FROM tb_relato_usuario", Long.class));
+    }
+
+    /** Token obtido pelo login, como um cliente real (também usado pelo {@link ReproducaoTest}). */
+    static String token(String baseUrl, String email, String senha) {
+        try {
+            HttpResponse<String> resposta = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    "{\"email\":\"" + email + "\",\"password\":\"" + senha + "\"}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            Matcher token = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"").matcher(resposta.body());
+            if (resposta.statusCode() != 200 || !token.find()) {
+                throw new IllegalStateException("Login de " + email + " falhou: " + resposta.statusCode() + " " + resposta.body());
+            }
+            return token.group(1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.fiap.safelink.carga;
+
+import br.com.fiap.safelink.util.HistogramaLatencia;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências por rota da captura original e da reprodução, lado a lado, com a verificação de regressão do p95.
+ *
+ * A latência original é a do servidor (medida pelo filtro de captura); a da reprodução é a do cliente, desde
+ * o instante planejado do envio, e inclui a rede e a fila local.
+ */
+final class ComparacaoLatencias {
+
+    private static final double NANOS_POR_MS = 1_000_000.0;
+
+    private final Map<String, Rota> rotas = new ConcurrentHashMap<>();
+
+    void registrarOriginal(String rota, long nanos, boolean erro) {
+        Rota medicao = rotas.computeIfAbsent(rota, chave -> new Rota());
+        medicao.original.registrar(nanos);
+        if (erro) {
+            medicao.errosOriginal.increment();
+        }
+    }
+
+    void registrarReproducao(String rota, long nanos, boolean erro) {
+        Rota medicao = rotas.computeIfAbsent(rota, chave -> new Rota());
+        medicao.reproducao.registrar(nanos);
+        if (erro) {
+            medicao.errosReproducao.increment();
+        }
+    }
+
+    // ============================================
+    // 📊 Relatório
+    // ============================================
+
+    /**
+     * Tabela por rota: requisições, erros e p50/p95/p99 (ms) da captura e da reprodução.
+     */
+    String relatorio() {
+        StringBuilder tabela = new StringBuilder(String.format(Locale.ROOT,
+                "%-40s %7s %13s %19s %19s %19s%n",
+                "rota", "req", "erros orig/rep", "p50 orig/rep", "p95 orig/rep", "p99 orig/rep"));
+        for (Map.Entry<String, Rota> entrada : ordenadas()) {
+            Rota rota = entrada.getValue();
+            tabela.append(String.format(Locale.ROOT, "%-40s %7d %6d/%-6d %19s %19s %19s%n",
+                    entrada.getKey(), rota.reproducao.getContagem(),
+                    rota.errosOriginal.sum(), rota.errosReproducao.sum(),
+                    par(rota, 50), par(rota, 95), par(rota, 99)));
+        }
+        return tabela.toString();
+    }
+
+    // ============================================
+    // 🎯 Regressão
+    // ============================================
+
+    /**
+     * Rotas cujo p95 reproduzido passou do original em mais de `tolerancia` (0,2 = 20%), considerando apenas
+     * as que tiveram ao menos `amostrasMinimas` requisições reproduzidas.
+     */
+    List<String> regressoes(double tolerancia, long amostrasMinimas) {
+        List<String> regressoes = new ArrayList<>();
+        for (Map.Entry<String, Rota> entrada : ordenadas()) {
+            Rota rota = entrada.getValue();
+            if (rota.reproducao.getContagem() < amostrasMinimas) {
+                continue;
+            }
+            double original = ms(rota.original.percentil(95));
+            double reproduzido = ms(rota.reproducao.percentil(95));
+            if (reproduzido > original * (1 + tolerancia)) {
+                regressoes.add(String.format(Locale.ROOT, "%s: p95 de %.1f ms (original %.1f ms, tolerância %.0f%%)",
+                        entrada.getKey(), reproduzido, original, tolerancia * 100));
+            }
+        }
+        return regressoes;
+    }
+
+    private List<Map.Entry<String, Rota>> ordenadas() {
+        return rotas.entrySet().stream().sorted(Map.Entry.comparingByKey(Comparator.naturalOrder())).toList();
+    }
+
+    private static String par(Rota rota, double percentil) {
+        return String.format(Locale.ROOT, "%9.1f/%-9.1f",
+                ms(rota.original.percentil(percentil)), ms(rota.reproducao.percentil(percentil)));
+    }
+
+    private static double ms(long nanos) {
+        return nanos / NANOS_POR_MS;
+    }
+
+    private static final class Rota {
+
+        private final HistogramaLatencia original = new HistogramaLatencia();
+        private final HistogramaLatencia reproducao = new HistogramaLatencia();
+        private final LongAdder errosOriginal = new LongAdder();
+        private final LongAdder errosReproducao = new LongAdder();
+    }
+}
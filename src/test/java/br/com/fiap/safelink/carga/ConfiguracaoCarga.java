@@ -0,0 +1,67 @@
+package br.com.fiap.safelink.carga;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * Configuração do teste de carga: `carga.properties` do classpath, sobrescrito pelas propriedades
+ * de sistema `carga.*` (`mvn -Pcarga test -Dcarga.duracao-s=120`).
+ */
+final class ConfiguracaoCarga {
+
+    private static final String ARQUIVO = "carga.properties";
+    private static final String PREFIXO = "carga.";
+
+    private final Properties propriedades = new Properties();
+
+    private ConfiguracaoCarga() {
+    }
+
+    static ConfiguracaoCarga carregar() {
+        ConfiguracaoCarga configuracao = new ConfiguracaoCarga();
+        try (InputStream entrada = ConfiguracaoCarga.class.getClassLoader().getResourceAsStream(ARQUIVO)) {
+            if (entrada == null) {
+                throw new IllegalStateException(ARQUIVO + " não encontrado no classpath");
+            }
+            configuracao.propriedades.load(entrada);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(chave -> chave.startsWith(PREFIXO))
+                .forEach(chave -> configuracao.propriedades.setProperty(chave, System.getProperty(chave)));
+        return configuracao;
+    }
+
+    String texto(String chave) {
+        String valor = propriedades.getProperty(PREFIXO + chave);
+        if (valor == null) {
+            throw new IllegalStateException("Propriedade ausente: " + PREFIXO + chave);
+        }
+        return valor.trim();
+    }
+
+    int inteiro(String chave) {
+        return Integer.parseInt(texto(chave));
+    }
+
+    long longo(String chave) {
+        return Long.parseLong(texto(chave));
+    }
+
+    double decimal(String chave) {
+        return Double.parseDouble(texto(chave));
+    }
+
+    /**
+     * SLO de uma operação em ms: `slo.<operacao>.<percentil>-ms`, ou `slo.padrao.<percentil>-ms`.
+     *
+     * @param percentil `p95` ou `p99`
+     */
+    double sloMs(String operacao, String percentil) {
+        String propria = propriedades.getProperty(PREFIXO + "slo." + operacao + "." + percentil + "-ms");
+        return propria != null ? Double.parseDouble(propria.trim()) : decimal("slo.padrao." + percentil + "-ms");
+    }
+}
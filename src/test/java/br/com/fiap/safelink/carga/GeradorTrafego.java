@@ -0,0 +1,295 @@
+package br.com.fiap.safelink.carga;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+
+/**
+ * Usuários virtuais que enviam a mistura de tráfego do teste de carga à aplicação.
+ *
+ * - Grupos com pesos (`carga.mix.*`): filtros, listagens paginadas, busca por ID, painel,
+ *   escritas que invalidam caches, relatos e login
+ * - Regiões escolhidas com viés (poucas regiões recebem a maior parte do tráfego)
+ * - Surtos periódicos de relatos concentrados em uma região (`carga.surto.*`)
+ * - Modelo fechado (`carga.taxa-rps=0`) ou taxa fixa, medindo a partir do instante planejado
+ * - Escolhas aleatórias com semente por usuário: a sequência de requisições se repete entre execuções
+ */
+final class GeradorTrafego {
+
+    /** Dados existentes no banco, usados para montar as requisições. */
+    record Contexto(String baseUrl, String token, List<Long> regiaoIds, List<String> estados, List<Long> usuarioIds,
+                    long primeiroAlerta, long ultimoAlerta, long primeiroRelato, long ultimoRelato) {
+    }
+
+    private record Operacao(String chave, String rota, BiFunction<Contexto, Escolhas, HttpRequest.Builder> requisicao) {
+    }
+
+    private record Grupo(String nome, int peso, List<Operacao> operacoes) {
+    }
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    private static final List<String> NIVEIS = List.of("BAIXO", "MEDIO", "ALTO");
+    private static final List<String> TIPOS = List.of("Enchente", "Deslizamento", "Queimada", "Seca", "Vendaval");
+
+    private final ConfiguracaoCarga configuracao;
+    private final Contexto contexto;
+    private final List<Grupo> grupos;
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    GeradorTrafego(ConfiguracaoCarga configuracao, Contexto contexto) {
+        this.configuracao = configuracao;
+        this.contexto = contexto;
+        this.grupos = grupos(configuracao);
+    }
+
+    // ============================================
+    // ▶️ Execução
+    // ============================================
+
+    /**
+     * Envia tráfego por `duracao` com `carga.usuarios-virtuais` usuários.
+     *
+     * @param medicoes destino das latências (nulo no aquecimento)
+     */
+    void executar(Duration duracao, MedicoesCarga medicoes) throws InterruptedException {
+        int usuarios = configuracao.inteiro("usuarios-virtuais");
+        double taxa = configuracao.decimal("taxa-rps");
+        long intervaloNanos = taxa > 0 ? (long) (usuarios * 1_000_000_000L / taxa) : 0;
+        long inicio = System.nanoTime();
+        long fim = inicio + duracao.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(usuarios);
+        for (int i = 0; i < usuarios; i++) {
+            SplittableRandom aleatorio = new SplittableRandom(configuracao.longo("semente") + i);
+            long defasagem = intervaloNanos * i / usuarios;
+            executor.execute(() -> usuario(aleatorio, inicio, fim, intervaloNanos, defasagem, medicoes));
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(duracao.toSeconds() + 60, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void usuario(SplittableRandom aleatorio, long inicio, long fim, long intervaloNanos, long defasagem,
+                         MedicoesCarga medicoes) {
+        long planejado = inicio + defasagem;
+        while (true) {
+            long agora = System.nanoTime();
+            if (intervaloNanos > 0) {
+                if (planejado > agora) {
+                    LockSupport.parkNanos(planejado - agora);
+                }
+            } else {
+                planejado = agora;
+            }
+            if (planejado >= fim) {
+                return;
+            }
+            Escolhas escolhas = new Escolhas(aleatorio, emSurto(planejado - inicio));
+            Operacao operacao = sortear(escolhas);
+            boolean erro;
+            try {
+                HttpResponse<Void> resposta = cliente.send(operacao.requisicao().apply(contexto, escolhas)
+                        .timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding());
+                erro = resposta.statusCode() >= 400;
+            } catch (IOException e) {
+                erro = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (medicoes != null) {
+                medicoes.registrar(operacao.chave(), operacao.rota(), System.nanoTime() - planejado, erro);
+            }
+            planejado += intervaloNanos;
+        }
+    }
+
+    /**
+     * Requisições esperadas de cada operação em `duracao` com a taxa configurada (vazio no modelo fechado),
+     * já descontada a fatia que os surtos de relatos tomam das demais operações.
+     */
+    Map<String, Double> amostrasEsperadas(Duration duracao) {
+        double requisicoes = configuracao.decimal("taxa-rps") * duracao.toSeconds();
+        double fracaoSurto = Math.min(1.0, configuracao.decimal("surto.duracao-s") / configuracao.decimal("surto.intervalo-s"));
+        int fator = configuracao.inteiro("surto.fator");
+        double total = 0;
+        double totalSurto = 0;
+        for (Grupo grupo : grupos) {
+            total += grupo.peso();
+            totalSurto += grupo.nome().equals("relato") ? grupo.peso() * fator : grupo.peso();
+        }
+        Map<String, Double> esperadas = new LinkedHashMap<>();
+        if (requisicoes <= 0) {
+            return esperadas;
+        }
+        for (Grupo grupo : grupos) {
+            double pesoSurto = grupo.nome().equals("relato") ? grupo.peso() * fator : grupo.peso();
+            double fracao = (1 - fracaoSurto) * grupo.peso() / total + fracaoSurto * pesoSurto / totalSurto;
+            for (Operacao operacao : grupo.operacoes()) {
+                esperadas.put(operacao.chave(), requisicoes * fracao / grupo.operacoes().size());
+            }
+        }
+        return esperadas;
+    }
+
+    /** Janela de surto em andamento (índice da janela) ou -1. */
+    private int emSurto(long decorridoNanos) {
+        long segundos = TimeUnit.NANOSECONDS.toSeconds(decorridoNanos);
+        long intervalo = configuracao.longo("surto.intervalo-s");
+        return segundos % intervalo < configuracao.longo("surto.duracao-s") ? (int) (segundos / intervalo) : -1;
+    }
+
+    private Operacao sortear(Escolhas escolhas) {
+        int fator = escolhas.surto >= 0 ? configuracao.inteiro("surto.fator") : 1;
+        int total = 0;
+        for (Grupo grupo : grupos) {
+            total += grupo.nome().equals("relato") ? grupo.peso() * fator : grupo.peso();
+        }
+        int sorteio = escolhas.aleatorio.nextInt(total);
+        for (Grupo grupo : grupos) {
+            sorteio -= grupo.nome().equals("relato") ? grupo.peso() * fator : grupo.peso();
+            if (sorteio < 0) {
+                return grupo.operacoes().get(escolhas.aleatorio.nextInt(grupo.operacoes().size()));
+            }
+        }
+        throw new IllegalStateException("Mistura sem operações");
+    }
+
+    // ============================================
+    // 🧾 Operações
+    // ============================================
+
+    private static List<Grupo> grupos(ConfiguracaoCarga configuracao) {
+        List<Grupo> grupos = new ArrayList<>();
+        grupos.add(new Grupo("filtro", configuracao.inteiro("mix.filtro"), List.of(
+                new Operacao("alertas-filtro", "GET /alertas/filtro", (c, e) -> get(c,
+                        "/alertas/filtro?nivelRisco=" + e.de(NIVEIS) + "&regiaoId=" + e.regiao(c) + e.pagina())),
+                new Operacao("eventos-filtro", "GET /eventos-naturais/filtro", (c, e) -> get(c,
+                        "/eventos-naturais/filtro?tipo=" + e.de(TIPOS) + "&regiaoId=" + e.regiao(c) + e.pagina())),
+                new Operacao("previsoes-filtro", "GET /previsoes-risco/filtro", (c, e) -> get(c,
+                        "/previsoes-risco/filtro?nivelPrevisto=" + e.de(NIVEIS) + "&dataInicio=" + e.diasAtras(7)
+                                + e.pagina())),
+                new Operacao("relatos-filtro", "GET /relatos-usuario/filtro", (c, e) -> get(c,
+                        "/relatos-usuario/filtro?regiaoId=" + e.regiao(c) + "&dataInicio=" + e.diasAtras(2)
+                                + e.pagina())),
+                new Operacao("regioes-filtro", "GET /regioes/filtro", (c, e) -> get(c,
+                        "/regioes/filtro?estado=" + e.de(c.estados()) + e.pagina())))));
+        grupos.add(new Grupo("listagem", configuracao.inteiro("mix.listagem"), List.of(
+                new Operacao("alertas-lista", "GET /alertas", (c, e) -> get(c, "/alertas?" + e.pagina().substring(1))),
+                new Operacao("eventos-lista", "GET /eventos-naturais",
+                        (c, e) -> get(c, "/eventos-naturais?" + e.pagina().substring(1))),
+                new Operacao("previsoes-lista", "GET /previsoes-risco",
+                        (c, e) -> get(c, "/previsoes-risco?" + e.pagina().substring(1))),
+                new Operacao("relatos-lista", "GET /relatos-usuario",
+                        (c, e) -> get(c, "/relatos-usuario?" + e.pagina().substring(1))),
+                new Operacao("regioes-lista", "GET /regioes", (c, e) -> get(c, "/regioes?" + e.pagina().substring(1))))));
+        grupos.add(new Grupo("por-id", configuracao.inteiro("mix.por-id"), List.of(
+                new Operacao("alerta-id", "GET /alertas/{id}",
+                        (c, e) -> get(c, "/alertas/" + e.entre(c.primeiroAlerta(), c.ultimoAlerta()))),
+                new Operacao("relato-id", "GET /relatos-usuario/{id}",
+                        (c, e) -> get(c, "/relatos-usuario/" + e.entre(c.primeiroRelato(), c.ultimoRelato()))),
+                new Operacao("regiao-id", "GET /regioes/{id}", (c, e) -> get(c, "/regioes/" + e.regiao(c))))));
+        grupos.add(new Grupo("painel", configuracao.inteiro("mix.painel"), List.of(
+                new Operacao("painel-risco", "GET /painel/risco", (c, e) -> get(c, "/painel/risco")),
+                new Operacao("regiao-risco", "GET /regioes/{id}/risco",
+                        (c, e) -> get(c, "/regioes/" + e.regiao(c) + "/risco")))));
+        grupos.add(new Grupo("escrita", configuracao.inteiro("mix.escrita"), List.of(
+                new Operacao("alerta-novo", "POST /alertas", (c, e) -> post(c, "/alertas",
+                        "{\"tipo\":\"" + e.de(TIPOS) + "\",\"nivelRisco\":\"" + e.de(NIVEIS)
+                                + "\",\"mensagem\":\"Alerta de carga\",\"emitidoEm\":\"" + e.agora()
+                                + "\",\"idRegiao\":" + e.regiao(c) + "}")),
+                new Operacao("evento-novo", "POST /eventos-naturais", (c, e) -> post(c, "/eventos-naturais",
+                        "{\"tipo\":\"" + e.de(TIPOS) + "\",\"descricao\":\"Evento de carga\",\"dataOcorrencia\":\""
+                                + e.agora() + "\",\"regiaoId\":" + e.regiao(c) + "}")),
+                new Operacao("previsao-nova", "POST /previsoes-risco", (c, e) -> post(c, "/previsoes-risco",
+                        "{\"nivelPrevisto\":\"" + e.de(NIVEIS) + "\",\"fonte\":\"carga\",\"geradoEm\":\""
+                                + e.agora() + "\",\"regiaoId\":" + e.regiao(c) + "}")))));
+        grupos.add(new Grupo("relato", configuracao.inteiro("mix.relato"), List.of(
+                new Operacao("relato-novo", "POST /relatos-usuario", (c, e) -> post(c, "/relatos-usuario",
+                        "{\"mensagem\":\"Relato de carga\",\"dataRelato\":\"" + e.agora() + "\",\"usuarioId\":"
+                                + e.de(c.usuarioIds()) + ",\"regiaoId\":" + e.regiaoDoSurto(c) + "}")))));
+        grupos.add(new Grupo("login", configuracao.inteiro("mix.login"), List.of(
+                new Operacao("login", "POST /login", (c, e) -> HttpRequest.newBuilder(URI.create(c.baseUrl() + "/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"email\":\"user@safelink.com\",\"password\":\"user12345\"}"))))));
+        grupos.removeIf(grupo -> grupo.peso() <= 0);
+        return grupos;
+    }
+
+    private static HttpRequest.Builder get(Contexto contexto, String caminho) {
+        return HttpRequest.newBuilder(URI.create(contexto.baseUrl() + caminho))
+                .header("Authorization", "Bearer " + contexto.token())
+                .GET();
+    }
+
+    private static HttpRequest.Builder post(Contexto contexto, String caminho, String corpo) {
+        return HttpRequest.newBuilder(URI.create(contexto.baseUrl() + caminho))
+                .header("Authorization", "Bearer " + contexto.token())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo));
+    }
+
+    /** Sorteios de uma requisição. */
+    private static final class Escolhas {
+
+        private final SplittableRandom aleatorio;
+        private final int surto;
+
+        private Escolhas(SplittableRandom aleatorio, int surto) {
+            this.aleatorio = aleatorio;
+            this.surto = surto;
+        }
+
+        <T> T de(List<T> valores) {
+            return valores.get(aleatorio.nextInt(valores.size()));
+        }
+
+        long entre(long primeiro, long ultimo) {
+            return primeiro + aleatorio.nextLong(Math.max(1, ultimo - primeiro + 1));
+        }
+
+        /** Região com viés quadrático: as primeiras recebem mais tráfego. */
+        long regiao(Contexto contexto) {
+            List<Long> ids = contexto.regiaoIds();
+            double sorteio = aleatorio.nextDouble();
+            return ids.get((int) (ids.size() * sorteio * sorteio));
+        }
+
+        /** No surto, a região do surto (uma por janela); fora dele, {@link #regiao(Contexto)}. */
+        long regiaoDoSurto(Contexto contexto) {
+            return surto >= 0 ? contexto.regiaoIds().get(surto % contexto.regiaoIds().size()) : regiao(contexto);
+        }
+
+        String pagina() {
+            return "&page=" + aleatorio.nextInt(5) + "&size=" + (aleatorio.nextBoolean() ? 20 : 50);
+        }
+
+        String diasAtras(int dias) {
+            return LocalDateTime.now().minusDays(dias).withNano(0).toString();
+        }
+
+        String agora() {
+            return LocalDateTime.now().format(FORMATO_DATA);
+        }
+    }
+}
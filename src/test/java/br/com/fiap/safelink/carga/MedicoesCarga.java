@@ -0,0 +1,152 @@
+package br.com.fiap.safelink.carga;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latências e erros por operação do teste de carga, com o relatório e a verificação dos SLOs.
+ *
+ * - Guarda cada latência: os percentis são exatos (posição na amostra ordenada), não limites de balde
+ * - Um percentil só é verificado com amostras suficientes para não ser o próprio máximo
+ *   (`slo.amostras-minimas` para p95 e erros, `slo.amostras-minimas-p99` para p99)
+ */
+final class MedicoesCarga {
+
+    private static final double NANOS_POR_MS = 1_000_000.0;
+
+    private final Map<String, Medicao> medicoes = new ConcurrentHashMap<>();
+
+    void registrar(String operacao, String rota, long nanos, boolean erro) {
+        medicoes.computeIfAbsent(operacao, chave -> new Medicao(rota)).registrar(nanos, erro);
+    }
+
+    // ============================================
+    // 📊 Relatório
+    // ============================================
+
+    /**
+     * Tabela por operação: requisições, vazão, erros, percentis (ms) e os SLOs verificados, mais o total.
+     */
+    String relatorio(double segundos, ConfiguracaoCarga configuracao) {
+        StringBuilder tabela = new StringBuilder(String.format(Locale.ROOT,
+                "%-20s %-36s %8s %8s %7s %9s %9s %9s %9s  %s%n",
+                "operacao", "rota", "req", "req/s", "erros", "p50 ms", "p95 ms", "p99 ms", "max ms", "slo"));
+        long total = 0;
+        long erros = 0;
+        for (Map.Entry<String, Medicao> entrada : ordenadas()) {
+            Medicao medicao = entrada.getValue();
+            long[] latencias = medicao.ordenadas();
+            total += latencias.length;
+            erros += medicao.erros();
+            tabela.append(String.format(Locale.ROOT, "%-20s %-36s %8d %8.1f %7d %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    entrada.getKey(), medicao.rota, latencias.length, latencias.length / segundos,
+                    medicao.erros(), ms(percentil(latencias, 50)), ms(percentil(latencias, 95)),
+                    ms(percentil(latencias, 99)), ms(percentil(latencias, 100)),
+                    String.join(" ", verificados(latencias.length, configuracao))));
+        }
+        tabela.append(String.format(Locale.ROOT, "%-57s %8d %8.1f %7d%n", "total", total, total / segundos, erros));
+        return tabela.toString();
+    }
+
+    // ============================================
+    // 🎯 SLOs
+    // ============================================
+
+    /**
+     * Operações fora dos SLOs de `configuracao` (vazia se todas os cumprirem). Percentis e taxa de erros
+     * sem amostras suficientes não são verificados (o relatório mostra quais foram).
+     */
+    List<String> violacoes(ConfiguracaoCarga configuracao) {
+        double errosMaximo = configuracao.decimal("slo.erros-max");
+        List<String> violacoes = new ArrayList<>();
+        for (Map.Entry<String, Medicao> entrada : ordenadas()) {
+            String operacao = entrada.getKey();
+            long[] latencias = entrada.getValue().ordenadas();
+            List<String> verificados = verificados(latencias.length, configuracao);
+            for (String percentil : List.of("p95", "p99")) {
+                if (!verificados.contains(percentil)) {
+                    continue;
+                }
+                double medido = ms(percentil(latencias, Double.parseDouble(percentil.substring(1))));
+                double limite = configuracao.sloMs(operacao, percentil);
+                if (medido > limite) {
+                    violacoes.add(String.format(Locale.ROOT, "%s: %s de %.1f ms em %d amostras (SLO %.0f ms)",
+                            operacao, percentil, medido, latencias.length, limite));
+                }
+            }
+            double fracaoErros = (double) entrada.getValue().erros() / latencias.length;
+            if (verificados.contains("erros") && fracaoErros > errosMaximo) {
+                violacoes.add(String.format(Locale.ROOT, "%s: %.2f%% de erros (SLO %.2f%%)",
+                        operacao, fracaoErros * 100, errosMaximo * 100));
+            }
+        }
+        return violacoes;
+    }
+
+    /** SLOs que `amostras` requisições bastam para verificar. */
+    private static List<String> verificados(long amostras, ConfiguracaoCarga configuracao) {
+        List<String> verificados = new ArrayList<>();
+        if (amostras >= configuracao.longo("slo.amostras-minimas")) {
+            verificados.add("p95");
+            verificados.add("erros");
+        }
+        if (amostras >= configuracao.longo("slo.amostras-minimas-p99")) {
+            verificados.add(1, "p99");
+        }
+        return verificados.isEmpty() ? List.of("-") : verificados;
+    }
+
+    private List<Map.Entry<String, Medicao>> ordenadas() {
+        return medicoes.entrySet().stream().sorted(Map.Entry.comparingByKey(Comparator.naturalOrder())).toList();
+    }
+
+    /** Percentil exato pelo posto mais próximo (100 = máximo). */
+    private static long percentil(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int posicao = (int) Math.ceil(ordenadas.length * percentil / 100.0);
+        return ordenadas[Math.min(ordenadas.length, Math.max(1, posicao)) - 1];
+    }
+
+    private static double ms(long nanos) {
+        return nanos / NANOS_POR_MS;
+    }
+
+    private static final class Medicao {
+
+        private final String rota;
+        private long[] latencias = new long[256];
+        private int contagem;
+        private long erros;
+
+        private Medicao(String rota) {
+            this.rota = rota;
+        }
+
+        private synchronized void registrar(long nanos, boolean erro) {
+            if (contagem == latencias.length) {
+                latencias = Arrays.copyOf(latencias, contagem * 2);
+            }
+            latencias[contagem++] = nanos;
+            if (erro) {
+                erros++;
+            }
+        }
+
+        private synchronized long[] ordenadas() {
+            long[] copia = Arrays.copyOf(latencias, contagem);
+            Arrays.sort(copia);
+            return copia;
+        }
+
+        private synchronized long erros() {
+            return erros;
+        }
+    }
+}
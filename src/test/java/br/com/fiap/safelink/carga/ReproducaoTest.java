@@ -0,0 +1,173 @@
+package br.com.fiap.safelink.carga;
+
+import br.com.fiap.safelink.util.LogTrafego;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Reprodução de uma captura de tráfego (`safelink.captura.*`) contra uma instância de teste
+ * (`mvn -Pcarga test -Dtest=ReproducaoTest -Dcarga.reproducao.arquivo=... -Dcarga.reproducao.url=...`).
+ *
+ * - Lê um arquivo `.slt` ou todos os de um diretório e reenvia as requisições na ordem e no ritmo originais,
+ *   divididos por `carga.reproducao.velocidade` (1 = tempo real)
+ * - Reenvia só os métodos de `carga.reproducao.metodos`: a captura não guarda corpos, então escritas não se repetem
+ * - Os caminhos usam os IDs originais: a instância de teste precisa de uma cópia dos dados (ou do mesmo
+ *   perfil `sintetico`, com a mesma semente)
+ * - Envio assíncrono, medido desde o instante planejado (sem omissão coordenada)
+ * - Compara as distribuições por rota com a {@link ComparacaoLatencias}; falha por regressão do p95 só com
+ *   `carga.reproducao.tolerancia-p95` positiva
+ *
+ * Sem arquivo ou URL configurados, o teste é ignorado.
+ */
+@Tag("carga")
+class ReproducaoTest {
+
+    private static final ConfiguracaoCarga CONFIGURACAO = ConfiguracaoCarga.carregar();
+
+    private final HttpClient cliente = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void reproducao() throws Exception {
+        String arquivo = CONFIGURACAO.texto("reproducao.arquivo");
+        String baseUrl = CONFIGURACAO.texto("reproducao.url");
+        assumeFalse(arquivo.isEmpty() || baseUrl.isEmpty(), "carga.reproducao.arquivo e carga.reproducao.url não configurados");
+
+        Set<String> metodos = Arrays.stream(CONFIGURACAO.texto("reproducao.metodos").split(","))
+                .map(metodo -> metodo.trim().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        List<LogTrafego.Registro> registros = ler(Paths.get(arquivo)).stream()
+                .filter(registro -> metodos.contains(registro.metodo()))
+                .sorted(Comparator.comparingLong(LogTrafego.Registro::inicioMicros))
+                .toList();
+        assumeFalse(registros.isEmpty(), "Nenhuma requisição reproduzível em " + arquivo);
+
+        Map<String, String> tokens = Map.of(
+                "ADMIN", CargaTest.token(baseUrl, CONFIGURACAO.texto("reproducao.admin.email"),
+                        CONFIGURACAO.texto("reproducao.admin.senha")),
+                "USER", CargaTest.token(baseUrl, CONFIGURACAO.texto("reproducao.usuario.email"),
+                        CONFIGURACAO.texto("reproducao.usuario.senha")));
+
+        ComparacaoLatencias comparacao = new ComparacaoLatencias();
+        double velocidade = CONFIGURACAO.decimal("reproducao.velocidade");
+        long inicio = System.nanoTime();
+        reenviar(registros, baseUrl, tokens, velocidade, comparacao);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.printf(Locale.ROOT, "%n🔁 Reprodução: %d requisições de %s em %.1f s (velocidade %.1fx)%n%s",
+                registros.size(), arquivo, segundos, velocidade, comparacao.relatorio());
+        double tolerancia = CONFIGURACAO.decimal("reproducao.tolerancia-p95");
+        if (tolerancia > 0) {
+            List<String> regressoes = comparacao.regressoes(tolerancia, CONFIGURACAO.longo("reproducao.amostras-minimas"));
+            assertTrue(regressoes.isEmpty(), () -> "Regressões de latência:\n  " + String.join("\n  ", regressoes));
+        }
+    }
+
+    // ============================================
+    // ▶️ Envio
+    // ============================================
+
+    /**
+     * Agenda cada requisição em `(início - primeiro início) / velocidade` e espera todas as respostas.
+     * Com `concorrencia-maxima` requisições em voo, o envio seguinte aguarda; o atraso entra na latência medida.
+     */
+    private void reenviar(List<LogTrafego.Registro> registros, String baseUrl, Map<String, String> tokens,
+                          double velocidade, ComparacaoLatencias comparacao) throws InterruptedException {
+        int concorrencia = CONFIGURACAO.inteiro("reproducao.concorrencia-maxima");
+        Semaphore emVoo = new Semaphore(concorrencia);
+        long primeiroMicros = registros.get(0).inicioMicros();
+        long inicio = System.nanoTime();
+
+        for (LogTrafego.Registro registro : registros) {
+            long planejado = inicio + (long) (TimeUnit.MICROSECONDS.toNanos(registro.inicioMicros() - primeiroMicros) / velocidade);
+            long espera;
+            while ((espera = planejado - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            String rota = registro.metodo() + " " + registro.rota();
+            comparacao.registrarOriginal(rota, TimeUnit.MICROSECONDS.toNanos(registro.duracaoMicros()),
+                    registro.status() >= 400);
+            emVoo.acquire();
+            cliente.sendAsync(requisicao(registro, baseUrl, tokens), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((resposta, falha) -> {
+                        comparacao.registrarReproducao(rota, System.nanoTime() - planejado,
+                                falha != null || resposta.statusCode() >= 400);
+                        emVoo.release();
+                    });
+        }
+        emVoo.acquire(concorrencia);
+    }
+
+    private static HttpRequest requisicao(LogTrafego.Registro registro, String baseUrl, Map<String, String> tokens) {
+        String query = registro.parametros().stream()
+                .map(parametro -> codificar(parametro.nome()) + "=" + codificar(parametro.valor()))
+                .collect(Collectors.joining("&"));
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(URI.create(baseUrl + registro.caminho()
+                        + (query.isEmpty() ? "" : "?" + query)))
+                .timeout(Duration.ofSeconds(30))
+                .method(registro.metodo(), HttpRequest.BodyPublishers.noBody());
+        String token = tokens.get(registro.papel());
+        if (token != null) {
+            requisicao.header("Authorization", "Bearer " + token);
+        }
+        return requisicao.build();
+    }
+
+    private static String codificar(String texto) {
+        return URLEncoder.encode(texto, StandardCharsets.UTF_8);
+    }
+
+    // ============================================
+    // 📖 Leitura
+    // ============================================
+
+    private static List<LogTrafego.Registro> ler(Path origem) {
+        List<LogTrafego.Registro> registros = new ArrayList<>();
+        try {
+            List<Path> arquivos;
+            if (Files.isDirectory(origem)) {
+                try (Stream<Path> conteudo = Files.list(origem)) {
+                    arquivos = conteudo.filter(arquivo -> arquivo.toString().endsWith(".slt")).sorted().toList();
+                }
+            } else {
+                arquivos = List.of(origem);
+            }
+            for (Path arquivo : arquivos) {
+                LogTrafego.ler(arquivo, registros::add);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return registros;
+    }
+}
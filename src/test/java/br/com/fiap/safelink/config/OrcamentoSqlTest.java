@@ -0,0 +1,189 @@
+package br.com.fiap.safelink.config;
+
+import br.com.fiap.safelink.controller.HomeController;
+import br.com.fiap.safelink.model.Regiao;
+import br.com.fiap.safelink.model.RelatoUsuario;
+import br.com.fiap.safelink.model.User;
+import br.com.fiap.safelink.repository.RegiaoRepository;
+import br.com.fiap.safelink.repository.RelatoUsuarioRepository;
+import br.com.fiap.safelink.repository.UserRepository;
+import br.com.fiap.safelink.service.TokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Orçamento de comandos SQL por endpoint ({@link OrcamentoSql}), contra o banco real (`DB_URL`).
+ *
+ * Cada requisição roda pelo MockMvc com os caches limpos; a contagem vem do {@link OrcamentoSqlInterceptor}.
+ * Os relatos criados aqui preenchem mais de uma página de 50 e se espalham por regiões e usuários
+ * diferentes, para que um N+1 apareça como comandos a mais.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrcamentoSqlTest {
+
+    private static final List<String> LISTAGENS = List.of(
+            "/alertas", "/alertas/filtro", "/eventos-naturais", "/eventos-naturais/filtro",
+            "/previsoes-risco", "/previsoes-risco/filtro", "/regioes", "/regioes/filtro",
+            "/relatos-usuario", "/relatos-usuario/filtro", "/regras-alerta", "/users");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private TokenService tokenService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RegiaoRepository regiaoRepository;
+    @Autowired
+    private RelatoUsuarioRepository relatoUsuarioRepository;
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping mapeamentos;
+
+    private String token;
+    private List<Regiao> regioes;
+    private List<RelatoUsuario> relatos;
+
+    @BeforeEach
+    void criarDados() {
+        List<User> usuarios = userRepository.findAll();
+        token = tokenService.createToken(usuarios.get(0)).token();
+
+        regioes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            regioes.add(Regiao.builder().nome("Orçamento SQL " + i).cidade("Teste").estado("SP")
+                    .latitude(-23.0 - i).longitude(-46.0 - i).build());
+        }
+        regioes = regiaoRepository.saveAll(regioes);
+
+        relatos = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            relatos.add(RelatoUsuario.builder().mensagem("Relato de teste " + i)
+                    .dataRelato(LocalDateTime.now().minusMinutes(i))
+                    .usuario(usuarios.get(i % usuarios.size()))
+                    .regiao(regioes.get(i % regioes.size()))
+                    .build());
+        }
+        relatos = relatoUsuarioRepository.saveAll(relatos);
+    }
+
+    @AfterEach
+    void removerDados() {
+        relatoUsuarioRepository.deleteAllInBatch(relatos);
+        regiaoRepository.deleteAllInBatch(regioes);
+    }
+
+    @Test
+    void relatosFiltradosEmPaginaDe50() throws Exception {
+        requisicao(get("/relatos-usuario/filtro").param("size", "50")).executaNoMaximo(2);
+    }
+
+    @Test
+    void listagensRespeitamOOrcamentoDeclarado() throws Exception {
+        for (String rota : LISTAGENS) {
+            requisicao(get(rota).param("size", "50")).respeitaOOrcamento();
+        }
+    }
+
+    @Test
+    void todoEndpointDeclaraOrcamento() {
+        List<String> semOrcamento = mapeamentos.getHandlerMethods().entrySet().stream()
+                .filter(mapeamento -> mapeamento.getValue().getBeanType().getPackageName()
+                        .equals(HomeController.class.getPackageName()))
+                .filter(mapeamento -> !mapeamento.getValue().hasMethodAnnotation(OrcamentoSql.class))
+                .map(mapeamento -> mapeamento.getKey().toString())
+                .toList();
+        assertTrue(semOrcamento.isEmpty(), () -> "Endpoints sem @OrcamentoSql: " + semOrcamento);
+    }
+
+    // ============================================
+    // 🧮 DSL
+    // ============================================
+
+    private Requisicao requisicao(MockHttpServletRequestBuilder builder) {
+        return new Requisicao(builder);
+    }
+
+    /**
+     * Requisição autenticada cujos comandos SQL são comparados a um orçamento.
+     */
+    private final class Requisicao {
+
+        private final MockHttpServletRequestBuilder builder;
+
+        private Requisicao(MockHttpServletRequestBuilder builder) {
+            this.builder = builder;
+        }
+
+        /** Falha se a requisição executar mais de `comandos` comandos SQL. */
+        void executaNoMaximo(int comandos) throws Exception {
+            MvcResult resultado = executar();
+            ContagemSql contagem = contagem(resultado);
+            assertTrue(contagem.getComandos() <= comandos, () -> descricao(resultado) + " executou " + contagem
+                    + "; orçamento: " + comandos + " comando(s)");
+        }
+
+        /** Falha se a requisição passar do {@link OrcamentoSql} declarado no endpoint. */
+        void respeitaOOrcamento() throws Exception {
+            MvcResult resultado = executar();
+            OrcamentoSql orcamento = ((HandlerMethod) resultado.getHandler()).getMethodAnnotation(OrcamentoSql.class);
+            assertNotNull(orcamento, () -> descricao(resultado) + " sem @OrcamentoSql");
+            ContagemSql contagem = contagem(resultado);
+            assertTrue(contagem.getComandos() <= orcamento.value(), () -> descricao(resultado) + " executou "
+                    + contagem + "; orçamento: " + orcamento.value() + " comando(s)");
+        }
+
+        private MvcResult executar() throws Exception {
+            cacheManager.getCacheNames().forEach(nome -> Objects.requireNonNull(cacheManager.getCache(nome)).clear());
+            MvcResult resultado = mockMvc.perform(builder.header("Authorization", "Bearer " + token)).andReturn();
+            assertEquals(200, resultado.getResponse().getStatus(), () -> descricao(resultado) + " falhou: " + corpo(resultado));
+            return resultado;
+        }
+
+        private ContagemSql contagem(MvcResult resultado) {
+            ContagemSql contagem = (ContagemSql) resultado.getRequest().getAttribute(ContagemSql.ATRIBUTO);
+            assertNotNull(contagem, () -> descricao(resultado) + " não foi contada");
+            return contagem;
+        }
+
+        private String corpo(MvcResult resultado) {
+            try {
+                return resultado.getResponse().getContentAsString(StandardCharsets.UTF_8);
+            } catch (UnsupportedEncodingException e) {
+                return "";
+            }
+        }
+
+        private String descricao(MvcResult resultado) {
+            StringJoiner parametros = new StringJoiner("&", "?", "").setEmptyValue("");
+            resultado.getRequest().getParameterMap().forEach((nome, valores) ->
+                    parametros.add(nome + "=" + String.join(",", valores)));
+            return resultado.getRequest().getMethod() + " " + resultado.getRequest().getRequestURI() + parametros;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.fiap.safelink.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integração com um primário e uma réplica por streaming reais
+ * (`DB_URL` e `DB_REPLICA_URLS`); ignorado quando não há réplica configurada.
+ */
+@EnabledIfEnvironmentVariable(named = "DB_REPLICA_URLS", matches = ".+")
+class RoteadorDataSourceTest {
+
+    private HikariDataSource primario;
+    private HikariDataSource replica;
+    private RoteadorDataSource roteador;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate escrita;
+    private TransactionTemplate leitura;
+
+    @BeforeEach
+    void iniciar() {
+        primario = pool(System.getenv("DB_URL"));
+        // Uma conexão só: o LSN da escrita precisa vir da conexão da própria transação
+        primario.setMaximumPoolSize(1);
+        replica = pool(System.getenv("DB_REPLICA_URLS").split(",")[0]);
+        roteador = roteador(replica);
+        new JdbcTemplate(primario).execute("create table if not exists tb_teste_replica (id serial, ds text)");
+        aguardar(() -> roteador.atrasoPorReplica().get("replica") >= 0);
+    }
+
+    @AfterEach
+    void encerrar() {
+        new JdbcTemplate(replica).execute("select pg_wal_replay_resume()");
+        new JdbcTemplate(primario).execute("drop table if exists tb_teste_replica");
+        SecurityContextHolder.clearContext();
+        roteador.destroy();
+        replica.close();
+        primario.close();
+    }
+
+    @Test
+    void leituraVaiParaReplicaEEscritaRecenteLeDoPrimario() {
+        assertTrue(lidoNaReplica("bia"));
+
+        new JdbcTemplate(replica).execute("select pg_wal_replay_pause()");
+        autenticar("ana");
+        escrita.executeWithoutResult(status -> jdbc.update("insert into tb_teste_replica (ds) values ('nova')"));
+
+        // Réplica pausada não reaplicou a escrita: só "ana" precisa do primário
+        assertFalse(lidoNaReplica("ana"));
+        assertTrue(lidoNaReplica("bia"));
+
+        new JdbcTemplate(replica).execute("select pg_wal_replay_resume()");
+        aguardar(() -> lidoNaReplica("ana"));
+        autenticar("ana");
+        Integer linhas = leitura.execute(status -> jdbc.queryForObject("select count(*) from tb_teste_replica", Integer.class));
+        assertEquals(1, linhas);
+    }
+
+    @Test
+    void replicaForaDoArCaiParaOPrimario() {
+        HikariDataSource inexistente = pool("jdbc:postgresql://localhost:1/postgres");
+        RoteadorDataSource semReplica = roteador(inexistente);
+        try {
+            aguardar(() -> semReplica.atrasoPorReplica().get("replica") == -1);
+            assertFalse(lidoNaReplica("bia"));
+        } finally {
+            semReplica.destroy();
+            inexistente.close();
+        }
+    }
+
+    private RoteadorDataSource roteador(DataSource dataSourceReplica) {
+        RoteadorDataSource novo = new RoteadorDataSource(primario, Map.of("replica", dataSourceReplica),
+                16 * 1024 * 1024, 100, 10_000);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(novo);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        escrita = new TransactionTemplate(transactionManager);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+        return novo;
+    }
+
+    private boolean lidoNaReplica(String usuario) {
+        autenticar(usuario);
+        return Boolean.TRUE.equals(leitura.execute(status -> jdbc.queryForObject("select pg_is_in_recovery()", Boolean.class)));
+    }
+
+    private static void autenticar(String usuario) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(usuario, null, List.of()));
+    }
+
+    private static HikariDataSource pool(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(System.getenv("DB_USERNAME"));
+        dataSource.setPassword(System.getenv("DB_PASSWORD"));
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setConnectionTimeout(1_000);
+        return dataSource;
+    }
+
+    private static void aguardar(BooleanSupplier condicao) {
+        long limite = System.currentTimeMillis() + 10_000;
+        while (!condicao.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < limite, "condição não atingida em 10s");
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
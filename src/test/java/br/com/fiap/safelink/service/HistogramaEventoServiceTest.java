@@ -0,0 +1,74 @@
+package br.com.fiap.safelink.service;
+
+import br.com.fiap.safelink.model.enums.GranularidadeTempo;
+import br.com.fiap.safelink.service.HistogramaEventoService.Trecho;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static br.com.fiap.safelink.model.enums.GranularidadeTempo.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramaEventoServiceTest {
+
+    private static LocalDateTime t(String dataHora) {
+        return LocalDateTime.parse(dataHora);
+    }
+
+    @Test
+    void mesesNaoAlinhadosLeemAsBordasPorDia() {
+        List<Trecho> trechos = HistogramaEventoService.decompor(MES, t("2026-01-15T00:00"), t("2026-06-15T00:00"));
+
+        assertEquals(List.of(
+                new Trecho(DIA, t("2026-01-15T00:00"), t("2026-02-01T00:00")),
+                new Trecho(MES, t("2026-02-01T00:00"), t("2026-06-01T00:00")),
+                new Trecho(DIA, t("2026-06-01T00:00"), t("2026-06-15T00:00"))), trechos);
+    }
+
+    @Test
+    void bordasAbaixoDeUmaHoraLeemOsEventos() {
+        List<Trecho> trechos = HistogramaEventoService.decompor(DIA, t("2026-03-10T08:30"), t("2026-03-14T17:45"));
+
+        assertEquals(List.of(
+                new Trecho(null, t("2026-03-10T08:30"), t("2026-03-10T09:00")),
+                new Trecho(HORA, t("2026-03-10T09:00"), t("2026-03-11T00:00")),
+                new Trecho(DIA, t("2026-03-11T00:00"), t("2026-03-14T00:00")),
+                new Trecho(HORA, t("2026-03-14T00:00"), t("2026-03-14T17:00")),
+                new Trecho(null, t("2026-03-14T17:00"), t("2026-03-14T17:45"))), trechos);
+    }
+
+    @Test
+    void intervaloSemBucketCompletoFicaNaGranularidadeMaisFina() {
+        List<Trecho> trechos = HistogramaEventoService.decompor(MES, t("2026-03-10T08:30"), t("2026-03-10T08:50"));
+
+        assertEquals(List.of(new Trecho(null, t("2026-03-10T08:30"), t("2026-03-10T08:50"))), trechos);
+    }
+
+    @Test
+    void intervaloAlinhadoUsaSoAGranularidadePedida() {
+        List<Trecho> trechos = HistogramaEventoService.decompor(MES, t("2026-01-01T00:00"), t("2026-07-01T00:00"));
+
+        assertEquals(List.of(new Trecho(MES, t("2026-01-01T00:00"), t("2026-07-01T00:00"))), trechos);
+    }
+
+    @Test
+    void trechosCobremOIntervaloSemSobreposicao() {
+        LocalDateTime inicio = t("2025-11-30T23:59:59");
+        LocalDateTime fim = t("2026-02-01T00:00:01");
+        for (GranularidadeTempo granularidade : GranularidadeTempo.values()) {
+            List<Trecho> trechos = HistogramaEventoService.decompor(granularidade, inicio, fim);
+            assertEquals(inicio, trechos.get(0).inicio());
+            assertEquals(fim, trechos.get(trechos.size() - 1).fim());
+            for (int i = 1; i < trechos.size(); i++) {
+                assertEquals(trechos.get(i - 1).fim(), trechos.get(i).inicio());
+            }
+            trechos.stream()
+                    .filter(trecho -> trecho.granularidade() != null)
+                    .forEach(trecho -> {
+                        assertEquals(trecho.inicio(), HistogramaEventoService.piso(trecho.granularidade(), trecho.inicio()));
+                        assertEquals(trecho.fim(), HistogramaEventoService.piso(trecho.granularidade(), trecho.fim()));
+                    });
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.fiap.safelink.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArquivoColunarTest {
+
+    private static final List<ArquivoColunar.Coluna> COLUNAS = List.of(
+            new ArquivoColunar.Coluna("id", ArquivoColunar.Tipo.INTEIRO),
+            new ArquivoColunar.Coluna("data", ArquivoColunar.Tipo.DATA_HORA),
+            new ArquivoColunar.Coluna("texto", ArquivoColunar.Tipo.TEXTO));
+
+    @Test
+    void preservaValoresENulos(@TempDir Path dir) throws Exception {
+        Path arquivo = dir.resolve("t.slc");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123_456_000);
+        try (ArquivoColunar.Escritor escritor = new ArquivoColunar.Escritor(arquivo, COLUNAS, 3)) {
+            escritor.adicionar(1L, base, "ação");
+            escritor.adicionar(2L, null, null);
+            escritor.adicionar(-5L, base.minusYears(60), "");
+            escritor.adicionar(4L, base.plusDays(1), "fim");
+        }
+        List<Object[]> linhas = new ArrayList<>();
+        ArquivoColunar.ler(arquivo, Map.of(), List.of(), l ->
+                linhas.add(new Object[]{l.inteiro("id"), l.dataHora("data"), l.texto("texto")}));
+
+        assertEquals(4, linhas.size());
+        assertArrayEquals(new Object[]{1L, base, "ação"}, linhas.get(0));
+        assertArrayEquals(new Object[]{2L, null, null}, linhas.get(1));
+        assertArrayEquals(new Object[]{-5L, base.minusYears(60), ""}, linhas.get(2));
+        assertArrayEquals(new Object[]{4L, base.plusDays(1), "fim"}, linhas.get(3));
+    }
+
+    @Test
+    void ignoraGruposForaDaFaixa(@TempDir Path dir) throws Exception {
+        Path arquivo = dir.resolve("t.slc");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        try (ArquivoColunar.Escritor escritor = new ArquivoColunar.Escritor(arquivo, COLUNAS, 100)) {
+            for (long i = 0; i < 1_000; i++) {
+                escritor.adicionar(i, base.plusHours(i), "linha " + i);
+            }
+        }
+        List<Long> ids = new ArrayList<>();
+        ArquivoColunar.Estatisticas estatisticas = ArquivoColunar.ler(arquivo,
+                Map.of("data", ArquivoColunar.Faixa.entre(base.plusHours(250), base.plusHours(260))),
+                List.of("id"), l -> ids.add(l.inteiro("id")));
+
+        assertEquals(11, ids.size());
+        assertEquals(250L, ids.get(0));
+        assertEquals(1, estatisticas.gruposLidos());
+        assertEquals(9, estatisticas.gruposIgnorados());
+    }
+
+    @Test
+    void leEmOrdemInversaParaNoConsumidorEConta(@TempDir Path dir) throws Exception {
+        Path arquivo = dir.resolve("t.slc");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        try (ArquivoColunar.Escritor escritor = new ArquivoColunar.Escritor(arquivo, COLUNAS, 100)) {
+            for (long i = 0; i < 1_000; i++) {
+                escritor.adicionar(i, i % 10 == 0 ? null : base.plusHours(i), "linha " + i);
+            }
+        }
+        List<Long> ids = new ArrayList<>();
+        ArquivoColunar.Estatisticas estatisticas = ArquivoColunar.ler(arquivo,
+                Map.of("data", ArquivoColunar.Faixa.entre(null, base.plusHours(550))), List.of("id"), true, l -> {
+                    ids.add(l.inteiro("id"));
+                    return ids.size() < 5;
+                });
+
+        assertEquals(List.of(549L, 548L, 547L, 546L, 545L), ids);
+        assertEquals(1, estatisticas.gruposLidos());
+        assertEquals(4, estatisticas.gruposIgnorados());
+        assertEquals(1_000, ArquivoColunar.contar(arquivo, Map.of()));
+        assertEquals(495, ArquivoColunar.contar(arquivo,
+                Map.of("data", ArquivoColunar.Faixa.entre(null, base.plusHours(550)))));
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.fiap.safelink.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    void naoGeraFalsoNegativo() {
+        BloomFilter filtro = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar("usuario" + i + "@safelink.com");
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filtro.podeConter("usuario" + i + "@safelink.com"));
+        }
+    }
+
+    @Test
+    void respeitaTaxaDeFalsoPositivo() {
+        BloomFilter filtro = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar("usuario" + i + "@safelink.com");
+        }
+        int falsosPositivos = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filtro.podeConter("inexistente" + i + "@ataque.com")) {
+                falsosPositivos++;
+            }
+        }
+        assertTrue(falsosPositivos < 2_000, "falsos positivos: " + falsosPositivos);
+    }
+}
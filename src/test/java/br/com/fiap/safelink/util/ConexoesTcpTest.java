@@ -0,0 +1,35 @@
+package br.com.fiap.safelink.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConexoesTcpTest {
+
+    private static final String CABECALHO =
+            "  sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode";
+
+    @Test
+    void encontraConexoesEmCloseWaitNaPortaDoServidor() {
+        List<String> tcp = List.of(CABECALHO,
+                "   0: 0100007F:1F99 00000000:0000 0A 00000000:00000000 00:00000000 00000000  1000 0 1",
+                "   1: 0100007F:1F99 0100007F:C3A2 08 00000000:00000000 00:00000000 00000000  1000 0 2",
+                "   2: 0100007F:1F99 0100007F:C3A3 01 00000000:00000000 00:00000000 00000000  1000 0 3",
+                "   3: 0100007F:1538 0100007F:C3A4 08 00000000:00000000 00:00000000 00000000  1000 0 4");
+
+        assertEquals(Set.of("127.0.0.1:50082"), ConexoesTcp.encerradasPeloCliente(tcp, 8089));
+    }
+
+    @Test
+    void normalizaEnderecosIpv6EMapeados() {
+        List<String> tcp6 = List.of(CABECALHO,
+                "   0: 00000000000000000000000001000000:1F99 00000000000000000000000001000000:C3A2 08 0 0 0 0 0 1",
+                "   1: 0000000000000000FFFF00000100007F:1F99 0000000000000000FFFF00000A01A8C0:C3A3 08 0 0 0 0 0 2");
+
+        assertEquals(Set.of(ConexoesTcp.chave("::1", 50082), ConexoesTcp.chave("192.168.1.10", 50083)),
+                ConexoesTcp.encerradasPeloCliente(tcp6, 8089));
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.fiap.safelink.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimaDistintosComErroBaixo() {
+        for (int distintos : new int[]{10, 1_000, 30_000, 500_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < distintos; i++) {
+                sketch.adicionar(Hashes.mix64(i));
+                sketch.adicionar(Hashes.mix64(i));
+            }
+            double erro = Math.abs(sketch.estimar() - distintos) / (double) distintos;
+            assertTrue(erro < 0.03, distintos + " distintos, erro " + erro);
+        }
+    }
+
+    @Test
+    void uniaoNaoContaDuplicadosESerializacaoPreservaRegistradores() {
+        HyperLogLog manha = new HyperLogLog();
+        HyperLogLog tarde = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            manha.adicionar(Hashes.mix64(i));
+            tarde.adicionar(Hashes.mix64(i + 10_000));
+        }
+        HyperLogLog esparso = HyperLogLog.desserializar(pequeno().serializar());
+        assertEquals(pequeno().estimar(), esparso.estimar());
+
+        HyperLogLog dia = HyperLogLog.desserializar(manha.serializar());
+        dia.unir(HyperLogLog.desserializar(tarde.serializar()));
+        double erro = Math.abs(dia.estimar() - 30_000) / 30_000.0;
+        assertTrue(erro < 0.03, "erro " + erro);
+    }
+
+    private static HyperLogLog pequeno() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 50; i++) {
+            sketch.adicionar(Hashes.mix64(i));
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.fiap.safelink.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogTrafegoTest {
+
+    private static final long BASE = 1_700_000_000_000_000L;
+
+    @Test
+    void preservaRegistrosEInicioForaDeOrdem() throws Exception {
+        List<LogTrafego.Registro> registros = List.of(
+                registro(BASE + 5_000, "/alertas", "ADMIN", List.of(
+                        new LogTrafego.Parametro("page", "0"),
+                        new LogTrafego.Parametro("sort", "id,desc"),
+                        new LogTrafego.Parametro("sort", "nivel"))),
+                // Terminou depois, começou antes: delta negativo
+                registro(BASE - 250_000, "/alertas/filtro", "", List.of(
+                        new LogTrafego.Parametro("regiao", "São Paulo"),
+                        new LogTrafego.Parametro("vazio", ""))),
+                registro(BASE + 3_600_000_000L, "/alertas", "USER", List.of()));
+
+        List<LogTrafego.Registro> lidos = reler(gravar(registros));
+
+        assertEquals(registros, lidos);
+    }
+
+    @Test
+    void ignoraEntradaFinalIncompleta() throws Exception {
+        List<LogTrafego.Registro> registros = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            registros.add(registro(BASE + i * 1_000L, "/relatos-usuario", "USER",
+                    List.of(new LogTrafego.Parametro("page", String.valueOf(i)))));
+        }
+        byte[] completo = gravar(registros);
+
+        List<LogTrafego.Registro> lidos = reler(Arrays.copyOf(completo, completo.length - 3));
+
+        assertEquals(registros.subList(0, 9), lidos);
+    }
+
+    @Test
+    void nomesAlemDoLimiteSaoGravadosPorExtenso() throws Exception {
+        List<LogTrafego.Registro> registros = new ArrayList<>();
+        for (int i = 0; i < LogTrafego.MAXIMO_NOMES_DICIONARIO * 4; i++) {
+            registros.add(registro(BASE + i, "/alertas", "ADMIN", List.of(
+                    new LogTrafego.Parametro("aleatorio" + i, "x"),
+                    new LogTrafego.Parametro("aleatorio0", "y"))));
+        }
+
+        assertEquals(registros, reler(gravar(registros)));
+    }
+
+    private static LogTrafego.Registro registro(long inicio, String rota, String papel, List<LogTrafego.Parametro> parametros) {
+        return new LogTrafego.Registro(inicio, "GET", rota, rota, parametros, papel, 200, 1_234);
+    }
+
+    private static byte[] gravar(List<LogTrafego.Registro> registros) throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (LogTrafego.Escritor escritor = new LogTrafego.Escritor(saida, BASE)) {
+            for (LogTrafego.Registro registro : registros) {
+                escritor.adicionar(registro);
+            }
+        }
+        return saida.toByteArray();
+    }
+
+    private static List<LogTrafego.Registro> reler(byte[] bytes) throws Exception {
+        List<LogTrafego.Registro> lidos = new ArrayList<>();
+        long total = LogTrafego.ler(new ByteArrayInputStream(bytes), lidos::add);
+        assertEquals(lidos.size(), total);
+        return lidos;
+    }
+}